@@ -6,8 +6,10 @@ import org.objectweb.asm.Label;
 import org.objectweb.asm.MethodVisitor;
 
 import com.github.skjolber.stcsv.databinder.projection.BiConsumerProjection;
+import com.github.skjolber.stcsv.databinder.projection.DeduplicatedStringSetterValueProjection;
 import com.github.skjolber.stcsv.databinder.projection.TriConsumerProjection;
 import com.github.skjolber.stcsv.databinder.projection.ValueProjection;
+import com.github.skjolber.stcsv.scan.ScanStrategy;
 
 public abstract class AbstractColumn {
 
@@ -26,6 +28,7 @@ public abstract class AbstractColumn {
 	protected final static int startIndex = AbstractCsvMapper.VAR_START;
 	protected final static int rangeIndex = AbstractCsvMapper.VAR_RANGE;
 	protected final static int intermediateIndex = AbstractCsvMapper.VAR_INTERMEDIATE_OBJECT;
+	protected final static int escapedIndex = AbstractCsvMapper.VAR_ESCAPED;
 	
 	protected Class<?> intermediate;
 	protected ValueProjection projection;
@@ -73,7 +76,21 @@ public abstract class AbstractColumn {
 	public int getIndex() {
 		return index;
 	}
+
+	public boolean isOptional() {
+		return optional;
+	}
+	
+	/**
+	 * Whether values in this column might contain linebreaks.
+	 * 
+	 * @return true if values might contain linebreaks
+	 */
 	
+	public boolean isLinebreaks() {
+		return false;
+	}
+
 	public boolean isBiConsumer() {
 		return projection instanceof BiConsumerProjection;
 	}
@@ -81,6 +98,10 @@ public abstract class AbstractColumn {
 	public boolean isTriConsumer() {
 		return projection instanceof TriConsumerProjection;
 	}
+
+	public boolean hasStringCache() {
+		return projection instanceof DeduplicatedStringSetterValueProjection;
+	}
 	
 	
 	protected Label ifNotAtChar(MethodVisitor mv, int character) {
@@ -112,6 +133,18 @@ public abstract class AbstractColumn {
 	}
 
 	protected void doIncrementWhileNotEqualToDivider(MethodVisitor mv, int divider) {
+		if(parent.getScanStrategy() == ScanStrategy.SWAR) {
+			// currentOffset = indexOf(current, currentOffset + 1, divider);
+			mv.visitVarInsn(ALOAD, currentArrayIndex);
+			mv.visitVarInsn(ILOAD, currentOffsetIndex);
+			mv.visitInsn(ICONST_1);
+			mv.visitInsn(IADD);
+			mv.visitLdcInsn(Integer.valueOf(divider));
+			mv.visitMethodInsn(INVOKESTATIC, AbstractCsvMapper.superClassInternalName, "indexOf", "([CII)I", false);
+			mv.visitVarInsn(ISTORE, currentOffsetIndex);
+
+			return;
+		}
 		Label l29 = new Label();
 		mv.visitLabel(l29);
 		mv.visitVarInsn(ALOAD, currentArrayIndex);
@@ -214,6 +247,49 @@ public abstract class AbstractColumn {
 			
 	}
 
+	protected void clearEscaped(MethodVisitor mv) {
+		// escaped = false;
+		mv.visitInsn(ICONST_0);
+		mv.visitVarInsn(ISTORE, escapedIndex);
+	}
+
+	protected void setEscaped(MethodVisitor mv) {
+		// escaped = true;
+		mv.visitInsn(ICONST_1);
+		mv.visitVarInsn(ISTORE, escapedIndex);
+	}
+
+	/**
+	 * Remove escape characters from the current value, if any. Escape characters are only noted
+	 * while scanning, so that the value is moved once instead of once per escape character.
+	 * 
+	 * @param mv method visitor
+	 * @param inclusive if true, value ends at the current offset, otherwise at current offset - 1
+	 * @param escapeCharacter escape character
+	 */
+
+	protected void unescape(MethodVisitor mv, boolean inclusive, int escapeCharacter) {
+		// if(escaped) {
+		//   start = unescape(current, start, currentOffset, escapeCharacter);
+		// }
+		Label notEscaped = new Label();
+		mv.visitVarInsn(ILOAD, escapedIndex);
+		mv.visitJumpInsn(IFEQ, notEscaped);
+		
+		mv.visitVarInsn(ALOAD, currentArrayIndex);
+		mv.visitVarInsn(ILOAD, startIndex);
+		mv.visitVarInsn(ILOAD, currentOffsetIndex);
+		if(!inclusive) {
+			mv.visitInsn(ICONST_1);
+			mv.visitInsn(ISUB);
+		}
+		mv.visitLdcInsn(Integer.valueOf(escapeCharacter));
+		mv.visitMethodInsn(INVOKESTATIC, AbstractCsvMapper.superClassInternalName, "unescape", "([CIII)I", false);
+		mv.visitVarInsn(ISTORE, startIndex);
+		
+		mv.visitLabel(notEscaped);
+	}
+
 	protected Label ifLargerThanStart(MethodVisitor mv, int endIndex) {
 		// if(endIndex > start) {
 		mv.visitVarInsn(ILOAD, startIndex);
@@ -13,10 +13,13 @@ import static org.objectweb.asm.Opcodes.ATHROW;
 import static org.objectweb.asm.Opcodes.BIPUSH;
 import static org.objectweb.asm.Opcodes.CALOAD;
 import static org.objectweb.asm.Opcodes.CHECKCAST;
+import static org.objectweb.asm.Opcodes.DCONST_0;
 import static org.objectweb.asm.Opcodes.DUP;
+import static org.objectweb.asm.Opcodes.FCONST_0;
 import static org.objectweb.asm.Opcodes.GETFIELD;
 import static org.objectweb.asm.Opcodes.GOTO;
 import static org.objectweb.asm.Opcodes.ICONST_0;
+import static org.objectweb.asm.Opcodes.ICONST_1;
 import static org.objectweb.asm.Opcodes.IFNE;
 import static org.objectweb.asm.Opcodes.IFGT;
 import static org.objectweb.asm.Opcodes.IF_ICMPEQ;
@@ -26,7 +29,9 @@ import static org.objectweb.asm.Opcodes.ILOAD;
 import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
 import static org.objectweb.asm.Opcodes.INVOKESTATIC;
 import static org.objectweb.asm.Opcodes.INVOKEVIRTUAL;
+import static org.objectweb.asm.Opcodes.IRETURN;
 import static org.objectweb.asm.Opcodes.ISTORE;
+import static org.objectweb.asm.Opcodes.LCONST_0;
 import static org.objectweb.asm.Opcodes.NEW;
 import static org.objectweb.asm.Opcodes.PUTFIELD;
 import static org.objectweb.asm.Opcodes.PUTSTATIC;
@@ -35,27 +40,41 @@ import static org.objectweb.asm.Opcodes.RETURN;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.StringReader;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import org.objectweb.asm.ClassReader;
 import org.objectweb.asm.ClassWriter;
 import org.objectweb.asm.Label;
 import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
 
+import com.github.skjolber.stcsv.AbstractByteCsvReader;
 import com.github.skjolber.stcsv.AbstractCsvReader;
+import com.github.skjolber.stcsv.CsvException;
 import com.github.skjolber.stcsv.CsvReader;
+import com.github.skjolber.stcsv.StringCache;
+import com.github.skjolber.stcsv.builder.CsvBuilderException;
 import com.github.skjolber.stcsv.builder.StringArrayCsvReaderBuilder;
 import com.github.skjolber.stcsv.databinder.column.bi.CsvColumnValueConsumer;
 import com.github.skjolber.stcsv.databinder.column.tri.CsvColumnValueTriConsumer;
 import com.github.skjolber.stcsv.databinder.projection.BiConsumerProjection;
+import com.github.skjolber.stcsv.databinder.projection.DeduplicatedStringSetterValueProjection;
+import com.github.skjolber.stcsv.databinder.projection.SetterValueProjection;
 import com.github.skjolber.stcsv.databinder.projection.TriConsumerProjection;
 import com.github.skjolber.stcsv.sa.StringArrayCsvReader;
+import com.github.skjolber.stcsv.scan.ScanStrategy;
 
 /**
  * 
@@ -75,12 +94,17 @@ public abstract class AbstractCsvMapper<T> {
 	public static final int VAR_START = 4;
 	public static final int VAR_RANGE = 5;
 	public static final int VAR_INTERMEDIATE_OBJECT = 6;
+	public static final int VAR_ESCAPED = 7;
+	public static final int VAR_REUSE = 8; // object (or batch) to parse into, if any
+	public static final int VAR_ROW = 9; // row within batch, if columnar
+	public static final int VAR_ARGUMENTS = 10; // first constructor argument or column array, if any
 	
 	protected static final String GENERATED_CLASS_SIMPLE_NAME = "GeneratedCsvClassFactory%d";
 	protected static final String GENERATED_CLASS_FULL_NAME = "com.github.skjolber.stcsv.databinder." + GENERATED_CLASS_SIMPLE_NAME;
 	protected static final String GENERATED_CLASS_FULL_INTERNAL = "com/github/skjolber/stcsv/databinder/" + GENERATED_CLASS_SIMPLE_NAME;
 
 	protected static final String superClassInternalName = getInternalName(AbstractCsvReader.class);
+	protected static final String batchInternalName = getInternalName(CsvColumnBatch.class);
 	protected static final String csvStaticInitializer = getInternalName(CsvReaderStaticInitializer.class);
 	protected static final String ignoredSeperateQuoteAndEscapeCharacterColumnName = getInternalName(IgnoredColumn.DifferentQuoteAndEscapeCharacter.class);
 	protected static final String ignoredIdenticalQuoteAndEscapeCharacterColumnName = getInternalName(IgnoredColumn.IdenticalQuoteAndEscapeCharacter.class);
@@ -95,10 +119,40 @@ public abstract class AbstractCsvMapper<T> {
 		return className.replace('.', '/');
 	}
 
+	/**
+	 * Get the local variable index of a constructor argument. Values are kept in local variables 
+	 * until the end of the line, then passed to the constructor.
+	 * 
+	 * @param constructor constructor
+	 * @param argument argument index
+	 * @return local variable index
+	 */
+
+	public static int getArgumentIndex(Constructor<?> constructor, int argument) {
+		int index = VAR_ARGUMENTS;
+		Class<?>[] parameterTypes = constructor.getParameterTypes();
+		for(int i = 0; i < argument; i++) {
+			index += Type.getType(parameterTypes[i]).getSize();
+		}
+		return index;
+	}
+
+	/**
+	 * Get the local variable index of a column array, for columnar output. 
+	 * 
+	 * @param column column index, in mapping order
+	 * @return local variable index
+	 */
+
+	public static int getColumnIndex(int column) {
+		return VAR_ARGUMENTS + column;
+	}
+
 	protected int divider;
 	protected int quoteCharacter;
 	protected int escapeCharacter;
 	protected Class<T> mappedClass;
+	protected Constructor<T> constructor; // null if no-argument constructor + setters
 
 	protected String mappedClassInternalName;
 
@@ -109,6 +163,9 @@ public abstract class AbstractCsvMapper<T> {
 	protected final boolean skipComments;
 	protected final boolean skippableFieldsWithoutLinebreaks;
 	protected final int bufferLength;
+	protected final int maxBufferLength;
+	protected final Executor readAheadExecutor; // null if disabled
+	protected final ScanStrategy scanStrategy;
 
 	/**
 	 * Note: Stack variable types are fixed throughout the application, as below. 
@@ -123,15 +180,30 @@ public abstract class AbstractCsvMapper<T> {
 	protected final static int startIndex = VAR_START;
 	protected final static int rangeIndex = VAR_RANGE;
 	protected final static int intermediateIndex = VAR_INTERMEDIATE_OBJECT;
+	protected final static int escapedIndex = VAR_ESCAPED;
 
 	protected final Map<String, DefaultStaticCsvMapper<T>> factories = new ConcurrentHashMap<>();
 	protected final ClassLoader classLoader;
 	
 	protected final boolean biConsumer;
 	protected final boolean triConsumer;
+	protected final boolean stringCache;
 
 	public AbstractCsvMapper(Class<T> cls, char divider, char quoteCharacter, char escapeCharacter, List<AbstractColumn> columns, boolean skipEmptyLines, boolean skipComments, boolean skippableFieldsWithoutLinebreaks, ClassLoader classLoader, int bufferLength) {
+		this(cls, divider, quoteCharacter, escapeCharacter, columns, skipEmptyLines, skipComments, skippableFieldsWithoutLinebreaks, classLoader, bufferLength, bufferLength, null);
+	}
+
+	public AbstractCsvMapper(Class<T> cls, char divider, char quoteCharacter, char escapeCharacter, List<AbstractColumn> columns, boolean skipEmptyLines, boolean skipComments, boolean skippableFieldsWithoutLinebreaks, ClassLoader classLoader, int bufferLength, int maxBufferLength, Executor readAheadExecutor) {
+		this(cls, divider, quoteCharacter, escapeCharacter, columns, skipEmptyLines, skipComments, skippableFieldsWithoutLinebreaks, classLoader, bufferLength, maxBufferLength, readAheadExecutor, ScanStrategy.SCALAR);
+	}
+
+	public AbstractCsvMapper(Class<T> cls, char divider, char quoteCharacter, char escapeCharacter, List<AbstractColumn> columns, boolean skipEmptyLines, boolean skipComments, boolean skippableFieldsWithoutLinebreaks, ClassLoader classLoader, int bufferLength, int maxBufferLength, Executor readAheadExecutor, ScanStrategy scanStrategy) {
+		this(cls, divider, quoteCharacter, escapeCharacter, columns, skipEmptyLines, skipComments, skippableFieldsWithoutLinebreaks, classLoader, bufferLength, maxBufferLength, readAheadExecutor, scanStrategy, null);
+	}
+
+	public AbstractCsvMapper(Class<T> cls, char divider, char quoteCharacter, char escapeCharacter, List<AbstractColumn> columns, boolean skipEmptyLines, boolean skipComments, boolean skippableFieldsWithoutLinebreaks, ClassLoader classLoader, int bufferLength, int maxBufferLength, Executor readAheadExecutor, ScanStrategy scanStrategy, Constructor<T> constructor) {
 		this.mappedClass = cls;
+		this.constructor = constructor;
 		this.divider = divider;
 		this.quoteCharacter = quoteCharacter;
 		this.escapeCharacter = escapeCharacter;
@@ -142,9 +214,13 @@ public abstract class AbstractCsvMapper<T> {
 		this.skippableFieldsWithoutLinebreaks = skippableFieldsWithoutLinebreaks;
 		this.classLoader = classLoader;
 		this.bufferLength = bufferLength;
+		this.maxBufferLength = Math.max(bufferLength, maxBufferLength);
+		this.readAheadExecutor = readAheadExecutor;
+		this.scanStrategy = scanStrategy;
 
 		boolean biConsumer = false;
 		boolean triConsumer = false;
+		boolean stringCache = false;
 		
 		for (AbstractColumn column : columns) {
 			keys.put(column.getName(),  column);
@@ -158,18 +234,77 @@ public abstract class AbstractCsvMapper<T> {
 			if(column.isTriConsumer()) {
 				triConsumer = true;
 			}
+			
+			if(column.hasStringCache()) {
+				stringCache = true;
+			}
 		}
 
 		this.mappedClassInternalName = getInternalName(mappedClass);
 		
 		this.biConsumer = biConsumer;
 		this.triConsumer = triConsumer;
+		this.stringCache = stringCache;
 	}
 
 	protected int getDivider() {
 		return divider;
 	}
 
+	protected boolean isColumnar() {
+		return mappedClass == CsvColumnBatch.class;
+	}
+
+	/**
+	 * Create a batch for columnar output, with an array per mapped column.
+	 * 
+	 * @param capacity number of rows
+	 * @return new batch
+	 */
+
+	public CsvColumnBatch newBatch(int capacity) {
+		if(!isColumnar()) {
+			throw new IllegalStateException("Expected columnar mapping");
+		}
+		if(capacity <= 0) {
+			throw new IllegalArgumentException("Expected positive capacity");
+		}
+		String[] names = new String[columns.size()];
+		Object[] arrays = new Object[columns.size()];
+		for (int i = 0; i < names.length; i++) {
+			AbstractColumn column = columns.get(i);
+
+			names[i] = column.getName();
+			arrays[i] = Array.newInstance(((SetterValueProjection)column.getProjection()).getColumnClass(), capacity);
+		}
+		return new CsvColumnBatch(names, arrays, capacity);
+	}
+
+	protected ScanStrategy getScanStrategy() {
+		return scanStrategy;
+	}
+
+	/**
+	 * Split a file into linebreak-aligned chunks which can be parsed in parallel.
+	 * 
+	 * @param path UTF-8 file
+	 * @param pool pool to run the parsing on
+	 * @return the chunks, or null if the file is empty
+	 * @throws Exception if the file could not be read, or linebreaks are not always line boundaries (i.e. some mapped or ignored field might contain linebreaks)
+	 */
+
+	FileChunks split(Path path, ForkJoinPool pool) throws Exception {
+		if(!skippableFieldsWithoutLinebreaks) {
+			throw new CsvBuilderException("Parallel parsing requires ignored columns to be without linebreaks, see skippableFieldsWithoutLinebreaks()");
+		}
+		for(AbstractColumn column : columns) {
+			if(column.isLinebreaks()) {
+				throw new CsvBuilderException("Parallel parsing requires field '" + column.getName() + "' to be without linebreaks, see quotedWithoutLinebreaks()");
+			}
+		}
+		return FileChunks.split(path, bufferLength, pool.getParallelism());
+	}
+
 	public Class<? extends AbstractCsvReader<T>> createDefaultReaderClass(boolean carriageReturns) throws Exception {
 		List<String> names = new ArrayList<>();
 		for (AbstractColumn column: columns) {
@@ -200,6 +335,44 @@ public abstract class AbstractCsvMapper<T> {
 		return loader.load(classWriter.toByteArray(), subClassName);
 	}
 
+	public Class<? extends AbstractByteCsvReader<T>> createDefaultByteReaderClass(boolean carriageReturns) throws Exception {
+		List<String> names = new ArrayList<>();
+		for (AbstractColumn column: columns) {
+			names.add(column.getName());
+		}
+		return createByteReaderClass(carriageReturns, names);
+	}
+
+	public Class<? extends AbstractByteCsvReader<T>> createByteReaderClass(boolean carriageReturns, String header) throws Exception {
+		return createByteReaderClass(carriageReturns, parseColumnNames(header));
+	}
+
+	/**
+	 * Create a parser which reads UTF-8 bytes directly. The parser is first generated for characters, 
+	 * then converted to bytes using {@linkplain ByteCsvReaderClassVisitor}.
+	 * 
+	 * @param carriageReturns whether lines end with carriage return + newline
+	 * @param csvFileFieldNames the column names, in file order
+	 * @return the generated parser class, or null if no columns are mapped
+	 * @throws Exception if the class could not be generated
+	 */
+
+	public Class<? extends AbstractByteCsvReader<T>> createByteReaderClass(boolean carriageReturns, List<String> csvFileFieldNames) throws Exception {
+		ClassWriter classWriter = new ClassWriter(ClassWriter.COMPUTE_FRAMES);
+
+		String subClassName = write(classWriter, csvFileFieldNames, carriageReturns);
+		if(subClassName == null) {
+			return null;
+		}
+		
+		ClassWriter byteClassWriter = new ClassWriter(ClassWriter.COMPUTE_FRAMES);
+		new ClassReader(classWriter.toByteArray()).accept(new ByteCsvReaderClassVisitor(byteClassWriter), ClassReader.SKIP_FRAMES);
+		
+		CsvReaderClassLoader<AbstractByteCsvReader<T>> loader = new CsvReaderClassLoader<AbstractByteCsvReader<T>>(classLoader);
+		
+		return loader.load(byteClassWriter.toByteArray(), subClassName);
+	}
+
 	protected String write(ClassWriter classWriter, List<String> csvFileFieldNames, boolean carriageReturns) {
 		int subclassNumber = counter.incrementAndGet();
 		String subClassName = String.format(GENERATED_CLASS_FULL_NAME, subclassNumber);
@@ -209,6 +382,7 @@ public abstract class AbstractCsvMapper<T> {
 
 		CsvColumnValueConsumer<?>[] biConsumers = new CsvColumnValueConsumer[mapping.length];
 		CsvColumnValueTriConsumer<?, ?>[] triConsumers = new CsvColumnValueTriConsumer[mapping.length];
+		StringCache[] stringCaches = new StringCache[mapping.length];
 
 		boolean inline = true;
 
@@ -229,6 +403,8 @@ public abstract class AbstractCsvMapper<T> {
 					biConsumers[j] = ((BiConsumerProjection)field.getProjection()).getBiConsumer();
 				} else if(field.isTriConsumer()) {
 					triConsumers[j] = ((TriConsumerProjection)field.getProjection()).getTriConsumer();
+				} else if(field.hasStringCache()) {
+					stringCaches[j] = ((DeduplicatedStringSetterValueProjection)field.getProjection()).getStringCache();
 				}
 				
 				lastIndex = j;
@@ -283,9 +459,9 @@ public abstract class AbstractCsvMapper<T> {
 				superClassInternalName,
 				null);
 
-		if(biConsumer || triConsumer) {
+		if(biConsumer || triConsumer || stringCache) {
 			// place in-scope values which will be read by static initializer
-			CsvReaderStaticInitializer.add(subClassName, biConsumers, triConsumers);
+			CsvReaderStaticInitializer.add(subClassName, biConsumers, triConsumers, stringCaches);
 
 			// static initializer and fields
 			addStatics(classWriter, mapping, subClassInternalName, subClassName);
@@ -294,8 +470,19 @@ public abstract class AbstractCsvMapper<T> {
 		// constructor with reader
 		addConstructors(classWriter, subClassInternalName);
 
-		// parse main method
-		addMethod(classWriter, subClassInternalName, mapping, carriageReturns, inline, lastIndex, firstIndex);
+		if(isColumnar()) {
+			// no object per line, parse into batches only
+			addUnsupportedMethod(classWriter, "next", "()Ljava/lang/Object;");
+			addMethod(classWriter, subClassInternalName, mapping, carriageReturns, inline, lastIndex, firstIndex, true);
+		} else {
+			// parse main method
+			addMethod(classWriter, subClassInternalName, mapping, carriageReturns, inline, lastIndex, firstIndex);
+		}
+
+		if(constructor == null && !isColumnar()) {
+			// parse into an existing object
+			addMethod(classWriter, subClassInternalName, mapping, carriageReturns, inline, lastIndex, firstIndex, true);
+		}
 
 		classWriter.visitEnd();
 		return subClassName;
@@ -303,18 +490,64 @@ public abstract class AbstractCsvMapper<T> {
 
 	protected void addMethod(ClassWriter classWriter, String subClassInternalName, AbstractColumn[] mapping,
 			boolean carriageReturns, boolean inline, int lastIndex, int firstIndex) {
-		MethodVisitor mv = classWriter.visitMethod(ACC_PUBLIC, "next", "()Ljava/lang/Object;", null, new String[] { "java/io/IOException" });
+		addMethod(classWriter, subClassInternalName, mapping, carriageReturns, inline, lastIndex, firstIndex, false);
+	}
+
+	/**
+	 * Add the parse method. 
+	 * 
+	 * @param classWriter class writer
+	 * @param subClassInternalName target parser class
+	 * @param mapping columns, in file order (null if not mapped)
+	 * @param carriageReturns whether lines end with carriage return + newline
+	 * @param inline inline column handling
+	 * @param lastIndex last mapped column
+	 * @param firstIndex first mapped column
+	 * @param reuse if true, write <code>boolean next(T value)</code> which parses into an existing object
+	 *   (or <code>int nextBatch(T batch)</code> if columnar), otherwise <code>T next()</code>
+	 */
+
+	protected void addMethod(ClassWriter classWriter, String subClassInternalName, AbstractColumn[] mapping,
+			boolean carriageReturns, boolean inline, int lastIndex, int firstIndex, boolean reuse) {
+		boolean columnar = reuse && isColumnar();
+		
+		MethodVisitor mv;
+		if(columnar) {
+			mv = classWriter.visitMethod(ACC_PUBLIC, "nextBatch", "(Ljava/lang/Object;)I", null, new String[] { "java/io/IOException" });
+		} else if(reuse) {
+			mv = classWriter.visitMethod(ACC_PUBLIC, "next", "(Ljava/lang/Object;)Z", null, new String[] { "java/io/IOException" });
+		} else {
+			mv = classWriter.visitMethod(ACC_PUBLIC, "next", "()Ljava/lang/Object;", null, new String[] { "java/io/IOException" });
+		}
 
 		mv.visitCode();
 		Label startLabel = new Label();
 		mv.visitLabel(startLabel);
 
+		if(reuse) {
+			// free up the parameter variable
+			mv.visitVarInsn(ALOAD, 1);
+			if(columnar) {
+				mv.visitTypeInsn(CHECKCAST, batchInternalName);
+			}
+			mv.visitVarInsn(ASTORE, VAR_REUSE);
+		}
+		
+		if(columnar) {
+			writeColumnArrays(mv);
+		}
+
 		// init offset and char array
 		// int currentOffset = this.currentOffset;
 		mv.visitVarInsn(ALOAD, 0);
 		mv.visitFieldInsn(GETFIELD, superClassInternalName, "offset", "I");
 		mv.visitVarInsn(ISTORE, currentOffsetIndex);
 
+		Label nextRow = new Label();
+		if(columnar) {
+			mv.visitLabel(nextRow);
+		}
+
 		mv.visitVarInsn(ILOAD, 1);
 		mv.visitVarInsn(ALOAD, 0);
 		mv.visitFieldInsn(GETFIELD, superClassInternalName, "endOfLineIndex", "I");
@@ -325,17 +558,14 @@ public abstract class AbstractCsvMapper<T> {
 		mv.visitMethodInsn(INVOKEVIRTUAL, superClassInternalName, "fill", "()I", false);
 		Label l4 = new Label();
 		mv.visitJumpInsn(IFGT, l4);
-		mv.visitInsn(ACONST_NULL);
-		mv.visitInsn(ARETURN);
+		writeEndOfInput(mv, reuse);
 		mv.visitLabel(l4);
 		mv.visitInsn(ICONST_0);
 		mv.visitVarInsn(ISTORE, currentOffsetIndex);
 		mv.visitLabel(l2);
 
-		// final char[] current = this.current;
-		mv.visitVarInsn(ALOAD, 0);
-		mv.visitFieldInsn(GETFIELD, superClassInternalName, "current", "[C");
-		mv.visitVarInsn(ASTORE, currentArrayIndex);
+		// char[] current = this.current;
+		loadCurrent(mv);
 
 		// try-catch block
 		Label startTryCatch = new Label();
@@ -348,18 +578,33 @@ public abstract class AbstractCsvMapper<T> {
 		mv.visitLabel(startTryCatch);
 
 		if(skipEmptyLines && skipComments) {
-			writeSkipEmptyOrCommentedLines(mv, subClassInternalName, carriageReturns);
+			writeSkipEmptyOrCommentedLines(mv, subClassInternalName, carriageReturns, reuse);
 		} else if(skipEmptyLines) {
-			writeSkipEmptyLines(mv, subClassInternalName, carriageReturns);
+			writeSkipEmptyLines(mv, subClassInternalName, carriageReturns, reuse);
 		} else if(skipComments) {
-			writeSkipComments(mv, subClassInternalName);
+			writeSkipComments(mv, subClassInternalName, reuse);
 		}
 
-		// init value object, i.e. the object to which data-binding will occur
-		mv.visitTypeInsn(NEW, mappedClassInternalName);
-		mv.visitInsn(DUP); // add one
-		mv.visitMethodInsn(INVOKESPECIAL, mappedClassInternalName, "<init>", "()V", false); // consumes one
-		mv.visitVarInsn(ASTORE, objectIndex);
+		if(columnar) {
+			// reset values which might not be present on this line
+			writeResetValues(mv, mapping);
+		} else if(reuse) {
+			mv.visitVarInsn(ALOAD, VAR_REUSE);
+			mv.visitTypeInsn(CHECKCAST, mappedClassInternalName);
+			mv.visitVarInsn(ASTORE, objectIndex);
+			
+			// reset values which might not be present on this line
+			writeResetValues(mv, mapping);
+		} else if(constructor == null) {
+			// init value object, i.e. the object to which data-binding will occur
+			mv.visitTypeInsn(NEW, mappedClassInternalName);
+			mv.visitInsn(DUP); // add one
+			mv.visitMethodInsn(INVOKESPECIAL, mappedClassInternalName, "<init>", "()V", false); // consumes one
+			mv.visitVarInsn(ASTORE, objectIndex);
+		} else {
+			// values are kept in local variables, start out with defaults
+			writeConstructorArgumentDefaults(mv);
+		}
 
 		if(firstIndex > 0) {
 			// skip first column(s)
@@ -407,12 +652,31 @@ public abstract class AbstractCsvMapper<T> {
 			}
 		} while(true);
 
+		if(constructor != null) {
+			writeConstructorInvocation(mv);
+		}
+
 		// save value
 		saveCurrentOffset(mv, superClassInternalName, currentOffsetIndex);
 
-		// return object
-		mv.visitVarInsn(ALOAD, objectIndex);
-		mv.visitInsn(ARETURN);
+		if(columnar) {
+			// continue until the batch is full
+			mv.visitIincInsn(VAR_ROW, 1);
+			mv.visitVarInsn(ILOAD, VAR_ROW);
+			mv.visitVarInsn(ALOAD, VAR_REUSE);
+			mv.visitMethodInsn(INVOKEVIRTUAL, batchInternalName, "getCapacity", "()I", false);
+			mv.visitJumpInsn(IF_ICMPLT, nextRow);
+
+			mv.visitVarInsn(ILOAD, VAR_ROW);
+			mv.visitInsn(IRETURN);
+		} else if(reuse) {
+			mv.visitInsn(ICONST_1);
+			mv.visitInsn(IRETURN);
+		} else {
+			// return object
+			mv.visitVarInsn(ALOAD, objectIndex);
+			mv.visitInsn(ARETURN);
+		}
 
 		mv.visitLabel(endLabel);
 
@@ -428,7 +692,9 @@ public abstract class AbstractCsvMapper<T> {
 
 		// finish up method
 		mv.visitLocalVariable("this", "L" + subClassInternalName + ";", null, startLabel, endLabel, 0);
-		mv.visitLocalVariable("value", "L" + mappedClassInternalName + ";", null, startLabel, endLabel, objectIndex);
+		if(!columnar) {
+			mv.visitLocalVariable("value", "L" + mappedClassInternalName + ";", null, startLabel, endLabel, objectIndex);
+		}
 		mv.visitLocalVariable("offset", "I", null, startLabel, endLabel, currentOffsetIndex);
 		mv.visitLocalVariable("current", "[C", null, startLabel, endLabel, currentArrayIndex);
 		if(inline) {
@@ -444,11 +710,138 @@ public abstract class AbstractCsvMapper<T> {
 
 	protected abstract void writeTriConsumerVariable(String subClassInternalName, MethodVisitor mv);
 
+	/**
+	 * Push the default value (zero, false or null) of a type.
+	 * 
+	 * @param mv method visitor
+	 * @param type value type
+	 */
+
+	public static void writeDefaultValue(MethodVisitor mv, Type type) {
+		switch(type.getSort()) {
+			case Type.LONG: {
+				mv.visitInsn(LCONST_0);
+				break;
+			}
+			case Type.FLOAT: {
+				mv.visitInsn(FCONST_0);
+				break;
+			}
+			case Type.DOUBLE: {
+				mv.visitInsn(DCONST_0);
+				break;
+			}
+			case Type.OBJECT: 
+			case Type.ARRAY: {
+				mv.visitInsn(ACONST_NULL);
+				break;
+			}
+			default : {
+				mv.visitInsn(ICONST_0);
+			}
+		}
+	}
+
+	protected void writeConstructorArgumentDefaults(MethodVisitor mv) {
+		int index = VAR_ARGUMENTS;
+		for (Class<?> parameterType : constructor.getParameterTypes()) {
+			Type type = Type.getType(parameterType);
+			writeDefaultValue(mv, type);
+			mv.visitVarInsn(type.getOpcode(ISTORE), index);
+			
+			index += type.getSize();
+		}
+	}
+
+	/**
+	 * Reset the values of optional columns and columns not in the file, so that values from the previous line
+	 * do not carry over when parsing into an existing object. Required columns are always set.
+	 * Values applied by consumers are not reset.
+	 * 
+	 * @param mv method visitor
+	 * @param mapping columns in file
+	 */
+
+	protected void writeResetValues(MethodVisitor mv, AbstractColumn[] mapping) {
+		List<AbstractColumn> present = Arrays.asList(mapping);
+		for (AbstractColumn column : columns) {
+			if(column.isOptional() || !present.contains(column)) {
+				if(column.getProjection() instanceof SetterValueProjection) {
+					((SetterValueProjection)column.getProjection()).writeDefault(mv);
+				}
+			}
+		}
+	}
+
+	protected void writeConstructorInvocation(MethodVisitor mv) {
+		mv.visitTypeInsn(NEW, mappedClassInternalName);
+		mv.visitInsn(DUP);
+
+		int index = VAR_ARGUMENTS;
+		for (Class<?> parameterType : constructor.getParameterTypes()) {
+			Type type = Type.getType(parameterType);
+			mv.visitVarInsn(type.getOpcode(ILOAD), index);
+			
+			index += type.getSize();
+		}
+		mv.visitMethodInsn(INVOKESPECIAL, mappedClassInternalName, "<init>", Type.getConstructorDescriptor(constructor), false);
+		mv.visitVarInsn(ASTORE, objectIndex);
+	}
+
+	/**
+	 * Load the column arrays of the batch into local variables, and start at the first row.
+	 * 
+	 * @param mv method visitor
+	 */
+
+	protected void writeColumnArrays(MethodVisitor mv) {
+		for (int i = 0; i < columns.size(); i++) {
+			SetterValueProjection projection = (SetterValueProjection)columns.get(i).getProjection();
+			
+			mv.visitVarInsn(ALOAD, VAR_REUSE);
+			mv.visitLdcInsn(i);
+			mv.visitMethodInsn(INVOKEVIRTUAL, batchInternalName, "getColumn", "(I)Ljava/lang/Object;", false);
+			mv.visitTypeInsn(CHECKCAST, "[" + projection.getDescriptor());
+			mv.visitVarInsn(ASTORE, getColumnIndex(i));
+		}
+		mv.visitInsn(ICONST_0);
+		mv.visitVarInsn(ISTORE, VAR_ROW);
+	}
+
+	protected void addUnsupportedMethod(ClassWriter classWriter, String name, String descriptor) {
+		MethodVisitor mv = classWriter.visitMethod(ACC_PUBLIC, name, descriptor, null, null);
+		mv.visitCode();
+		mv.visitTypeInsn(NEW, "java/lang/UnsupportedOperationException");
+		mv.visitInsn(DUP);
+		mv.visitMethodInsn(INVOKESPECIAL, "java/lang/UnsupportedOperationException", "<init>", "()V", false);
+		mv.visitInsn(ATHROW);
+		mv.visitMaxs(2, 1);
+		mv.visitEnd();
+	}
+
+	/**
+	 * Return from <code>next()</code> when there is no more input, 
+	 * i.e. null or false for the reuse variant, or the number of rows if columnar.
+	 */
+
+	protected void writeEndOfInput(MethodVisitor mv, boolean reuse) {
+		if(reuse && isColumnar()) {
+			mv.visitVarInsn(ILOAD, VAR_ROW);
+			mv.visitInsn(IRETURN);
+		} else if(reuse) {
+			mv.visitInsn(ICONST_0);
+			mv.visitInsn(IRETURN);
+		} else {
+			mv.visitInsn(ACONST_NULL);
+			mv.visitInsn(ARETURN);
+		}
+	}
+
 	protected void addConstructors(ClassWriter classWriter, String subClassInternalName) {
 		addConstructors(classWriter, subClassInternalName, null);
 	}
 
-	protected void writeSkipComments(MethodVisitor mv, String subClassInternalName) {
+	protected void writeSkipComments(MethodVisitor mv, String subClassInternalName, boolean reuse) {
 		final int rangeVariableIndex = 3;
 
 		Label l12 = new Label();
@@ -481,12 +874,12 @@ public abstract class AbstractCsvMapper<T> {
 				
 		Label l10 = new Label();
 		mv.visitJumpInsn(IFNE, l10);
-		mv.visitInsn(ACONST_NULL);
-		mv.visitInsn(ARETURN);
+		writeEndOfInput(mv, reuse);
 		mv.visitLabel(l10);	
 		
 		mv.visitInsn(ICONST_0);
 		mv.visitVarInsn(ISTORE, currentOffsetIndex);
+		loadCurrent(mv);
 		mv.visitJumpInsn(GOTO, l12);
 		mv.visitLabel(l17);
 		mv.visitIincInsn(currentOffsetIndex, 1);
@@ -513,6 +906,7 @@ public abstract class AbstractCsvMapper<T> {
 				mv.visitLdcInsn(Integer.valueOf(escapeCharacter));
 				mv.visitMethodInsn(INVOKESTATIC, ignoredIdenticalQuoteAndEscapeCharacterColumnName, "skipToLineBreak", "(L" + superClassInternalName + ";[CII)I", false);
 				mv.visitVarInsn(ISTORE, currentOffsetIndex);
+				loadCurrent(mv); // buffer might have been resized by fill
 			}
 		} else {
 			
@@ -532,6 +926,7 @@ public abstract class AbstractCsvMapper<T> {
 				mv.visitLdcInsn(Integer.valueOf(escapeCharacter));
 				mv.visitMethodInsn(INVOKESTATIC, ignoredSeperateQuoteAndEscapeCharacterColumnName, "skipToLineBreak", "(L" + superClassInternalName + ";[CIII)I", false);
 				mv.visitVarInsn(ISTORE, currentOffsetIndex);
+				loadCurrent(mv); // buffer might have been resized by fill
 			}			
 		}
 	}
@@ -555,6 +950,7 @@ public abstract class AbstractCsvMapper<T> {
 				mv.visitLdcInsn(Integer.valueOf(count));
 				mv.visitMethodInsn(INVOKESTATIC, ignoredIdenticalQuoteAndEscapeCharacterColumnName, "skipColumns", "(L" + superClassInternalName + ";[CIIII)I", false);
 				mv.visitVarInsn(ISTORE, currentOffsetIndex);
+				loadCurrent(mv); // buffer might have been resized by fill
 			}
 		} else {
 			if(skippableFieldsWithoutLinebreaks) {
@@ -576,12 +972,13 @@ public abstract class AbstractCsvMapper<T> {
 				mv.visitLdcInsn(Integer.valueOf(count));
 				mv.visitMethodInsn(INVOKESTATIC, ignoredSeperateQuoteAndEscapeCharacterColumnName, "skipColumns", "(L" + superClassInternalName + ";[CIIIII)I", false);
 				mv.visitVarInsn(ISTORE, currentOffsetIndex);
+				loadCurrent(mv); // buffer might have been resized by fill
 			}
 			
 		}
 	}
 
-	protected void writeSkipEmptyOrCommentedLines(MethodVisitor mv, String subClassInternalName, boolean carriageReturns) {
+	protected void writeSkipEmptyOrCommentedLines(MethodVisitor mv, String subClassInternalName, boolean carriageReturns, boolean reuse) {
 		/*
 
 			while (current[currentOffset] == '#' || current[currentOffset] == '\n' ) {
@@ -634,12 +1031,12 @@ public abstract class AbstractCsvMapper<T> {
 		
 		Label l10 = new Label();
 		mv.visitJumpInsn(IFNE, l10);
-		mv.visitInsn(ACONST_NULL);
-		mv.visitInsn(ARETURN);
+		writeEndOfInput(mv, reuse);
 		mv.visitLabel(l10);
 		
 		mv.visitInsn(ICONST_0);
 		mv.visitVarInsn(ISTORE, currentOffsetIndex);
+		loadCurrent(mv);
 		mv.visitJumpInsn(GOTO, l12);
 		mv.visitLabel(l17);
 		mv.visitIincInsn(currentOffsetIndex, 1);
@@ -661,7 +1058,7 @@ public abstract class AbstractCsvMapper<T> {
 
 	}
 
-	protected void writeSkipEmptyLines(MethodVisitor mv, String subClassInternalName, boolean carriageReturns) {
+	protected void writeSkipEmptyLines(MethodVisitor mv, String subClassInternalName, boolean carriageReturns, boolean reuse) {
 		if(!carriageReturns) {
 			/**
 			if (current[currentOffset] == '\n') {
@@ -702,11 +1099,11 @@ public abstract class AbstractCsvMapper<T> {
 			mv.visitVarInsn(ISTORE, rangeVariableIndex);
 			Label l10 = new Label();
 			mv.visitJumpInsn(IFNE, l10);
-			mv.visitInsn(ACONST_NULL);
-			mv.visitInsn(ARETURN);
+			writeEndOfInput(mv, reuse);
 			mv.visitLabel(l10);
 			mv.visitInsn(ICONST_0);
 			mv.visitVarInsn(ISTORE, currentOffsetIndex);
+			loadCurrent(mv);
 			Label l13 = new Label();
 			mv.visitJumpInsn(GOTO, l13);
 			mv.visitLabel(l8);
@@ -774,11 +1171,11 @@ public abstract class AbstractCsvMapper<T> {
 			mv.visitVarInsn(ISTORE, rangeVariableIndex);
 			Label l12 = new Label();
 			mv.visitJumpInsn(IFNE, l12);
-			mv.visitInsn(ACONST_NULL);
-			mv.visitInsn(ARETURN);
+			writeEndOfInput(mv, reuse);
 			mv.visitLabel(l12);
 			mv.visitInsn(ICONST_0);
 			mv.visitVarInsn(ISTORE, currentOffsetIndex);
+			loadCurrent(mv);
 			mv.visitJumpInsn(GOTO, l8);
 			mv.visitLabel(l10);
 			mv.visitIincInsn(currentOffsetIndex, 1);
@@ -802,6 +1199,7 @@ public abstract class AbstractCsvMapper<T> {
 
 		final int biConsumerArrayIndex = 2;
 		final int triConsumerArrayIndex = 3;
+		final int stringCacheArrayIndex = 4;
 
 		mv.visitLdcInsn(className);
 		mv.visitMethodInsn(INVOKESTATIC, csvStaticInitializer, "remove", "(Ljava/lang/String;)Lcom/github/skjolber/stcsv/databinder/CsvReaderStaticInitializer$CsvStaticFields;", false);
@@ -817,8 +1215,13 @@ public abstract class AbstractCsvMapper<T> {
 			mv.visitMethodInsn(INVOKEVIRTUAL, "com/github/skjolber/stcsv/databinder/CsvReaderStaticInitializer$CsvStaticFields", "getTriConsumers", "()[L" + TriConsumerProjection.triConsumerName + ";", false);
 			mv.visitVarInsn(ASTORE, triConsumerArrayIndex);
 		}
+		if(stringCache) {
+			mv.visitVarInsn(ALOAD, 0);
+			mv.visitMethodInsn(INVOKEVIRTUAL, "com/github/skjolber/stcsv/databinder/CsvReaderStaticInitializer$CsvStaticFields", "getStringCaches", "()[L" + DeduplicatedStringSetterValueProjection.stringCacheName + ";", false);
+			mv.visitVarInsn(ASTORE, stringCacheArrayIndex);
+		}
 		
-		// consumers
+		// consumers and caches
 		for (int k = 0; k < columns.length; k++) {
 			if(columns[k] != null) {
 				String consumerInternalName;
@@ -834,6 +1237,11 @@ public abstract class AbstractCsvMapper<T> {
 					
 					// write source array
 					mv.visitVarInsn(ALOAD, triConsumerArrayIndex);
+				} else if(columns[k].hasStringCache()) {
+					consumerInternalName = DeduplicatedStringSetterValueProjection.stringCacheName;
+					
+					// write source array
+					mv.visitVarInsn(ALOAD, stringCacheArrayIndex);
 				} else {
 					continue;
 				}
@@ -864,7 +1272,10 @@ public abstract class AbstractCsvMapper<T> {
 		if(triConsumer) {
 			mv.visitLocalVariable("triConsumerList", "[L" + TriConsumerProjection.triConsumerName + ";", null, startLabel, endLabel, triConsumerArrayIndex);
 		}
-		if(triConsumer && biConsumer) {
+		if(stringCache) {
+			mv.visitLocalVariable("stringCacheList", "[L" + DeduplicatedStringSetterValueProjection.stringCacheName + ";", null, startLabel, endLabel, stringCacheArrayIndex);
+			mv.visitMaxs(2, 5);
+		} else if(triConsumer && biConsumer) {
 			mv.visitMaxs(2, 4);
 		} else {
 			mv.visitMaxs(2, 3);
@@ -896,7 +1307,8 @@ public abstract class AbstractCsvMapper<T> {
 		mv.visitVarInsn(ALOAD, 2);
 		mv.visitVarInsn(ILOAD, 3);
 		mv.visitVarInsn(ILOAD, 4);
-		mv.visitMethodInsn(INVOKESPECIAL, superClassInternalName, "<init>", "(Ljava/io/Reader;[CII)V", false);
+		mv.visitLdcInsn(Integer.valueOf(maxBufferLength));
+		mv.visitMethodInsn(INVOKESPECIAL, superClassInternalName, "<init>", "(Ljava/io/Reader;[CIII)V", false);
 		
 		if(intermediateInternalName != null) {
 			classWriter
@@ -921,9 +1333,9 @@ public abstract class AbstractCsvMapper<T> {
 		
 		if(intermediateInternalName != null) {
 			mv.visitLocalVariable("intermediateInternalName", "Ljava/lang/String;", null, startLabel, endLabel, 5);
-			mv.visitMaxs(5, 6);
+			mv.visitMaxs(6, 6);
 		} else {
-			mv.visitMaxs(5, 5);
+			mv.visitMaxs(6, 5);
 		}
 
 		mv.visitEnd();
@@ -948,7 +1360,8 @@ public abstract class AbstractCsvMapper<T> {
 		mv.visitVarInsn(ALOAD, 0);
 		mv.visitVarInsn(ALOAD, 1);
 		mv.visitLdcInsn(Integer.valueOf(bufferLength));
-		mv.visitMethodInsn(INVOKESPECIAL, superClassInternalName, "<init>", "(Ljava/io/Reader;I)V", false);
+		mv.visitLdcInsn(Integer.valueOf(maxBufferLength));
+		mv.visitMethodInsn(INVOKESPECIAL, superClassInternalName, "<init>", "(Ljava/io/Reader;II)V", false);
 		
 		if(intermediateInternalName != null) {
 			mv.visitVarInsn(ALOAD, 0);
@@ -964,14 +1377,40 @@ public abstract class AbstractCsvMapper<T> {
 		if(intermediateInternalName != null) {
 			mv.visitLocalVariable("intermediateInternalName", "Ljava/lang/String;", null, startLabel, endLabel, 2);
 			
-			mv.visitMaxs(3, 3);
+			mv.visitMaxs(4, 3);
 		} else {
-			mv.visitMaxs(3, 2);
+			mv.visitMaxs(4, 2);
 		}
 		
 		mv.visitEnd();
 	}
 
+	protected char[] grow(char[] current) {
+		if(current.length > maxBufferLength) {
+			throw new CsvException("No linebreak found in " + (current.length - 1) + " characters");
+		}
+		return Arrays.copyOf(current, (int)Math.min(current.length * 2L, maxBufferLength + 1));
+	}
+
+	protected byte[] grow(byte[] current) {
+		if(current.length > maxBufferLength) {
+			throw new CsvException("No linebreak found in " + (current.length - 1) + " bytes");
+		}
+		return Arrays.copyOf(current, (int)Math.min(current.length * 2L, maxBufferLength + 1));
+	}
+
+	/**
+	 * Load the buffer into its local variable. Must be invoked after each fill, as the buffer might have been replaced.
+	 * 
+	 * @param mv method visitor
+	 */
+
+	protected static void loadCurrent(MethodVisitor mv) {
+		mv.visitVarInsn(ALOAD, 0);
+		mv.visitFieldInsn(GETFIELD, superClassInternalName, "current", "[C");
+		mv.visitVarInsn(ASTORE, currentArrayIndex);
+	}
+
 	protected void saveCurrentOffset(MethodVisitor mv, String superClassInternalName, int currentOffsetIndex) {
 		mv.visitVarInsn(ALOAD, 0);
 		mv.visitVarInsn(ILOAD, currentOffsetIndex);
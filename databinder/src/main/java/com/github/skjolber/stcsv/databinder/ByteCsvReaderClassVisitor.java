@@ -0,0 +1,106 @@
+package com.github.skjolber.stcsv.databinder;
+
+import static org.objectweb.asm.Opcodes.BALOAD;
+import static org.objectweb.asm.Opcodes.CALOAD;
+import static org.objectweb.asm.Opcodes.GETSTATIC;
+import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
+
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.FieldVisitor;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+
+import com.github.skjolber.stcsv.AbstractByteCsvReader;
+import com.github.skjolber.stcsv.AbstractCsvReader;
+
+/**
+ *
+ * Converts a generated {@linkplain AbstractCsvReader} subclass into its {@linkplain AbstractByteCsvReader}
+ * equivalent. The generated parsers only compare against ASCII characters, so the same bytecode
+ * works on UTF-8 bytes once character arrays are replaced by byte arrays:
+ * <ul>
+ *   <li>the superclass, constructors and field / method descriptors use {@linkplain java.io.InputStream} and <code>byte[]</code></li>
+ *   <li>array reads (CALOAD) become BALOAD</li>
+ *   <li>string values are decoded as UTF-8</li>
+ * </ul>
+ * All static helpers and consumers invoked by generated code must hence have a <code>byte[]</code> overload.
+ */
+
+class ByteCsvReaderClassVisitor extends ClassVisitor {
+
+	protected static final String charReaderInternalName = AbstractCsvMapper.getInternalName(AbstractCsvReader.class);
+	protected static final String byteReaderInternalName = AbstractCsvMapper.getInternalName(AbstractByteCsvReader.class);
+
+	protected static String mapInternalName(String internalName) {
+		if(charReaderInternalName.equals(internalName)) {
+			return byteReaderInternalName;
+		}
+		return internalName;
+	}
+
+	protected static String mapDescriptor(String descriptor) {
+		if(descriptor == null) {
+			return null;
+		}
+		return descriptor
+				.replace("[C", "[B")
+				.replace("Ljava/io/Reader;", "Ljava/io/InputStream;")
+				.replace("L" + charReaderInternalName + ";", "L" + byteReaderInternalName + ";");
+	}
+
+	public ByteCsvReaderClassVisitor(ClassVisitor classVisitor) {
+		super(Opcodes.ASM9, classVisitor);
+	}
+
+	@Override
+	public void visit(int version, int access, String name, String signature, String superName, String[] interfaces) {
+		super.visit(version, access, name, signature, mapInternalName(superName), interfaces);
+	}
+
+	@Override
+	public FieldVisitor visitField(int access, String name, String descriptor, String signature, Object value) {
+		return super.visitField(access, name, mapDescriptor(descriptor), signature, value);
+	}
+
+	@Override
+	public MethodVisitor visitMethod(int access, String name, String descriptor, String signature, String[] exceptions) {
+		return new ByteMethodVisitor(super.visitMethod(access, name, mapDescriptor(descriptor), signature, exceptions));
+	}
+
+	protected static class ByteMethodVisitor extends MethodVisitor {
+
+		public ByteMethodVisitor(MethodVisitor methodVisitor) {
+			super(Opcodes.ASM9, methodVisitor);
+		}
+
+		@Override
+		public void visitInsn(int opcode) {
+			if(opcode == CALOAD) {
+				opcode = BALOAD;
+			}
+			super.visitInsn(opcode);
+		}
+
+		@Override
+		public void visitFieldInsn(int opcode, String owner, String name, String descriptor) {
+			super.visitFieldInsn(opcode, mapInternalName(owner), name, mapDescriptor(descriptor));
+		}
+
+		@Override
+		public void visitMethodInsn(int opcode, String owner, String name, String descriptor, boolean isInterface) {
+			if(opcode == INVOKESPECIAL && owner.equals("java/lang/String") && name.equals("<init>") && descriptor.equals("([CII)V")) {
+				// new String(bytes, offset, length, UTF_8)
+				super.visitFieldInsn(GETSTATIC, "java/nio/charset/StandardCharsets", "UTF_8", "Ljava/nio/charset/Charset;");
+				super.visitMethodInsn(opcode, owner, name, "([BIILjava/nio/charset/Charset;)V", isInterface);
+			} else {
+				super.visitMethodInsn(opcode, mapInternalName(owner), name, mapDescriptor(descriptor), isInterface);
+			}
+		}
+
+		@Override
+		public void visitLocalVariable(String name, String descriptor, String signature, Label start, Label end, int index) {
+			super.visitLocalVariable(name, mapDescriptor(descriptor), signature, start, end, index);
+		}
+	}
+}
@@ -0,0 +1,75 @@
+package com.github.skjolber.stcsv.databinder;
+
+/**
+ * Columnar (struct-of-arrays) output: one array per mapped column, each holding up to
+ * {@linkplain #getCapacity()} rows. Primitive fields are kept in primitive arrays, i.e.
+ * <code>int[]</code>, <code>long[]</code>, <code>double[]</code> and <code>boolean[]</code>;
+ * other types (like strings) in arrays of that type.
+ * <br><br>
+ * A batch is reused for each call to {@linkplain com.github.skjolber.stcsv.CsvReader#nextBatch(Object)},
+ * which returns the number of rows filled. Values beyond that row count are stale. Empty optional values
+ * (and columns not in the file) are <code>0</code>, <code>false</code> or <code>null</code>.
+ * <br><br>
+ * Create using {@linkplain AbstractCsvMapper#newBatch(int)}.
+ */
+
+public class CsvColumnBatch {
+
+	protected final String[] names;
+	protected final Object[] columns;
+	protected final int capacity;
+
+	public CsvColumnBatch(String[] names, Object[] columns, int capacity) {
+		this.names = names;
+		this.columns = columns;
+		this.capacity = capacity;
+	}
+
+	public int getCapacity() {
+		return capacity;
+	}
+
+	public String[] getNames() {
+		return names;
+	}
+
+	/**
+	 * Get column array.
+	 *
+	 * @param index column index, in mapping order
+	 * @return array, i.e. <code>int[]</code> for an integer field
+	 */
+
+	public Object getColumn(int index) {
+		return columns[index];
+	}
+
+	public Object getColumn(String name) {
+		for(int i = 0; i < names.length; i++) {
+			if(names[i].equals(name)) {
+				return columns[i];
+			}
+		}
+		throw new IllegalArgumentException("Unknown column '" + name + "'");
+	}
+
+	public int[] getIntColumn(String name) {
+		return (int[])getColumn(name);
+	}
+
+	public long[] getLongColumn(String name) {
+		return (long[])getColumn(name);
+	}
+
+	public double[] getDoubleColumn(String name) {
+		return (double[])getColumn(name);
+	}
+
+	public boolean[] getBooleanColumn(String name) {
+		return (boolean[])getColumn(name);
+	}
+
+	public String[] getStringColumn(String name) {
+		return (String[])getColumn(name);
+	}
+}
@@ -4,18 +4,35 @@ import static org.objectweb.asm.Opcodes.ALOAD;
 import static org.objectweb.asm.Opcodes.ASTORE;
 import static org.objectweb.asm.Opcodes.GETFIELD;
 
+import java.io.InputStream;
 import java.io.Reader;
+import java.lang.reflect.Constructor;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import org.objectweb.asm.ClassWriter;
 import org.objectweb.asm.MethodVisitor;
 
-import com.github.skjolber.stcsv.CsvException;
+import com.github.skjolber.stcsv.AbstractCsvReader;
 import com.github.skjolber.stcsv.CsvReader;
 import com.github.skjolber.stcsv.EmptyCsvReader;
+import com.github.skjolber.stcsv.io.ByteBufferInputStream;
+import com.github.skjolber.stcsv.io.MappedFileInputStream;
+import com.github.skjolber.stcsv.io.ReadAheadInputStream;
+import com.github.skjolber.stcsv.io.ReadAheadReader;
+import com.github.skjolber.stcsv.io.ReadableByteChannelInputStream;
 import com.github.skjolber.stcsv.databinder.builder.CsvMappingBuilder2;
+import com.github.skjolber.stcsv.scan.ScanStrategy;
 
 /**
  * 
@@ -33,6 +50,7 @@ public class CsvMapper2<T, H> extends AbstractCsvMapper<T> {
 	protected final String intermediateInternalName;
 	
 	protected final Map<String, StaticCsvMapper2<T, H>> factories = new ConcurrentHashMap<>();
+	protected final Map<String, StaticByteCsvMapper2<T, H>> byteFactories = new ConcurrentHashMap<>();
 
 	public static <T, D> CsvMappingBuilder2<T, D> builder(Class<T> cls, Class<D> delegate) {
 		return new CsvMappingBuilder2<T, D>(cls, delegate);
@@ -40,13 +58,48 @@ public class CsvMapper2<T, H> extends AbstractCsvMapper<T> {
 
 	public CsvMapper2(Class<T> cls, Class<H> intermediate, char divider, char quoteCharacter, char escapeCharacter, List<AbstractColumn> columns, boolean skipEmptyLines,
 			boolean skipComments, boolean skippableFieldsWithoutLinebreaks, ClassLoader classLoader, int bufferLength) {
-		super(cls, divider, quoteCharacter, escapeCharacter, columns, skipEmptyLines, skipComments, skippableFieldsWithoutLinebreaks, classLoader, bufferLength);
+		this(cls, intermediate, divider, quoteCharacter, escapeCharacter, columns, skipEmptyLines, skipComments, skippableFieldsWithoutLinebreaks, classLoader, bufferLength, bufferLength, null);
+	}
+
+	public CsvMapper2(Class<T> cls, Class<H> intermediate, char divider, char quoteCharacter, char escapeCharacter, List<AbstractColumn> columns, boolean skipEmptyLines,
+			boolean skipComments, boolean skippableFieldsWithoutLinebreaks, ClassLoader classLoader, int bufferLength, int maxBufferLength, Executor readAheadExecutor) {
+		this(cls, intermediate, divider, quoteCharacter, escapeCharacter, columns, skipEmptyLines, skipComments, skippableFieldsWithoutLinebreaks, classLoader, bufferLength, maxBufferLength, readAheadExecutor, ScanStrategy.SCALAR);
+	}
+
+	public CsvMapper2(Class<T> cls, Class<H> intermediate, char divider, char quoteCharacter, char escapeCharacter, List<AbstractColumn> columns, boolean skipEmptyLines,
+			boolean skipComments, boolean skippableFieldsWithoutLinebreaks, ClassLoader classLoader, int bufferLength, int maxBufferLength, Executor readAheadExecutor, ScanStrategy scanStrategy) {
+		this(cls, intermediate, divider, quoteCharacter, escapeCharacter, columns, skipEmptyLines, skipComments, skippableFieldsWithoutLinebreaks, classLoader, bufferLength, maxBufferLength, readAheadExecutor, scanStrategy, null);
+	}
+
+	public CsvMapper2(Class<T> cls, Class<H> intermediate, char divider, char quoteCharacter, char escapeCharacter, List<AbstractColumn> columns, boolean skipEmptyLines,
+			boolean skipComments, boolean skippableFieldsWithoutLinebreaks, ClassLoader classLoader, int bufferLength, int maxBufferLength, Executor readAheadExecutor, ScanStrategy scanStrategy, Constructor<T> constructor) {
+		super(cls, divider, quoteCharacter, escapeCharacter, columns, skipEmptyLines, skipComments, skippableFieldsWithoutLinebreaks, classLoader, bufferLength, maxBufferLength, readAheadExecutor, scanStrategy, constructor);
 		
 		this.intermediate = intermediate;
 		this.intermediateInternalName = getInternalName(intermediate);
 	}
 
 	public CsvReader<T> create(Reader reader, H helper) throws Exception {
+		return create(reader, -1L, helper);
+	}
+
+	/**
+	 * Create a reader for input of (approximately) known length, so that the buffer can be sized accordingly.
+	 * 
+	 * @param reader input
+	 * @param length input length hint, or -1 if unknown
+	 * @param helper intermediate processor
+	 * @return new reader
+	 * @throws Exception if the reader could not be created
+	 */
+
+	public CsvReader<T> create(Reader reader, long length, H helper) throws Exception {
+		int bufferLength = AbstractCsvReader.getBufferLength(length, this.bufferLength);
+
+		if(readAheadExecutor != null) {
+			reader = new ReadAheadReader(reader, bufferLength, readAheadExecutor);
+		}
+
 		// avoid multiple calls to read when locating the first line
 		// so read a full buffer
 		// assumes no newlines in quoted headers
@@ -55,7 +108,7 @@ public class CsvMapper2<T, H> extends AbstractCsvMapper<T> {
 		int start = 0;
 		int end = 0;
 		do {
-			int read = reader.read(current, start, bufferLength - start);
+			int read = reader.read(current, end, current.length - 1 - end);
 			if(read == -1) {
 				// so there was not a single newline, must always be empty result
 				return new EmptyCsvReader<>();
@@ -68,10 +121,13 @@ public class CsvMapper2<T, H> extends AbstractCsvMapper<T> {
 					return create(reader, new String(current, 0, i), current, i + 1, end, helper);
 				}
 			}
-			start += end;
-		} while(end < bufferLength);
-
-		throw new CsvException("No linebreak found in " + current.length + " characters");
+			start = end;
+			
+			if(end == current.length - 1) {
+				// header does not fit within the buffer
+				current = grow(current);
+			}
+		} while(true);
 	}
 
 	public CsvReader<T> create(Reader reader, String header, char[] current, int offset, int length, H helper) throws Exception {
@@ -92,6 +148,185 @@ public class CsvMapper2<T, H> extends AbstractCsvMapper<T> {
 		return constructor.newInstance(reader, current, offset, length, helper);
 	}
 
+	/**
+	 * Create a reader which parses bytes directly. The input must be UTF-8 (or ASCII) encoded.
+	 * 
+	 * @param input UTF-8 input
+	 * @param helper intermediate processor
+	 * @return new reader
+	 * @throws Exception if the reader could not be created
+	 */
+
+	public CsvReader<T> create(InputStream input, H helper) throws Exception {
+		return create(input, -1L, helper);
+	}
+
+	/**
+	 * Create a reader which parses bytes directly, for input of (approximately) known length, 
+	 * so that the buffer can be sized accordingly. The input must be UTF-8 (or ASCII) encoded.
+	 * 
+	 * @param input UTF-8 input
+	 * @param length input length hint, or -1 if unknown
+	 * @param helper intermediate processor
+	 * @return new reader
+	 * @throws Exception if the reader could not be created
+	 */
+
+	public CsvReader<T> create(InputStream input, long length, H helper) throws Exception {
+		int bufferLength = AbstractCsvReader.getBufferLength(length, this.bufferLength);
+
+		if(readAheadExecutor != null) {
+			input = new ReadAheadInputStream(input, bufferLength, readAheadExecutor);
+		}
+
+		// avoid multiple calls to read when locating the first line
+		// so read a full buffer
+		// assumes no newlines in quoted headers
+		byte[] current = new byte[bufferLength + 1];
+
+		int start = 0;
+		int end = 0;
+		do {
+			int read = input.read(current, end, current.length - 1 - end);
+			if(read == -1) {
+				// so there was not a single newline, must always be empty result
+				return new EmptyCsvReader<>();
+			} else {
+				end += read;
+			}
+
+			for(int i = start; i < end; i++) {
+				if(current[i] == '\n') {
+					return create(input, new String(current, 0, i, StandardCharsets.UTF_8), current, i + 1, end, helper);
+				}
+			}
+			start = end;
+			
+			if(end == current.length - 1) {
+				// header does not fit within the buffer
+				current = grow(current);
+			}
+		} while(true);
+	}
+
+	/**
+	 * Create a reader which reads (UTF-8) bytes from a channel directly into the parser buffer.
+	 * 
+	 * @param channel UTF-8 input, in blocking mode
+	 * @param helper intermediate processor
+	 * @return new reader
+	 * @throws Exception if the reader could not be created
+	 */
+
+	public CsvReader<T> create(ReadableByteChannel channel, H helper) throws Exception {
+		return create(new ReadableByteChannelInputStream(channel), helper);
+	}
+
+	/**
+	 * Create a reader for the remaining (UTF-8) bytes of a heap or direct buffer, 
+	 * which are copied directly into the parser buffer.
+	 * 
+	 * @param buffer UTF-8 input
+	 * @param helper intermediate processor
+	 * @return new reader
+	 * @throws Exception if the reader could not be created
+	 */
+
+	public CsvReader<T> create(ByteBuffer buffer, H helper) throws Exception {
+		return create(new ByteBufferInputStream(buffer), buffer.remaining(), helper);
+	}
+
+	/**
+	 * Create a reader for a (UTF-8) file, which is read using memory mapping.
+	 * 
+	 * @param path UTF-8 file
+	 * @param helper intermediate processor
+	 * @return new reader
+	 * @throws Exception if the reader could not be created
+	 */
+
+	public CsvReader<T> create(Path path, H helper) throws Exception {
+		MappedFileInputStream input = new MappedFileInputStream(path);
+		try {
+			CsvReader<T> reader = create(input, input.available(), helper);
+			if(reader instanceof EmptyCsvReader) {
+				input.close();
+			}
+			return reader;
+		} catch(Exception e) {
+			input.close();
+			throw e;
+		}
+	}
+
+	public CsvReader<T> create(InputStream input, String header, byte[] current, int offset, int length, H helper) throws Exception {
+		StaticByteCsvMapper2<T, H> constructor = getStaticByteCsvMapper(header);
+		if(constructor == null) {
+			return new EmptyCsvReader<>();
+		}
+		return constructor.newInstance(input, current, offset, length, helper);
+	}
+
+	protected StaticByteCsvMapper2<T, H> getStaticByteCsvMapper(String header) throws Exception {
+		StaticByteCsvMapper2<T, H> constructor = byteFactories.get(header);
+		if(constructor == null) {
+			boolean carriageReturns = header.length() > 1 && header.charAt(header.length() - 1) == '\r';
+			List<String> fields = parseColumnNames(header);
+
+			constructor = buildStaticByteCsvMapper(carriageReturns, fields);
+			if(constructor == null) {
+				return null;
+			}
+			byteFactories.put(header, constructor);
+		}
+		return constructor;
+	}
+
+	/**
+	 * Parse a (UTF-8) file in parallel, by splitting it into linebreak-aligned chunks which are parsed independently.
+	 * Requires that linebreaks are always line boundaries, see {@linkplain com.github.skjolber.stcsv.databinder.builder.AbstractCsvMappingBuilder#skippableFieldsWithoutLinebreaks()}.
+	 * 
+	 * @param path UTF-8 file
+	 * @param pool pool to run the parsing on
+	 * @param helpers intermediate processor supplier, invoked once per chunk
+	 * @return parsed values, in file order
+	 * @throws Exception if the file could not be parsed
+	 */
+
+	public List<T> parallelParse(Path path, ForkJoinPool pool, Supplier<H> helpers) throws Exception {
+		FileChunks chunks = split(path, pool);
+		if(chunks != null) {
+			StaticByteCsvMapper2<T, H> constructor = getStaticByteCsvMapper(chunks.getHeader());
+			if(constructor != null) {
+				return chunks.parse(pool, (input) -> constructor.newInstance(input, helpers.get()));
+			}
+		}
+		return new ArrayList<>();
+	}
+
+	/**
+	 * Parse a (UTF-8) file in parallel, by splitting it into linebreak-aligned chunks which are parsed independently.
+	 * Requires that linebreaks are always line boundaries, see {@linkplain com.github.skjolber.stcsv.databinder.builder.AbstractCsvMappingBuilder#skippableFieldsWithoutLinebreaks()}.
+	 * <br><br>
+	 * Values are passed to the consumer as they are parsed, so the consumer is invoked from multiple threads and in no particular order.
+	 * 
+	 * @param path UTF-8 file
+	 * @param pool pool to run the parsing on
+	 * @param helpers intermediate processor supplier, invoked once per chunk
+	 * @param consumer thread-safe value consumer
+	 * @throws Exception if the file could not be parsed
+	 */
+
+	public void parallelParse(Path path, ForkJoinPool pool, Supplier<H> helpers, Consumer<? super T> consumer) throws Exception {
+		FileChunks chunks = split(path, pool);
+		if(chunks != null) {
+			StaticByteCsvMapper2<T, H> constructor = getStaticByteCsvMapper(chunks.getHeader());
+			if(constructor != null) {
+				chunks.parse(pool, (input) -> constructor.newInstance(input, helpers.get()), consumer);
+			}
+		}
+	}
+
 	@SuppressWarnings({ "rawtypes", "unchecked" })
 	public StaticCsvMapper2<T, H> buildDefaultStaticCsvMapper(boolean carriageReturns) throws Exception {
 		return new DefaultStaticCsvMapper2(super.createDefaultReaderClass(carriageReturns), intermediate);
@@ -120,6 +355,16 @@ public class CsvMapper2<T, H> extends AbstractCsvMapper<T> {
 		return new DefaultStaticCsvMapper2(super.createReaderClass(carriageReturns, csvFileFieldNames), intermediate);
 	}
 
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	public StaticByteCsvMapper2<T, H> buildDefaultStaticByteCsvMapper(boolean carriageReturns) throws Exception {
+		return new DefaultStaticByteCsvMapper2(super.createDefaultByteReaderClass(carriageReturns), intermediate);
+	}
+
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	public StaticByteCsvMapper2<T, H> buildStaticByteCsvMapper(boolean carriageReturns, List<String> csvFileFieldNames) throws Exception {
+		return new DefaultStaticByteCsvMapper2(super.createByteReaderClass(carriageReturns, csvFileFieldNames), intermediate);
+	}
+
 	@Override
 	protected void addConstructors(ClassWriter classWriter, String subClassInternalName) {
 		super.addConstructors(classWriter, subClassInternalName, intermediateInternalName);
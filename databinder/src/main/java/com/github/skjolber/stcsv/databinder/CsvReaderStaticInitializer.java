@@ -3,6 +3,7 @@ package com.github.skjolber.stcsv.databinder;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
+import com.github.skjolber.stcsv.StringCache;
 import com.github.skjolber.stcsv.databinder.column.bi.CsvColumnValueConsumer;
 import com.github.skjolber.stcsv.databinder.column.tri.CsvColumnValueTriConsumer;
 
@@ -11,6 +12,7 @@ public class CsvReaderStaticInitializer {
 	public static class CsvStaticFields {
 		private CsvColumnValueConsumer<?>[] biConsumers;
 		private CsvColumnValueTriConsumer<?, ?>[] triConsumers;
+		private StringCache[] stringCaches;
 		
 		public CsvColumnValueConsumer<?>[] getBiConsumers() {
 			return biConsumers;
@@ -20,6 +22,10 @@ public class CsvReaderStaticInitializer {
 			return triConsumers;
 		}
 
+		public StringCache[] getStringCaches() {
+			return stringCaches;
+		}
+
 	}
 	
 	private CsvReaderStaticInitializer() {
@@ -38,9 +44,14 @@ public class CsvReaderStaticInitializer {
 	}
 	
 	public static void add(String className, CsvColumnValueConsumer<?>[] biConsumers, CsvColumnValueTriConsumer<?, ?>[] triConsumers) {
+		add(className, biConsumers, triConsumers, null);
+	}
+
+	public static void add(String className, CsvColumnValueConsumer<?>[] biConsumers, CsvColumnValueTriConsumer<?, ?>[] triConsumers, StringCache[] stringCaches) {
 		CsvStaticFields wrapper = new CsvStaticFields();
 		wrapper.biConsumers = biConsumers;
 		wrapper.triConsumers = triConsumers;
+		wrapper.stringCaches = stringCaches;
 		
 		values.put(className, wrapper);
 	}
@@ -0,0 +1,55 @@
+package com.github.skjolber.stcsv.databinder;
+
+import java.io.InputStream;
+import java.lang.reflect.Constructor;
+
+import com.github.skjolber.stcsv.AbstractByteCsvReader;
+import com.github.skjolber.stcsv.CsvReader;
+import com.github.skjolber.stcsv.EmptyCsvReader;
+
+/**
+ * 
+ * Static CSV parser generator - for specific byte parser implementation
+ * <br><br>
+ * Thread-safe.
+ * @param <T> csv line output value 
+ */
+
+public class DefaultStaticByteCsvMapper<T> implements StaticByteCsvMapper<T> {
+	
+	private final Constructor<? extends AbstractByteCsvReader<T>> inputConstructor;
+	private final Constructor<? extends AbstractByteCsvReader<T>> inputArrayConstructor;
+
+	public DefaultStaticByteCsvMapper(Class<? extends AbstractByteCsvReader<T>> cls) throws Exception {
+		if(cls != null) {
+			this.inputConstructor = cls.getConstructor(InputStream.class);
+			this.inputArrayConstructor  = cls.getConstructor(InputStream.class, byte[].class, int.class, int.class);
+		} else {
+			this.inputConstructor = null;
+			this.inputArrayConstructor = null;
+		}
+	}
+
+	public CsvReader<T> newInstance(InputStream input) {
+		try {
+			if(inputConstructor != null) {
+				return inputConstructor.newInstance(input);
+			}
+			return new EmptyCsvReader<>();
+		} catch (Exception e) {
+			throw new RuntimeException(e); // should never happen
+		}
+	}
+	
+	public CsvReader<T> newInstance(InputStream input, byte[] current, int offset, int length) {
+		try {
+			if(inputArrayConstructor != null) {
+				return inputArrayConstructor.newInstance(input, current, offset, length);
+			}
+			return new EmptyCsvReader<>();
+		} catch (Exception e) {
+			throw new RuntimeException(e); // should never happen
+		}
+	}
+
+}
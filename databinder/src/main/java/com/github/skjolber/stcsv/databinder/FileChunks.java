@@ -0,0 +1,244 @@
+package com.github.skjolber.stcsv.databinder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
+
+import com.github.skjolber.stcsv.CsvException;
+import com.github.skjolber.stcsv.CsvReader;
+import com.github.skjolber.stcsv.io.MappedFileInputStream;
+
+/**
+ *
+ * A (UTF-8) file split into linebreak-aligned chunks, for parsing each chunk in parallel.
+ * Only valid if linebreaks are always line (record) boundaries, i.e. no fields contain linebreaks.
+ *
+ */
+
+class FileChunks {
+
+	/** Number of chunks per thread, so that threads finishing early can pick up more work */
+	protected static final int CHUNKS_PER_THREAD = 4;
+
+	@FunctionalInterface
+	interface ChunkReaderFactory<T> {
+		CsvReader<T> create(InputStream input) throws Exception;
+	}
+
+	/**
+	 * Split a file into chunks.
+	 *
+	 * @param path UTF-8 file
+	 * @param bufferLength max line length; also the minimum chunk size
+	 * @param parallelism target parallelism
+	 * @return the chunks, or null if the file does not contain a header line
+	 * @throws IOException if the file could not be read
+	 */
+
+	static FileChunks split(Path path, int bufferLength, int parallelism) throws IOException {
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			byte[] current = new byte[bufferLength];
+
+			int index = readFirstLine(channel, current);
+			if(index == -1) {
+				// so there was not a single newline, must always be empty result
+				return null;
+			}
+			long start = index + 1;
+			long end = channel.size();
+
+			long count = Math.min((long)parallelism * CHUNKS_PER_THREAD, Math.max(1, (end - start) / bufferLength));
+
+			return new FileChunks(path, new String(current, 0, index, StandardCharsets.UTF_8), split(channel, start, end, (int)count));
+		}
+	}
+
+	/**
+	 *
+	 * Read the first line of a file.
+	 *
+	 * @param channel file channel
+	 * @param current buffer
+	 * @return index of the first linebreak, or -1 if the file ended before any linebreak
+	 * @throws IOException if the file could not be read
+	 */
+
+	protected static int readFirstLine(FileChannel channel, byte[] current) throws IOException {
+		ByteBuffer buffer = ByteBuffer.wrap(current);
+
+		int end = 0;
+		do {
+			int read = channel.read(buffer, end);
+			if(read == -1) {
+				return -1;
+			}
+			for(int i = end; i < end + read; i++) {
+				if(current[i] == '\n') {
+					return i;
+				}
+			}
+			end += read;
+		} while(end < current.length);
+
+		throw new CsvException("No linebreak found in " + current.length + " bytes");
+	}
+
+	protected static long[] split(FileChannel channel, long start, long end, int count) throws IOException {
+		long[] chunks = new long[count + 1];
+		chunks[0] = start;
+
+		ByteBuffer buffer = ByteBuffer.allocate(4 * 1024);
+
+		int index = 1;
+		for(int i = 1; i < count; i++) {
+			long position = start + ((end - start) * i) / count;
+			if(position <= chunks[index - 1]) {
+				continue;
+			}
+			position = nextLine(channel, position, end, buffer);
+			if(position > chunks[index - 1] && position < end) {
+				chunks[index++] = position;
+			}
+		}
+		chunks[index++] = end;
+
+		return Arrays.copyOf(chunks, index);
+	}
+
+	protected static long nextLine(FileChannel channel, long position, long end, ByteBuffer buffer) throws IOException {
+		while(position < end) {
+			buffer.clear();
+			int read = channel.read(buffer, position);
+			if(read == -1) {
+				break;
+			}
+			for(int i = 0; i < read; i++) {
+				if(buffer.get(i) == '\n') {
+					return position + i + 1;
+				}
+			}
+			position += read;
+		}
+		return end;
+	}
+
+	protected final Path path;
+	protected final String header;
+	protected final long[] chunks;
+
+	FileChunks(Path path, String header, long[] chunks) {
+		this.path = path;
+		this.header = header;
+		this.chunks = chunks;
+	}
+
+	public String getHeader() {
+		return header;
+	}
+
+	public int size() {
+		return chunks.length - 1;
+	}
+
+	/**
+	 * Parse all chunks, keeping the order of the file.
+	 *
+	 * @param <T> csv line output value
+	 * @param pool pool to run the parsing on
+	 * @param factory reader factory
+	 * @return list of values
+	 * @throws Exception if one of the chunks could not be parsed
+	 */
+
+	<T> List<T> parse(ForkJoinPool pool, ChunkReaderFactory<T> factory) throws Exception {
+		List<ForkJoinTask<List<T>>> tasks = new ArrayList<>(size());
+		for(int i = 0; i < size(); i++) {
+			long position = chunks[i];
+			long length = chunks[i + 1] - position;
+
+			tasks.add(pool.submit(() -> {
+				List<T> result = new ArrayList<>();
+				parse(position, length, factory, result::add);
+				return result;
+			}));
+		}
+
+		List<T> result = new ArrayList<>();
+		for(ForkJoinTask<List<T>> task : tasks) {
+			result.addAll(get(task, tasks));
+		}
+		return result;
+	}
+
+	/**
+	 * Parse all chunks, passing values to the consumer as they are parsed. The consumer is
+	 * invoked concurrently from multiple threads and in no particular order.
+	 *
+	 * @param <T> csv line output value
+	 * @param pool pool to run the parsing on
+	 * @param factory reader factory
+	 * @param consumer thread-safe value consumer
+	 * @throws Exception if one of the chunks could not be parsed
+	 */
+
+	<T> void parse(ForkJoinPool pool, ChunkReaderFactory<T> factory, Consumer<? super T> consumer) throws Exception {
+		List<ForkJoinTask<Void>> tasks = new ArrayList<>(size());
+		for(int i = 0; i < size(); i++) {
+			long position = chunks[i];
+			long length = chunks[i + 1] - position;
+
+			tasks.add(pool.submit(() -> {
+				parse(position, length, factory, consumer);
+				return null;
+			}));
+		}
+
+		for(ForkJoinTask<Void> task : tasks) {
+			get(task, tasks);
+		}
+	}
+
+	protected <T> void parse(long position, long length, ChunkReaderFactory<T> factory, Consumer<? super T> consumer) throws Exception {
+		try (
+				MappedFileInputStream input = new MappedFileInputStream(path, position, length, MappedFileInputStream.DEFAULT_WINDOW_SIZE);
+				CsvReader<T> reader = factory.create(input)
+				) {
+			do {
+				T next = reader.next();
+				if(next == null) {
+					break;
+				}
+				consumer.accept(next);
+			} while(true);
+		}
+	}
+
+	protected static <V> V get(ForkJoinTask<V> task, List<? extends ForkJoinTask<?>> tasks) throws Exception {
+		try {
+			return task.get();
+		} catch(ExecutionException e) {
+			for(ForkJoinTask<?> t : tasks) {
+				t.cancel(false);
+			}
+			Throwable cause = e.getCause();
+			if(cause instanceof Exception) {
+				throw (Exception)cause;
+			}
+			if(cause instanceof Error) {
+				throw (Error)cause;
+			}
+			throw e;
+		}
+	}
+}
@@ -2,6 +2,7 @@ package com.github.skjolber.stcsv.databinder;
 
 import java.io.IOException;
 
+import com.github.skjolber.stcsv.AbstractByteCsvReader;
 import com.github.skjolber.stcsv.AbstractCsvReader;
 import com.github.skjolber.stcsv.CsvException;
 
@@ -36,6 +37,7 @@ public class IgnoredColumn {
 									// 1s quote, but expected more bytes since missing at least one divider
 									throw new CsvException("Unexpected end of input");
 								}
+								current = scanner.getCurrent();
 								currentOffset = 0;
 							}
 							
@@ -50,6 +52,53 @@ public class IgnoredColumn {
 								// expected more bytes since still within quote
 								throw new CsvException("Unexpected end of input");
 							}
+							current = scanner.getCurrent();
+							currentOffset = 0;
+						} else {
+							++currentOffset;
+						}
+					} while(true);
+				}
+				currentOffset++;
+			}
+			
+			return currentOffset;
+		}
+
+		public static int skipColumns(AbstractByteCsvReader<?> scanner, byte[] current, int currentOffset, int divider, int quoteCharacter, int columns) throws IOException {
+			
+			columns: 
+			while(columns > 0) {
+				if(current[currentOffset] == divider) {
+					--columns;
+				} else if(current[currentOffset] == quoteCharacter) {
+					int currentRange = scanner.getEndOfLineIndex();
+					currentOffset++;
+					do {
+						if(current[currentOffset] == quoteCharacter) {
+							++currentOffset;
+							
+							if(currentOffset == currentRange) {
+								if((currentRange = scanner.fill(0)) == 0) { 
+									// 1s quote, but expected more bytes since missing at least one divider
+									throw new CsvException("Unexpected end of input");
+								}
+								current = scanner.getCurrent();
+								currentOffset = 0;
+							}
+							
+							if(current[currentOffset] != quoteCharacter) {
+								// 1x qoute
+								continue columns;
+							}
+							// 2x qoute
+							++currentOffset;
+						} else if(currentOffset == currentRange) {
+							if((currentRange = scanner.fill(0)) == 0) { 
+								// expected more bytes since still within quote
+								throw new CsvException("Unexpected end of input");
+							}
+							current = scanner.getCurrent();
 							currentOffset = 0;
 						} else {
 							++currentOffset;
@@ -85,6 +134,29 @@ public class IgnoredColumn {
 			
 			return currentOffset;
 		}	
+
+		public static int skipColumnsWithoutLinebreak(byte[] current, int currentOffset, int divider, int quoteCharacter, int columns) throws IOException {
+			
+			while(columns > 0) {
+				if(current[currentOffset] == divider) {
+					--columns;
+				} else if(current[currentOffset] == quoteCharacter) {
+					do {
+						if(current[++currentOffset] == quoteCharacter) {
+							if(current[currentOffset + 1] != quoteCharacter) {
+								// 1x qoute
+								break;
+							}
+							// 2x qoute
+							++currentOffset;
+						}
+					} while(true);
+				}
+				currentOffset++;
+			}
+			
+			return currentOffset;
+		}	
 		
 		
 		public static int skipToLineBreak(AbstractCsvReader<?> scanner, char[] current, int currentOffset, int quoteCharacter) throws IOException {
@@ -100,12 +172,48 @@ public class IgnoredColumn {
 							++currentOffset;
 							
 							if(currentOffset == currentRange) {
-								if((currentRange = scanner.fill(0)) == 0) { 
-									// 1x quote, end of file
-									
-									return ++currentOffset; // skip newline
-								}
-								currentOffset = 0;
+								// 1x quote followed by the last newline in the buffer, 
+								// so there is no need to read more
+								return ++currentOffset; // skip newline
+							}
+							
+							if(current[currentOffset] != quoteCharacter) {
+								// 1x qoute
+								continue columns;
+							}
+							// 2x qoute
+							++currentOffset;
+						} else if(currentOffset == currentRange) {
+							if((currentRange = scanner.fill(0)) == 0) { // must get more bytes since still within quote
+								throw new CsvException();
+							}
+							current = scanner.getCurrent();
+							currentOffset = 0;
+						} else {
+							++currentOffset;
+						}
+					} while(true);
+				}
+				currentOffset++;
+			}
+		}
+
+		public static int skipToLineBreak(AbstractByteCsvReader<?> scanner, byte[] current, int currentOffset, int quoteCharacter) throws IOException {
+			columns:
+			while(true) {
+				if(current[currentOffset] == '\n') {
+					return ++currentOffset; // skip newline
+				} else if(current[currentOffset] == quoteCharacter) {
+					int currentRange = scanner.getEndOfLineIndex();
+					currentOffset++;
+					do {
+						if(current[currentOffset] == quoteCharacter) {
+							++currentOffset;
+							
+							if(currentOffset == currentRange) {
+								// 1x quote followed by the last newline in the buffer, 
+								// so there is no need to read more
+								return ++currentOffset; // skip newline
 							}
 							
 							if(current[currentOffset] != quoteCharacter) {
@@ -118,6 +226,7 @@ public class IgnoredColumn {
 							if((currentRange = scanner.fill(0)) == 0) { // must get more bytes since still within quote
 								throw new CsvException();
 							}
+							current = scanner.getCurrent();
 							currentOffset = 0;
 						} else {
 							++currentOffset;
@@ -148,6 +257,26 @@ public class IgnoredColumn {
 				currentOffset++;
 			}
 		}
+
+		public static int skipToLineBreakWithoutLinebreak(byte[] current, int currentOffset, int quoteCharacter) throws IOException {
+			while(true) {
+				if(current[currentOffset] == '\n') {
+					return ++currentOffset; // skip newline
+				} else if(current[currentOffset] == quoteCharacter) {
+					do {
+						if(current[++currentOffset] == quoteCharacter) {
+							if(current[currentOffset + 1] != quoteCharacter) {
+								// 1x qoute
+								break;
+							}
+							// 2x qoute
+							++currentOffset;
+						}
+					} while(true);
+				}
+				currentOffset++;
+			}
+		}
 	}
 
 	public static class DifferentQuoteAndEscapeCharacter {
@@ -175,6 +304,51 @@ public class IgnoredColumn {
 									// exptected more bytes since missing at least one divider
 									throw new CsvException("Unexpected end of input");
 								}
+								current = scanner.getCurrent();
+								// skip now
+								currentOffset = 1; 
+							}
+						}
+						if(currentOffset == currentRange) {
+							if((currentRange = scanner.fill(0)) == 0) {
+								// exptected more bytes since missing at least one divider
+								throw new CsvException("Unexpected end of input");
+							}
+							current = scanner.getCurrent();
+							currentOffset = 0;
+						} else {
+							currentOffset++;
+						}
+					} while(true);
+					
+				}
+				currentOffset++;
+			}
+			
+			return currentOffset;
+		}
+
+		public static int skipColumns(AbstractByteCsvReader<?> scanner, byte[] current, int currentOffset, int divider, int quoteCharacter, int escapeCharacter, int columns) throws IOException {
+			
+			while(columns > 0) {
+				if(current[currentOffset] == divider) {
+					--columns;
+				} else if(current[currentOffset] == quoteCharacter) {
+					int currentRange = scanner.getEndOfLineIndex();
+					currentOffset++;
+					
+					do {
+						if(current[currentOffset] == quoteCharacter) {
+							break;
+						} else if(current[currentOffset] == escapeCharacter) { // so is at least one more character, since last is always newline
+							currentOffset++; // skip next character
+
+							if(currentOffset == currentRange) {
+								if((currentRange = scanner.fill(0)) == 0) {
+									// exptected more bytes since missing at least one divider
+									throw new CsvException("Unexpected end of input");
+								}
+								current = scanner.getCurrent();
 								// skip now
 								currentOffset = 1; 
 							}
@@ -184,6 +358,7 @@ public class IgnoredColumn {
 								// exptected more bytes since missing at least one divider
 								throw new CsvException("Unexpected end of input");
 							}
+							current = scanner.getCurrent();
 							currentOffset = 0;
 						} else {
 							currentOffset++;
@@ -217,6 +392,26 @@ public class IgnoredColumn {
 			
 			return currentOffset;
 		}	
+
+		public static int skipColumnsWithoutLinebreak(byte[] current, int currentOffset, int divider, int quoteCharacter, int escapeCharacter, int columns) throws IOException {
+			
+			while(columns > 0) {
+				if(current[currentOffset] == divider) {
+					--columns;
+				} else if(current[currentOffset] == quoteCharacter) {
+					do {
+						if(current[++currentOffset] == quoteCharacter) {
+							break;
+						} else if(current[currentOffset] == escapeCharacter) {
+							currentOffset++; // skip next character
+						}
+					} while(true);
+				}
+				currentOffset++;
+			}
+			
+			return currentOffset;
+		}	
 		
 		
 		public static int skipToLineBreak(AbstractCsvReader<?> scanner, char[] current, int currentOffset, int quoteCharacter, int escapeCharacter) throws IOException {
@@ -237,6 +432,36 @@ public class IgnoredColumn {
 								// expected more bytes, still within quote
 								throw new CsvException("Unexpected end of input");
 							}
+							current = scanner.getCurrent();
+							currentOffset = 0;
+						} else {
+							currentOffset++;
+						}
+					} while(true);
+				}
+				currentOffset++;
+			}
+		}
+
+		public static int skipToLineBreak(AbstractByteCsvReader<?> scanner, byte[] current, int currentOffset, int quoteCharacter, int escapeCharacter) throws IOException {
+			while(true) {
+				if(current[currentOffset] == '\n') {
+					return ++currentOffset; // skip newline
+				} else if(current[currentOffset] == quoteCharacter) {
+					int currentRange = scanner.getEndOfLineIndex();
+					currentOffset++;
+					do {
+						if(current[currentOffset] == quoteCharacter) {
+							break;
+						} else if(current[currentOffset] == escapeCharacter) { // so is at least one more character, since last is always newline
+							currentOffset++; // skip next character
+						}
+						if(currentOffset == currentRange) { // i.e. current character is newline
+							if((currentRange = scanner.fill(0)) == 0) { 
+								// expected more bytes, still within quote
+								throw new CsvException("Unexpected end of input");
+							}
+							current = scanner.getCurrent();
 							currentOffset = 0;
 						} else {
 							currentOffset++;
@@ -264,6 +489,23 @@ public class IgnoredColumn {
 				currentOffset++;
 			}
 		}
+
+		public static int skipToLineBreakWithoutLinebreak(byte[] current, int currentOffset, int quoteCharacter, int escapeCharacter) throws IOException {
+			while(true) {
+				if(current[currentOffset] == '\n') {
+					return ++currentOffset; // skip newline
+				} else if(current[currentOffset] == quoteCharacter) {
+					do {
+						if(current[++currentOffset] == quoteCharacter) {
+							break;
+						} else if(current[currentOffset] == escapeCharacter) {
+							currentOffset++; // skip next character
+						}
+					} while(true);
+				}
+				currentOffset++;
+			}
+		}
 	}
 	
 }
@@ -8,9 +8,7 @@ import static org.objectweb.asm.Opcodes.ICONST_1;
 import static org.objectweb.asm.Opcodes.IF_ICMPGT;
 import static org.objectweb.asm.Opcodes.IF_ICMPNE;
 import static org.objectweb.asm.Opcodes.ILOAD;
-import static org.objectweb.asm.Opcodes.INVOKESTATIC;
 import static org.objectweb.asm.Opcodes.ISTORE;
-import static org.objectweb.asm.Opcodes.ISUB;
 
 import org.objectweb.asm.Label;
 import org.objectweb.asm.MethodVisitor;
@@ -59,6 +57,8 @@ public class NoLineBreakQuotedColumn extends AbstractColumn {
 		mv.visitVarInsn(ILOAD, currentOffsetIndex);
 		mv.visitVarInsn(ISTORE, startIndex);
 
+		clearEscaped(mv);
+
 		// so in other words, fixed column size is not much of an optimization for quoted values;
 		// the parser still needs to scan through all of the fixed column data if so.
 		if(quoteCharacter == escapeCharacter) {
@@ -83,18 +83,9 @@ public class NoLineBreakQuotedColumn extends AbstractColumn {
 			Label l29 = new Label();
 			mv.visitJumpInsn(IF_ICMPNE, l29);
 			
-			mv.visitVarInsn(ALOAD, currentArrayIndex);
-			mv.visitVarInsn(ILOAD, startIndex);
-			mv.visitVarInsn(ALOAD, currentArrayIndex);
-			mv.visitVarInsn(ILOAD, startIndex);
-			mv.visitInsn(ICONST_1);
-			mv.visitInsn(IADD);
-			mv.visitVarInsn(ILOAD, currentOffsetIndex);
-			mv.visitVarInsn(ILOAD, startIndex);
-			mv.visitInsn(ISUB);
-			mv.visitMethodInsn(INVOKESTATIC, "java/lang/System", "arraycopy", "(Ljava/lang/Object;ILjava/lang/Object;II)V", false);
+			// double quote; convert 2x double quote to 1x double quote once the whole value has been read
 			mv.visitIincInsn(currentOffsetIndex, 2);
-			mv.visitIincInsn(4, currentOffsetIndex);
+			setEscaped(mv);
 			Label l34 = new Label();
 			mv.visitJumpInsn(GOTO, l34);
 			mv.visitLabel(l29);
@@ -113,6 +104,8 @@ public class NoLineBreakQuotedColumn extends AbstractColumn {
 			
 			mv.visitLabel(nonEmptyValue);
 			
+			unescape(mv, true, quoteCharacter);
+			
 			writeValue(mv, subClassInternalName, true);
 
 			mv.visitLabel(skipToComma);
@@ -132,18 +125,10 @@ public class NoLineBreakQuotedColumn extends AbstractColumn {
 			mv.visitLdcInsn(Integer.valueOf(escapeCharacter));
 			Label l31 = new Label();
 			mv.visitJumpInsn(IF_ICMPNE, l31);
-			mv.visitVarInsn(ALOAD, currentArrayIndex);
-			mv.visitVarInsn(ILOAD, startIndex);
-			mv.visitVarInsn(ALOAD, currentArrayIndex);
-			mv.visitVarInsn(ILOAD, startIndex);
-			mv.visitInsn(ICONST_1);
-			mv.visitInsn(IADD);
-			mv.visitVarInsn(ILOAD, currentOffsetIndex);
-			mv.visitVarInsn(ILOAD, startIndex);
-			mv.visitInsn(ISUB);
-			mv.visitMethodInsn(INVOKESTATIC, "java/lang/System", "arraycopy", "(Ljava/lang/Object;ILjava/lang/Object;II)V", false);
+			
+			// remove the escape character once the whole value has been read
 			mv.visitIincInsn(currentOffsetIndex, 1);
-			mv.visitIincInsn(startIndex, 1);
+			setEscaped(mv);
 			Label l36 = new Label();
 			mv.visitJumpInsn(GOTO, l36);
 			mv.visitLabel(l31);
@@ -167,6 +152,8 @@ public class NoLineBreakQuotedColumn extends AbstractColumn {
 			
 			mv.visitLabel(nonEmptyValue);
 			
+			unescape(mv, true, escapeCharacter);
+			
 			writeValue(mv, subClassInternalName, true);
 
 			mv.visitLabel(skipToComma);
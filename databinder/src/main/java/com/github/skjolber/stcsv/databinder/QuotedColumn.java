@@ -13,7 +13,6 @@ import static org.objectweb.asm.Opcodes.IF_ICMPGT;
 import static org.objectweb.asm.Opcodes.IF_ICMPLE;
 import static org.objectweb.asm.Opcodes.IF_ICMPNE;
 import static org.objectweb.asm.Opcodes.ILOAD;
-import static org.objectweb.asm.Opcodes.INVOKESTATIC;
 import static org.objectweb.asm.Opcodes.INVOKEVIRTUAL;
 import static org.objectweb.asm.Opcodes.ISTORE;
 import static org.objectweb.asm.Opcodes.ISUB;
@@ -35,6 +34,11 @@ public class QuotedColumn extends AbstractColumn {
 		this.escapeCharacter = escapeCharacter;
 	}
 
+	@Override
+	public boolean isLinebreaks() {
+		return true;
+	}
+
 	protected void inline(MethodVisitor mv, String subClassInternalName, int divider, int increment, boolean fillable) {
 
 		Label quoted = ifAtChar(mv, quoteCharacter); // quoted
@@ -81,6 +85,7 @@ public class QuotedColumn extends AbstractColumn {
 			mv.visitInsn(IADD);
 			mv.visitVarInsn(ISTORE, startIndex);
 			
+			clearEscaped(mv);
 			
 			// start quote while
 			Label whileQuoted = new Label();
@@ -134,6 +139,8 @@ public class QuotedColumn extends AbstractColumn {
 			Label l24 = new Label();
 			mv.visitJumpInsn(IF_ICMPLE, l24);
 			
+			unescape(mv, false, quoteCharacter);
+			
 			writeValue(mv, subClassInternalName, false);
 	
 			Label l26;
@@ -169,16 +176,8 @@ public class QuotedColumn extends AbstractColumn {
 			
 			mv.visitLabel(isDoubleQuote);
 			
-			// System.arraycopy(current, start, current, ++start, currentOffset - start);
-			mv.visitVarInsn(ALOAD, 2);
-			mv.visitVarInsn(ILOAD, 4);
-			mv.visitVarInsn(ALOAD, 2);
-			mv.visitIincInsn(4, 1);
-			mv.visitVarInsn(ILOAD, 4);
-			mv.visitVarInsn(ILOAD, 1);
-			mv.visitVarInsn(ILOAD, 4);
-			mv.visitInsn(ISUB);
-			mv.visitMethodInsn(INVOKESTATIC, "java/lang/System", "arraycopy", "(Ljava/lang/Object;ILjava/lang/Object;II)V", false);
+			// double quote; convert 2x double quote to 1x double quote once the whole value has been read
+			setEscaped(mv);
 			mv.visitJumpInsn(GOTO, whileQuoted);
 			
 			// NON-QUOTED character
@@ -205,10 +204,10 @@ public class QuotedColumn extends AbstractColumn {
 			mv.visitMethodInsn(INVOKEVIRTUAL, subClassInternalName, "fill", "(I)I", false);
 			mv.visitInsn(DUP);
 			mv.visitVarInsn(ISTORE, rangeIndex);
-			mv.visitVarInsn(ILOAD, currentOffsetIndex);
 			
-			mv.visitInsn(ICONST_1);
-			mv.visitInsn(IADD);
+			// if((rangeIndex = this.fill(currentOffset + 1)) <= currentOffset) throw
+			// note: the first new character is at currentOffset + 1, and might be a linebreak
+			mv.visitVarInsn(ILOAD, currentOffsetIndex);
 
 			Label l34 = new Label();
 			mv.visitJumpInsn(IF_ICMPGT, l34);
@@ -216,6 +215,7 @@ public class QuotedColumn extends AbstractColumn {
 			throwMappingException(mv);
 			
 			mv.visitLabel(l34);
+			AbstractCsvMapper.loadCurrent(mv);
 			mv.visitInsn(ICONST_0);
 			mv.visitVarInsn(ISTORE, startIndex);
 			
@@ -250,6 +250,8 @@ public class QuotedColumn extends AbstractColumn {
 				mv.visitVarInsn(ISTORE, startIndex);
 			}
 			
+			clearEscaped(mv);
+			
 			Label whileQuoted = new Label();
 			mv.visitLabel(whileQuoted);
 			
@@ -279,17 +281,10 @@ public class QuotedColumn extends AbstractColumn {
 			
 			
 			
-			// System.arraycopy(current, start++, current, start, ++currentOffset - start);
-			mv.visitVarInsn(ALOAD, currentArrayIndex);
-			mv.visitVarInsn(ILOAD, startIndex);
-			mv.visitIincInsn(startIndex, 1);
-			mv.visitVarInsn(ALOAD, currentArrayIndex);
-			mv.visitVarInsn(ILOAD, startIndex);
+			// ++currentOffset; 
+			// remove the escape character once the whole value has been read
 			mv.visitIincInsn(currentOffsetIndex, 1);
-			mv.visitVarInsn(ILOAD, currentOffsetIndex);
-			mv.visitVarInsn(ILOAD, startIndex);
-			mv.visitInsn(ISUB);
-			mv.visitMethodInsn(INVOKESTATIC, "java/lang/System", "arraycopy", "(Ljava/lang/Object;ILjava/lang/Object;II)V", false);
+			setEscaped(mv);
 
 
 			
@@ -321,6 +316,8 @@ public class QuotedColumn extends AbstractColumn {
 			
 			mv.visitLabel(l40);
 			
+			unescape(mv, true, escapeCharacter);
+			
 			writeValue(mv, subClassInternalName, true);
 
 			mv.visitLabel(l42);
@@ -366,6 +363,8 @@ public class QuotedColumn extends AbstractColumn {
 			
 			if(fillable) {
 				// reading more characters from underlying stream must be possible (EOF not acceptable)
+				// if((rangeIndex = this.fill(currentOffset + 1)) <= currentOffset) throw
+				// note: the first new character is at currentOffset + 1, and might be a linebreak
 				mv.visitVarInsn(ALOAD, 0);
 				mv.visitVarInsn(ILOAD, currentOffsetIndex);
 				mv.visitInsn(ICONST_1);
@@ -374,8 +373,6 @@ public class QuotedColumn extends AbstractColumn {
 				mv.visitInsn(DUP);
 				mv.visitVarInsn(ISTORE, rangeIndex);
 				mv.visitVarInsn(ILOAD, currentOffsetIndex);
-				mv.visitInsn(ICONST_1);
-				mv.visitInsn(IADD);
 				
 				Label l33 = new Label();
 				mv.visitJumpInsn(IF_ICMPGT, l33);
@@ -394,6 +391,9 @@ public class QuotedColumn extends AbstractColumn {
 				mv.visitVarInsn(ISTORE, rangeIndex);
 			}
 
+			// current = this.current
+			AbstractCsvMapper.loadCurrent(mv);
+
 			// start = 0
 			mv.visitInsn(ICONST_0);
 			mv.visitVarInsn(ISTORE, startIndex);
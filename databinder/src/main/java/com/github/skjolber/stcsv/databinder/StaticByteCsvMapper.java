@@ -0,0 +1,13 @@
+package com.github.skjolber.stcsv.databinder;
+
+import java.io.InputStream;
+
+import com.github.skjolber.stcsv.CsvReader;
+
+public interface StaticByteCsvMapper<T> {
+
+	CsvReader<T> newInstance(InputStream input);
+	
+	CsvReader<T> newInstance(InputStream input, byte[] current, int offset, int length);
+
+}
@@ -0,0 +1,13 @@
+package com.github.skjolber.stcsv.databinder;
+
+import java.io.InputStream;
+
+import com.github.skjolber.stcsv.CsvReader;
+
+public interface StaticByteCsvMapper2<T, D> {
+
+	CsvReader<T> newInstance(InputStream input, D delegate);
+	
+	CsvReader<T> newInstance(InputStream input, byte[] current, int offset, int length, D delegate);
+
+}
@@ -109,7 +109,7 @@ public abstract class AbstractCsvFieldMapperBuilder<T, B extends AbstractCsvMapp
 			}
 		}
 		
-		column.setProjection(getProjection(index, proxy));
+		column.setProjection(proxy.toProjection(name, getProjection(index, proxy)));
 		
 		return column;
 	}
@@ -1,6 +1,11 @@
 package com.github.skjolber.stcsv.databinder.builder;
 
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -8,6 +13,7 @@ import java.util.Set;
 import com.github.skjolber.stcsv.builder.AbstractCsvBuilder;
 import com.github.skjolber.stcsv.builder.CsvBuilderException;
 import com.github.skjolber.stcsv.databinder.AbstractColumn;
+import com.github.skjolber.stcsv.databinder.CsvColumnBatch;
 
 public abstract class AbstractCsvMappingBuilder<T, B extends AbstractCsvMappingBuilder<T, ?>> extends AbstractCsvBuilder<B>  {
 
@@ -35,6 +41,8 @@ public abstract class AbstractCsvMappingBuilder<T, B extends AbstractCsvMappingB
 
 	protected boolean byteBuddy = byteBuddyPresent;
 	
+	protected String[] constructorArguments; // field names, in argument order
+	
 	// for testing
 	B withoutByteBuddy() {
 		byteBuddy = false;
@@ -52,17 +60,125 @@ public abstract class AbstractCsvMappingBuilder<T, B extends AbstractCsvMappingB
 		return (B) this;
 	}
 
-	protected List<AbstractColumn> toColumns() throws CsvBuilderException {
-		List<AbstractColumn> columns = new ArrayList<>(fields.size());
-		Set<String> fieldNames = new HashSet<>(fields.size() * 2);
+	/**
+	 * Pass values to a constructor rather than to setters, i.e. for immutable classes. 
+	 * The constructor is invoked once per line, with default values (zero, false or null) 
+	 * for arguments without a value. Records are detected automatically.
+	 * 
+	 * @param names field names, in constructor argument order
+	 * @return this
+	 */
 
-		SetterProjectionHelper<T> proxy;
-		if(byteBuddy) {
-			proxy = new ByteBuddySetterProjectionHelper<T>(target);
-		} else {
-			proxy = new SetterProjectionHelper<T>(target);
+	@SuppressWarnings("unchecked")
+	public B constructor(String ... names) {
+		this.constructorArguments = names;
+		
+		return (B) this;
+	}
+
+	@SuppressWarnings("unchecked")
+	protected SetterProjectionHelper<T> createProjectionHelper() throws CsvBuilderException {
+		if(target == CsvColumnBatch.class) {
+			List<String> names = new ArrayList<>(fields.size());
+			for(AbstractCsvFieldMapperBuilder<T, ?> field : fields) {
+				names.add(field.getName());
+			}
+			return (SetterProjectionHelper<T>)new ColumnarProjectionHelper(names);
+		}
+		if(constructorArguments != null) {
+			return new ConstructorProjectionHelper<T>(target, getConstructor(constructorArguments.length), Arrays.asList(constructorArguments));
+		}
+		
+		Object[] recordComponents = getRecordComponents(target);
+		if(recordComponents != null) {
+			// canonical constructor
+			String[] names = new String[recordComponents.length];
+			Class<?>[] types = new Class<?>[recordComponents.length];
+			try {
+				for(int i = 0; i < recordComponents.length; i++) {
+					names[i] = (String)recordComponents[i].getClass().getMethod("getName").invoke(recordComponents[i]);
+					types[i] = (Class<?>)recordComponents[i].getClass().getMethod("getType").invoke(recordComponents[i]);
+				}
+				return new ConstructorProjectionHelper<T>(target, target.getConstructor(types), Arrays.asList(names));
+			} catch (NoSuchMethodException e) {
+				throw new CsvBuilderException("Expected public canonical constructor for record " + target.getName(), e);
+			} catch (Exception e) {
+				throw new CsvBuilderException(e);
+			}
 		}
 		
+		if(!hasDefaultConstructor(target)) {
+			// immutable class compiled with parameter names (javac -parameters)
+			Constructor<?>[] constructors = target.getConstructors();
+			if(constructors.length == 1) {
+				Parameter[] parameters = constructors[0].getParameters();
+				if(parameters.length > 0 && parameters[0].isNamePresent()) {
+					String[] names = new String[parameters.length];
+					for(int i = 0; i < parameters.length; i++) {
+						names[i] = parameters[i].getName();
+					}
+					return new ConstructorProjectionHelper<T>(target, (Constructor<T>)constructors[0], Arrays.asList(names));
+				}
+			}
+		}
+
+		if(byteBuddy) {
+			return new ByteBuddySetterProjectionHelper<T>(target);
+		}
+		return new SetterProjectionHelper<T>(target);
+	}
+	
+	@SuppressWarnings("unchecked")
+	protected Constructor<T> getConstructor(int arguments) throws CsvBuilderException {
+		Constructor<T> constructor = null;
+		for(Constructor<?> candidate : target.getConstructors()) {
+			if(candidate.getParameterCount() == arguments) {
+				if(constructor != null) {
+					throw new CsvBuilderException("Multiple public constructors with " + arguments + " arguments for class " + target.getName());
+				}
+				constructor = (Constructor<T>)candidate;
+			}
+		}
+		if(constructor == null) {
+			throw new CsvBuilderException("Expected public constructor with " + arguments + " arguments for class " + target.getName());
+		}
+		return constructor;
+	}
+
+	protected static boolean hasDefaultConstructor(Class<?> cls) {
+		if(Modifier.isAbstract(cls.getModifiers())) {
+			return true; // fail later
+		}
+		try {
+			cls.getConstructor();
+			
+			return true;
+		} catch (NoSuchMethodException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Get the record components using reflection, so that records are supported without requiring Java 16.
+	 * 
+	 * @param cls target class
+	 * @return record components, or null if not a record
+	 */
+
+	protected static Object[] getRecordComponents(Class<?> cls) {
+		try {
+			Method method = Class.class.getMethod("getRecordComponents");
+			
+			return (Object[])method.invoke(cls);
+		} catch (Exception e) {
+			return null;
+		}
+	}
+
+	protected List<AbstractColumn> toColumns(SetterProjectionHelper<T> proxy) throws CsvBuilderException {
+		List<AbstractColumn> columns = new ArrayList<>(fields.size());
+		Set<String> fieldNames = new HashSet<>(fields.size() * 2);
+
 		for (int i = 0; i < fields.size(); i++) {
 			AbstractCsvFieldMapperBuilder<T, ?> builder = fields.get(i);
 			
@@ -1,6 +1,5 @@
 package com.github.skjolber.stcsv.databinder.builder;
 
-import java.lang.reflect.Method;
 
 import com.github.skjolber.stcsv.builder.CsvBuilderException;
 import com.github.skjolber.stcsv.databinder.AbstractColumn;
@@ -15,10 +14,30 @@ import com.github.skjolber.stcsv.databinder.projection.ValueProjection;
 
 public abstract class AbstractTypedCsvFieldMapperBuilder<T, B extends AbstractCsvMappingBuilder<T, ?>> extends AbstractCsvFieldMapperBuilder<T, B>{
 
+	protected String fieldName;
+
 	public AbstractTypedCsvFieldMapperBuilder(B parent, String name) {
 		super(parent, name);
 	}
 
+	/**
+	 * Assign the value directly to a public field, rather than invoking a setter. 
+	 * Public fields are also detected automatically if there is no setter.
+	 * 
+	 * @param fieldName field name
+	 * @return this instance.
+	 */
+
+	public AbstractTypedCsvFieldMapperBuilder<T, B> field(String fieldName) {
+		this.fieldName = fieldName;
+		
+		return this;
+	}
+
+	protected String getFieldName() {
+		return fieldName;
+	}
+
 	protected String getName() {
 		return name;
 	}
@@ -100,15 +119,15 @@ public abstract class AbstractTypedCsvFieldMapperBuilder<T, B extends AbstractCs
 			}
 		}
 		
-		column.setProjection(getProjection(index, proxy));
+		column.setProjection(proxy.toProjection(name, getProjection(index, proxy)));
 		
 		return column;
 	}
 
 	protected ValueProjection getProjection(int index, SetterProjectionHelper<T> proxy) throws CsvBuilderException {
-		Method method = proxy.toMethod(this);
+		ValueTarget target = proxy.toTarget(this);
 		
-		return SetterValueProjection.newInstance(method.getParameterTypes()[0], method.getName(), CsvMapper.getInternalName(parent.getTarget())); 
+		return target.apply(SetterValueProjection.newInstance(target.getType(), target.getName(), CsvMapper.getInternalName(parent.getTarget()))); 
 	}
 	
 	protected abstract Class<?> getColumnClass();
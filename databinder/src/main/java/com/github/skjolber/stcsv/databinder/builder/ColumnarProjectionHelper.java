@@ -0,0 +1,39 @@
+package com.github.skjolber.stcsv.databinder.builder;
+
+import java.util.List;
+
+import com.github.skjolber.stcsv.builder.CsvBuilderException;
+import com.github.skjolber.stcsv.databinder.AbstractCsvMapper;
+import com.github.skjolber.stcsv.databinder.CsvColumnBatch;
+import com.github.skjolber.stcsv.databinder.projection.SetterValueProjection;
+import com.github.skjolber.stcsv.databinder.projection.ValueProjection;
+
+/**
+ * This class maps fields to column arrays, for columnar output.
+ *
+ */
+
+public class ColumnarProjectionHelper extends SetterProjectionHelper<CsvColumnBatch> {
+
+	protected final List<String> names; // in mapping order
+
+	public ColumnarProjectionHelper(List<String> names) {
+		super(CsvColumnBatch.class);
+		this.names = names;
+	}
+
+	@Override
+	public ValueTarget toTarget(AbstractTypedCsvFieldMapperBuilder<CsvColumnBatch, ?> abstractCsvFieldMapperBuilder) throws CsvBuilderException {
+		String name = abstractCsvFieldMapperBuilder.getName();
+
+		return ValueTarget.newColumn(abstractCsvFieldMapperBuilder.getColumnClass(), name, AbstractCsvMapper.getColumnIndex(names.indexOf(name)));
+	}
+
+	@Override
+	public ValueProjection toProjection(String name, ValueProjection projection) throws CsvBuilderException {
+		if(!(projection instanceof SetterValueProjection)) {
+			throw new CsvBuilderException("Consumers are not supported for field '" + name + "', values are stored in column arrays");
+		}
+		return projection;
+	}
+}
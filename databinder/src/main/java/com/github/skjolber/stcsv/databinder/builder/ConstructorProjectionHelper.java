@@ -0,0 +1,63 @@
+package com.github.skjolber.stcsv.databinder.builder;
+
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Parameter;
+import java.util.List;
+
+import com.github.skjolber.stcsv.builder.CsvBuilderException;
+import com.github.skjolber.stcsv.databinder.AbstractCsvMapper;
+import com.github.skjolber.stcsv.databinder.projection.SetterValueProjection;
+import com.github.skjolber.stcsv.databinder.projection.ValueProjection;
+
+/**
+ * This class maps fields to constructor arguments, for immutable classes and records. 
+ * 
+ */
+
+public class ConstructorProjectionHelper<T> extends SetterProjectionHelper<T> {
+
+	protected final Constructor<T> constructor;
+	protected final List<String> names; // in argument order
+
+	public ConstructorProjectionHelper(Class<T> target, Constructor<T> constructor, List<String> names) {
+		super(target);
+		this.constructor = constructor;
+		this.names = names;
+	}
+
+	@Override
+	public ValueTarget toTarget(AbstractTypedCsvFieldMapperBuilder<T, ?> abstractCsvFieldMapperBuilder) throws CsvBuilderException {
+		String name = abstractCsvFieldMapperBuilder.getName();
+		
+		int argument = getArgument(name);
+		Parameter parameter = constructor.getParameters()[argument];
+		
+		Class<?> cls = abstractCsvFieldMapperBuilder.getColumnClass();
+		if(parameter.getType() != cls && parameter.getType() != MethodType.methodType(cls).wrap().returnType()) {
+			throw new CsvBuilderException("Expected constructor argument for class " + target.getName() + " field '" + name + "' to take " + cls.getName() + ", not " + parameter.getType().getName());
+		}
+		return ValueTarget.newArgument(parameter.getType(), name, AbstractCsvMapper.getArgumentIndex(constructor, argument));
+	}
+
+	@Override
+	public ValueProjection toProjection(String name, ValueProjection projection) throws CsvBuilderException {
+		if(!(projection instanceof SetterValueProjection)) {
+			throw new CsvBuilderException("Consumers are not supported for class " + target.getName() + " field '" + name + "', values are passed to the constructor");
+		}
+		return projection;
+	}
+	
+	protected int getArgument(String name) {
+		int index = names.indexOf(name);
+		if(index == -1) {
+			throw new CsvBuilderException("No constructor argument for class " + target.getName() + " field '" + name + "'");
+		}
+		return index;
+	}
+
+	@Override
+	public Constructor<T> getConstructor() {
+		return constructor;
+	}
+}
@@ -5,12 +5,22 @@ import java.util.List;
 import com.github.skjolber.stcsv.builder.CsvBuilderException;
 import com.github.skjolber.stcsv.databinder.AbstractColumn;
 import com.github.skjolber.stcsv.databinder.CsvMapper;
+import com.github.skjolber.stcsv.databinder.column.bi.BigDecimalCsvFieldMapperBuilder;
 import com.github.skjolber.stcsv.databinder.column.bi.BooleanCsvFieldMapperBuilder;
+import com.github.skjolber.stcsv.databinder.column.bi.ByteCsvFieldMapperBuilder;
+import com.github.skjolber.stcsv.databinder.column.bi.CharCsvFieldMapperBuilder;
 import com.github.skjolber.stcsv.databinder.column.bi.CsvFieldMapperBuilder;
+import com.github.skjolber.stcsv.databinder.column.bi.DateCsvFieldMapperBuilder;
+import com.github.skjolber.stcsv.databinder.column.bi.DateTimeCsvFieldMapperBuilder;
 import com.github.skjolber.stcsv.databinder.column.bi.DoubleCsvFieldMapperBuilder;
+import com.github.skjolber.stcsv.databinder.column.bi.EnumCsvFieldMapperBuilder;
+import com.github.skjolber.stcsv.databinder.column.bi.FloatCsvFieldMapperBuilder;
+import com.github.skjolber.stcsv.databinder.column.bi.InstantCsvFieldMapperBuilder;
 import com.github.skjolber.stcsv.databinder.column.bi.IntCsvFieldMapperBuilder;
 import com.github.skjolber.stcsv.databinder.column.bi.LongCsvFieldMapperBuilder;
+import com.github.skjolber.stcsv.databinder.column.bi.ShortCsvFieldMapperBuilder;
 import com.github.skjolber.stcsv.databinder.column.bi.StringCsvFieldMapperBuilder;
+import com.github.skjolber.stcsv.databinder.column.bi.TimeCsvFieldMapperBuilder;
 
 public class CsvMappingBuilder<T> extends AbstractCsvMappingBuilder<T, CsvMappingBuilder<T>> {
 
@@ -19,7 +29,9 @@ public class CsvMappingBuilder<T> extends AbstractCsvMappingBuilder<T, CsvMappin
 	}
 
 	public CsvMapper<T> build() throws CsvBuilderException {
-		List<AbstractColumn> columns = toColumns();
+		SetterProjectionHelper<T> proxy = createProjectionHelper();
+		
+		List<AbstractColumn> columns = toColumns(proxy);
 		
 		ClassLoader classLoader = this.classLoader;
 		if(classLoader == null) {
@@ -30,7 +42,7 @@ public class CsvMappingBuilder<T> extends AbstractCsvMappingBuilder<T, CsvMappin
 			throw new CsvBuilderException("Expected buffer length at least " + (columns.size() * 2 + 1));
 		}
 		
-		return new CsvMapper<T>(target, divider, quoteCharacter, escapeCharacter, columns, skipEmptyLines, skipComments, skippableFieldsWithoutLinebreaks, classLoader, bufferLength);
+		return new CsvMapper<T>(target, divider, quoteCharacter, escapeCharacter, columns, skipEmptyLines, skipComments, skippableFieldsWithoutLinebreaks, classLoader, bufferLength, getMaxBufferLength(), readAheadExecutor, scanStrategy, proxy.getConstructor());
 	}
 	
 	public CsvFieldMapperBuilder<T, CsvMappingBuilder<T>> field(String name) {
@@ -57,4 +69,44 @@ public class CsvMappingBuilder<T> extends AbstractCsvMappingBuilder<T, CsvMappin
 		return new BooleanCsvFieldMapperBuilder<T, CsvMappingBuilder<T>>(this, name);
 	}
 
+	public FloatCsvFieldMapperBuilder<T, CsvMappingBuilder<T>> floatField(String name) {
+		return new FloatCsvFieldMapperBuilder<T, CsvMappingBuilder<T>>(this, name);
+	}
+
+	public ShortCsvFieldMapperBuilder<T, CsvMappingBuilder<T>> shortField(String name) {
+		return new ShortCsvFieldMapperBuilder<T, CsvMappingBuilder<T>>(this, name);
+	}
+
+	public ByteCsvFieldMapperBuilder<T, CsvMappingBuilder<T>> byteField(String name) {
+		return new ByteCsvFieldMapperBuilder<T, CsvMappingBuilder<T>>(this, name);
+	}
+
+	public CharCsvFieldMapperBuilder<T, CsvMappingBuilder<T>> charField(String name) {
+		return new CharCsvFieldMapperBuilder<T, CsvMappingBuilder<T>>(this, name);
+	}
+
+	public BigDecimalCsvFieldMapperBuilder<T, CsvMappingBuilder<T>> bigDecimalField(String name) {
+		return new BigDecimalCsvFieldMapperBuilder<T, CsvMappingBuilder<T>>(this, name);
+	}
+
+	public DateCsvFieldMapperBuilder<T, CsvMappingBuilder<T>> dateField(String name) {
+		return new DateCsvFieldMapperBuilder<T, CsvMappingBuilder<T>>(this, name);
+	}
+
+	public TimeCsvFieldMapperBuilder<T, CsvMappingBuilder<T>> timeField(String name) {
+		return new TimeCsvFieldMapperBuilder<T, CsvMappingBuilder<T>>(this, name);
+	}
+
+	public DateTimeCsvFieldMapperBuilder<T, CsvMappingBuilder<T>> dateTimeField(String name) {
+		return new DateTimeCsvFieldMapperBuilder<T, CsvMappingBuilder<T>>(this, name);
+	}
+
+	public InstantCsvFieldMapperBuilder<T, CsvMappingBuilder<T>> instantField(String name) {
+		return new InstantCsvFieldMapperBuilder<T, CsvMappingBuilder<T>>(this, name);
+	}
+
+	public <E extends Enum<E>> EnumCsvFieldMapperBuilder<T, E, CsvMappingBuilder<T>> enumField(String name, Class<E> enumClass) {
+		return new EnumCsvFieldMapperBuilder<T, E, CsvMappingBuilder<T>>(this, name, enumClass);
+	}
+
 }
@@ -5,12 +5,22 @@ import java.util.List;
 import com.github.skjolber.stcsv.builder.CsvBuilderException;
 import com.github.skjolber.stcsv.databinder.AbstractColumn;
 import com.github.skjolber.stcsv.databinder.CsvMapper2;
+import com.github.skjolber.stcsv.databinder.column.tri.BigDecimalCsvFieldMapperTriBuilder;
 import com.github.skjolber.stcsv.databinder.column.tri.BooleanCsvFieldMapperTriBuilder;
+import com.github.skjolber.stcsv.databinder.column.tri.ByteCsvFieldMapperTriBuilder;
+import com.github.skjolber.stcsv.databinder.column.tri.CharCsvFieldMapperTriBuilder;
 import com.github.skjolber.stcsv.databinder.column.tri.CsvFieldMapperTriBuilder;
+import com.github.skjolber.stcsv.databinder.column.tri.DateCsvFieldMapperTriBuilder;
+import com.github.skjolber.stcsv.databinder.column.tri.DateTimeCsvFieldMapperTriBuilder;
 import com.github.skjolber.stcsv.databinder.column.tri.DoubleCsvFieldMapperTriBuilder;
+import com.github.skjolber.stcsv.databinder.column.tri.EnumCsvFieldMapperTriBuilder;
+import com.github.skjolber.stcsv.databinder.column.tri.FloatCsvFieldMapperTriBuilder;
+import com.github.skjolber.stcsv.databinder.column.tri.InstantCsvFieldMapperTriBuilder;
 import com.github.skjolber.stcsv.databinder.column.tri.IntCsvFieldMapperTriBuilder;
 import com.github.skjolber.stcsv.databinder.column.tri.LongCsvFieldMapperTriBuilder;
+import com.github.skjolber.stcsv.databinder.column.tri.ShortCsvFieldMapperTriBuilder;
 import com.github.skjolber.stcsv.databinder.column.tri.StringCsvFieldMapperTriBuilder;
+import com.github.skjolber.stcsv.databinder.column.tri.TimeCsvFieldMapperTriBuilder;
 
 public class CsvMappingBuilder2<T, D> extends AbstractCsvMappingBuilder<T, CsvMappingBuilder2<T, D>> {
 
@@ -23,7 +33,9 @@ public class CsvMappingBuilder2<T, D> extends AbstractCsvMappingBuilder<T, CsvMa
 	}
 
 	public CsvMapper2<T, D> build() throws CsvBuilderException {
-		List<AbstractColumn> columns = toColumns();
+		SetterProjectionHelper<T> proxy = createProjectionHelper();
+		
+		List<AbstractColumn> columns = toColumns(proxy);
 		
 		ClassLoader classLoader = this.classLoader;
 		if(classLoader == null) {
@@ -34,7 +46,7 @@ public class CsvMappingBuilder2<T, D> extends AbstractCsvMappingBuilder<T, CsvMa
 			throw new CsvBuilderException("Expected positive buffer length");
 		}
 		
-		return new CsvMapper2<T, D>(target, intermediate, divider, quoteCharacter, escapeCharacter, columns, skipEmptyLines, skipComments, skippableFieldsWithoutLinebreaks, classLoader, bufferLength);
+		return new CsvMapper2<T, D>(target, intermediate, divider, quoteCharacter, escapeCharacter, columns, skipEmptyLines, skipComments, skippableFieldsWithoutLinebreaks, classLoader, bufferLength, getMaxBufferLength(), readAheadExecutor, scanStrategy, proxy.getConstructor());
 	}
 
 	public StringCsvFieldMapperTriBuilder<T, D, CsvMappingBuilder2<T, D>> stringField(String name) {
@@ -61,4 +73,44 @@ public class CsvMappingBuilder2<T, D> extends AbstractCsvMappingBuilder<T, CsvMa
 		return new BooleanCsvFieldMapperTriBuilder<T, D, CsvMappingBuilder2<T, D>>(this, name, intermediate);
 	}
 
+	public FloatCsvFieldMapperTriBuilder<T, D, CsvMappingBuilder2<T, D>> floatField(String name) {
+		return new FloatCsvFieldMapperTriBuilder<T, D, CsvMappingBuilder2<T, D>>(this, name, intermediate);
+	}
+
+	public ShortCsvFieldMapperTriBuilder<T, D, CsvMappingBuilder2<T, D>> shortField(String name) {
+		return new ShortCsvFieldMapperTriBuilder<T, D, CsvMappingBuilder2<T, D>>(this, name, intermediate);
+	}
+
+	public ByteCsvFieldMapperTriBuilder<T, D, CsvMappingBuilder2<T, D>> byteField(String name) {
+		return new ByteCsvFieldMapperTriBuilder<T, D, CsvMappingBuilder2<T, D>>(this, name, intermediate);
+	}
+
+	public CharCsvFieldMapperTriBuilder<T, D, CsvMappingBuilder2<T, D>> charField(String name) {
+		return new CharCsvFieldMapperTriBuilder<T, D, CsvMappingBuilder2<T, D>>(this, name, intermediate);
+	}
+
+	public BigDecimalCsvFieldMapperTriBuilder<T, D, CsvMappingBuilder2<T, D>> bigDecimalField(String name) {
+		return new BigDecimalCsvFieldMapperTriBuilder<T, D, CsvMappingBuilder2<T, D>>(this, name, intermediate);
+	}
+
+	public DateCsvFieldMapperTriBuilder<T, D, CsvMappingBuilder2<T, D>> dateField(String name) {
+		return new DateCsvFieldMapperTriBuilder<T, D, CsvMappingBuilder2<T, D>>(this, name, intermediate);
+	}
+
+	public TimeCsvFieldMapperTriBuilder<T, D, CsvMappingBuilder2<T, D>> timeField(String name) {
+		return new TimeCsvFieldMapperTriBuilder<T, D, CsvMappingBuilder2<T, D>>(this, name, intermediate);
+	}
+
+	public DateTimeCsvFieldMapperTriBuilder<T, D, CsvMappingBuilder2<T, D>> dateTimeField(String name) {
+		return new DateTimeCsvFieldMapperTriBuilder<T, D, CsvMappingBuilder2<T, D>>(this, name, intermediate);
+	}
+
+	public InstantCsvFieldMapperTriBuilder<T, D, CsvMappingBuilder2<T, D>> instantField(String name) {
+		return new InstantCsvFieldMapperTriBuilder<T, D, CsvMappingBuilder2<T, D>>(this, name, intermediate);
+	}
+
+	public <E extends Enum<E>> EnumCsvFieldMapperTriBuilder<T, E, D, CsvMappingBuilder2<T, D>> enumField(String name, Class<E> enumClass) {
+		return new EnumCsvFieldMapperTriBuilder<T, E, D, CsvMappingBuilder2<T, D>>(this, name, enumClass, intermediate);
+	}
+
 }
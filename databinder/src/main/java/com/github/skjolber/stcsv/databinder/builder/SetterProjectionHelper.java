@@ -1,7 +1,13 @@
 package com.github.skjolber.stcsv.databinder.builder;
 
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
 import com.github.skjolber.stcsv.builder.CsvBuilderException;
+import com.github.skjolber.stcsv.databinder.projection.ValueProjection;
 
 /**
  * This class helps to unwrap delta constructs to access
@@ -19,13 +25,30 @@ public class SetterProjectionHelper<T> {
 	}
 	
 	public void detectSetter(String name, Class<?> cls) {
+		Method method = findSetter(name, cls);
+		if(method == null) {
+			throw new CsvBuilderException("Unable to detect setter for class " + target.getName() + " field '" + name + "' (" + getSetterName(name) + "/ "+ getNormalizedSetterName(name) + ").");
+		}
+		this.method = method;
+	}
+
+	protected Method findSetter(String name, Class<?> cls) {
+		Method method = getSetter(name, cls);
+		if(method == null && cls.isPrimitive()) {
+			// fall back to setter for the boxed type, i.e. setValue(Integer)
+			method = getSetter(name, MethodType.methodType(cls).wrap().returnType());
+		}
+		return method;
+	}
+
+	protected Method getSetter(String name, Class<?> cls) {
 		try {
-			this.method = target.getMethod(getSetterName(name), cls);
+			return target.getMethod(getSetterName(name), cls);
 		} catch (NoSuchMethodException e1) {
 			try {
-				this.method = target.getMethod(getNormalizedSetterName(name), cls);
+				return target.getMethod(getNormalizedSetterName(name), cls);
 			} catch (NoSuchMethodException e2) {
-				throw new CsvBuilderException("Unable to detect setter for class " + target.getName() + " field '" + name + "' (" + getSetterName(name) + "/ "+ getNormalizedSetterName(name) + ").");
+				return null;
 			}
 		}
 	}
@@ -65,4 +88,85 @@ public class SetterProjectionHelper<T> {
 		}
 	}
 
+	/**
+	 * Get the target which the value is passed to. Setters are preferred, with fallback to public fields.
+	 * 
+	 * @param abstractCsvFieldMapperBuilder field builder
+	 * @return the target
+	 * @throws CsvBuilderException if no target could be found
+	 */
+
+	public ValueTarget toTarget(AbstractTypedCsvFieldMapperBuilder<T, ?> abstractCsvFieldMapperBuilder) throws CsvBuilderException {
+		Class<?> cls = abstractCsvFieldMapperBuilder.getColumnClass();
+
+		String fieldName = abstractCsvFieldMapperBuilder.getFieldName();
+		if(fieldName != null) {
+			Field field = getField(fieldName, cls);
+			if(field == null) {
+				throw new CsvBuilderException("Unable to detect public field '" + fieldName + "' for class " + target.getName());
+			}
+			return ValueTarget.newField(field);
+		}
+
+		if(!abstractCsvFieldMapperBuilder.hasSetter()) {
+			String name = abstractCsvFieldMapperBuilder.getName();
+			if(findSetter(name, cls) == null) {
+				Field field = getField(name, cls);
+				if(field == null) {
+					field = getField(getNormalizedFieldName(name), cls);
+				}
+				if(field != null) {
+					return ValueTarget.newField(field);
+				}
+			}
+		}
+		return ValueTarget.newSetter(toMethod(abstractCsvFieldMapperBuilder));
+	}
+
+	/**
+	 * Get a field which can be assigned directly from the generated parser, 
+	 * i.e. which is public and not final or static.
+	 * 
+	 * @param name field name
+	 * @param cls value type
+	 * @return the field, or null if no such field
+	 */
+
+	protected Field getField(String name, Class<?> cls) {
+		try {
+			Field field = target.getField(name);
+			
+			int modifiers = field.getModifiers();
+			if(Modifier.isFinal(modifiers) || Modifier.isStatic(modifiers)) {
+				return null;
+			}
+			if(field.getType() != cls && field.getType() != MethodType.methodType(cls).wrap().returnType()) {
+				return null;
+			}
+			return field;
+		} catch (NoSuchFieldException e) {
+			return null;
+		}
+	}
+
+	protected static String getNormalizedFieldName(String name) {
+		String setterName = getNormalizedSetterName(name);
+		
+		return Character.toLowerCase(setterName.charAt(3)) + setterName.substring(4);
+	}
+
+	public ValueProjection toProjection(String name, ValueProjection projection) throws CsvBuilderException {
+		return projection;
+	}
+
+	/**
+	 * Get the constructor which values are passed to.
+	 * 
+	 * @return the constructor, or null if values are passed to setters after invoking the no-argument constructor
+	 */
+
+	public Constructor<T> getConstructor() {
+		return null;
+	}
+
 }
@@ -0,0 +1,69 @@
+package com.github.skjolber.stcsv.databinder.builder;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+import com.github.skjolber.stcsv.databinder.projection.SetterValueProjection;
+
+/**
+ * The target of a value: a setter, a public field, a constructor argument or a column array.
+ * 
+ */
+
+public class ValueTarget {
+
+	public static ValueTarget newSetter(Method method) {
+		return new ValueTarget(method.getParameterTypes()[0], method.getName(), false, -1);
+	}
+
+	public static ValueTarget newField(Field field) {
+		return new ValueTarget(field.getType(), field.getName(), true, -1);
+	}
+
+	public static ValueTarget newArgument(Class<?> type, String name, int argumentIndex) {
+		return new ValueTarget(type, name, false, argumentIndex);
+	}
+
+	public static ValueTarget newColumn(Class<?> type, String name, int columnIndex) {
+		return new ValueTarget(type, name, false, -1, columnIndex);
+	}
+
+	protected final Class<?> type;
+	protected final String name;
+	protected final boolean field;
+	protected final int argumentIndex; // local variable index, or -1
+	protected final int columnIndex; // local variable index of column array, or -1
+
+	public ValueTarget(Class<?> type, String name, boolean field, int argumentIndex) {
+		this(type, name, field, argumentIndex, -1);
+	}
+
+	public ValueTarget(Class<?> type, String name, boolean field, int argumentIndex, int columnIndex) {
+		this.type = type;
+		this.name = name;
+		this.field = field;
+		this.argumentIndex = argumentIndex;
+		this.columnIndex = columnIndex;
+	}
+
+	public Class<?> getType() {
+		return type;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public SetterValueProjection apply(SetterValueProjection projection) {
+		if(field) {
+			return projection.toField();
+		}
+		if(argumentIndex != -1) {
+			return projection.toArgument(argumentIndex);
+		}
+		if(columnIndex != -1) {
+			return projection.toColumn(columnIndex, type);
+		}
+		return projection;
+	}
+}
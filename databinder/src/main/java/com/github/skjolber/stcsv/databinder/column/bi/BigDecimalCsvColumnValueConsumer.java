@@ -0,0 +1,40 @@
+package com.github.skjolber.stcsv.databinder.column.bi;
+
+import java.math.BigDecimal;
+import java.util.function.BiConsumer;
+
+import com.github.skjolber.stcsv.ValueParser;
+
+public class BigDecimalCsvColumnValueConsumer<T> implements CsvColumnValueConsumer<T> {
+
+	protected final BiConsumer<T, BigDecimal> setter;
+
+	public BigDecimalCsvColumnValueConsumer(BiConsumer<T, BigDecimal> setter) {
+		this.setter = setter;
+	}
+
+	@Override
+	public void consume(T object, char[] array, int start, int end) {
+		setter.accept(object, parseBigDecimal(array, start, end));
+	}
+
+	@Override
+	public void consume(T object, byte[] array, int start, int end) {
+		setter.accept(object, parseBigDecimal(array, start, end));
+	}
+
+	public static BigDecimal parseBigDecimal(char[] array, int start, int end) {
+		if(start == end) {
+			return null;
+		}
+		return ValueParser.parseBigDecimal(array, start, end);
+	}
+
+	public static BigDecimal parseBigDecimal(byte[] array, int start, int end) {
+		if(start == end) {
+			return null;
+		}
+		return ValueParser.parseBigDecimal(array, start, end);
+	}
+
+}
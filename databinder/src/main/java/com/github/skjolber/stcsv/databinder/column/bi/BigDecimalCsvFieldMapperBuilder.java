@@ -0,0 +1,107 @@
+package com.github.skjolber.stcsv.databinder.column.bi;
+
+import java.math.BigDecimal;
+import java.util.function.BiConsumer;
+
+import com.github.skjolber.stcsv.builder.CsvBuilderException;
+import com.github.skjolber.stcsv.databinder.builder.AbstractCsvMappingBuilder;
+import com.github.skjolber.stcsv.databinder.builder.AbstractTypedCsvFieldMapperBuilder;
+import com.github.skjolber.stcsv.databinder.builder.SetterProjectionHelper;
+import com.github.skjolber.stcsv.databinder.projection.BiConsumerProjection;
+import com.github.skjolber.stcsv.databinder.projection.ValueProjection;
+
+public class BigDecimalCsvFieldMapperBuilder<T, D extends AbstractCsvMappingBuilder<T, ?>> extends AbstractTypedCsvFieldMapperBuilder<T, D> {
+
+	protected BiConsumer<T, BigDecimal> consumer;
+	protected BiConsumer<T, BigDecimal> setter;
+
+	public BigDecimalCsvFieldMapperBuilder(D parent, String name) {
+		super(parent, name);
+	}
+
+	public BigDecimalCsvFieldMapperBuilder<T, D> consumer(BiConsumer<T, BigDecimal> consumer) {
+		this.consumer = consumer;
+		
+		return this;
+	}
+	
+	public BigDecimalCsvFieldMapperBuilder<T, D> setter(BiConsumer<T, BigDecimal> setter) {
+		this.setter = setter;
+		
+		return this;
+	}	
+	
+	public BigDecimalCsvFieldMapperBuilder<T, D> fixedSize(int fixedSize) {
+		super.fixedSize(fixedSize);
+		
+		return this;
+	}
+
+	/**
+	 * Indicate that this field is quoted. If there is no linebreaks, 
+	 * rather use the method {@linkplain #quotedWithoutLinebreaks()} to improve performance.
+	 * 
+	 * @return this instance.
+	 */
+	
+	public BigDecimalCsvFieldMapperBuilder<T, D> quoted() {
+		super.quoted();
+		
+		return this;
+	}
+
+	/**
+	 * Indicate that this field is quoted, but has no linebreaks.
+	 * 
+	 * @return this instance.
+	 */
+	
+	public BigDecimalCsvFieldMapperBuilder<T, D> quotedWithoutLinebreaks() {
+		super.quotedWithoutLinebreaks();
+		
+		return this;
+	}
+
+	public BigDecimalCsvFieldMapperBuilder<T, D> trimTrailingWhitespaces() {
+		super.trimTrailingWhitespaces();
+		
+		return this;
+	}
+
+	public BigDecimalCsvFieldMapperBuilder<T, D> trimLeadingWhitespaces() {
+		super.trimLeadingWhitespaces();
+		
+		return this;
+	}
+
+	public BigDecimalCsvFieldMapperBuilder<T, D> field(String fieldName) {
+		super.field(fieldName);
+		
+		return this;
+	}
+
+	@Override
+	protected Class<?> getColumnClass() {
+		return BigDecimal.class;
+	}
+
+	@Override
+	protected void invokeSetter(T value) {
+		setter.accept(value, null);
+	}
+
+	@Override
+	protected boolean hasSetter() {
+		return setter != null;
+	}
+
+	protected ValueProjection getProjection(int index, SetterProjectionHelper<T> proxy) throws CsvBuilderException {
+		if(consumer != null) {
+			return new BiConsumerProjection(new BigDecimalCsvColumnValueConsumer<>(consumer), index);
+		}
+		return super.getProjection(index, proxy);
+	}
+
+}
+
+
@@ -1,5 +1,7 @@
 package com.github.skjolber.stcsv.databinder.column.bi;
 
+import com.github.skjolber.stcsv.ValueParser;
+
 public class BooleanCsvColumnValueConsumer<T> implements CsvColumnValueConsumer<T> {
 
 	protected final ObjBooleanConsumer<T> setter;
@@ -14,12 +16,32 @@ public class BooleanCsvColumnValueConsumer<T> implements CsvColumnValueConsumer<
 		setter.accept(object, parseBoolean(array, start, end));
 	}
 
+	@Override
+	public void consume(T object, byte[] array, int start, int end) {
+		
+		setter.accept(object, parseBoolean(array, start, end));
+	}
+
 	public static boolean parseBoolean(char[] array, int start, int end) {
-		return end - start == 4 && 
-		(array[start] == 't' || array[start] == 'T') &&
-		(array[++start] == 'r' || array[start] == 'R') &&
-		(array[++start] == 'u' || array[start] == 'U') &&
-		(array[++start] == 'e' || array[start] == 'E');
+		return ValueParser.parseBoolean(array, start, end);
+	}
+
+	public static boolean parseBoolean(byte[] array, int start, int end) {
+		return ValueParser.parseBoolean(array, start, end);
+	}
+
+	public static Boolean valueOf(char[] array, int start, int end) {
+		if(start == end) {
+			return null;
+		}
+		return ValueParser.parseBoolean(array, start, end);
+	}
+
+	public static Boolean valueOf(byte[] array, int start, int end) {
+		if(start == end) {
+			return null;
+		}
+		return ValueParser.parseBoolean(array, start, end);
 	}
 
 }
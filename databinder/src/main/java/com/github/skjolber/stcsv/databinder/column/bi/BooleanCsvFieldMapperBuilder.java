@@ -70,6 +70,12 @@ public class BooleanCsvFieldMapperBuilder<T, D extends AbstractCsvMappingBuilder
 		return this;
 	}
 
+	public BooleanCsvFieldMapperBuilder<T, D> field(String fieldName) {
+		super.field(fieldName);
+		
+		return this;
+	}
+
 	@Override
 	protected Class<?> getColumnClass() {
 		return boolean.class;
@@ -0,0 +1,45 @@
+package com.github.skjolber.stcsv.databinder.column.bi;
+
+import com.github.skjolber.stcsv.ValueParser;
+
+public class ByteCsvColumnValueConsumer<T> implements CsvColumnValueConsumer<T> {
+
+	protected final ObjByteConsumer<T> setter;
+		
+	public ByteCsvColumnValueConsumer(ObjByteConsumer<T> setter) {
+		this.setter = setter;
+	}
+
+	@Override
+	public void consume(T object, char[] array, int start, int end) {
+		setter.accept(object, parseByte(array, start, end));
+	}
+
+	@Override
+	public void consume(T object, byte[] array, int start, int end) {
+		setter.accept(object, parseByte(array, start, end));
+	}
+
+	public static byte parseByte(char[] array, int start, int end) {
+		return ValueParser.parseByte(array, start, end);
+	}
+
+	public static byte parseByte(byte[] array, int start, int end) {
+		return ValueParser.parseByte(array, start, end);
+	}
+
+	public static Byte valueOf(char[] array, int start, int end) {
+		if(start == end) {
+			return null;
+		}
+		return ValueParser.parseByte(array, start, end);
+	}
+
+	public static Byte valueOf(byte[] array, int start, int end) {
+		if(start == end) {
+			return null;
+		}
+		return ValueParser.parseByte(array, start, end);
+	}
+
+}
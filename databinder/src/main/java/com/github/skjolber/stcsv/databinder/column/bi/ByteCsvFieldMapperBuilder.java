@@ -0,0 +1,104 @@
+package com.github.skjolber.stcsv.databinder.column.bi;
+
+import com.github.skjolber.stcsv.builder.CsvBuilderException;
+import com.github.skjolber.stcsv.databinder.builder.AbstractCsvMappingBuilder;
+import com.github.skjolber.stcsv.databinder.builder.AbstractTypedCsvFieldMapperBuilder;
+import com.github.skjolber.stcsv.databinder.builder.SetterProjectionHelper;
+import com.github.skjolber.stcsv.databinder.projection.BiConsumerProjection;
+import com.github.skjolber.stcsv.databinder.projection.ValueProjection;
+
+public class ByteCsvFieldMapperBuilder<T, D extends AbstractCsvMappingBuilder<T, ?>> extends AbstractTypedCsvFieldMapperBuilder<T, D> {
+
+	protected ObjByteConsumer<T> consumer;
+	protected ObjByteConsumer<T> setter;
+
+	public ByteCsvFieldMapperBuilder(D parent, String name) {
+		super(parent, name);
+	}
+
+	public ByteCsvFieldMapperBuilder<T, D> consumer(ObjByteConsumer<T> consumer) {
+		this.consumer = consumer;
+		
+		return this;
+	}
+	
+	public ByteCsvFieldMapperBuilder<T, D> setter(ObjByteConsumer<T> setter) {
+		this.setter = setter;
+		
+		return this;
+	}	
+	
+	public ByteCsvFieldMapperBuilder<T, D> fixedSize(int fixedSize) {
+		super.fixedSize(fixedSize);
+		
+		return this;
+	}
+
+	/**
+	 * Indicate that this field is quoted. If there is no linebreaks, 
+	 * rather use the method {@linkplain #quotedWithoutLinebreaks()} to improve performance.
+	 * 
+	 * @return this instance.
+	 */
+	
+	public ByteCsvFieldMapperBuilder<T, D> quoted() {
+		super.quoted();
+		
+		return this;
+	}
+
+	/**
+	 * Indicate that this field is quoted, but has no linebreaks.
+	 * 
+	 * @return this instance.
+	 */
+	
+	public ByteCsvFieldMapperBuilder<T, D> quotedWithoutLinebreaks() {
+		super.quotedWithoutLinebreaks();
+		
+		return this;
+	}
+
+	public ByteCsvFieldMapperBuilder<T, D> trimTrailingWhitespaces() {
+		super.trimTrailingWhitespaces();
+		
+		return this;
+	}
+
+	public ByteCsvFieldMapperBuilder<T, D> trimLeadingWhitespaces() {
+		super.trimLeadingWhitespaces();
+		
+		return this;
+	}
+
+	public ByteCsvFieldMapperBuilder<T, D> field(String fieldName) {
+		super.field(fieldName);
+		
+		return this;
+	}
+
+	@Override
+	protected Class<?> getColumnClass() {
+		return byte.class;
+	}
+
+	@Override
+	protected void invokeSetter(T value) {
+		setter.accept(value, (byte)0);
+	}
+
+	@Override
+	protected boolean hasSetter() {
+		return setter != null;
+	}
+
+	protected ValueProjection getProjection(int index, SetterProjectionHelper<T> proxy) throws CsvBuilderException {
+		if(consumer != null) {
+			return new BiConsumerProjection(new ByteCsvColumnValueConsumer<>(consumer), index);
+		}
+		return super.getProjection(index, proxy);
+	}
+
+}
+
+
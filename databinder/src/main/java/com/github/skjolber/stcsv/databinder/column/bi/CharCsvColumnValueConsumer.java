@@ -0,0 +1,45 @@
+package com.github.skjolber.stcsv.databinder.column.bi;
+
+import com.github.skjolber.stcsv.ValueParser;
+
+public class CharCsvColumnValueConsumer<T> implements CsvColumnValueConsumer<T> {
+
+	protected final ObjCharConsumer<T> setter;
+		
+	public CharCsvColumnValueConsumer(ObjCharConsumer<T> setter) {
+		this.setter = setter;
+	}
+
+	@Override
+	public void consume(T object, char[] array, int start, int end) {
+		setter.accept(object, parseChar(array, start, end));
+	}
+
+	@Override
+	public void consume(T object, byte[] array, int start, int end) {
+		setter.accept(object, parseChar(array, start, end));
+	}
+
+	public static char parseChar(char[] array, int start, int end) {
+		return ValueParser.parseChar(array, start, end);
+	}
+
+	public static char parseChar(byte[] array, int start, int end) {
+		return ValueParser.parseChar(array, start, end);
+	}
+
+	public static Character valueOf(char[] array, int start, int end) {
+		if(start == end) {
+			return null;
+		}
+		return ValueParser.parseChar(array, start, end);
+	}
+
+	public static Character valueOf(byte[] array, int start, int end) {
+		if(start == end) {
+			return null;
+		}
+		return ValueParser.parseChar(array, start, end);
+	}
+
+}
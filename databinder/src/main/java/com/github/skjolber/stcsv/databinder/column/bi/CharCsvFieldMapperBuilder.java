@@ -0,0 +1,104 @@
+package com.github.skjolber.stcsv.databinder.column.bi;
+
+import com.github.skjolber.stcsv.builder.CsvBuilderException;
+import com.github.skjolber.stcsv.databinder.builder.AbstractCsvMappingBuilder;
+import com.github.skjolber.stcsv.databinder.builder.AbstractTypedCsvFieldMapperBuilder;
+import com.github.skjolber.stcsv.databinder.builder.SetterProjectionHelper;
+import com.github.skjolber.stcsv.databinder.projection.BiConsumerProjection;
+import com.github.skjolber.stcsv.databinder.projection.ValueProjection;
+
+public class CharCsvFieldMapperBuilder<T, D extends AbstractCsvMappingBuilder<T, ?>> extends AbstractTypedCsvFieldMapperBuilder<T, D> {
+
+	protected ObjCharConsumer<T> consumer;
+	protected ObjCharConsumer<T> setter;
+
+	public CharCsvFieldMapperBuilder(D parent, String name) {
+		super(parent, name);
+	}
+
+	public CharCsvFieldMapperBuilder<T, D> consumer(ObjCharConsumer<T> consumer) {
+		this.consumer = consumer;
+		
+		return this;
+	}
+	
+	public CharCsvFieldMapperBuilder<T, D> setter(ObjCharConsumer<T> setter) {
+		this.setter = setter;
+		
+		return this;
+	}	
+	
+	public CharCsvFieldMapperBuilder<T, D> fixedSize(int fixedSize) {
+		super.fixedSize(fixedSize);
+		
+		return this;
+	}
+
+	/**
+	 * Indicate that this field is quoted. If there is no linebreaks, 
+	 * rather use the method {@linkplain #quotedWithoutLinebreaks()} to improve performance.
+	 * 
+	 * @return this instance.
+	 */
+	
+	public CharCsvFieldMapperBuilder<T, D> quoted() {
+		super.quoted();
+		
+		return this;
+	}
+
+	/**
+	 * Indicate that this field is quoted, but has no linebreaks.
+	 * 
+	 * @return this instance.
+	 */
+	
+	public CharCsvFieldMapperBuilder<T, D> quotedWithoutLinebreaks() {
+		super.quotedWithoutLinebreaks();
+		
+		return this;
+	}
+
+	public CharCsvFieldMapperBuilder<T, D> trimTrailingWhitespaces() {
+		super.trimTrailingWhitespaces();
+		
+		return this;
+	}
+
+	public CharCsvFieldMapperBuilder<T, D> trimLeadingWhitespaces() {
+		super.trimLeadingWhitespaces();
+		
+		return this;
+	}
+
+	public CharCsvFieldMapperBuilder<T, D> field(String fieldName) {
+		super.field(fieldName);
+		
+		return this;
+	}
+
+	@Override
+	protected Class<?> getColumnClass() {
+		return char.class;
+	}
+
+	@Override
+	protected void invokeSetter(T value) {
+		setter.accept(value, ' ');
+	}
+
+	@Override
+	protected boolean hasSetter() {
+		return setter != null;
+	}
+
+	protected ValueProjection getProjection(int index, SetterProjectionHelper<T> proxy) throws CsvBuilderException {
+		if(consumer != null) {
+			return new BiConsumerProjection(new CharCsvColumnValueConsumer<>(consumer), index);
+		}
+		return super.getProjection(index, proxy);
+	}
+
+}
+
+
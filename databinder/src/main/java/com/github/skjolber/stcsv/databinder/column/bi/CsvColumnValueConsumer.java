@@ -1,5 +1,7 @@
 package com.github.skjolber.stcsv.databinder.column.bi;
 
+import java.nio.charset.StandardCharsets;
+
 @FunctionalInterface
 public interface CsvColumnValueConsumer<T> {
 
@@ -14,4 +16,19 @@ public interface CsvColumnValueConsumer<T> {
 	
 	void consume(T object, char[] array, int start, int end);
 
+	/**
+	 * Parse values from a byte array. The default implementation decodes the value
+	 * as UTF-8 and delegates to the character array method.
+	 * 
+	 * @param object target
+	 * @param array UTF-8 byte array
+	 * @param start start index, inclusive
+	 * @param end end index, exclusive
+	 */
+	
+	default void consume(T object, byte[] array, int start, int end) {
+		char[] chars = new String(array, start, end - start, StandardCharsets.UTF_8).toCharArray();
+		consume(object, chars, 0, chars.length);
+	}
+
 }
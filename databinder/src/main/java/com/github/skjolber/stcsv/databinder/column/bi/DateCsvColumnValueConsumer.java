@@ -0,0 +1,42 @@
+package com.github.skjolber.stcsv.databinder.column.bi;
+
+import java.time.LocalDate;
+import java.util.function.BiConsumer;
+
+import com.github.skjolber.stcsv.DateTimeParser;
+
+public class DateCsvColumnValueConsumer<T> implements CsvColumnValueConsumer<T> {
+
+	protected final BiConsumer<T, LocalDate> setter;
+
+	public DateCsvColumnValueConsumer(BiConsumer<T, LocalDate> setter) {
+		this.setter = setter;
+	}
+
+	@Override
+	public void consume(T object, char[] array, int start, int end) {
+		setter.accept(object, parseLocalDate(array, start, end));
+	}
+
+	@Override
+	public void consume(T object, byte[] array, int start, int end) {
+		setter.accept(object, parseLocalDate(array, start, end));
+	}
+
+	public static LocalDate parseLocalDate(char[] array, int start, int end) {
+		return DateTimeParser.parseLocalDate(array, start, end);
+	}
+
+	public static LocalDate parseLocalDate(byte[] array, int start, int end) {
+		return DateTimeParser.parseLocalDate(array, start, end);
+	}
+
+	public static int parseEpochDay(char[] array, int start, int end) {
+		return DateTimeParser.parseEpochDay(array, start, end);
+	}
+
+	public static int parseEpochDay(byte[] array, int start, int end) {
+		return DateTimeParser.parseEpochDay(array, start, end);
+	}
+
+}
@@ -0,0 +1,130 @@
+package com.github.skjolber.stcsv.databinder.column.bi;
+
+import java.time.LocalDate;
+import java.util.function.BiConsumer;
+
+import com.github.skjolber.stcsv.builder.CsvBuilderException;
+import com.github.skjolber.stcsv.databinder.CsvMapper;
+import com.github.skjolber.stcsv.databinder.builder.AbstractCsvMappingBuilder;
+import com.github.skjolber.stcsv.databinder.builder.AbstractTypedCsvFieldMapperBuilder;
+import com.github.skjolber.stcsv.databinder.builder.SetterProjectionHelper;
+import com.github.skjolber.stcsv.databinder.builder.ValueTarget;
+import com.github.skjolber.stcsv.databinder.projection.BiConsumerProjection;
+import com.github.skjolber.stcsv.databinder.projection.PrimitiveSetterValueProjection;
+import com.github.skjolber.stcsv.databinder.projection.ValueProjection;
+
+public class DateCsvFieldMapperBuilder<T, D extends AbstractCsvMappingBuilder<T, ?>> extends AbstractTypedCsvFieldMapperBuilder<T, D> {
+
+	protected BiConsumer<T, LocalDate> consumer;
+	protected BiConsumer<T, LocalDate> setter;
+	protected boolean epochDay;
+
+	public DateCsvFieldMapperBuilder(D parent, String name) {
+		super(parent, name);
+	}
+
+	public DateCsvFieldMapperBuilder<T, D> consumer(BiConsumer<T, LocalDate> consumer) {
+		this.consumer = consumer;
+		
+		return this;
+	}
+	
+	public DateCsvFieldMapperBuilder<T, D> setter(BiConsumer<T, LocalDate> setter) {
+		this.setter = setter;
+		
+		return this;
+	}	
+	
+	public DateCsvFieldMapperBuilder<T, D> fixedSize(int fixedSize) {
+		super.fixedSize(fixedSize);
+		
+		return this;
+	}
+
+	/**
+	 * Indicate that this field is quoted. If there is no linebreaks, 
+	 * rather use the method {@linkplain #quotedWithoutLinebreaks()} to improve performance.
+	 * 
+	 * @return this instance.
+	 */
+	
+	public DateCsvFieldMapperBuilder<T, D> quoted() {
+		super.quoted();
+		
+		return this;
+	}
+
+	/**
+	 * Indicate that this field is quoted, but has no linebreaks.
+	 * 
+	 * @return this instance.
+	 */
+	
+	public DateCsvFieldMapperBuilder<T, D> quotedWithoutLinebreaks() {
+		super.quotedWithoutLinebreaks();
+		
+		return this;
+	}
+
+	/**
+	 * Bind to a setter taking the number of days since 1970-01-01 as <code>int</code>, rather than a {@linkplain LocalDate}.
+	 * 
+	 * @return this instance.
+	 */
+
+	public DateCsvFieldMapperBuilder<T, D> epochDay() {
+		this.epochDay = true;
+		
+		return this;
+	}
+
+	public DateCsvFieldMapperBuilder<T, D> trimTrailingWhitespaces() {
+		super.trimTrailingWhitespaces();
+		
+		return this;
+	}
+
+	public DateCsvFieldMapperBuilder<T, D> trimLeadingWhitespaces() {
+		super.trimLeadingWhitespaces();
+		
+		return this;
+	}
+
+	public DateCsvFieldMapperBuilder<T, D> field(String fieldName) {
+		super.field(fieldName);
+		
+		return this;
+	}
+
+	@Override
+	protected Class<?> getColumnClass() {
+		return epochDay ? int.class : LocalDate.class;
+	}
+
+	@Override
+	protected void invokeSetter(T value) {
+		setter.accept(value, null);
+	}
+
+	@Override
+	protected boolean hasSetter() {
+		return setter != null;
+	}
+
+	protected ValueProjection getProjection(int index, SetterProjectionHelper<T> proxy) throws CsvBuilderException {
+		if(consumer != null) {
+			return new BiConsumerProjection(new DateCsvColumnValueConsumer<>(consumer), index);
+		}
+		ValueTarget target = proxy.toTarget(this);
+		if(target.getType() != getColumnClass()) {
+			throw new CsvBuilderException("Expected setter for field '" + name + "' to take " + getColumnClass().getName() + ", not " + target.getType().getName());
+		}
+		
+		String owner = CsvMapper.getInternalName(DateCsvColumnValueConsumer.class);
+		if(epochDay) {
+			return target.apply(new PrimitiveSetterValueProjection(target.getName(), CsvMapper.getInternalName(parent.getTarget()), owner, "parseEpochDay", 'I'));
+		}
+		return target.apply(new PrimitiveSetterValueProjection(target.getName(), CsvMapper.getInternalName(parent.getTarget()), owner, "parseLocalDate", "L" + CsvMapper.getInternalName(LocalDate.class) + ";"));
+	}
+
+}
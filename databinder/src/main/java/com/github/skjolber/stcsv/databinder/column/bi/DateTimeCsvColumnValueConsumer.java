@@ -0,0 +1,34 @@
+package com.github.skjolber.stcsv.databinder.column.bi;
+
+import java.time.LocalDateTime;
+import java.util.function.BiConsumer;
+
+import com.github.skjolber.stcsv.DateTimeParser;
+
+public class DateTimeCsvColumnValueConsumer<T> implements CsvColumnValueConsumer<T> {
+
+	protected final BiConsumer<T, LocalDateTime> setter;
+
+	public DateTimeCsvColumnValueConsumer(BiConsumer<T, LocalDateTime> setter) {
+		this.setter = setter;
+	}
+
+	@Override
+	public void consume(T object, char[] array, int start, int end) {
+		setter.accept(object, parseLocalDateTime(array, start, end));
+	}
+
+	@Override
+	public void consume(T object, byte[] array, int start, int end) {
+		setter.accept(object, parseLocalDateTime(array, start, end));
+	}
+
+	public static LocalDateTime parseLocalDateTime(char[] array, int start, int end) {
+		return DateTimeParser.parseLocalDateTime(array, start, end);
+	}
+
+	public static LocalDateTime parseLocalDateTime(byte[] array, int start, int end) {
+		return DateTimeParser.parseLocalDateTime(array, start, end);
+	}
+
+}
@@ -0,0 +1,111 @@
+package com.github.skjolber.stcsv.databinder.column.bi;
+
+import java.time.LocalDateTime;
+import java.util.function.BiConsumer;
+
+import com.github.skjolber.stcsv.builder.CsvBuilderException;
+import com.github.skjolber.stcsv.databinder.CsvMapper;
+import com.github.skjolber.stcsv.databinder.builder.AbstractCsvMappingBuilder;
+import com.github.skjolber.stcsv.databinder.builder.AbstractTypedCsvFieldMapperBuilder;
+import com.github.skjolber.stcsv.databinder.builder.SetterProjectionHelper;
+import com.github.skjolber.stcsv.databinder.builder.ValueTarget;
+import com.github.skjolber.stcsv.databinder.projection.BiConsumerProjection;
+import com.github.skjolber.stcsv.databinder.projection.PrimitiveSetterValueProjection;
+import com.github.skjolber.stcsv.databinder.projection.ValueProjection;
+
+public class DateTimeCsvFieldMapperBuilder<T, D extends AbstractCsvMappingBuilder<T, ?>> extends AbstractTypedCsvFieldMapperBuilder<T, D> {
+
+	protected BiConsumer<T, LocalDateTime> consumer;
+	protected BiConsumer<T, LocalDateTime> setter;
+
+	public DateTimeCsvFieldMapperBuilder(D parent, String name) {
+		super(parent, name);
+	}
+
+	public DateTimeCsvFieldMapperBuilder<T, D> consumer(BiConsumer<T, LocalDateTime> consumer) {
+		this.consumer = consumer;
+		
+		return this;
+	}
+	
+	public DateTimeCsvFieldMapperBuilder<T, D> setter(BiConsumer<T, LocalDateTime> setter) {
+		this.setter = setter;
+		
+		return this;
+	}	
+	
+	public DateTimeCsvFieldMapperBuilder<T, D> fixedSize(int fixedSize) {
+		super.fixedSize(fixedSize);
+		
+		return this;
+	}
+
+	/**
+	 * Indicate that this field is quoted. If there is no linebreaks, 
+	 * rather use the method {@linkplain #quotedWithoutLinebreaks()} to improve performance.
+	 * 
+	 * @return this instance.
+	 */
+	
+	public DateTimeCsvFieldMapperBuilder<T, D> quoted() {
+		super.quoted();
+		
+		return this;
+	}
+
+	/**
+	 * Indicate that this field is quoted, but has no linebreaks.
+	 * 
+	 * @return this instance.
+	 */
+	
+	public DateTimeCsvFieldMapperBuilder<T, D> quotedWithoutLinebreaks() {
+		super.quotedWithoutLinebreaks();
+		
+		return this;
+	}
+
+	public DateTimeCsvFieldMapperBuilder<T, D> trimTrailingWhitespaces() {
+		super.trimTrailingWhitespaces();
+		
+		return this;
+	}
+
+	public DateTimeCsvFieldMapperBuilder<T, D> trimLeadingWhitespaces() {
+		super.trimLeadingWhitespaces();
+		
+		return this;
+	}
+
+	public DateTimeCsvFieldMapperBuilder<T, D> field(String fieldName) {
+		super.field(fieldName);
+		
+		return this;
+	}
+
+	@Override
+	protected Class<?> getColumnClass() {
+		return LocalDateTime.class;
+	}
+
+	@Override
+	protected void invokeSetter(T value) {
+		setter.accept(value, null);
+	}
+
+	@Override
+	protected boolean hasSetter() {
+		return setter != null;
+	}
+
+	protected ValueProjection getProjection(int index, SetterProjectionHelper<T> proxy) throws CsvBuilderException {
+		if(consumer != null) {
+			return new BiConsumerProjection(new DateTimeCsvColumnValueConsumer<>(consumer), index);
+		}
+		ValueTarget target = proxy.toTarget(this);
+		
+		String owner = CsvMapper.getInternalName(DateTimeCsvColumnValueConsumer.class);
+		return target.apply(new PrimitiveSetterValueProjection(target.getName(), CsvMapper.getInternalName(parent.getTarget()), owner, "parseLocalDateTime", "L" + CsvMapper.getInternalName(LocalDateTime.class) + ";"));
+	}
+
+}
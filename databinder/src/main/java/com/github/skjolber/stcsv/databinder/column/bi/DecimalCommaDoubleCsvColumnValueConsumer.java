@@ -0,0 +1,52 @@
+package com.github.skjolber.stcsv.databinder.column.bi;
+
+import java.util.function.ObjDoubleConsumer;
+
+import com.github.skjolber.stcsv.ValueParser;
+
+/**
+ * Consumer for doubles with decimal comma, i.e. <code>12,5</code>.
+ *
+ */
+
+public class DecimalCommaDoubleCsvColumnValueConsumer<T> implements CsvColumnValueConsumer<T> {
+
+	protected final ObjDoubleConsumer<T> setter;
+		
+	public DecimalCommaDoubleCsvColumnValueConsumer(ObjDoubleConsumer<T> setter) {
+		this.setter = setter;
+	}
+
+	@Override
+	public void consume(T object, char[] array, int start, int end) {
+		setter.accept(object, parseDouble(array, start, end));
+	}
+
+	@Override
+	public void consume(T object, byte[] array, int start, int end) {
+		setter.accept(object, parseDouble(array, start, end));
+	}
+
+	public static double parseDouble(char[] array, int start, int end) {
+		return ValueParser.parseDecimalCommaDouble(array, start, end);
+	}
+
+	public static double parseDouble(byte[] array, int start, int end) {
+		return ValueParser.parseDecimalCommaDouble(array, start, end);
+	}
+
+	public static Double valueOf(char[] array, int start, int end) {
+		if(start == end) {
+			return null;
+		}
+		return ValueParser.parseDecimalCommaDouble(array, start, end);
+	}
+
+	public static Double valueOf(byte[] array, int start, int end) {
+		if(start == end) {
+			return null;
+		}
+		return ValueParser.parseDecimalCommaDouble(array, start, end);
+	}
+
+}
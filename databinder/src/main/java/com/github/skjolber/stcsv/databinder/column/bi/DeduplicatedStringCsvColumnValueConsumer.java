@@ -0,0 +1,27 @@
+package com.github.skjolber.stcsv.databinder.column.bi;
+
+import java.util.function.BiConsumer;
+
+import com.github.skjolber.stcsv.StringCache;
+
+public class DeduplicatedStringCsvColumnValueConsumer<T> implements CsvColumnValueConsumer<T> {
+
+	protected final BiConsumer<T, String> setter;
+	protected final StringCache cache;
+
+	public DeduplicatedStringCsvColumnValueConsumer(BiConsumer<T, String> setter, StringCache cache) {
+		this.setter = setter;
+		this.cache = cache;
+	}
+
+	@Override
+	public void consume(T object, char[] array, int start, int end) {
+		setter.accept(object, cache.get(array, start, end));
+	}
+
+	@Override
+	public void consume(T object, byte[] array, int start, int end) {
+		setter.accept(object, cache.get(array, start, end));
+	}
+	
+}
@@ -2,6 +2,8 @@ package com.github.skjolber.stcsv.databinder.column.bi;
 
 import java.util.function.ObjDoubleConsumer;
 
+import com.github.skjolber.stcsv.ValueParser;
+
 public class DoubleCsvColumnValueConsumer<T> implements CsvColumnValueConsumer<T> {
 
 	protected final ObjDoubleConsumer<T> setter;
@@ -15,8 +17,31 @@ public class DoubleCsvColumnValueConsumer<T> implements CsvColumnValueConsumer<T
 		setter.accept(object, parseDouble(array, start, end));
 	}
 
+	@Override
+	public void consume(T object, byte[] array, int start, int end) {
+		setter.accept(object, parseDouble(array, start, end));
+	}
+
 	public static double parseDouble(char[] array, int start, int end) {
-		return Double.parseDouble(new String(array, start, end - start));
+		return ValueParser.parseDouble(array, start, end);
+	}
+
+	public static double parseDouble(byte[] array, int start, int end) {
+		return ValueParser.parseDouble(array, start, end);
+	}
+
+	public static Double valueOf(char[] array, int start, int end) {
+		if(start == end) {
+			return null;
+		}
+		return ValueParser.parseDouble(array, start, end);
+	}
+
+	public static Double valueOf(byte[] array, int start, int end) {
+		if(start == end) {
+			return null;
+		}
+		return ValueParser.parseDouble(array, start, end);
 	}
 
 }
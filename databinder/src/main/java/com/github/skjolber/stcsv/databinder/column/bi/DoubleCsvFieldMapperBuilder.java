@@ -3,16 +3,20 @@ package com.github.skjolber.stcsv.databinder.column.bi;
 import java.util.function.ObjDoubleConsumer;
 
 import com.github.skjolber.stcsv.builder.CsvBuilderException;
+import com.github.skjolber.stcsv.databinder.CsvMapper;
 import com.github.skjolber.stcsv.databinder.builder.AbstractCsvMappingBuilder;
 import com.github.skjolber.stcsv.databinder.builder.AbstractTypedCsvFieldMapperBuilder;
 import com.github.skjolber.stcsv.databinder.builder.SetterProjectionHelper;
+import com.github.skjolber.stcsv.databinder.builder.ValueTarget;
 import com.github.skjolber.stcsv.databinder.projection.BiConsumerProjection;
+import com.github.skjolber.stcsv.databinder.projection.PrimitiveSetterValueProjection;
 import com.github.skjolber.stcsv.databinder.projection.ValueProjection;
 
 public class DoubleCsvFieldMapperBuilder<T, D extends AbstractCsvMappingBuilder<T, ?>> extends AbstractTypedCsvFieldMapperBuilder<T, D> {
 
 	protected ObjDoubleConsumer<T> consumer;
 	protected ObjDoubleConsumer<T> setter;
+	protected boolean decimalComma;
 
 	public DoubleCsvFieldMapperBuilder(D parent, String name) {
 		super(parent, name);
@@ -61,6 +65,19 @@ public class DoubleCsvFieldMapperBuilder<T, D extends AbstractCsvMappingBuilder<
 		return this;
 	}
 
+	/**
+	 * Indicate that values use decimal comma, i.e. <code>12,5</code> rather than <code>12.5</code>, 
+	 * as typical for semicolon-separated files.
+	 * 
+	 * @return this instance.
+	 */
+
+	public DoubleCsvFieldMapperBuilder<T, D> decimalComma() {
+		this.decimalComma = true;
+		
+		return this;
+	}
+
 	public DoubleCsvFieldMapperBuilder<T, D> trimTrailingWhitespaces() {
 		super.trimTrailingWhitespaces();
 		
@@ -73,6 +90,12 @@ public class DoubleCsvFieldMapperBuilder<T, D extends AbstractCsvMappingBuilder<
 		return this;
 	}
 
+	public DoubleCsvFieldMapperBuilder<T, D> field(String fieldName) {
+		super.field(fieldName);
+		
+		return this;
+	}
+
 	@Override
 	protected Class<?> getColumnClass() {
 		return double.class;
@@ -90,8 +113,20 @@ public class DoubleCsvFieldMapperBuilder<T, D extends AbstractCsvMappingBuilder<
 
 	protected ValueProjection getProjection(int index, SetterProjectionHelper<T> proxy) throws CsvBuilderException {
 		if(consumer != null) {
+			if(decimalComma) {
+				return new BiConsumerProjection(new DecimalCommaDoubleCsvColumnValueConsumer<>(consumer), index);
+			}
 			return new BiConsumerProjection(new DoubleCsvColumnValueConsumer<>(consumer), index);
 		}
+		if(decimalComma) {
+			ValueTarget target = proxy.toTarget(this);
+			
+			String owner = CsvMapper.getInternalName(DecimalCommaDoubleCsvColumnValueConsumer.class);
+			if(target.getType() == Double.class) {
+				return target.apply(new PrimitiveSetterValueProjection(target.getName(), CsvMapper.getInternalName(parent.getTarget()), owner, "valueOf", "Ljava/lang/Double;"));
+			}
+			return target.apply(new PrimitiveSetterValueProjection(target.getName(), CsvMapper.getInternalName(parent.getTarget()), owner, "parseDouble", 'D'));
+		}
 		return super.getProjection(index, proxy);
 	}
 
@@ -0,0 +1,82 @@
+package com.github.skjolber.stcsv.databinder.column.bi;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.function.BiConsumer;
+
+import com.github.skjolber.stcsv.CsvException;
+
+/**
+ * Consumer for enums. The value is looked up by comparing characters, so that no {@linkplain String} is created.
+ *
+ */
+
+public class EnumCsvColumnValueConsumer<T, E extends Enum<E>> implements CsvColumnValueConsumer<T> {
+
+	protected final BiConsumer<T, E> setter;
+
+	protected final char[][] keys;
+	protected final E[] values;
+
+	public EnumCsvColumnValueConsumer(BiConsumer<T, E> setter, Class<E> enumClass, Map<String, E> constants) {
+		this.setter = setter;
+		
+		this.keys = new char[constants.size()][];
+		this.values = Arrays.copyOf(enumClass.getEnumConstants(), constants.size()); // overwritten below
+		
+		int index = 0;
+		for (Entry<String, E> entry : constants.entrySet()) {
+			keys[index] = entry.getKey().toCharArray();
+			values[index] = entry.getValue();
+			index++;
+		}
+	}
+
+	@Override
+	public void consume(T object, char[] array, int start, int end) {
+		setter.accept(object, lookup(array, start, end));
+	}
+
+	@Override
+	public void consume(T object, byte[] array, int start, int end) {
+		setter.accept(object, lookup(array, start, end));
+	}
+
+	public E lookup(char[] array, int start, int end) {
+		int length = end - start;
+		keys:
+		for(int i = 0; i < keys.length; i++) {
+			char[] key = keys[i];
+			if(key.length == length) {
+				for(int k = 0; k < length; k++) {
+					if(key[k] != array[start + k]) {
+						continue keys;
+					}
+				}
+				return values[i];
+			}
+		}
+		throw new CsvException("Unknown value '" + new String(array, start, length) + "'");
+	}
+
+	public E lookup(byte[] array, int start, int end) {
+		int length = end - start;
+		keys:
+		for(int i = 0; i < keys.length; i++) {
+			char[] key = keys[i];
+			if(key.length == length) {
+				for(int k = 0; k < length; k++) {
+					// keys are ASCII
+					if(key[k] != array[start + k]) {
+						continue keys;
+					}
+				}
+				return values[i];
+			}
+		}
+		throw new CsvException("Unknown value '" + new String(array, start, length, StandardCharsets.UTF_8) + "'");
+	}
+
+}
@@ -0,0 +1,162 @@
+package com.github.skjolber.stcsv.databinder.column.bi;
+
+import java.lang.reflect.Modifier;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.function.BiConsumer;
+
+import com.github.skjolber.stcsv.builder.CsvBuilderException;
+import com.github.skjolber.stcsv.databinder.CsvMapper;
+import com.github.skjolber.stcsv.databinder.builder.AbstractCsvMappingBuilder;
+import com.github.skjolber.stcsv.databinder.builder.AbstractTypedCsvFieldMapperBuilder;
+import com.github.skjolber.stcsv.databinder.builder.SetterProjectionHelper;
+import com.github.skjolber.stcsv.databinder.builder.ValueTarget;
+import com.github.skjolber.stcsv.databinder.projection.BiConsumerProjection;
+import com.github.skjolber.stcsv.databinder.projection.EnumSetterValueProjection;
+import com.github.skjolber.stcsv.databinder.projection.ValueProjection;
+
+public class EnumCsvFieldMapperBuilder<T, E extends Enum<E>, D extends AbstractCsvMappingBuilder<T, ?>> extends AbstractTypedCsvFieldMapperBuilder<T, D> {
+
+	protected final Class<E> enumClass;
+	protected final Map<String, E> aliases = new LinkedHashMap<>();
+
+	protected BiConsumer<T, E> consumer;
+	protected BiConsumer<T, E> setter;
+
+	public EnumCsvFieldMapperBuilder(D parent, String name, Class<E> enumClass) {
+		super(parent, name);
+		
+		this.enumClass = enumClass;
+	}
+
+	public EnumCsvFieldMapperBuilder<T, E, D> consumer(BiConsumer<T, E> consumer) {
+		this.consumer = consumer;
+		
+		return this;
+	}
+	
+	public EnumCsvFieldMapperBuilder<T, E, D> setter(BiConsumer<T, E> setter) {
+		this.setter = setter;
+		
+		return this;
+	}
+
+	/**
+	 * Map an additional value, i.e. a numeric code, to a constant.
+	 * 
+	 * @param value value as it appears in the CSV
+	 * @param constant enum constant
+	 * @return this instance.
+	 */
+
+	public EnumCsvFieldMapperBuilder<T, E, D> alias(String value, E constant) {
+		this.aliases.put(value, constant);
+		
+		return this;
+	}
+
+	public EnumCsvFieldMapperBuilder<T, E, D> fixedSize(int fixedSize) {
+		super.fixedSize(fixedSize);
+		
+		return this;
+	}
+
+	/**
+	 * Indicate that this field is quoted. If there is no linebreaks, 
+	 * rather use the method {@linkplain #quotedWithoutLinebreaks()} to improve performance.
+	 * 
+	 * @return this instance.
+	 */
+	
+	public EnumCsvFieldMapperBuilder<T, E, D> quoted() {
+		super.quoted();
+		
+		return this;
+	}
+
+	/**
+	 * Indicate that this field is quoted, but has no linebreaks.
+	 * 
+	 * @return this instance.
+	 */
+	
+	public EnumCsvFieldMapperBuilder<T, E, D> quotedWithoutLinebreaks() {
+		super.quotedWithoutLinebreaks();
+		
+		return this;
+	}
+
+	public EnumCsvFieldMapperBuilder<T, E, D> trimTrailingWhitespaces() {
+		super.trimTrailingWhitespaces();
+		
+		return this;
+	}
+
+	public EnumCsvFieldMapperBuilder<T, E, D> trimLeadingWhitespaces() {
+		super.trimLeadingWhitespaces();
+		
+		return this;
+	}
+
+	public EnumCsvFieldMapperBuilder<T, E, D> field(String fieldName) {
+		super.field(fieldName);
+		
+		return this;
+	}
+
+	@Override
+	protected Class<?> getColumnClass() {
+		return enumClass;
+	}
+
+	@Override
+	protected void invokeSetter(T value) {
+		setter.accept(value, null);
+	}
+
+	@Override
+	protected boolean hasSetter() {
+		return setter != null;
+	}
+
+	/**
+	 * 
+	 * @return constant names and aliases (ASCII only), mapped to their constant
+	 */
+
+	protected Map<String, E> getConstants() {
+		Map<String, E> constants = new LinkedHashMap<>();
+		for (E constant : enumClass.getEnumConstants()) {
+			constants.put(constant.name(), constant);
+		}
+		constants.putAll(aliases);
+		
+		for (String value : constants.keySet()) {
+			for(int i = 0; i < value.length(); i++) {
+				if(value.charAt(i) > 127) {
+					throw new CsvBuilderException("Expected ASCII values only for field '" + name + "', got '" + value + "'");
+				}
+			}
+		}
+		return constants;
+	}
+
+	protected ValueProjection getProjection(int index, SetterProjectionHelper<T> proxy) throws CsvBuilderException {
+		if(consumer != null) {
+			return new BiConsumerProjection(new EnumCsvColumnValueConsumer<>(consumer, enumClass, getConstants()), index);
+		}
+		if(!Modifier.isPublic(enumClass.getModifiers())) {
+			throw new CsvBuilderException("Expected public enum for field '" + name + "', got " + enumClass.getName());
+		}
+		ValueTarget target = proxy.toTarget(this);
+
+		Map<String, String> constantNames = new LinkedHashMap<>();
+		for (Entry<String, E> entry : getConstants().entrySet()) {
+			constantNames.put(entry.getKey(), entry.getValue().name());
+		}
+		
+		return target.apply(new EnumSetterValueProjection(target.getName(), CsvMapper.getInternalName(parent.getTarget()), name, CsvMapper.getInternalName(enumClass), constantNames));
+	}
+
+}
@@ -0,0 +1,45 @@
+package com.github.skjolber.stcsv.databinder.column.bi;
+
+import com.github.skjolber.stcsv.ValueParser;
+
+public class FloatCsvColumnValueConsumer<T> implements CsvColumnValueConsumer<T> {
+
+	protected final ObjFloatConsumer<T> setter;
+		
+	public FloatCsvColumnValueConsumer(ObjFloatConsumer<T> setter) {
+		this.setter = setter;
+	}
+
+	@Override
+	public void consume(T object, char[] array, int start, int end) {
+		setter.accept(object, parseFloat(array, start, end));
+	}
+
+	@Override
+	public void consume(T object, byte[] array, int start, int end) {
+		setter.accept(object, parseFloat(array, start, end));
+	}
+
+	public static float parseFloat(char[] array, int start, int end) {
+		return ValueParser.parseFloat(array, start, end);
+	}
+
+	public static float parseFloat(byte[] array, int start, int end) {
+		return ValueParser.parseFloat(array, start, end);
+	}
+
+	public static Float valueOf(char[] array, int start, int end) {
+		if(start == end) {
+			return null;
+		}
+		return ValueParser.parseFloat(array, start, end);
+	}
+
+	public static Float valueOf(byte[] array, int start, int end) {
+		if(start == end) {
+			return null;
+		}
+		return ValueParser.parseFloat(array, start, end);
+	}
+
+}
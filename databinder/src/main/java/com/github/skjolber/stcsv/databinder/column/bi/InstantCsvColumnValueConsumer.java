@@ -0,0 +1,42 @@
+package com.github.skjolber.stcsv.databinder.column.bi;
+
+import java.time.Instant;
+import java.util.function.BiConsumer;
+
+import com.github.skjolber.stcsv.DateTimeParser;
+
+public class InstantCsvColumnValueConsumer<T> implements CsvColumnValueConsumer<T> {
+
+	protected final BiConsumer<T, Instant> setter;
+
+	public InstantCsvColumnValueConsumer(BiConsumer<T, Instant> setter) {
+		this.setter = setter;
+	}
+
+	@Override
+	public void consume(T object, char[] array, int start, int end) {
+		setter.accept(object, parseInstant(array, start, end));
+	}
+
+	@Override
+	public void consume(T object, byte[] array, int start, int end) {
+		setter.accept(object, parseInstant(array, start, end));
+	}
+
+	public static Instant parseInstant(char[] array, int start, int end) {
+		return DateTimeParser.parseInstant(array, start, end);
+	}
+
+	public static Instant parseInstant(byte[] array, int start, int end) {
+		return DateTimeParser.parseInstant(array, start, end);
+	}
+
+	public static long parseEpochSecond(char[] array, int start, int end) {
+		return DateTimeParser.parseEpochSecond(array, start, end);
+	}
+
+	public static long parseEpochSecond(byte[] array, int start, int end) {
+		return DateTimeParser.parseEpochSecond(array, start, end);
+	}
+
+}
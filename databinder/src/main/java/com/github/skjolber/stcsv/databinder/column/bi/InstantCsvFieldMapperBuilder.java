@@ -0,0 +1,130 @@
+package com.github.skjolber.stcsv.databinder.column.bi;
+
+import java.time.Instant;
+import java.util.function.BiConsumer;
+
+import com.github.skjolber.stcsv.builder.CsvBuilderException;
+import com.github.skjolber.stcsv.databinder.CsvMapper;
+import com.github.skjolber.stcsv.databinder.builder.AbstractCsvMappingBuilder;
+import com.github.skjolber.stcsv.databinder.builder.AbstractTypedCsvFieldMapperBuilder;
+import com.github.skjolber.stcsv.databinder.builder.SetterProjectionHelper;
+import com.github.skjolber.stcsv.databinder.builder.ValueTarget;
+import com.github.skjolber.stcsv.databinder.projection.BiConsumerProjection;
+import com.github.skjolber.stcsv.databinder.projection.PrimitiveSetterValueProjection;
+import com.github.skjolber.stcsv.databinder.projection.ValueProjection;
+
+public class InstantCsvFieldMapperBuilder<T, D extends AbstractCsvMappingBuilder<T, ?>> extends AbstractTypedCsvFieldMapperBuilder<T, D> {
+
+	protected BiConsumer<T, Instant> consumer;
+	protected BiConsumer<T, Instant> setter;
+	protected boolean epochSecond;
+
+	public InstantCsvFieldMapperBuilder(D parent, String name) {
+		super(parent, name);
+	}
+
+	public InstantCsvFieldMapperBuilder<T, D> consumer(BiConsumer<T, Instant> consumer) {
+		this.consumer = consumer;
+		
+		return this;
+	}
+	
+	public InstantCsvFieldMapperBuilder<T, D> setter(BiConsumer<T, Instant> setter) {
+		this.setter = setter;
+		
+		return this;
+	}	
+	
+	public InstantCsvFieldMapperBuilder<T, D> fixedSize(int fixedSize) {
+		super.fixedSize(fixedSize);
+		
+		return this;
+	}
+
+	/**
+	 * Indicate that this field is quoted. If there is no linebreaks, 
+	 * rather use the method {@linkplain #quotedWithoutLinebreaks()} to improve performance.
+	 * 
+	 * @return this instance.
+	 */
+	
+	public InstantCsvFieldMapperBuilder<T, D> quoted() {
+		super.quoted();
+		
+		return this;
+	}
+
+	/**
+	 * Indicate that this field is quoted, but has no linebreaks.
+	 * 
+	 * @return this instance.
+	 */
+	
+	public InstantCsvFieldMapperBuilder<T, D> quotedWithoutLinebreaks() {
+		super.quotedWithoutLinebreaks();
+		
+		return this;
+	}
+
+	/**
+	 * Bind to a setter taking the number of seconds since 1970-01-01T00:00:00Z as <code>long</code>, rather than an {@linkplain Instant}.
+	 * 
+	 * @return this instance.
+	 */
+
+	public InstantCsvFieldMapperBuilder<T, D> epochSecond() {
+		this.epochSecond = true;
+		
+		return this;
+	}
+
+	public InstantCsvFieldMapperBuilder<T, D> trimTrailingWhitespaces() {
+		super.trimTrailingWhitespaces();
+		
+		return this;
+	}
+
+	public InstantCsvFieldMapperBuilder<T, D> trimLeadingWhitespaces() {
+		super.trimLeadingWhitespaces();
+		
+		return this;
+	}
+
+	public InstantCsvFieldMapperBuilder<T, D> field(String fieldName) {
+		super.field(fieldName);
+		
+		return this;
+	}
+
+	@Override
+	protected Class<?> getColumnClass() {
+		return epochSecond ? long.class : Instant.class;
+	}
+
+	@Override
+	protected void invokeSetter(T value) {
+		setter.accept(value, null);
+	}
+
+	@Override
+	protected boolean hasSetter() {
+		return setter != null;
+	}
+
+	protected ValueProjection getProjection(int index, SetterProjectionHelper<T> proxy) throws CsvBuilderException {
+		if(consumer != null) {
+			return new BiConsumerProjection(new InstantCsvColumnValueConsumer<>(consumer), index);
+		}
+		ValueTarget target = proxy.toTarget(this);
+		if(target.getType() != getColumnClass()) {
+			throw new CsvBuilderException("Expected setter for field '" + name + "' to take " + getColumnClass().getName() + ", not " + target.getType().getName());
+		}
+		
+		String owner = CsvMapper.getInternalName(InstantCsvColumnValueConsumer.class);
+		if(epochSecond) {
+			return target.apply(new PrimitiveSetterValueProjection(target.getName(), CsvMapper.getInternalName(parent.getTarget()), owner, "parseEpochSecond", 'J'));
+		}
+		return target.apply(new PrimitiveSetterValueProjection(target.getName(), CsvMapper.getInternalName(parent.getTarget()), owner, "parseInstant", "L" + CsvMapper.getInternalName(Instant.class) + ";"));
+	}
+
+}
@@ -2,6 +2,8 @@ package com.github.skjolber.stcsv.databinder.column.bi;
 
 import java.util.function.ObjIntConsumer;
 
+import com.github.skjolber.stcsv.ValueParser;
+
 public class IntCsvColumnValueConsumer<T> implements CsvColumnValueConsumer<T> {
 
 	protected final ObjIntConsumer<T> consumer;
@@ -15,6 +17,11 @@ public class IntCsvColumnValueConsumer<T> implements CsvColumnValueConsumer<T> {
 		consumer.accept(object, parseInt(array, start, end));
 	}
 
+	@Override
+	public void consume(T object, byte[] array, int start, int end) {
+		consumer.accept(object, parseInt(array, start, end));
+	}
+
     /**
      * Helper method to (more) efficiently parse integer numbers from
      * String values.
@@ -26,58 +33,25 @@ public class IntCsvColumnValueConsumer<T> implements CsvColumnValueConsumer<T> {
 	 */
 	
     public static int parseInt(char[] ch, int offset, int end) {
-        /* Ok: let's keep strategy simple: ignoring optional minus sign,
-         * we'll parse 1 - 9 digits more efficiently;
-         * otherwise just defer to JDK parse functionality.
-         */
-        int len = end - offset;
-        boolean neg = (ch[offset] == '-');
-        // must have 1 - 9 digits after optional sign:
-        // negative?
-        if (neg) {
-            if (len == 1 || len > 10) {
-            	// this handles both overflow and numbers close to overflowing
-                return Integer.parseInt(new String(ch, end - len, len));
-            }
-            offset++;
-        } else {
-            if (len > 9) {
-            	// this handles both overflow and numbers close to overflowing
-            	return Integer.parseInt(new String(ch, end - len, len));
-            }
-        }
-        char c = ch[offset++];
-        
-        if (c > '9' || c < '0') {
-        	throw new NumberFormatException(new String(ch, end - len, len));
-        }
-        int num = c - '0';
-        
-        if (offset < end) {
-            c = ch[offset++];
-            if (c > '9' || c < '0') {
-            	throw new NumberFormatException(new String(ch, end - len, len));
-            }
-            num = (num * 10) + (c - '0');
-            if (offset < end) {
-                c = ch[offset++];
-                if (c > '9' || c < '0') {
-                	throw new NumberFormatException(new String(ch, end - len, len));
-                }
-                num = (num * 10) + (c - '0');
-                // Let's just loop if we have more than 3 digits:
-                if (offset < end) {
-                    do {
-                        c = ch[offset++];
-                        if (c > '9' || c < '0') {
-                        	throw new NumberFormatException(new String(ch, end - len, len));
-                        }
-                        num = (num * 10) + (c - '0');
-                    } while (offset < end);
-                }
-            }
-        }
-        return neg ? -num : num;
-    }    
+    	return ValueParser.parseInt(ch, offset, end);
+    }
+
+    public static int parseInt(byte[] ch, int offset, int end) {
+    	return ValueParser.parseInt(ch, offset, end);
+    }
+
+	public static Integer valueOf(char[] array, int start, int end) {
+		if(start == end) {
+			return null;
+		}
+		return ValueParser.parseInt(array, start, end);
+	}
+
+	public static Integer valueOf(byte[] array, int start, int end) {
+		if(start == end) {
+			return null;
+		}
+		return ValueParser.parseInt(array, start, end);
+	}
 
 }
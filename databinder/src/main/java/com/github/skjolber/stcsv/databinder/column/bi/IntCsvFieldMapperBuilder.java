@@ -72,6 +72,12 @@ public class IntCsvFieldMapperBuilder<T, D extends AbstractCsvMappingBuilder<T,
 		return this;
 	}
 
+	public IntCsvFieldMapperBuilder<T, D> field(String fieldName) {
+		super.field(fieldName);
+		
+		return this;
+	}
+
 	@Override
 	protected Class<?> getColumnClass() {
 		return int.class;
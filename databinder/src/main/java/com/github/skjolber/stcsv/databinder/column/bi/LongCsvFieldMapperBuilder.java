@@ -72,6 +72,12 @@ public class LongCsvFieldMapperBuilder<T, B extends AbstractCsvMappingBuilder<T,
 		return this;
 	}
 
+	public LongCsvFieldMapperBuilder<T, B> field(String fieldName) {
+		super.field(fieldName);
+		
+		return this;
+	}
+
 	@Override
 	protected Class<?> getColumnClass() {
 		return long.class;
@@ -0,0 +1,45 @@
+package com.github.skjolber.stcsv.databinder.column.bi;
+
+import com.github.skjolber.stcsv.ValueParser;
+
+public class ShortCsvColumnValueConsumer<T> implements CsvColumnValueConsumer<T> {
+
+	protected final ObjShortConsumer<T> setter;
+		
+	public ShortCsvColumnValueConsumer(ObjShortConsumer<T> setter) {
+		this.setter = setter;
+	}
+
+	@Override
+	public void consume(T object, char[] array, int start, int end) {
+		setter.accept(object, parseShort(array, start, end));
+	}
+
+	@Override
+	public void consume(T object, byte[] array, int start, int end) {
+		setter.accept(object, parseShort(array, start, end));
+	}
+
+	public static short parseShort(char[] array, int start, int end) {
+		return ValueParser.parseShort(array, start, end);
+	}
+
+	public static short parseShort(byte[] array, int start, int end) {
+		return ValueParser.parseShort(array, start, end);
+	}
+
+	public static Short valueOf(char[] array, int start, int end) {
+		if(start == end) {
+			return null;
+		}
+		return ValueParser.parseShort(array, start, end);
+	}
+
+	public static Short valueOf(byte[] array, int start, int end) {
+		if(start == end) {
+			return null;
+		}
+		return ValueParser.parseShort(array, start, end);
+	}
+
+}
@@ -1,5 +1,6 @@
 package com.github.skjolber.stcsv.databinder.column.bi;
 
+import java.nio.charset.StandardCharsets;
 import java.util.function.BiConsumer;
 
 public class StringCsvColumnValueConsumer<T> implements CsvColumnValueConsumer<T> {
@@ -14,5 +15,10 @@ public class StringCsvColumnValueConsumer<T> implements CsvColumnValueConsumer<T
 	public void consume(T object, char[] array, int start, int end) {
 		setter.accept(object, new String(array, start, end - start));
 	}
+
+	@Override
+	public void consume(T object, byte[] array, int start, int end) {
+		setter.accept(object, new String(array, start, end - start, StandardCharsets.UTF_8));
+	}
 	
 }
@@ -2,17 +2,22 @@ package com.github.skjolber.stcsv.databinder.column.bi;
 
 import java.util.function.BiConsumer;
 
+import com.github.skjolber.stcsv.StringCache;
 import com.github.skjolber.stcsv.builder.CsvBuilderException;
+import com.github.skjolber.stcsv.databinder.CsvMapper;
 import com.github.skjolber.stcsv.databinder.builder.AbstractCsvMappingBuilder;
 import com.github.skjolber.stcsv.databinder.builder.AbstractTypedCsvFieldMapperBuilder;
 import com.github.skjolber.stcsv.databinder.builder.SetterProjectionHelper;
+import com.github.skjolber.stcsv.databinder.builder.ValueTarget;
 import com.github.skjolber.stcsv.databinder.projection.BiConsumerProjection;
+import com.github.skjolber.stcsv.databinder.projection.DeduplicatedStringSetterValueProjection;
 import com.github.skjolber.stcsv.databinder.projection.ValueProjection;
 
 public class StringCsvFieldMapperBuilder<T, B extends AbstractCsvMappingBuilder<T, ?>> extends AbstractTypedCsvFieldMapperBuilder<T, B> {
 
 	protected BiConsumer<T, String> consumer;
 	protected BiConsumer<T, String> setter;
+	protected Integer deduplicated; // max entries, or null if not deduplicated
 
 	public StringCsvFieldMapperBuilder(B parent, String name) {
 		super(parent, name);
@@ -60,6 +65,23 @@ public class StringCsvFieldMapperBuilder<T, B extends AbstractCsvMappingBuilder<
 		return this;
 	}
 
+	/**
+	 * Deduplicate the values of this (low-cardinality) field, so that repeated values are set
+	 * as the same {@linkplain String} instance rather than being created for each row.
+	 * 
+	 * @param maxEntries maximum number of values to keep
+	 * @return this instance.
+	 */
+
+	public StringCsvFieldMapperBuilder<T, B> deduplicated(int maxEntries) {
+		if(maxEntries <= 0) {
+			throw new CsvBuilderException("Expected positive number of entries for field '" + name + "'");
+		}
+		this.deduplicated = maxEntries;
+		
+		return this;
+	}
+
 	public StringCsvFieldMapperBuilder<T, B> trimTrailingWhitespaces() {
 		super.trimTrailingWhitespaces();
 		
@@ -72,10 +94,24 @@ public class StringCsvFieldMapperBuilder<T, B extends AbstractCsvMappingBuilder<
 		return this;
 	}
 
+	public StringCsvFieldMapperBuilder<T, B> field(String fieldName) {
+		super.field(fieldName);
+		
+		return this;
+	}
+
 	protected ValueProjection getProjection(int index, SetterProjectionHelper<T> proxy) throws CsvBuilderException {
 		if(consumer != null) {
+			if(deduplicated != null) {
+				return new BiConsumerProjection(new DeduplicatedStringCsvColumnValueConsumer<>(consumer, new StringCache(deduplicated)), index);
+			}
 			return new BiConsumerProjection(new StringCsvColumnValueConsumer<>(consumer), index);
 		}
+		if(deduplicated != null) {
+			ValueTarget target = proxy.toTarget(this);
+			
+			return target.apply(new DeduplicatedStringSetterValueProjection(target.getName(), CsvMapper.getInternalName(parent.getTarget()), new StringCache(deduplicated), index));
+		}
 		return super.getProjection(index, proxy);
 	}
 	
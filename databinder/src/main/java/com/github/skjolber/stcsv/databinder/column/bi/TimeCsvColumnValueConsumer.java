@@ -0,0 +1,42 @@
+package com.github.skjolber.stcsv.databinder.column.bi;
+
+import java.time.LocalTime;
+import java.util.function.BiConsumer;
+
+import com.github.skjolber.stcsv.DateTimeParser;
+
+public class TimeCsvColumnValueConsumer<T> implements CsvColumnValueConsumer<T> {
+
+	protected final BiConsumer<T, LocalTime> setter;
+
+	public TimeCsvColumnValueConsumer(BiConsumer<T, LocalTime> setter) {
+		this.setter = setter;
+	}
+
+	@Override
+	public void consume(T object, char[] array, int start, int end) {
+		setter.accept(object, parseLocalTime(array, start, end));
+	}
+
+	@Override
+	public void consume(T object, byte[] array, int start, int end) {
+		setter.accept(object, parseLocalTime(array, start, end));
+	}
+
+	public static LocalTime parseLocalTime(char[] array, int start, int end) {
+		return DateTimeParser.parseLocalTime(array, start, end);
+	}
+
+	public static LocalTime parseLocalTime(byte[] array, int start, int end) {
+		return DateTimeParser.parseLocalTime(array, start, end);
+	}
+
+	public static int parseSecondOfDay(char[] array, int start, int end) {
+		return DateTimeParser.parseSecondOfDay(array, start, end);
+	}
+
+	public static int parseSecondOfDay(byte[] array, int start, int end) {
+		return DateTimeParser.parseSecondOfDay(array, start, end);
+	}
+
+}
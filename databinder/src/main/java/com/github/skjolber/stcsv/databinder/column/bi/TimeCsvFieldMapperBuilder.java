@@ -0,0 +1,131 @@
+package com.github.skjolber.stcsv.databinder.column.bi;
+
+import java.time.LocalTime;
+import java.util.function.BiConsumer;
+
+import com.github.skjolber.stcsv.builder.CsvBuilderException;
+import com.github.skjolber.stcsv.databinder.CsvMapper;
+import com.github.skjolber.stcsv.databinder.builder.AbstractCsvMappingBuilder;
+import com.github.skjolber.stcsv.databinder.builder.AbstractTypedCsvFieldMapperBuilder;
+import com.github.skjolber.stcsv.databinder.builder.SetterProjectionHelper;
+import com.github.skjolber.stcsv.databinder.builder.ValueTarget;
+import com.github.skjolber.stcsv.databinder.projection.BiConsumerProjection;
+import com.github.skjolber.stcsv.databinder.projection.PrimitiveSetterValueProjection;
+import com.github.skjolber.stcsv.databinder.projection.ValueProjection;
+
+public class TimeCsvFieldMapperBuilder<T, D extends AbstractCsvMappingBuilder<T, ?>> extends AbstractTypedCsvFieldMapperBuilder<T, D> {
+
+	protected BiConsumer<T, LocalTime> consumer;
+	protected BiConsumer<T, LocalTime> setter;
+	protected boolean secondOfDay;
+
+	public TimeCsvFieldMapperBuilder(D parent, String name) {
+		super(parent, name);
+	}
+
+	public TimeCsvFieldMapperBuilder<T, D> consumer(BiConsumer<T, LocalTime> consumer) {
+		this.consumer = consumer;
+		
+		return this;
+	}
+	
+	public TimeCsvFieldMapperBuilder<T, D> setter(BiConsumer<T, LocalTime> setter) {
+		this.setter = setter;
+		
+		return this;
+	}	
+	
+	public TimeCsvFieldMapperBuilder<T, D> fixedSize(int fixedSize) {
+		super.fixedSize(fixedSize);
+		
+		return this;
+	}
+
+	/**
+	 * Indicate that this field is quoted. If there is no linebreaks, 
+	 * rather use the method {@linkplain #quotedWithoutLinebreaks()} to improve performance.
+	 * 
+	 * @return this instance.
+	 */
+	
+	public TimeCsvFieldMapperBuilder<T, D> quoted() {
+		super.quoted();
+		
+		return this;
+	}
+
+	/**
+	 * Indicate that this field is quoted, but has no linebreaks.
+	 * 
+	 * @return this instance.
+	 */
+	
+	public TimeCsvFieldMapperBuilder<T, D> quotedWithoutLinebreaks() {
+		super.quotedWithoutLinebreaks();
+		
+		return this;
+	}
+
+	/**
+	 * Bind to a setter taking the number of seconds since midnight as <code>int</code>, rather than a {@linkplain LocalTime}.
+	 * Times past 24:00 (i.e. GTFS trips running past midnight) are then supported.
+	 * 
+	 * @return this instance.
+	 */
+
+	public TimeCsvFieldMapperBuilder<T, D> secondOfDay() {
+		this.secondOfDay = true;
+		
+		return this;
+	}
+
+	public TimeCsvFieldMapperBuilder<T, D> trimTrailingWhitespaces() {
+		super.trimTrailingWhitespaces();
+		
+		return this;
+	}
+
+	public TimeCsvFieldMapperBuilder<T, D> trimLeadingWhitespaces() {
+		super.trimLeadingWhitespaces();
+		
+		return this;
+	}
+
+	public TimeCsvFieldMapperBuilder<T, D> field(String fieldName) {
+		super.field(fieldName);
+		
+		return this;
+	}
+
+	@Override
+	protected Class<?> getColumnClass() {
+		return secondOfDay ? int.class : LocalTime.class;
+	}
+
+	@Override
+	protected void invokeSetter(T value) {
+		setter.accept(value, null);
+	}
+
+	@Override
+	protected boolean hasSetter() {
+		return setter != null;
+	}
+
+	protected ValueProjection getProjection(int index, SetterProjectionHelper<T> proxy) throws CsvBuilderException {
+		if(consumer != null) {
+			return new BiConsumerProjection(new TimeCsvColumnValueConsumer<>(consumer), index);
+		}
+		ValueTarget target = proxy.toTarget(this);
+		if(target.getType() != getColumnClass()) {
+			throw new CsvBuilderException("Expected setter for field '" + name + "' to take " + getColumnClass().getName() + ", not " + target.getType().getName());
+		}
+		
+		String owner = CsvMapper.getInternalName(TimeCsvColumnValueConsumer.class);
+		if(secondOfDay) {
+			return target.apply(new PrimitiveSetterValueProjection(target.getName(), CsvMapper.getInternalName(parent.getTarget()), owner, "parseSecondOfDay", 'I'));
+		}
+		return target.apply(new PrimitiveSetterValueProjection(target.getName(), CsvMapper.getInternalName(parent.getTarget()), owner, "parseLocalTime", "L" + CsvMapper.getInternalName(LocalTime.class) + ";"));
+	}
+
+}
@@ -0,0 +1,23 @@
+package com.github.skjolber.stcsv.databinder.column.tri;
+
+import java.math.BigDecimal;
+
+import com.github.skjolber.stcsv.databinder.column.bi.BigDecimalCsvColumnValueConsumer;
+
+public class BigDecimalCsvColumnValueTriConsumer<T, I> implements CsvColumnValueTriConsumer<T, I> {
+
+	protected final TriConsumer<T, I, BigDecimal> setter;
+		
+	public BigDecimalCsvColumnValueTriConsumer(TriConsumer<T, I, BigDecimal> setter) {
+		this.setter = setter;
+	}
+
+	public void consume(T object, I intermediate, char[] array, int start, int end) {
+		setter.accept(object, intermediate, BigDecimalCsvColumnValueConsumer.parseBigDecimal(array, start, end));
+	}
+
+	@Override
+	public void consume(T object, I intermediate, byte[] array, int start, int end) {
+		setter.accept(object, intermediate, BigDecimalCsvColumnValueConsumer.parseBigDecimal(array, start, end));
+	}
+}
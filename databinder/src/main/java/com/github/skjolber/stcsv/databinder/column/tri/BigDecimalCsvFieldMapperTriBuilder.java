@@ -0,0 +1,38 @@
+package com.github.skjolber.stcsv.databinder.column.tri;
+
+import java.math.BigDecimal;
+
+import com.github.skjolber.stcsv.builder.CsvBuilderException;
+import com.github.skjolber.stcsv.databinder.builder.CsvMappingBuilder2;
+import com.github.skjolber.stcsv.databinder.builder.SetterProjectionHelper;
+import com.github.skjolber.stcsv.databinder.column.bi.BigDecimalCsvFieldMapperBuilder;
+import com.github.skjolber.stcsv.databinder.projection.TriConsumerProjection;
+import com.github.skjolber.stcsv.databinder.projection.ValueProjection;
+
+public class BigDecimalCsvFieldMapperTriBuilder<T, D, B extends CsvMappingBuilder2<T, ?>> extends BigDecimalCsvFieldMapperBuilder<T, B> {
+
+	protected TriConsumer<T, D, BigDecimal> triConsumer;
+	protected Class<D> intermediate;
+	
+	public BigDecimalCsvFieldMapperTriBuilder(B parent, String name, Class<D> intermediate) {
+		super(parent, name);
+		
+		this.intermediate = intermediate; 
+	}
+
+	public BigDecimalCsvFieldMapperTriBuilder<T, D, B> consumer(TriConsumer<T, D, BigDecimal>  consumer) {
+		this.triConsumer = consumer;
+		
+		return this;
+	}
+
+	protected ValueProjection getProjection(int index, SetterProjectionHelper<T> proxy) throws CsvBuilderException {
+		if(triConsumer != null) {
+			return new TriConsumerProjection(new BigDecimalCsvColumnValueTriConsumer<>(triConsumer), index);
+		}
+		return super.getProjection(index, proxy);
+	}
+
+}
+
+
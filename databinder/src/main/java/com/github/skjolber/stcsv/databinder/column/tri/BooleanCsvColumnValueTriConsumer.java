@@ -18,4 +18,12 @@ public class BooleanCsvColumnValueTriConsumer<T, I> implements CsvColumnValueTri
 		
 	}
 
+	@Override
+	public void consume(T object, I intermediate, byte[] array, int start, int end) {
+		setter.accept(object, intermediate,
+				BooleanCsvColumnValueConsumer.parseBoolean(array, start, end)
+				);
+		
+	}
+
 }
@@ -0,0 +1,21 @@
+package com.github.skjolber.stcsv.databinder.column.tri;
+
+import com.github.skjolber.stcsv.databinder.column.bi.ByteCsvColumnValueConsumer;
+
+public class ByteCsvColumnValueTriConsumer<T, I> implements CsvColumnValueTriConsumer<T, I> {
+
+	protected final ObjByteTriConsumer<T, I> setter;
+		
+	public ByteCsvColumnValueTriConsumer(ObjByteTriConsumer<T, I> setter) {
+		this.setter = setter;
+	}
+
+	public void consume(T object, I intermediate, char[] array, int start, int end) {
+		setter.accept(object, intermediate, ByteCsvColumnValueConsumer.parseByte(array, start, end));
+	}
+
+	@Override
+	public void consume(T object, I intermediate, byte[] array, int start, int end) {
+		setter.accept(object, intermediate, ByteCsvColumnValueConsumer.parseByte(array, start, end));
+	}
+}
@@ -0,0 +1,36 @@
+package com.github.skjolber.stcsv.databinder.column.tri;
+
+import com.github.skjolber.stcsv.builder.CsvBuilderException;
+import com.github.skjolber.stcsv.databinder.builder.CsvMappingBuilder2;
+import com.github.skjolber.stcsv.databinder.builder.SetterProjectionHelper;
+import com.github.skjolber.stcsv.databinder.column.bi.ByteCsvFieldMapperBuilder;
+import com.github.skjolber.stcsv.databinder.projection.TriConsumerProjection;
+import com.github.skjolber.stcsv.databinder.projection.ValueProjection;
+
+public class ByteCsvFieldMapperTriBuilder<T, D, B extends CsvMappingBuilder2<T, ?>> extends ByteCsvFieldMapperBuilder<T, B> {
+
+	protected ObjByteTriConsumer<T, D> triConsumer;
+	protected Class<D> intermediate;
+	
+	public ByteCsvFieldMapperTriBuilder(B parent, String name, Class<D> intermediate) {
+		super(parent, name);
+		
+		this.intermediate = intermediate; 
+	}
+
+	public ByteCsvFieldMapperTriBuilder<T, D, B> consumer(ObjByteTriConsumer<T, D>  consumer) {
+		this.triConsumer = consumer;
+		
+		return this;
+	}
+
+	protected ValueProjection getProjection(int index, SetterProjectionHelper<T> proxy) throws CsvBuilderException {
+		if(triConsumer != null) {
+			return new TriConsumerProjection(new ByteCsvColumnValueTriConsumer<>(triConsumer), index);
+		}
+		return super.getProjection(index, proxy);
+	}
+
+}
+
+
@@ -0,0 +1,21 @@
+package com.github.skjolber.stcsv.databinder.column.tri;
+
+import com.github.skjolber.stcsv.databinder.column.bi.CharCsvColumnValueConsumer;
+
+public class CharCsvColumnValueTriConsumer<T, I> implements CsvColumnValueTriConsumer<T, I> {
+
+	protected final ObjCharTriConsumer<T, I> setter;
+		
+	public CharCsvColumnValueTriConsumer(ObjCharTriConsumer<T, I> setter) {
+		this.setter = setter;
+	}
+
+	public void consume(T object, I intermediate, char[] array, int start, int end) {
+		setter.accept(object, intermediate, CharCsvColumnValueConsumer.parseChar(array, start, end));
+	}
+
+	@Override
+	public void consume(T object, I intermediate, byte[] array, int start, int end) {
+		setter.accept(object, intermediate, CharCsvColumnValueConsumer.parseChar(array, start, end));
+	}
+}
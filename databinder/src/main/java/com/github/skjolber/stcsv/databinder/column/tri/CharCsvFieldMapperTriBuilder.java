@@ -0,0 +1,36 @@
+package com.github.skjolber.stcsv.databinder.column.tri;
+
+import com.github.skjolber.stcsv.builder.CsvBuilderException;
+import com.github.skjolber.stcsv.databinder.builder.CsvMappingBuilder2;
+import com.github.skjolber.stcsv.databinder.builder.SetterProjectionHelper;
+import com.github.skjolber.stcsv.databinder.column.bi.CharCsvFieldMapperBuilder;
+import com.github.skjolber.stcsv.databinder.projection.TriConsumerProjection;
+import com.github.skjolber.stcsv.databinder.projection.ValueProjection;
+
+public class CharCsvFieldMapperTriBuilder<T, D, B extends CsvMappingBuilder2<T, ?>> extends CharCsvFieldMapperBuilder<T, B> {
+
+	protected ObjCharTriConsumer<T, D> triConsumer;
+	protected Class<D> intermediate;
+	
+	public CharCsvFieldMapperTriBuilder(B parent, String name, Class<D> intermediate) {
+		super(parent, name);
+		
+		this.intermediate = intermediate; 
+	}
+
+	public CharCsvFieldMapperTriBuilder<T, D, B> consumer(ObjCharTriConsumer<T, D>  consumer) {
+		this.triConsumer = consumer;
+		
+		return this;
+	}
+
+	protected ValueProjection getProjection(int index, SetterProjectionHelper<T> proxy) throws CsvBuilderException {
+		if(triConsumer != null) {
+			return new TriConsumerProjection(new CharCsvColumnValueTriConsumer<>(triConsumer), index);
+		}
+		return super.getProjection(index, proxy);
+	}
+
+}
+
+
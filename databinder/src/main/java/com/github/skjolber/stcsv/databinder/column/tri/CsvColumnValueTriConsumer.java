@@ -1,5 +1,7 @@
 package com.github.skjolber.stcsv.databinder.column.tri;
 
+import java.nio.charset.StandardCharsets;
+
 @FunctionalInterface
 public interface CsvColumnValueTriConsumer<T, I> {
 
@@ -15,4 +17,20 @@ public interface CsvColumnValueTriConsumer<T, I> {
 	
 	void consume(T object, I intermediate, char[] array, int start, int end);
 
+	/**
+	 * Parse values from a byte array. The default implementation decodes the value
+	 * as UTF-8 and delegates to the character array method.
+	 * 
+	 * @param object target
+	 * @param intermediate intermediate helper / processor
+	 * @param array UTF-8 byte array
+	 * @param start start index, inclusive
+	 * @param end end index, exclusive
+	 */
+	
+	default void consume(T object, I intermediate, byte[] array, int start, int end) {
+		char[] chars = new String(array, start, end - start, StandardCharsets.UTF_8).toCharArray();
+		consume(object, intermediate, chars, 0, chars.length);
+	}
+
 }
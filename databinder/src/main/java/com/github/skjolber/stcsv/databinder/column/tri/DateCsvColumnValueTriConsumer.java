@@ -0,0 +1,23 @@
+package com.github.skjolber.stcsv.databinder.column.tri;
+
+import java.time.LocalDate;
+
+import com.github.skjolber.stcsv.databinder.column.bi.DateCsvColumnValueConsumer;
+
+public class DateCsvColumnValueTriConsumer<T, I> implements CsvColumnValueTriConsumer<T, I> {
+
+	protected final TriConsumer<T, I, LocalDate> setter;
+		
+	public DateCsvColumnValueTriConsumer(TriConsumer<T, I, LocalDate> setter) {
+		this.setter = setter;
+	}
+
+	public void consume(T object, I intermediate, char[] array, int start, int end) {
+		setter.accept(object, intermediate, DateCsvColumnValueConsumer.parseLocalDate(array, start, end));
+	}
+
+	@Override
+	public void consume(T object, I intermediate, byte[] array, int start, int end) {
+		setter.accept(object, intermediate, DateCsvColumnValueConsumer.parseLocalDate(array, start, end));
+	}
+}
@@ -0,0 +1,38 @@
+package com.github.skjolber.stcsv.databinder.column.tri;
+
+import java.time.LocalDate;
+
+import com.github.skjolber.stcsv.builder.CsvBuilderException;
+import com.github.skjolber.stcsv.databinder.builder.CsvMappingBuilder2;
+import com.github.skjolber.stcsv.databinder.builder.SetterProjectionHelper;
+import com.github.skjolber.stcsv.databinder.column.bi.DateCsvFieldMapperBuilder;
+import com.github.skjolber.stcsv.databinder.projection.TriConsumerProjection;
+import com.github.skjolber.stcsv.databinder.projection.ValueProjection;
+
+public class DateCsvFieldMapperTriBuilder<T, D, B extends CsvMappingBuilder2<T, ?>> extends DateCsvFieldMapperBuilder<T, B> {
+
+	protected TriConsumer<T, D, LocalDate> triConsumer;
+	protected Class<D> intermediate;
+	
+	public DateCsvFieldMapperTriBuilder(B parent, String name, Class<D> intermediate) {
+		super(parent, name);
+		
+		this.intermediate = intermediate; 
+	}
+
+	public DateCsvFieldMapperTriBuilder<T, D, B> consumer(TriConsumer<T, D, LocalDate>  consumer) {
+		this.triConsumer = consumer;
+		
+		return this;
+	}
+
+	protected ValueProjection getProjection(int index, SetterProjectionHelper<T> proxy) throws CsvBuilderException {
+		if(triConsumer != null) {
+			return new TriConsumerProjection(new DateCsvColumnValueTriConsumer<>(triConsumer), index);
+		}
+		return super.getProjection(index, proxy);
+	}
+
+}
+
+
@@ -0,0 +1,23 @@
+package com.github.skjolber.stcsv.databinder.column.tri;
+
+import java.time.LocalDateTime;
+
+import com.github.skjolber.stcsv.databinder.column.bi.DateTimeCsvColumnValueConsumer;
+
+public class DateTimeCsvColumnValueTriConsumer<T, I> implements CsvColumnValueTriConsumer<T, I> {
+
+	protected final TriConsumer<T, I, LocalDateTime> setter;
+		
+	public DateTimeCsvColumnValueTriConsumer(TriConsumer<T, I, LocalDateTime> setter) {
+		this.setter = setter;
+	}
+
+	public void consume(T object, I intermediate, char[] array, int start, int end) {
+		setter.accept(object, intermediate, DateTimeCsvColumnValueConsumer.parseLocalDateTime(array, start, end));
+	}
+
+	@Override
+	public void consume(T object, I intermediate, byte[] array, int start, int end) {
+		setter.accept(object, intermediate, DateTimeCsvColumnValueConsumer.parseLocalDateTime(array, start, end));
+	}
+}
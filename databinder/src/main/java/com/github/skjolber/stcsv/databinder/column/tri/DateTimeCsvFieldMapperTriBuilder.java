@@ -0,0 +1,38 @@
+package com.github.skjolber.stcsv.databinder.column.tri;
+
+import java.time.LocalDateTime;
+
+import com.github.skjolber.stcsv.builder.CsvBuilderException;
+import com.github.skjolber.stcsv.databinder.builder.CsvMappingBuilder2;
+import com.github.skjolber.stcsv.databinder.builder.SetterProjectionHelper;
+import com.github.skjolber.stcsv.databinder.column.bi.DateTimeCsvFieldMapperBuilder;
+import com.github.skjolber.stcsv.databinder.projection.TriConsumerProjection;
+import com.github.skjolber.stcsv.databinder.projection.ValueProjection;
+
+public class DateTimeCsvFieldMapperTriBuilder<T, D, B extends CsvMappingBuilder2<T, ?>> extends DateTimeCsvFieldMapperBuilder<T, B> {
+
+	protected TriConsumer<T, D, LocalDateTime> triConsumer;
+	protected Class<D> intermediate;
+	
+	public DateTimeCsvFieldMapperTriBuilder(B parent, String name, Class<D> intermediate) {
+		super(parent, name);
+		
+		this.intermediate = intermediate; 
+	}
+
+	public DateTimeCsvFieldMapperTriBuilder<T, D, B> consumer(TriConsumer<T, D, LocalDateTime>  consumer) {
+		this.triConsumer = consumer;
+		
+		return this;
+	}
+
+	protected ValueProjection getProjection(int index, SetterProjectionHelper<T> proxy) throws CsvBuilderException {
+		if(triConsumer != null) {
+			return new TriConsumerProjection(new DateTimeCsvColumnValueTriConsumer<>(triConsumer), index);
+		}
+		return super.getProjection(index, proxy);
+	}
+
+}
+
+
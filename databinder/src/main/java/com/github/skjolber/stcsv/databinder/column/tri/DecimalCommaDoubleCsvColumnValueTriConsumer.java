@@ -0,0 +1,21 @@
+package com.github.skjolber.stcsv.databinder.column.tri;
+
+import com.github.skjolber.stcsv.databinder.column.bi.DecimalCommaDoubleCsvColumnValueConsumer;
+
+public class DecimalCommaDoubleCsvColumnValueTriConsumer<T, I> implements CsvColumnValueTriConsumer<T, I> {
+
+	protected final ObjDoubleTriConsumer<T, I> setter;
+		
+	public DecimalCommaDoubleCsvColumnValueTriConsumer(ObjDoubleTriConsumer<T, I> setter) {
+		this.setter = setter;
+	}
+
+	public void consume(T object, I intermediate, char[] array, int start, int end) {
+		setter.accept(object, intermediate, DecimalCommaDoubleCsvColumnValueConsumer.parseDouble(array, start, end));
+	}
+
+	@Override
+	public void consume(T object, I intermediate, byte[] array, int start, int end) {
+		setter.accept(object, intermediate, DecimalCommaDoubleCsvColumnValueConsumer.parseDouble(array, start, end));
+	}
+}
@@ -0,0 +1,25 @@
+package com.github.skjolber.stcsv.databinder.column.tri;
+
+import com.github.skjolber.stcsv.StringCache;
+
+public class DeduplicatedStringCsvColumnValueTriConsumer<T, I> implements CsvColumnValueTriConsumer<T, I> {
+
+	protected final TriConsumer<T, I, String> setter;
+	protected final StringCache cache;
+
+	public DeduplicatedStringCsvColumnValueTriConsumer(TriConsumer<T, I, String> setter, StringCache cache) {
+		this.setter = setter;
+		this.cache = cache;
+	}
+
+	@Override
+	public void consume(T object, I intermediate, char[] array, int start, int end) {
+		setter.accept(object, intermediate, cache.get(array, start, end));
+	}
+
+	@Override
+	public void consume(T object, I intermediate, byte[] array, int start, int end) {
+		setter.accept(object, intermediate, cache.get(array, start, end));
+	}
+	
+}
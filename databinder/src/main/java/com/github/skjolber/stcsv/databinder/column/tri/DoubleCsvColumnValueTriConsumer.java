@@ -13,4 +13,9 @@ public class DoubleCsvColumnValueTriConsumer<T, I> implements CsvColumnValueTriC
 	public void consume(T object, I intermediate, char[] array, int start, int end) {
 		setter.accept(object, intermediate, DoubleCsvColumnValueConsumer.parseDouble(array, start, end));
 	}
+
+	@Override
+	public void consume(T object, I intermediate, byte[] array, int start, int end) {
+		setter.accept(object, intermediate, DoubleCsvColumnValueConsumer.parseDouble(array, start, end));
+	}
 }
@@ -26,6 +26,9 @@ public class DoubleCsvFieldMapperTriBuilder<T, D, B extends CsvMappingBuilder2<T
 
 	protected ValueProjection getProjection(int index, SetterProjectionHelper<T> proxy) throws CsvBuilderException {
 		if(triConsumer != null) {
+			if(decimalComma) {
+				return new TriConsumerProjection(new DecimalCommaDoubleCsvColumnValueTriConsumer<>(triConsumer), index);
+			}
 			return new TriConsumerProjection(new DoubleCsvColumnValueTriConsumer<>(triConsumer), index);
 		}
 		return super.getProjection(index, proxy);
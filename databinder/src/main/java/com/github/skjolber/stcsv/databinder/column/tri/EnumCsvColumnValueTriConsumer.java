@@ -0,0 +1,25 @@
+package com.github.skjolber.stcsv.databinder.column.tri;
+
+import java.util.Map;
+
+import com.github.skjolber.stcsv.databinder.column.bi.EnumCsvColumnValueConsumer;
+
+public class EnumCsvColumnValueTriConsumer<T, I, E extends Enum<E>> implements CsvColumnValueTriConsumer<T, I> {
+
+	protected final TriConsumer<T, I, E> setter;
+	protected final EnumCsvColumnValueConsumer<T, E> lookup;
+
+	public EnumCsvColumnValueTriConsumer(TriConsumer<T, I, E> setter, Class<E> enumClass, Map<String, E> constants) {
+		this.setter = setter;
+		this.lookup = new EnumCsvColumnValueConsumer<>(null, enumClass, constants);
+	}
+
+	public void consume(T object, I intermediate, char[] array, int start, int end) {
+		setter.accept(object, intermediate, lookup.lookup(array, start, end));
+	}
+
+	@Override
+	public void consume(T object, I intermediate, byte[] array, int start, int end) {
+		setter.accept(object, intermediate, lookup.lookup(array, start, end));
+	}
+}
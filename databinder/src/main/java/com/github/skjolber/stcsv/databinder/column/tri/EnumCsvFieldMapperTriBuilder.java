@@ -0,0 +1,40 @@
+package com.github.skjolber.stcsv.databinder.column.tri;
+
+import com.github.skjolber.stcsv.builder.CsvBuilderException;
+import com.github.skjolber.stcsv.databinder.builder.CsvMappingBuilder2;
+import com.github.skjolber.stcsv.databinder.builder.SetterProjectionHelper;
+import com.github.skjolber.stcsv.databinder.column.bi.EnumCsvFieldMapperBuilder;
+import com.github.skjolber.stcsv.databinder.projection.TriConsumerProjection;
+import com.github.skjolber.stcsv.databinder.projection.ValueProjection;
+
+public class EnumCsvFieldMapperTriBuilder<T, E extends Enum<E>, D, B extends CsvMappingBuilder2<T, ?>> extends EnumCsvFieldMapperBuilder<T, E, B> {
+
+	protected TriConsumer<T, D, E> triConsumer;
+	protected Class<D> intermediate;
+	
+	public EnumCsvFieldMapperTriBuilder(B parent, String name, Class<E> enumClass, Class<D> intermediate) {
+		super(parent, name, enumClass);
+		
+		this.intermediate = intermediate; 
+	}
+
+	public EnumCsvFieldMapperTriBuilder<T, E, D, B> consumer(TriConsumer<T, D, E>  consumer) {
+		this.triConsumer = consumer;
+		
+		return this;
+	}
+
+	public EnumCsvFieldMapperTriBuilder<T, E, D, B> alias(String value, E constant) {
+		super.alias(value, constant);
+		
+		return this;
+	}
+
+	protected ValueProjection getProjection(int index, SetterProjectionHelper<T> proxy) throws CsvBuilderException {
+		if(triConsumer != null) {
+			return new TriConsumerProjection(new EnumCsvColumnValueTriConsumer<>(triConsumer, enumClass, getConstants()), index);
+		}
+		return super.getProjection(index, proxy);
+	}
+
+}
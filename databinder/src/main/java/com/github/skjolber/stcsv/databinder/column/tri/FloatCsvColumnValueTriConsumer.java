@@ -0,0 +1,21 @@
+package com.github.skjolber.stcsv.databinder.column.tri;
+
+import com.github.skjolber.stcsv.databinder.column.bi.FloatCsvColumnValueConsumer;
+
+public class FloatCsvColumnValueTriConsumer<T, I> implements CsvColumnValueTriConsumer<T, I> {
+
+	protected final ObjFloatTriConsumer<T, I> setter;
+		
+	public FloatCsvColumnValueTriConsumer(ObjFloatTriConsumer<T, I> setter) {
+		this.setter = setter;
+	}
+
+	public void consume(T object, I intermediate, char[] array, int start, int end) {
+		setter.accept(object, intermediate, FloatCsvColumnValueConsumer.parseFloat(array, start, end));
+	}
+
+	@Override
+	public void consume(T object, I intermediate, byte[] array, int start, int end) {
+		setter.accept(object, intermediate, FloatCsvColumnValueConsumer.parseFloat(array, start, end));
+	}
+}
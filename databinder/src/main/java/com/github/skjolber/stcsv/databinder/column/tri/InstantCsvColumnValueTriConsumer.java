@@ -0,0 +1,23 @@
+package com.github.skjolber.stcsv.databinder.column.tri;
+
+import java.time.Instant;
+
+import com.github.skjolber.stcsv.databinder.column.bi.InstantCsvColumnValueConsumer;
+
+public class InstantCsvColumnValueTriConsumer<T, I> implements CsvColumnValueTriConsumer<T, I> {
+
+	protected final TriConsumer<T, I, Instant> setter;
+		
+	public InstantCsvColumnValueTriConsumer(TriConsumer<T, I, Instant> setter) {
+		this.setter = setter;
+	}
+
+	public void consume(T object, I intermediate, char[] array, int start, int end) {
+		setter.accept(object, intermediate, InstantCsvColumnValueConsumer.parseInstant(array, start, end));
+	}
+
+	@Override
+	public void consume(T object, I intermediate, byte[] array, int start, int end) {
+		setter.accept(object, intermediate, InstantCsvColumnValueConsumer.parseInstant(array, start, end));
+	}
+}
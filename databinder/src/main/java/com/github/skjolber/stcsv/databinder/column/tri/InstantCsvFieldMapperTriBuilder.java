@@ -0,0 +1,38 @@
+package com.github.skjolber.stcsv.databinder.column.tri;
+
+import java.time.Instant;
+
+import com.github.skjolber.stcsv.builder.CsvBuilderException;
+import com.github.skjolber.stcsv.databinder.builder.CsvMappingBuilder2;
+import com.github.skjolber.stcsv.databinder.builder.SetterProjectionHelper;
+import com.github.skjolber.stcsv.databinder.column.bi.InstantCsvFieldMapperBuilder;
+import com.github.skjolber.stcsv.databinder.projection.TriConsumerProjection;
+import com.github.skjolber.stcsv.databinder.projection.ValueProjection;
+
+public class InstantCsvFieldMapperTriBuilder<T, D, B extends CsvMappingBuilder2<T, ?>> extends InstantCsvFieldMapperBuilder<T, B> {
+
+	protected TriConsumer<T, D, Instant> triConsumer;
+	protected Class<D> intermediate;
+	
+	public InstantCsvFieldMapperTriBuilder(B parent, String name, Class<D> intermediate) {
+		super(parent, name);
+		
+		this.intermediate = intermediate; 
+	}
+
+	public InstantCsvFieldMapperTriBuilder<T, D, B> consumer(TriConsumer<T, D, Instant>  consumer) {
+		this.triConsumer = consumer;
+		
+		return this;
+	}
+
+	protected ValueProjection getProjection(int index, SetterProjectionHelper<T> proxy) throws CsvBuilderException {
+		if(triConsumer != null) {
+			return new TriConsumerProjection(new InstantCsvColumnValueTriConsumer<>(triConsumer), index);
+		}
+		return super.getProjection(index, proxy);
+	}
+
+}
+
+
@@ -13,4 +13,9 @@ public class IntCsvColumnValueTriConsumer<T, I> implements CsvColumnValueTriCons
 	public void consume(T object, I intermediate, char[] array, int start, int end) {
 		setter.accept(object, intermediate, IntCsvColumnValueConsumer.parseInt(array, start, end));
 	}
+
+	@Override
+	public void consume(T object, I intermediate, byte[] array, int start, int end) {
+		setter.accept(object, intermediate, IntCsvColumnValueConsumer.parseInt(array, start, end));
+	}
 }
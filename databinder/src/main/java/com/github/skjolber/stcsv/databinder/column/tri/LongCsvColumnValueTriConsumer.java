@@ -13,4 +13,9 @@ public class LongCsvColumnValueTriConsumer<T, I> implements CsvColumnValueTriCon
 	public void consume(T object, I intermediate, char[] array, int start, int end) {
 		setter.accept(object, intermediate, LongCsvColumnValueConsumer.parseLong(array, start, end));
 	}
+
+	@Override
+	public void consume(T object, I intermediate, byte[] array, int start, int end) {
+		setter.accept(object, intermediate, LongCsvColumnValueConsumer.parseLong(array, start, end));
+	}
 }
@@ -0,0 +1,21 @@
+package com.github.skjolber.stcsv.databinder.column.tri;
+
+import com.github.skjolber.stcsv.databinder.column.bi.ShortCsvColumnValueConsumer;
+
+public class ShortCsvColumnValueTriConsumer<T, I> implements CsvColumnValueTriConsumer<T, I> {
+
+	protected final ObjShortTriConsumer<T, I> setter;
+		
+	public ShortCsvColumnValueTriConsumer(ObjShortTriConsumer<T, I> setter) {
+		this.setter = setter;
+	}
+
+	public void consume(T object, I intermediate, char[] array, int start, int end) {
+		setter.accept(object, intermediate, ShortCsvColumnValueConsumer.parseShort(array, start, end));
+	}
+
+	@Override
+	public void consume(T object, I intermediate, byte[] array, int start, int end) {
+		setter.accept(object, intermediate, ShortCsvColumnValueConsumer.parseShort(array, start, end));
+	}
+}
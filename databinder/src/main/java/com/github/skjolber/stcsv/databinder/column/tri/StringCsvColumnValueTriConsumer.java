@@ -1,5 +1,7 @@
 package com.github.skjolber.stcsv.databinder.column.tri;
 
+import java.nio.charset.StandardCharsets;
+
 public class StringCsvColumnValueTriConsumer<T, I> implements CsvColumnValueTriConsumer<T, I> {
 
 	protected final TriConsumer<T, I, String> setter;
@@ -12,5 +14,10 @@ public class StringCsvColumnValueTriConsumer<T, I> implements CsvColumnValueTriC
 	public void consume(T object, I intermediate, char[] array, int start, int end) {
 		setter.accept(object, intermediate, new String(array, start, end - start));
 	}
+
+	@Override
+	public void consume(T object, I intermediate, byte[] array, int start, int end) {
+		setter.accept(object, intermediate, new String(array, start, end - start, StandardCharsets.UTF_8));
+	}
 	
 }
@@ -1,5 +1,6 @@
 package com.github.skjolber.stcsv.databinder.column.tri;
 
+import com.github.skjolber.stcsv.StringCache;
 import com.github.skjolber.stcsv.builder.CsvBuilderException;
 import com.github.skjolber.stcsv.databinder.builder.CsvMappingBuilder2;
 import com.github.skjolber.stcsv.databinder.builder.SetterProjectionHelper;
@@ -26,6 +27,9 @@ public class StringCsvFieldMapperTriBuilder<T, D, B extends CsvMappingBuilder2<T
 
 	protected ValueProjection getProjection(int index, SetterProjectionHelper<T> proxy) throws CsvBuilderException {
 		if(triConsumer != null) {
+			if(deduplicated != null) {
+				return new TriConsumerProjection(new DeduplicatedStringCsvColumnValueTriConsumer<>(triConsumer, new StringCache(deduplicated)), index);
+			}
 			return new TriConsumerProjection(new StringCsvColumnValueTriConsumer<>(triConsumer), index);
 		}
 		return super.getProjection(index, proxy);
@@ -0,0 +1,23 @@
+package com.github.skjolber.stcsv.databinder.column.tri;
+
+import java.time.LocalTime;
+
+import com.github.skjolber.stcsv.databinder.column.bi.TimeCsvColumnValueConsumer;
+
+public class TimeCsvColumnValueTriConsumer<T, I> implements CsvColumnValueTriConsumer<T, I> {
+
+	protected final TriConsumer<T, I, LocalTime> setter;
+		
+	public TimeCsvColumnValueTriConsumer(TriConsumer<T, I, LocalTime> setter) {
+		this.setter = setter;
+	}
+
+	public void consume(T object, I intermediate, char[] array, int start, int end) {
+		setter.accept(object, intermediate, TimeCsvColumnValueConsumer.parseLocalTime(array, start, end));
+	}
+
+	@Override
+	public void consume(T object, I intermediate, byte[] array, int start, int end) {
+		setter.accept(object, intermediate, TimeCsvColumnValueConsumer.parseLocalTime(array, start, end));
+	}
+}
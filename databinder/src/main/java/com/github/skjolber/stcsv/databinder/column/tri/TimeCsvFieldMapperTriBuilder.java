@@ -0,0 +1,38 @@
+package com.github.skjolber.stcsv.databinder.column.tri;
+
+import java.time.LocalTime;
+
+import com.github.skjolber.stcsv.builder.CsvBuilderException;
+import com.github.skjolber.stcsv.databinder.builder.CsvMappingBuilder2;
+import com.github.skjolber.stcsv.databinder.builder.SetterProjectionHelper;
+import com.github.skjolber.stcsv.databinder.column.bi.TimeCsvFieldMapperBuilder;
+import com.github.skjolber.stcsv.databinder.projection.TriConsumerProjection;
+import com.github.skjolber.stcsv.databinder.projection.ValueProjection;
+
+public class TimeCsvFieldMapperTriBuilder<T, D, B extends CsvMappingBuilder2<T, ?>> extends TimeCsvFieldMapperBuilder<T, B> {
+
+	protected TriConsumer<T, D, LocalTime> triConsumer;
+	protected Class<D> intermediate;
+	
+	public TimeCsvFieldMapperTriBuilder(B parent, String name, Class<D> intermediate) {
+		super(parent, name);
+		
+		this.intermediate = intermediate; 
+	}
+
+	public TimeCsvFieldMapperTriBuilder<T, D, B> consumer(TriConsumer<T, D, LocalTime>  consumer) {
+		this.triConsumer = consumer;
+		
+		return this;
+	}
+
+	protected ValueProjection getProjection(int index, SetterProjectionHelper<T> proxy) throws CsvBuilderException {
+		if(triConsumer != null) {
+			return new TriConsumerProjection(new TimeCsvColumnValueTriConsumer<>(triConsumer), index);
+		}
+		return super.getProjection(index, proxy);
+	}
+
+}
+
+
@@ -0,0 +1,51 @@
+package com.github.skjolber.stcsv.databinder.projection;
+
+import static org.objectweb.asm.Opcodes.ALOAD;
+import static org.objectweb.asm.Opcodes.GETSTATIC;
+import static org.objectweb.asm.Opcodes.ILOAD;
+import static org.objectweb.asm.Opcodes.INVOKEVIRTUAL;
+
+import org.objectweb.asm.MethodVisitor;
+
+import com.github.skjolber.stcsv.StringCache;
+import com.github.skjolber.stcsv.databinder.CsvMapper;
+
+/**
+ * Setter for strings, which are looked up in a {@linkplain StringCache} 
+ * (held in a static field of the generated parser) rather than always created.
+ *
+ */
+
+public class DeduplicatedStringSetterValueProjection extends SetterValueProjection {
+
+	public static final String stringCacheName = CsvMapper.getInternalName(StringCache.class);
+
+	protected final StringCache stringCache;
+	protected final int index;
+
+	public DeduplicatedStringSetterValueProjection(String setterName, String mappedClassInternalName, StringCache stringCache, int index) {
+		super(setterName, mappedClassInternalName);
+		this.stringCache = stringCache;
+		this.index = index;
+	}
+
+	@Override
+	public void write(MethodVisitor mv, String subClassInternalName, int endIndex) {
+		writeTarget(mv);
+		mv.visitFieldInsn(GETSTATIC, subClassInternalName, "v" + index, "L" + stringCacheName + ";");
+		mv.visitVarInsn(ALOAD, currentArrayIndex);
+		mv.visitVarInsn(ILOAD, startIndex);
+		mv.visitVarInsn(ILOAD, endIndex);
+		mv.visitMethodInsn(INVOKEVIRTUAL, stringCacheName, "get", "([CII)Ljava/lang/String;", false);
+		writeSetter(mv, "Ljava/lang/String;");
+	}
+
+	public StringCache getStringCache() {
+		return stringCache;
+	}
+
+	@Override
+	public String getDescriptor() {
+		return "Ljava/lang/String;";
+	}
+}
@@ -0,0 +1,174 @@
+package com.github.skjolber.stcsv.databinder.projection;
+
+import static org.objectweb.asm.Opcodes.ALOAD;
+import static org.objectweb.asm.Opcodes.ATHROW;
+import static org.objectweb.asm.Opcodes.BIPUSH;
+import static org.objectweb.asm.Opcodes.CALOAD;
+import static org.objectweb.asm.Opcodes.DUP;
+import static org.objectweb.asm.Opcodes.GETSTATIC;
+import static org.objectweb.asm.Opcodes.GOTO;
+import static org.objectweb.asm.Opcodes.IADD;
+import static org.objectweb.asm.Opcodes.IF_ICMPNE;
+import static org.objectweb.asm.Opcodes.ILOAD;
+import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
+import static org.objectweb.asm.Opcodes.ISUB;
+import static org.objectweb.asm.Opcodes.NEW;
+import static org.objectweb.asm.Opcodes.SIPUSH;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+
+/**
+ * Setter for enums. The value is resolved without creating a {@linkplain String}: the generated code switches
+ * on the value length, then on the character positions which best tell the remaining candidates apart,
+ * and finally verifies the positions not yet checked.
+ *
+ */
+
+public class EnumSetterValueProjection extends SetterValueProjection {
+
+	protected final String name;
+	protected final String enumInternalName;
+	protected final Map<String, String> constants; // value -> constant name
+
+	public EnumSetterValueProjection(String setterName, String mappedClassInternalName, String name, String enumInternalName, Map<String, String> constants) {
+		super(setterName, mappedClassInternalName);
+		this.name = name;
+		this.enumInternalName = enumInternalName;
+		this.constants = constants;
+	}
+
+	@Override
+	public void write(MethodVisitor mv, String subClassInternalName, int endIndex) {
+		Label unknownLabel = new Label();
+		Label doneLabel = new Label();
+
+		Map<Integer, List<String>> lengths = new TreeMap<>();
+		for (String value : constants.keySet()) {
+			lengths.computeIfAbsent(value.length(), k -> new ArrayList<>()).add(value);
+		}
+
+		int[] keys = new int[lengths.size()];
+		Label[] labels = new Label[lengths.size()];
+		int index = 0;
+		for (Integer length : lengths.keySet()) {
+			keys[index] = length;
+			labels[index] = new Label();
+			index++;
+		}
+
+		// switch on length
+		mv.visitVarInsn(ILOAD, endIndex);
+		mv.visitVarInsn(ILOAD, startIndex);
+		mv.visitInsn(ISUB);
+		mv.visitLookupSwitchInsn(unknownLabel, keys, labels);
+
+		index = 0;
+		for (List<String> values : lengths.values()) {
+			mv.visitLabel(labels[index]);
+			writeDecision(mv, values, new HashSet<>(), unknownLabel, doneLabel);
+			index++;
+		}
+
+		mv.visitLabel(unknownLabel);
+		mv.visitTypeInsn(NEW, "com/github/skjolber/stcsv/CsvException");
+		mv.visitInsn(DUP);
+		mv.visitLdcInsn("Unknown value in field '" + name + "'");
+		mv.visitMethodInsn(INVOKESPECIAL, "com/github/skjolber/stcsv/CsvException", "<init>", "(Ljava/lang/String;)V", false);
+		mv.visitInsn(ATHROW);
+
+		mv.visitLabel(doneLabel);
+	}
+
+	protected void writeDecision(MethodVisitor mv, List<String> values, Set<Integer> checked, Label unknownLabel, Label doneLabel) {
+		int length = values.get(0).length();
+		if(values.size() == 1) {
+			String value = values.get(0);
+			for(int i = 0; i < length; i++) {
+				if(!checked.contains(i)) {
+					loadChar(mv, i);
+					pushInt(mv, value.charAt(i));
+					mv.visitJumpInsn(IF_ICMPNE, unknownLabel);
+				}
+			}
+			writeTarget(mv);
+			mv.visitFieldInsn(GETSTATIC, enumInternalName, constants.get(value), "L" + enumInternalName + ";");
+			writeSetter(mv, "L" + enumInternalName + ";");
+			mv.visitJumpInsn(GOTO, doneLabel);
+
+			return;
+		}
+
+		// pick the position with the most distinct characters
+		int position = -1;
+		Map<Character, List<String>> groups = null;
+		for(int i = 0; i < length; i++) {
+			if(checked.contains(i)) {
+				continue;
+			}
+			Map<Character, List<String>> candidate = new TreeMap<>();
+			for (String value : values) {
+				candidate.computeIfAbsent(value.charAt(i), k -> new ArrayList<>()).add(value);
+			}
+			if(groups == null || candidate.size() > groups.size()) {
+				groups = candidate;
+				position = i;
+			}
+		}
+
+		int[] keys = new int[groups.size()];
+		Label[] labels = new Label[groups.size()];
+		int index = 0;
+		for (Character c : groups.keySet()) {
+			keys[index] = c;
+			labels[index] = new Label();
+			index++;
+		}
+
+		loadChar(mv, position);
+		mv.visitLookupSwitchInsn(unknownLabel, keys, labels);
+
+		Set<Integer> nextChecked = new HashSet<>(checked);
+		nextChecked.add(position);
+
+		index = 0;
+		for (Entry<Character, List<String>> entry : groups.entrySet()) {
+			mv.visitLabel(labels[index]);
+			writeDecision(mv, entry.getValue(), nextChecked, unknownLabel, doneLabel);
+			index++;
+		}
+	}
+
+	protected void loadChar(MethodVisitor mv, int offset) {
+		mv.visitVarInsn(ALOAD, currentArrayIndex);
+		mv.visitVarInsn(ILOAD, startIndex);
+		if(offset > 0) {
+			pushInt(mv, offset);
+			mv.visitInsn(IADD);
+		}
+		mv.visitInsn(CALOAD);
+	}
+
+	protected static void pushInt(MethodVisitor mv, int value) {
+		if(value <= Byte.MAX_VALUE) {
+			mv.visitIntInsn(BIPUSH, value);
+		} else if(value <= Short.MAX_VALUE) {
+			mv.visitIntInsn(SIPUSH, value);
+		} else {
+			mv.visitLdcInsn(value);
+		}
+	}
+
+	@Override
+	public String getDescriptor() {
+		return "L" + enumInternalName + ";";
+	}
+}
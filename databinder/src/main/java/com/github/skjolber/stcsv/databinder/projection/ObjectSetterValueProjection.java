@@ -4,7 +4,6 @@ import static org.objectweb.asm.Opcodes.ALOAD;
 import static org.objectweb.asm.Opcodes.DUP;
 import static org.objectweb.asm.Opcodes.ILOAD;
 import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
-import static org.objectweb.asm.Opcodes.INVOKEVIRTUAL;
 import static org.objectweb.asm.Opcodes.ISUB;
 import static org.objectweb.asm.Opcodes.NEW;
 
@@ -27,7 +26,7 @@ public class ObjectSetterValueProjection extends SetterValueProjection {
 	@Override
 	public void write(MethodVisitor mv, String subClassInternalName, int endIndex) {
 		// object must support a (char[], offset, length) constructor, i.e. like string
-		mv.visitVarInsn(ALOAD, objectIndex);
+		writeTarget(mv);
 		mv.visitTypeInsn(NEW, typeInternalName);
 		mv.visitInsn(DUP);
 		mv.visitVarInsn(ALOAD, currentArrayIndex);
@@ -36,7 +35,11 @@ public class ObjectSetterValueProjection extends SetterValueProjection {
 		mv.visitVarInsn(ILOAD, startIndex);
 		mv.visitInsn(ISUB);
 		mv.visitMethodInsn(INVOKESPECIAL, "java/lang/String", "<init>", "([CII)V", false);
-		mv.visitMethodInsn(INVOKEVIRTUAL, mappedClassInternalName, setterName, "(L" + typeInternalName + ";)V", false);
+		writeSetter(mv, "L" + typeInternalName + ";");
 	}
 
+	@Override
+	public String getDescriptor() {
+		return "L" + typeInternalName + ";";
+	}
 }
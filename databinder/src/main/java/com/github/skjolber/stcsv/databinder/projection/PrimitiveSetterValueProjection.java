@@ -3,7 +3,6 @@ package com.github.skjolber.stcsv.databinder.projection;
 import static org.objectweb.asm.Opcodes.ALOAD;
 import static org.objectweb.asm.Opcodes.ILOAD;
 import static org.objectweb.asm.Opcodes.INVOKESTATIC;
-import static org.objectweb.asm.Opcodes.INVOKEVIRTUAL;
 
 import org.objectweb.asm.MethodVisitor;
 
@@ -11,9 +10,13 @@ public class PrimitiveSetterValueProjection extends SetterValueProjection {
 
     private final String owner;
     private final String name;
-    private final char type;
+    private final String type; // descriptor
 	
 	public PrimitiveSetterValueProjection(String setterName, String mappedClassInternalName, String owner, String name, char type) {
+		this(setterName, mappedClassInternalName, owner, name, Character.toString(type));
+	}
+
+	public PrimitiveSetterValueProjection(String setterName, String mappedClassInternalName, String owner, String name, String type) {
 		super(setterName, mappedClassInternalName);
 		this.owner = owner;
 		this.name = name;
@@ -22,12 +25,16 @@ public class PrimitiveSetterValueProjection extends SetterValueProjection {
 
 	@Override
 	public void write(MethodVisitor mv, String subClassInternalName, int endIndex) {
-		mv.visitVarInsn(ALOAD, objectIndex);
+		writeTarget(mv);
 		mv.visitVarInsn(ALOAD, currentArrayIndex);
 		mv.visitVarInsn(ILOAD, startIndex);
 		mv.visitVarInsn(ILOAD, endIndex);
 		mv.visitMethodInsn(INVOKESTATIC, owner, name, "([CII)" + type, false);
-		mv.visitMethodInsn(INVOKEVIRTUAL, mappedClassInternalName, setterName, "(" + type + ")V", false);		
+		writeSetter(mv, type);
 	}
 
+	@Override
+	public String getDescriptor() {
+		return type;
+	}
 }
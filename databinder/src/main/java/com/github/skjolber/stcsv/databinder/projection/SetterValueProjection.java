@@ -1,6 +1,16 @@
 package com.github.skjolber.stcsv.databinder.projection;
 
+import static org.objectweb.asm.Opcodes.ALOAD;
+import static org.objectweb.asm.Opcodes.IASTORE;
+import static org.objectweb.asm.Opcodes.ILOAD;
+import static org.objectweb.asm.Opcodes.INVOKEVIRTUAL;
+import static org.objectweb.asm.Opcodes.ISTORE;
+import static org.objectweb.asm.Opcodes.PUTFIELD;
+
+import java.math.BigDecimal;
+
 import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
 
 import com.github.skjolber.stcsv.builder.CsvBuilderException;
 import com.github.skjolber.stcsv.databinder.AbstractCsvMapper;
@@ -13,6 +23,7 @@ public abstract class SetterValueProjection implements ValueProjection {
 	protected static final int startIndex = AbstractCsvMapper.VAR_START;
 	protected static final int rangeIndex = AbstractCsvMapper.VAR_RANGE;
 	protected static final int intermediateIndex = AbstractCsvMapper.VAR_INTERMEDIATE_OBJECT;
+	protected static final int rowIndex = AbstractCsvMapper.VAR_ROW;
 
 	public static SetterValueProjection newInstance(Class<?> setterClass, String setterName, String mappedClassInternalName) {
 		if(setterClass == String.class) {
@@ -25,14 +36,46 @@ public abstract class SetterValueProjection implements ValueProjection {
 			return new PrimitiveSetterValueProjection(setterName, mappedClassInternalName, "com/github/skjolber/stcsv/databinder/column/bi/BooleanCsvColumnValueConsumer", "parseBoolean", 'Z');
 		} else if(setterClass == double.class) {
 			return new PrimitiveSetterValueProjection(setterName, mappedClassInternalName, "com/github/skjolber/stcsv/databinder/column/bi/DoubleCsvColumnValueConsumer", "parseDouble", 'D');
+		} else if(setterClass == float.class) {
+			return new PrimitiveSetterValueProjection(setterName, mappedClassInternalName, "com/github/skjolber/stcsv/databinder/column/bi/FloatCsvColumnValueConsumer", "parseFloat", 'F');
+		} else if(setterClass == short.class) {
+			return new PrimitiveSetterValueProjection(setterName, mappedClassInternalName, "com/github/skjolber/stcsv/databinder/column/bi/ShortCsvColumnValueConsumer", "parseShort", 'S');
+		} else if(setterClass == byte.class) {
+			return new PrimitiveSetterValueProjection(setterName, mappedClassInternalName, "com/github/skjolber/stcsv/databinder/column/bi/ByteCsvColumnValueConsumer", "parseByte", 'B');
+		} else if(setterClass == char.class) {
+			return new PrimitiveSetterValueProjection(setterName, mappedClassInternalName, "com/github/skjolber/stcsv/databinder/column/bi/CharCsvColumnValueConsumer", "parseChar", 'C');
+		} else if(setterClass == BigDecimal.class) {
+			return new PrimitiveSetterValueProjection(setterName, mappedClassInternalName, "com/github/skjolber/stcsv/databinder/column/bi/BigDecimalCsvColumnValueConsumer", "parseBigDecimal", "Ljava/math/BigDecimal;");
+		} else if(setterClass == Integer.class) {
+			// boxed values are null for empty values
+			return new PrimitiveSetterValueProjection(setterName, mappedClassInternalName, "com/github/skjolber/stcsv/databinder/column/bi/IntCsvColumnValueConsumer", "valueOf", "Ljava/lang/Integer;");
+		} else if(setterClass == Long.class) {
+			return new PrimitiveSetterValueProjection(setterName, mappedClassInternalName, "com/github/skjolber/stcsv/databinder/column/bi/LongCsvColumnValueConsumer", "valueOf", "Ljava/lang/Long;");
+		} else if(setterClass == Boolean.class) {
+			return new PrimitiveSetterValueProjection(setterName, mappedClassInternalName, "com/github/skjolber/stcsv/databinder/column/bi/BooleanCsvColumnValueConsumer", "valueOf", "Ljava/lang/Boolean;");
+		} else if(setterClass == Double.class) {
+			return new PrimitiveSetterValueProjection(setterName, mappedClassInternalName, "com/github/skjolber/stcsv/databinder/column/bi/DoubleCsvColumnValueConsumer", "valueOf", "Ljava/lang/Double;");
+		} else if(setterClass == Float.class) {
+			return new PrimitiveSetterValueProjection(setterName, mappedClassInternalName, "com/github/skjolber/stcsv/databinder/column/bi/FloatCsvColumnValueConsumer", "valueOf", "Ljava/lang/Float;");
+		} else if(setterClass == Short.class) {
+			return new PrimitiveSetterValueProjection(setterName, mappedClassInternalName, "com/github/skjolber/stcsv/databinder/column/bi/ShortCsvColumnValueConsumer", "valueOf", "Ljava/lang/Short;");
+		} else if(setterClass == Byte.class) {
+			return new PrimitiveSetterValueProjection(setterName, mappedClassInternalName, "com/github/skjolber/stcsv/databinder/column/bi/ByteCsvColumnValueConsumer", "valueOf", "Ljava/lang/Byte;");
+		} else if(setterClass == Character.class) {
+			return new PrimitiveSetterValueProjection(setterName, mappedClassInternalName, "com/github/skjolber/stcsv/databinder/column/bi/CharCsvColumnValueConsumer", "valueOf", "Ljava/lang/Character;");
 		} else {
 			throw new CsvBuilderException("No setter for type " + setterClass.getName());
 		}
 	}
 	
-	protected final String setterName;
+	protected final String setterName; // or field name
 	protected final String mappedClassInternalName;
 	
+	protected int argumentIndex = -1; // local variable index if constructor argument
+	protected boolean field;
+	protected int columnIndex = -1; // local variable index of column array, if columnar
+	protected Class<?> columnClass;
+	
 	public SetterValueProjection(String setterName, String mappedClassInternalName) {
 		this.setterName = setterName;
 		this.mappedClassInternalName = mappedClassInternalName;
@@ -40,4 +83,104 @@ public abstract class SetterValueProjection implements ValueProjection {
 	
 	public abstract void write(MethodVisitor mv, String subClassInternalName, int endIndex);
 
+	/**
+	 * Get the descriptor of the value type, i.e. the setter parameter type.
+	 * 
+	 * @return type descriptor
+	 */
+
+	public abstract String getDescriptor();
+
+	/**
+	 * Set the default value (zero, false or null).
+	 * 
+	 * @param mv method visitor
+	 */
+
+	public void writeDefault(MethodVisitor mv) {
+		String descriptor = getDescriptor();
+
+		writeTarget(mv);
+		AbstractCsvMapper.writeDefaultValue(mv, Type.getType(descriptor));
+		writeSetter(mv, descriptor);
+	}
+
+	/**
+	 * Keep the value in a local variable, to be passed to the constructor at the end of the line,
+	 * rather than invoking a setter.
+	 * 
+	 * @param argumentIndex local variable index
+	 * @return this instance
+	 */
+
+	public SetterValueProjection toArgument(int argumentIndex) {
+		this.argumentIndex = argumentIndex;
+		
+		return this;
+	}
+	
+	public boolean isArgument() {
+		return argumentIndex != -1;
+	}
+
+	/**
+	 * Assign the value directly to a public field rather than invoking a setter.
+	 * 
+	 * @return this instance
+	 */
+
+	public SetterValueProjection toField() {
+		this.field = true;
+		
+		return this;
+	}
+
+	public boolean isField() {
+		return field;
+	}
+
+	/**
+	 * Store the value in a column array, at the current row, rather than invoking a setter.
+	 * 
+	 * @param columnIndex local variable index of the column array
+	 * @param columnClass array component type
+	 * @return this instance
+	 */
+
+	public SetterValueProjection toColumn(int columnIndex, Class<?> columnClass) {
+		this.columnIndex = columnIndex;
+		this.columnClass = columnClass;
+		
+		return this;
+	}
+
+	public boolean isColumn() {
+		return columnIndex != -1;
+	}
+
+	public Class<?> getColumnClass() {
+		return columnClass;
+	}
+
+	protected void writeTarget(MethodVisitor mv) {
+		if(columnIndex != -1) {
+			mv.visitVarInsn(ALOAD, columnIndex);
+			mv.visitVarInsn(ILOAD, rowIndex);
+		} else if(argumentIndex == -1) {
+			mv.visitVarInsn(ALOAD, objectIndex);
+		}
+	}
+
+	protected void writeSetter(MethodVisitor mv, String descriptor) {
+		if(columnIndex != -1) {
+			mv.visitInsn(Type.getType(descriptor).getOpcode(IASTORE));
+		} else if(argumentIndex != -1) {
+			mv.visitVarInsn(Type.getType(descriptor).getOpcode(ISTORE), argumentIndex);
+		} else if(field) {
+			mv.visitFieldInsn(PUTFIELD, mappedClassInternalName, setterName, descriptor);
+		} else {
+			mv.visitMethodInsn(INVOKEVIRTUAL, mappedClassInternalName, setterName, "(" + descriptor + ")V", false);
+		}
+	}
+
 }
\ No newline at end of file
@@ -3,7 +3,9 @@ package com.github.skjolber.stcsv.databinder;
 import static com.google.common.truth.Truth.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.io.ByteArrayInputStream;
 import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,6 +16,7 @@ import com.github.skjolber.stcsv.EmptyCsvReader;
 import com.github.skjolber.stcsv.databinder.CsvMapper;
 import com.github.skjolber.stcsv.databinder.StaticCsvMapper;
 import com.github.skjolber.stcsv.databinder.prototype.CsvLineObject;
+import com.github.skjolber.stcsv.scan.ScanStrategy;
 
 public class CsvMapperTest {
 
@@ -75,6 +78,192 @@ public class CsvMapperTest {
 		
 	}
 	
+	@Test
+	public void testMaxBufferLength() throws Exception {
+		CsvMapper<CsvLineObject> mapper = CsvMapper.builder(CsvLineObject.class)
+				.stringField("a")
+					.consumer(CsvLineObject::setStringValue)
+					.quoted()
+					.optional()
+				.longField("b")
+					.consumer(CsvLineObject::setLongValue)
+					.required()
+				.bufferLength(256)
+				.maxBufferLength(16 * 1024)
+				.build();
+
+		StringBuilder value = new StringBuilder();
+		for(int i = 0; i < 1000; i++) {
+			value.append("abc\"\"def\n");
+		}
+		StringBuilder builder = new StringBuilder();
+		for(int i = 0; i < 300; i++) { // header longer than initial buffer
+			builder.append("c");
+		}
+		builder.append(",a,b\n");
+		for(int i = 0; i < 100; i++) {
+			builder.append("c,a,").append(i).append('\n');
+			if(i % 10 == 0) {
+				builder.append("c,\"").append(value).append("\",").append(i).append('\n');
+			}
+		}
+		String input = builder.toString();
+		String expected = value.toString().replace("\"\"", "\"");
+
+		for(boolean bytes : new boolean[] {false, true}) {
+			CsvReader<CsvLineObject> reader;
+			if(bytes) {
+				reader = mapper.create(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), input.length());
+			} else {
+				reader = mapper.create(new StringReader(input));
+			}
+			for(int i = 0; i < 100; i++) {
+				CsvLineObject next = reader.next();
+				assertThat(next.getStringValue()).isEqualTo("a");
+				assertThat(next.getLongValue()).isEqualTo(i);
+				if(i % 10 == 0) {
+					next = reader.next();
+					assertThat(next.getStringValue()).isEqualTo(expected);
+					assertThat(next.getLongValue()).isEqualTo(i);
+				}
+			}
+			assertThat(reader.next()).isNull();
+		}
+	}
+
+	@Test
+	public void testMaxBufferLengthBoundaries() throws Exception {
+		// linebreaks within a quoted value, on either side of the buffer boundary while growing
+		StringBuilder value = new StringBuilder();
+		for(int i = 0; i < 17; i++) {
+			value.append('x');
+		}
+		value.append("\n\n");
+		for(int i = 0; i < 40; i++) {
+			value.append('y');
+		}
+		String input = "a,b\n\"" + value + "\",1\n\"" + value + "\",2\n";
+
+		for(int bufferLength = 8; bufferLength < 96; bufferLength++) {
+			for(char escapeCharacter : new char[] {'"', '\\'}) {
+				CsvMapper<CsvLineObject> mapper = CsvMapper.builder(CsvLineObject.class)
+						.stringField("a")
+							.consumer(CsvLineObject::setStringValue)
+							.quoted()
+							.required()
+						.longField("b")
+							.consumer(CsvLineObject::setLongValue)
+							.required()
+						.bufferLength(bufferLength)
+						.maxBufferLength(1 << 20)
+						.escapeCharacter(escapeCharacter)
+						.build();
+
+				for(boolean bytes : new boolean[] {false, true}) {
+					CsvReader<CsvLineObject> reader;
+					if(bytes) {
+						reader = mapper.create(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)));
+					} else {
+						reader = mapper.create(new StringReader(input));
+					}
+					for(int i = 1; i <= 2; i++) {
+						CsvLineObject next = reader.next();
+						assertThat(next.getStringValue()).isEqualTo(value.toString());
+						assertThat(next.getLongValue()).isEqualTo(i);
+					}
+					assertThat(reader.next()).isNull();
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testMaxBufferLengthIgnoredColumns() throws Exception {
+		// ignored quoted columns with linebreaks, skipped in the middle (b) and at the end (d) of the line
+		CsvMapper<CsvLineObject> mapper = CsvMapper.builder(CsvLineObject.class)
+				.stringField("a")
+					.consumer(CsvLineObject::setStringValue)
+					.required()
+				.longField("c")
+					.consumer(CsvLineObject::setLongValue)
+					.required()
+				.bufferLength(64)
+				.maxBufferLength(4096)
+				.build();
+
+		// no linebreak within the initial buffer length, so the buffer must grow
+		StringBuilder value = new StringBuilder();
+		for(int i = 0; i < 30; i++) {
+			value.append("abc,\"\"def");
+			if(i == 15) {
+				value.append('\n');
+			}
+		}
+		StringBuilder builder = new StringBuilder("a,b,c,d\n");
+		for(int i = 0; i < 20; i++) {
+			if(i % 5 == 0) {
+				// grow, then shrink for the next line
+				builder.append("a,\"").append(value).append("\",").append(i).append(",\"").append(value).append("\"\n");
+			} else {
+				builder.append("a,\" with comma\",").append(i).append(",\"x\"\n");
+			}
+		}
+		String input = builder.toString();
+
+		for(boolean bytes : new boolean[] {false, true}) {
+			CsvReader<CsvLineObject> reader;
+			if(bytes) {
+				reader = mapper.create(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)));
+			} else {
+				reader = mapper.create(new StringReader(input));
+			}
+			for(int i = 0; i < 20; i++) {
+				CsvLineObject next = reader.next();
+				assertThat(next.getStringValue()).isEqualTo("a");
+				assertThat(next.getLongValue()).isEqualTo(i);
+			}
+			assertThat(reader.next()).isNull();
+		}
+	}
+
+	@Test
+	public void testScanStrategy() throws Exception {
+		CsvMapper<CsvLineObject> mapper = CsvMapper.builder(CsvLineObject.class)
+				.stringField("a")
+					.consumer(CsvLineObject::setStringValue)
+					.optional()
+				.longField("b")
+					.consumer(CsvLineObject::setLongValue)
+					.required()
+				.stringField("h")
+					.consumer(CsvLineObject::setStringValue)
+					.optional()
+				.scanStrategy(ScanStrategy.SWAR)
+				.build();
+
+		StringBuilder builder = new StringBuilder();
+		builder.append("a,b,c,d,h\n");
+		for(int i = 0; i < 1000; i++) {
+			builder.append("abcdefghijklmnopqrstuvwxyz,").append(i).append(",ignored ignored ignored,æøå,h").append(i).append('\n');
+		}
+		String input = builder.toString();
+
+		for(boolean bytes : new boolean[] {false, true}) {
+			CsvReader<CsvLineObject> reader;
+			if(bytes) {
+				reader = mapper.create(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)));
+			} else {
+				reader = mapper.create(new StringReader(input));
+			}
+			for(int i = 0; i < 1000; i++) {
+				CsvLineObject next = reader.next();
+				assertThat(next.getLongValue()).isEqualTo(i);
+				assertThat(next.getStringValue()).isEqualTo("h" + i);
+			}
+			assertThat(reader.next()).isNull();
+		}
+	}
+
 	@Test
 	public void testReaderInputWithNoMappedColumns() throws Exception {
 		CsvReader<CsvLineObject> csvReader1 = consumerMapping.buildStaticCsvMapper(false, "x,y,z").newInstance(new StringReader("a,b,c\n"));
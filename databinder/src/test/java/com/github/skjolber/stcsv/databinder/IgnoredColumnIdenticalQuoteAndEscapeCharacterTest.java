@@ -58,6 +58,19 @@ public class IgnoredColumnIdenticalQuoteAndEscapeCharacterTest {
 		assertThat(offset).isEqualTo(quotedEscapeNoLinebreak.length());
 	}
 
+	@Test
+	public void testSkipToLineBreakDoesNotFillAtQuoteBeforeLastNewline() throws IOException {
+		String row = "'abc','def'\n'next'\n";
+		
+		AbstractCsvReader scanner = mock(AbstractCsvReader.class);
+		when(scanner.getEndOfLineIndex()).thenReturn(row.indexOf('\n'));
+		
+		int offset = IgnoredColumn.IdenticalQuoteAndEscapeCharacter.skipToLineBreak(scanner, row.toCharArray(), 0, '\'');
+		assertThat(offset).isEqualTo(row.indexOf('\n') + 1);
+		
+		verify(scanner, never()).fill(anyInt());
+	}
+	
 	@Test
 	public void testFillSkipColumns() throws IOException {
 		AbstractCsvReader scanner = mock(AbstractCsvReader.class);
@@ -17,6 +17,12 @@ public class SetterProjectionHelperTest {
 		assertThat(SetterProjectionHelper.getNormalizedSetterName("type_of_meat")).isEqualTo("setTypeOfMeat");
 		assertThat(SetterProjectionHelper.getNormalizedSetterName("type")).isEqualTo("setType");
 	}
+
+	@Test
+	public void normalizedFieldName() {
+		assertThat(SetterProjectionHelper.getNormalizedFieldName("type_of_meat")).isEqualTo("typeOfMeat");
+		assertThat(SetterProjectionHelper.getNormalizedFieldName("type")).isEqualTo("type");
+	}
 	
 	@Test
 	public void unknownSetterName() {
@@ -0,0 +1,60 @@
+package com.github.skjolber.stcsv.databinder.column.bi;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+public class FloatCsvColumnValueConsumerTest {
+
+	@Test
+	public void testFloatParsing() throws Exception {
+		String[] values = {"0", "-0", "1", "1.", ".5", "-1.25", "0.1", "3.4028235", "9999999", "12345678", "0.00000000001", "1e10", "-7.5E-3", "123456.7", "0.0000001234567", "NaN", "Infinity"};
+		for(String value : values) {
+			float expected = Float.parseFloat(value);
+			assertEquals(value, Float.floatToIntBits(expected), Float.floatToIntBits(FloatCsvColumnValueConsumer.parseFloat(value.toCharArray(), 0, value.length())));
+			byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+			assertEquals(value, Float.floatToIntBits(expected), Float.floatToIntBits(FloatCsvColumnValueConsumer.parseFloat(bytes, 0, bytes.length)));
+		}
+		for(int i = 0; i < 100000; i++) {
+			String value = Float.toString(i / 1000f);
+			assertEquals(value, Float.parseFloat(value), FloatCsvColumnValueConsumer.parseFloat(value.toCharArray(), 0, value.length()), 0f);
+		}
+	}
+
+	@Test
+	public void testBigDecimalParsing() throws Exception {
+		String[] values = {"0", "-0", "1.", ".5", "-123.4500", "+17", "123456789012345678", "1234567890123456789012", "1.5e3", "-0.000000000000000001"};
+		for(String value : values) {
+			BigDecimal expected = new BigDecimal(value);
+			assertEquals(value, expected, BigDecimalCsvColumnValueConsumer.parseBigDecimal(value.toCharArray(), 0, value.length()));
+			byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+			assertEquals(value, expected, BigDecimalCsvColumnValueConsumer.parseBigDecimal(bytes, 0, bytes.length));
+		}
+	}
+
+	@Test
+	public void testInvalidThrowsException() {
+		assertThrows(NumberFormatException.class, ()->{
+			FloatCsvColumnValueConsumer.parseFloat("-".toCharArray(), 0, 1);
+		});
+		assertThrows(NumberFormatException.class, ()->{
+			FloatCsvColumnValueConsumer.parseFloat("1.2.3".toCharArray(), 0, 5);
+		});
+		assertThrows(NumberFormatException.class, ()->{
+			BigDecimalCsvColumnValueConsumer.parseBigDecimal("1a".toCharArray(), 0, 2);
+		});
+		assertThrows(NumberFormatException.class, ()->{
+			ShortCsvColumnValueConsumer.parseShort("32768".toCharArray(), 0, 5);
+		});
+		assertThrows(NumberFormatException.class, ()->{
+			ByteCsvColumnValueConsumer.parseByte("-129".toCharArray(), 0, 4);
+		});
+		assertThrows(IllegalArgumentException.class, ()->{
+			CharCsvColumnValueConsumer.parseChar("ab".toCharArray(), 0, 2);
+		});
+	}
+}
@@ -0,0 +1,184 @@
+package com.github.skjolber.stcsv.databinder.gtfs;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.github.skjolber.stcsv.CsvReader;
+import com.github.skjolber.stcsv.databinder.CsvMapper;
+import com.github.skjolber.stcsv.databinder.CsvMapper2;
+import com.github.skjolber.stcsv.databinder.gtfs.TripsWithIntermediateProcessorTest.Cache;
+
+/**
+ *
+ * Verify that parsing bytes directly gives the same result as parsing characters.
+ *
+ */
+
+public class TripsByteTest {
+
+	private File file = new File("src/test/resources/gtfs/trips-plain-5000.txt");
+	private File quotedFile = new File("src/test/resources/gtfs/trips-quoted-5000.txt");
+
+	private CsvMapper<Trip> plain;
+	private CsvMapper<Trip> quoted;
+	private CsvMapper2<Trip, Cache> intermediate;
+
+	@BeforeEach
+	public void init() throws Exception {
+		plain = CsvMapper.builder(Trip.class)
+				.stringField("route_id")
+					.setter(Trip::setRouteId)
+					.quoted()
+					.optional()
+				.stringField("service_id")
+					.consumer(Trip::setServiceId)
+					.required()
+				.stringField("trip_id")
+					.setter(Trip::setTripId)
+					.required()
+				.stringField("trip_headsign")
+					.setter(Trip::setTripHeadsign)
+					.quoted()
+					.optional()
+				.integerField("direction_id")
+					.consumer(Trip::setDirectionId)
+					.optional()
+				.integerField("wheelchair_accessible")
+					.setter(Trip::setWheelchairAccessible)
+					.optional()
+				.build();
+
+		quoted = CsvMapper.builder(Trip.class)
+				.stringField("route_id")
+					.setter(Trip::setRouteId)
+					.quoted()
+					.optional()
+				.stringField("trip_id")
+					.setter(Trip::setTripId)
+					.quoted()
+					.required()
+				.stringField("trip_headsign")
+					.setter(Trip::setTripHeadsign)
+					.quoted()
+					.optional()
+				.integerField("direction_id")
+					.setter(Trip::setDirectionId)
+					.quoted()
+					.optional()
+				.build();
+
+		intermediate = CsvMapper2.builder(Trip.class, Cache.class)
+				.stringField("route_id")
+					.consumer((trip, cache, routeId) -> {
+						cache.add(routeId);
+						trip.setRouteId(routeId);
+					})
+					.quoted()
+					.optional()
+				.stringField("trip_id")
+					.setter(Trip::setTripId)
+					.required()
+				.build();
+	}
+
+	@Test
+	public void compareToCharacterParserWithoutQuotes() throws Exception {
+		compare(plain.create(new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8)), plain.create(new FileInputStream(file)));
+	}
+
+	@Test
+	public void compareToCharacterParserWithQuotes() throws Exception {
+		compare(quoted.create(new InputStreamReader(new FileInputStream(quotedFile), StandardCharsets.UTF_8)), quoted.create(new FileInputStream(quotedFile)));
+	}
+
+	@Test
+	public void compareToCharacterParserMemoryMapped() throws Exception {
+		compare(quoted.create(new InputStreamReader(new FileInputStream(quotedFile), StandardCharsets.UTF_8)), quoted.create(quotedFile.toPath()));
+
+		Cache characterCache = new Cache();
+		Cache byteCache = new Cache();
+		compare(intermediate.create(new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8), characterCache), intermediate.create(file.toPath(), byteCache));
+		assertThat(byteCache.getRoutes()).isEqualTo(characterCache.getRoutes());
+	}
+
+	@Test
+	public void compareToCharacterParserChannel() throws Exception {
+		compare(quoted.create(new InputStreamReader(new FileInputStream(quotedFile), StandardCharsets.UTF_8)), quoted.create(FileChannel.open(quotedFile.toPath(), StandardOpenOption.READ)));
+
+		Cache characterCache = new Cache();
+		Cache byteCache = new Cache();
+		compare(intermediate.create(new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8), characterCache), intermediate.create(FileChannel.open(file.toPath(), StandardOpenOption.READ), byteCache));
+		assertThat(byteCache.getRoutes()).isEqualTo(characterCache.getRoutes());
+	}
+
+	@Test
+	public void compareToCharacterParserByteBuffer() throws Exception {
+		byte[] bytes = Files.readAllBytes(quotedFile.toPath());
+
+		compare(quoted.create(new InputStreamReader(new FileInputStream(quotedFile), StandardCharsets.UTF_8)), quoted.create(ByteBuffer.wrap(bytes)));
+
+		ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+		direct.put(bytes);
+		direct.flip();
+		compare(quoted.create(new InputStreamReader(new FileInputStream(quotedFile), StandardCharsets.UTF_8)), quoted.create(direct));
+		assertThat(direct.hasRemaining()).isFalse();
+
+		Cache characterCache = new Cache();
+		Cache byteCache = new Cache();
+		compare(intermediate.create(new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8), characterCache), intermediate.create(ByteBuffer.wrap(Files.readAllBytes(file.toPath())), byteCache));
+		assertThat(byteCache.getRoutes()).isEqualTo(characterCache.getRoutes());
+	}
+
+	@Test
+	public void compareToCharacterParserWithIntermediateProcessor() throws Exception {
+		Cache characterCache = new Cache();
+		Cache byteCache = new Cache();
+
+		compare(intermediate.create(new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8), characterCache), intermediate.create(new FileInputStream(file), byteCache));
+
+		assertThat(byteCache.getRoutes()).isEqualTo(characterCache.getRoutes());
+	}
+
+	@Test
+	public void parsesMultiByteCharacters() throws Exception {
+		String csv = "route_id,trip_id,trip_headsign\n\"æøå\",1,\"Tōkyō\nEki\"\nÅ,2,\n";
+
+		CsvReader<Trip> reader = plain.create(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+
+		compare(plain.create(new StringReader(csv)), reader);
+	}
+
+	@Test
+	public void returnsNullForEmptyInput() throws Exception {
+		assertThat(plain.create(new ByteArrayInputStream(new byte[0])).next()).isNull();
+	}
+
+	private void compare(CsvReader<Trip> expected, CsvReader<Trip> actual) throws Exception {
+		int count = 0;
+		do {
+			Trip expectedTrip = expected.next();
+			Trip actualTrip = actual.next();
+
+			assertThat(actualTrip).isEqualTo(expectedTrip);
+			if(expectedTrip == null) {
+				break;
+			}
+			count++;
+		} while(true);
+
+		assertThat(count).isGreaterThan(0);
+	}
+}
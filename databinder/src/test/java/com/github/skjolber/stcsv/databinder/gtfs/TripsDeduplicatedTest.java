@@ -0,0 +1,145 @@
+package com.github.skjolber.stcsv.databinder.gtfs;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.github.skjolber.stcsv.CsvReader;
+import com.github.skjolber.stcsv.databinder.CsvMapper;
+import com.github.skjolber.stcsv.databinder.CsvMapper2;
+import com.github.skjolber.stcsv.databinder.gtfs.TripsWithIntermediateProcessorTest.Cache;
+
+/**
+ *
+ * Verify that deduplicated fields give the same result, with repeated values as the same instance.
+ *
+ */
+
+public class TripsDeduplicatedTest {
+
+	private File file = new File("src/test/resources/gtfs/trips-plain-5000.txt");
+
+	private CsvMapper<Trip> plain;
+	private CsvMapper<Trip> setter;
+	private CsvMapper<Trip> consumer;
+	private CsvMapper2<Trip, Cache> intermediate;
+
+	@BeforeEach
+	public void init() throws Exception {
+		plain = CsvMapper.builder(Trip.class)
+				.stringField("route_id")
+					.quoted()
+					.optional()
+				.stringField("service_id")
+					.required()
+				.stringField("trip_id")
+					.required()
+				.build();
+
+		setter = CsvMapper.builder(Trip.class)
+				.stringField("route_id")
+					.deduplicated(256)
+					.quoted()
+					.optional()
+				.stringField("service_id")
+					.deduplicated(16)
+					.required()
+				.stringField("trip_id")
+					.required()
+				.build();
+
+		consumer = CsvMapper.builder(Trip.class)
+				.stringField("route_id")
+					.consumer(Trip::setRouteId)
+					.deduplicated(256)
+					.quoted()
+					.optional()
+				.stringField("service_id")
+					.consumer(Trip::setServiceId)
+					.deduplicated(16)
+					.required()
+				.stringField("trip_id")
+					.required()
+				.build();
+
+		intermediate = CsvMapper2.builder(Trip.class, Cache.class)
+				.stringField("route_id")
+					.consumer((trip, cache, routeId) -> {
+						cache.add(routeId);
+						trip.setRouteId(routeId);
+					})
+					.deduplicated(256)
+					.quoted()
+					.optional()
+				.stringField("service_id")
+					.deduplicated(16)
+					.required()
+				.stringField("trip_id")
+					.required()
+				.build();
+	}
+
+	@Test
+	public void parse() throws Exception {
+		List<Trip> expected = parse(plain.create(new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8)));
+
+		for(CsvMapper<Trip> mapper : new CsvMapper[] {setter, consumer}) {
+			List<Trip> chars = parse(mapper.create(new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8)));
+			assertThat(chars).containsExactlyElementsIn(expected).inOrder();
+			assertDeduplicated(chars);
+
+			List<Trip> bytes = parse(mapper.create(new FileInputStream(file)));
+			assertThat(bytes).containsExactlyElementsIn(expected).inOrder();
+			assertDeduplicated(bytes);
+		}
+
+		List<Trip> trips = parse(intermediate.create(new FileInputStream(file), new Cache()));
+		assertThat(trips).containsExactlyElementsIn(expected).inOrder();
+		assertDeduplicated(trips);
+	}
+
+	private void assertDeduplicated(List<Trip> trips) {
+		Trip previous = trips.get(0);
+		int sameRoute = 0;
+		int sameService = 0;
+		for(int i = 1; i < trips.size(); i++) {
+			Trip trip = trips.get(i);
+			if(trip.getRouteId().equals(previous.getRouteId())) {
+				assertThat(trip.getRouteId()).isSameInstanceAs(previous.getRouteId());
+				sameRoute++;
+			}
+			if(trip.getServiceId().equals(previous.getServiceId())) {
+				assertThat(trip.getServiceId()).isSameInstanceAs(previous.getServiceId());
+				sameService++;
+			}
+			previous = trip;
+		}
+		assertThat(sameRoute).isGreaterThan(0);
+		assertThat(sameService).isGreaterThan(0);
+	}
+
+	private List<Trip> parse(CsvReader<Trip> reader) throws Exception {
+		List<Trip> trips = new ArrayList<>();
+		try {
+			do {
+				Trip trip = reader.next();
+				if(trip == null) {
+					break;
+				}
+				trips.add(trip);
+			} while(true);
+		} finally {
+			reader.close();
+		}
+		assertThat(trips).isNotEmpty();
+		return trips;
+	}
+}
@@ -0,0 +1,185 @@
+package com.github.skjolber.stcsv.databinder.gtfs;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.github.skjolber.stcsv.CsvReader;
+import com.github.skjolber.stcsv.builder.CsvBuilderException;
+import com.github.skjolber.stcsv.databinder.CsvMapper;
+import com.github.skjolber.stcsv.databinder.CsvMapper2;
+import com.github.skjolber.stcsv.databinder.gtfs.TripsWithIntermediateProcessorTest.Cache;
+
+/**
+ *
+ * Verify that parsing chunks of a file in parallel gives the same result as sequential parsing.
+ *
+ */
+
+public class TripsParallelTest {
+
+	private File file = new File("src/test/resources/gtfs/trips-plain-5000.txt");
+	private File quotedFile = new File("src/test/resources/gtfs/trips-quoted-crln-5000.txt");
+
+	private ForkJoinPool pool;
+
+	private CsvMapper<Trip> plain;
+	private CsvMapper<Trip> quoted;
+	private CsvMapper2<Trip, Cache> intermediate;
+
+	@BeforeEach
+	public void init() throws Exception {
+		pool = new ForkJoinPool(4);
+
+		plain = CsvMapper.builder(Trip.class)
+				.stringField("route_id")
+					.setter(Trip::setRouteId)
+					.quotedWithoutLinebreaks()
+					.optional()
+				.stringField("service_id")
+					.consumer(Trip::setServiceId)
+					.required()
+				.stringField("trip_id")
+					.setter(Trip::setTripId)
+					.required()
+				.integerField("direction_id")
+					.consumer(Trip::setDirectionId)
+					.optional()
+				.skippableFieldsWithoutLinebreaks()
+				.bufferLength(16 * 1024)
+				.build();
+
+		quoted = CsvMapper.builder(Trip.class)
+				.stringField("route_id")
+					.setter(Trip::setRouteId)
+					.quotedWithoutLinebreaks()
+					.optional()
+				.stringField("trip_id")
+					.setter(Trip::setTripId)
+					.quotedWithoutLinebreaks()
+					.required()
+				.stringField("trip_headsign")
+					.setter(Trip::setTripHeadsign)
+					.quotedWithoutLinebreaks()
+					.optional()
+				.skippableFieldsWithoutLinebreaks()
+				.bufferLength(16 * 1024)
+				.build();
+
+		intermediate = CsvMapper2.builder(Trip.class, Cache.class)
+				.stringField("route_id")
+					.consumer((trip, cache, routeId) -> {
+						cache.add(routeId);
+						trip.setRouteId(routeId);
+					})
+					.quotedWithoutLinebreaks()
+					.optional()
+				.stringField("trip_id")
+					.setter(Trip::setTripId)
+					.required()
+				.skippableFieldsWithoutLinebreaks()
+				.bufferLength(16 * 1024)
+				.build();
+	}
+
+	@AfterEach
+	public void shutdown() {
+		pool.shutdown();
+	}
+
+	@Test
+	public void parseOrdered() throws Exception {
+		assertThat(plain.parallelParse(file.toPath(), pool)).containsExactlyElementsIn(parse(plain.create(new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8)))).inOrder();
+		assertThat(quoted.parallelParse(quotedFile.toPath(), pool)).containsExactlyElementsIn(parse(quoted.create(new InputStreamReader(new FileInputStream(quotedFile), StandardCharsets.UTF_8)))).inOrder();
+	}
+
+	@Test
+	public void parseUnordered() throws Exception {
+		Queue<Trip> trips = new ConcurrentLinkedQueue<>();
+		plain.parallelParse(file.toPath(), pool, trips::add);
+
+		assertThat(trips).containsExactlyElementsIn(parse(plain.create(new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8))));
+	}
+
+	@Test
+	public void parseWithIntermediateProcessorPerChunk() throws Exception {
+		Cache expectedCache = new Cache();
+		List<Trip> expected = parse(intermediate.create(new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8), expectedCache));
+
+		Queue<Cache> caches = new ConcurrentLinkedQueue<>();
+		List<Trip> ordered = intermediate.parallelParse(file.toPath(), pool, () -> {
+			Cache cache = new Cache();
+			caches.add(cache);
+			return cache;
+		});
+		assertThat(ordered).containsExactlyElementsIn(expected).inOrder();
+		assertThat(caches.size()).isGreaterThan(1);
+
+		Set<String> routes = new HashSet<>();
+		for (Cache cache : caches) {
+			routes.addAll(cache.getRoutes());
+		}
+		assertThat(routes).isEqualTo(expectedCache.getRoutes());
+
+		List<Trip> unordered = Collections.synchronizedList(new ArrayList<>());
+		intermediate.parallelParse(file.toPath(), pool, Cache::new, unordered::add);
+		assertThat(unordered).containsExactlyElementsIn(expected);
+	}
+
+	@Test
+	public void throwsExceptionWithoutSkippableFieldsWithoutLinebreaks() throws Exception {
+		CsvMapper<Trip> mapper = CsvMapper.builder(Trip.class)
+				.stringField("trip_id")
+					.setter(Trip::setTripId)
+					.required()
+				.build();
+
+		assertThrows(CsvBuilderException.class, ()->{
+			mapper.parallelParse(file.toPath(), pool);
+		} );
+	}
+
+	@Test
+	public void throwsExceptionForQuotedFieldWithLinebreaks() throws Exception {
+		CsvMapper<Trip> mapper = CsvMapper.builder(Trip.class)
+				.stringField("trip_id")
+					.setter(Trip::setTripId)
+					.quoted()
+					.required()
+				.skippableFieldsWithoutLinebreaks()
+				.build();
+
+		assertThrows(CsvBuilderException.class, ()->{
+			mapper.parallelParse(file.toPath(), pool);
+		} );
+	}
+
+	private List<Trip> parse(CsvReader<Trip> reader) throws Exception {
+		List<Trip> trips = new ArrayList<>();
+		do {
+			Trip trip = reader.next();
+			if(trip == null) {
+				break;
+			}
+			trips.add(trip);
+		} while(true);
+		assertThat(trips).isNotEmpty();
+		return trips;
+	}
+}
@@ -0,0 +1,132 @@
+package com.github.skjolber.stcsv.databinder.gtfs;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.github.skjolber.stcsv.CsvReader;
+import com.github.skjolber.stcsv.databinder.CsvMapper;
+import com.github.skjolber.stcsv.databinder.CsvMapper2;
+import com.github.skjolber.stcsv.databinder.gtfs.TripsWithIntermediateProcessorTest.Cache;
+
+/**
+ *
+ * Verify that reading ahead in a background thread gives the same result as reading inline.
+ *
+ */
+
+public class TripsReadAheadTest {
+
+	private File file = new File("src/test/resources/gtfs/trips-quoted-crln-5000.txt");
+
+	private ExecutorService executor;
+
+	private CsvMapper<Trip> inline;
+	private CsvMapper<Trip> readAhead;
+	private CsvMapper2<Trip, Cache> intermediate;
+
+	@BeforeEach
+	public void init() throws Exception {
+		executor = Executors.newCachedThreadPool();
+
+		inline = CsvMapper.builder(Trip.class)
+				.stringField("route_id")
+					.setter(Trip::setRouteId)
+					.quoted()
+					.optional()
+				.stringField("trip_id")
+					.setter(Trip::setTripId)
+					.quoted()
+					.required()
+				.stringField("trip_headsign")
+					.setter(Trip::setTripHeadsign)
+					.quoted()
+					.optional()
+				.bufferLength(4 * 1024)
+				.build();
+
+		readAhead = CsvMapper.builder(Trip.class)
+				.stringField("route_id")
+					.setter(Trip::setRouteId)
+					.quoted()
+					.optional()
+				.stringField("trip_id")
+					.setter(Trip::setTripId)
+					.quoted()
+					.required()
+				.stringField("trip_headsign")
+					.setter(Trip::setTripHeadsign)
+					.quoted()
+					.optional()
+				.bufferLength(4 * 1024)
+				.readAhead(executor)
+				.build();
+
+		intermediate = CsvMapper2.builder(Trip.class, Cache.class)
+				.stringField("route_id")
+					.consumer((trip, cache, routeId) -> {
+						cache.add(routeId);
+						trip.setRouteId(routeId);
+					})
+					.quoted()
+					.optional()
+				.stringField("trip_id")
+					.setter(Trip::setTripId)
+					.quoted()
+					.required()
+				.bufferLength(4 * 1024)
+				.readAhead()
+				.build();
+	}
+
+	@AfterEach
+	public void shutdown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void parse() throws Exception {
+		List<Trip> expected = parse(inline.create(new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8)));
+
+		assertThat(parse(readAhead.create(new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8)))).containsExactlyElementsIn(expected).inOrder();
+		assertThat(parse(readAhead.create(new FileInputStream(file)))).containsExactlyElementsIn(expected).inOrder();
+	}
+
+	@Test
+	public void parseWithIntermediateProcessor() throws Exception {
+		Cache expectedCache = new Cache();
+		List<Trip> expected = parse(intermediate.create(new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8), expectedCache));
+
+		Cache cache = new Cache();
+		assertThat(parse(intermediate.create(new FileInputStream(file), cache))).containsExactlyElementsIn(expected).inOrder();
+		assertThat(cache.getRoutes()).isEqualTo(expectedCache.getRoutes());
+	}
+
+	private List<Trip> parse(CsvReader<Trip> reader) throws Exception {
+		List<Trip> trips = new ArrayList<>();
+		try {
+			do {
+				Trip trip = reader.next();
+				if(trip == null) {
+					break;
+				}
+				trips.add(trip);
+			} while(true);
+		} finally {
+			reader.close();
+		}
+		assertThat(trips).isNotEmpty();
+		return trips;
+	}
+}
@@ -0,0 +1,141 @@
+package com.github.skjolber.stcsv.databinder.prototype;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.skjolber.stcsv.CsvReader;
+import com.github.skjolber.stcsv.builder.CsvBuilderException;
+import com.github.skjolber.stcsv.databinder.CsvColumnBatch;
+import com.github.skjolber.stcsv.databinder.CsvMapper;
+
+public class CsvLineObjectScannerColumnarTest {
+
+	// no 'value' column
+	private static final String CONTENT = "id,count,name,active,date,amount\n"
+			+ "1,10,\"first\",true,2021-03-04,1.5\n"
+			+ "# comment\n"
+			+ "2,20,second,false,2021-03-05,2.5\n"
+			+ "3,,,true,,3.5\n"
+			+ "4,40,fourth,false,2021-03-07,4.5\n"
+			+ "5,,fifth,true,,5.5\n";
+
+	@Test
+	public void testColumnar() throws Exception {
+		CsvMapper<CsvColumnBatch> mapper = CsvMapper.columnarBuilder()
+				.integerField("id")
+					.required()
+				.longField("count")
+					.optional()
+				.stringField("name")
+					.quotedWithoutLinebreaks()
+					.optional()
+				.booleanField("active")
+					.required()
+				.dateField("date")
+					.optional()
+				.doubleField("amount")
+					.required()
+				.integerField("value")
+					.optional()
+				.skipComments()
+				.build();
+
+		assertValues(mapper.create(new StringReader(CONTENT)), mapper.newBatch(2));
+		assertValues(mapper.create(new ByteArrayInputStream(CONTENT.getBytes(StandardCharsets.UTF_8))), mapper.newBatch(2));
+	}
+
+	@Test
+	public void testSingleBatch() throws Exception {
+		CsvMapper<CsvColumnBatch> mapper = CsvMapper.columnarBuilder()
+				.integerField("id")
+					.required()
+				.doubleField("amount")
+					.required()
+				.skipComments()
+				.build();
+
+		CsvReader<CsvColumnBatch> reader = mapper.create(new StringReader(CONTENT));
+		CsvColumnBatch batch = mapper.newBatch(1024);
+
+		assertThat(reader.nextBatch(batch)).isEqualTo(5);
+		assertThat(batch.getIntColumn("id")[4]).isEqualTo(5);
+		assertThat(batch.getDoubleColumn("amount")[4]).isEqualTo(5.5d);
+		assertThat(reader.nextBatch(batch)).isEqualTo(0);
+	}
+
+	@Test
+	public void testNextNotSupported() throws Exception {
+		CsvMapper<CsvColumnBatch> mapper = CsvMapper.columnarBuilder()
+				.integerField("id")
+					.required()
+				.skipComments()
+				.build();
+
+		CsvReader<CsvColumnBatch> reader = mapper.create(new StringReader(CONTENT));
+		assertThrows(UnsupportedOperationException.class, () -> {
+			reader.next();
+		});
+	}
+
+	@Test
+	public void testConsumerNotSupported() throws Exception {
+		assertThrows(CsvBuilderException.class, () -> {
+			CsvMapper.columnarBuilder()
+				.integerField("id")
+					.consumer((o, v) -> {})
+					.required()
+				.build();
+		});
+	}
+
+	private void assertValues(CsvReader<CsvColumnBatch> reader, CsvColumnBatch batch) throws Exception {
+		int[] id = batch.getIntColumn("id");
+		long[] count = batch.getLongColumn("count");
+		String[] name = batch.getStringColumn("name");
+		boolean[] active = batch.getBooleanColumn("active");
+		LocalDate[] date = (LocalDate[])batch.getColumn("date");
+		double[] amount = batch.getDoubleColumn("amount");
+		int[] value = batch.getIntColumn("value");
+
+		value[0] = -1; // not in file, so reset
+
+		assertThat(reader.nextBatch(batch)).isEqualTo(2);
+		assertThat(id[0]).isEqualTo(1);
+		assertThat(count[0]).isEqualTo(10L);
+		assertThat(name[0]).isEqualTo("first");
+		assertThat(active[0]).isTrue();
+		assertThat(date[0]).isEqualTo(LocalDate.of(2021, 3, 4));
+		assertThat(amount[0]).isEqualTo(1.5d);
+		assertThat(value[0]).isEqualTo(0);
+
+		assertThat(id[1]).isEqualTo(2);
+		assertThat(name[1]).isEqualTo("second");
+		assertThat(active[1]).isFalse();
+
+		// empty optional values are reset
+		assertThat(reader.nextBatch(batch)).isEqualTo(2);
+		assertThat(id[0]).isEqualTo(3);
+		assertThat(count[0]).isEqualTo(0L);
+		assertThat(name[0]).isNull();
+		assertThat(date[0]).isNull();
+		assertThat(amount[0]).isEqualTo(3.5d);
+
+		assertThat(id[1]).isEqualTo(4);
+		assertThat(count[1]).isEqualTo(40L);
+		assertThat(date[1]).isEqualTo(LocalDate.of(2021, 3, 7));
+
+		assertThat(reader.nextBatch(batch)).isEqualTo(1);
+		assertThat(id[0]).isEqualTo(5);
+		assertThat(count[0]).isEqualTo(0L);
+		assertThat(name[0]).isEqualTo("fifth");
+
+		assertThat(reader.nextBatch(batch)).isEqualTo(0);
+	}
+}
@@ -0,0 +1,157 @@
+package com.github.skjolber.stcsv.databinder.prototype;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.skjolber.stcsv.CsvReader;
+import com.github.skjolber.stcsv.builder.CsvBuilderException;
+import com.github.skjolber.stcsv.databinder.CsvMapper;
+import com.github.skjolber.stcsv.databinder.CsvMapper2;
+
+public class CsvLineObjectScannerConstructorTest {
+
+	public static final class ImmutableLineObject {
+
+		private final String name;
+		private final long id;
+		private final double value;
+		private final int count;
+		private final LocalDate date;
+
+		public ImmutableLineObject(String name, long id, double value, int count, LocalDate date) {
+			this.name = name;
+			this.id = id;
+			this.value = value;
+			this.count = count;
+			this.date = date;
+		}
+
+		public String getName() {
+			return name;
+		}
+		public long getId() {
+			return id;
+		}
+		public double getValue() {
+			return value;
+		}
+		public int getCount() {
+			return count;
+		}
+		public LocalDate getDate() {
+			return date;
+		}
+	}
+
+	// columns in another order than the constructor arguments; no 'count' column
+	private static final String CONTENT = "date,id,name,value\n2021-03-04,1,first,1.5\n,2,second,\n2021-03-05,3,,3.5\n";
+
+	@Test
+	public void testConstructor() throws Exception {
+		CsvMapper<ImmutableLineObject> mapper = CsvMapper.builder(ImmutableLineObject.class)
+				.constructor("name", "id", "value", "count", "date")
+				.stringField("name")
+					.optional()
+				.longField("id")
+					.required()
+				.doubleField("value")
+					.optional()
+				.integerField("count")
+					.optional()
+				.dateField("date")
+					.optional()
+				.build();
+
+		assertValues(mapper.create(new StringReader(CONTENT)));
+		assertValues(mapper.create(new ByteArrayInputStream(CONTENT.getBytes(StandardCharsets.UTF_8))));
+	}
+
+	@Test
+	public void testConstructorWithIntermediate() throws Exception {
+		CsvMapper2<ImmutableLineObject, CsvLineObjectScannerConstructorTest> mapper = CsvMapper2.builder(ImmutableLineObject.class, CsvLineObjectScannerConstructorTest.class)
+				.constructor("name", "id", "value", "count", "date")
+				.stringField("name")
+					.optional()
+				.longField("id")
+					.required()
+				.doubleField("value")
+					.optional()
+				.dateField("date")
+					.optional()
+				.build();
+
+		assertValues(mapper.create(new StringReader(CONTENT), this));
+	}
+
+	@Test
+	public void testConsumerNotSupported() throws Exception {
+		assertThrows(CsvBuilderException.class, () -> {
+			CsvMapper.builder(ImmutableLineObject.class)
+				.constructor("name", "id", "value", "count", "date")
+				.longField("id")
+					.consumer((o, v) -> {})
+					.required()
+				.build();
+		});
+	}
+
+	@Test
+	public void testIllegalArgument() throws Exception {
+		// no such argument
+		assertThrows(CsvBuilderException.class, () -> {
+			CsvMapper.builder(ImmutableLineObject.class)
+				.constructor("name", "id", "value", "count", "date")
+				.stringField("other")
+					.required()
+				.build();
+		});
+		// wrong type
+		assertThrows(CsvBuilderException.class, () -> {
+			CsvMapper.builder(ImmutableLineObject.class)
+				.constructor("name", "id", "value", "count", "date")
+				.stringField("id")
+					.required()
+				.build();
+		});
+		// wrong number of arguments
+		assertThrows(CsvBuilderException.class, () -> {
+			CsvMapper.builder(ImmutableLineObject.class)
+				.constructor("name", "id")
+				.stringField("name")
+					.required()
+				.build();
+		});
+	}
+
+	private void assertValues(CsvReader<ImmutableLineObject> reader) throws Exception {
+		ImmutableLineObject first = reader.next();
+		assertThat(first.getName()).isEqualTo("first");
+		assertThat(first.getId()).isEqualTo(1L);
+		assertThat(first.getValue()).isEqualTo(1.5d);
+		assertThat(first.getCount()).isEqualTo(0);
+		assertThat(first.getDate()).isEqualTo(LocalDate.of(2021, 3, 4));
+
+		// empty optional values are defaults
+		ImmutableLineObject second = reader.next();
+		assertThat(second.getName()).isEqualTo("second");
+		assertThat(second.getId()).isEqualTo(2L);
+		assertThat(second.getValue()).isEqualTo(0d);
+		assertThat(second.getDate()).isNull();
+
+		// defaults are reset for each line
+		ImmutableLineObject third = reader.next();
+		assertThat(third.getName()).isNull();
+		assertThat(third.getId()).isEqualTo(3L);
+		assertThat(third.getValue()).isEqualTo(3.5d);
+		assertThat(third.getDate()).isEqualTo(LocalDate.of(2021, 3, 5));
+
+		assertThat(reader.next()).isNull();
+	}
+}
@@ -0,0 +1,147 @@
+package com.github.skjolber.stcsv.databinder.prototype;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.skjolber.stcsv.CsvReader;
+import com.github.skjolber.stcsv.builder.CsvBuilderException;
+import com.github.skjolber.stcsv.databinder.CsvMapper;
+
+public class CsvLineObjectScannerDateTimeFieldTest {
+
+	public static class DateTimeLineObject {
+
+		private LocalDate date;
+		private LocalTime time;
+		private LocalDateTime dateTime;
+		private Instant instant;
+
+		private int epochDay;
+		private int secondOfDay;
+		private long epochSecond;
+
+		public LocalDate getDate() {
+			return date;
+		}
+		public void setDate(LocalDate date) {
+			this.date = date;
+		}
+		public LocalTime getTime() {
+			return time;
+		}
+		public void setTime(LocalTime time) {
+			this.time = time;
+		}
+		public LocalDateTime getDateTime() {
+			return dateTime;
+		}
+		public void setDateTime(LocalDateTime dateTime) {
+			this.dateTime = dateTime;
+		}
+		public Instant getInstant() {
+			return instant;
+		}
+		public void setInstant(Instant instant) {
+			this.instant = instant;
+		}
+		public int getEpochDay() {
+			return epochDay;
+		}
+		public void setEpochDay(int epochDay) {
+			this.epochDay = epochDay;
+		}
+		public int getSecondOfDay() {
+			return secondOfDay;
+		}
+		public void setSecondOfDay(int secondOfDay) {
+			this.secondOfDay = secondOfDay;
+		}
+		public long getEpochSecond() {
+			return epochSecond;
+		}
+		public void setEpochSecond(long epochSecond) {
+			this.epochSecond = epochSecond;
+		}
+	}
+
+	@Test
+	public void testJavaTimeSetters() throws Exception {
+		CsvMapper<DateTimeLineObject> mapper = CsvMapper.builder(DateTimeLineObject.class)
+				.dateField("date")
+					.required()
+				.timeField("time")
+					.required()
+				.dateTimeField("dateTime")
+					.required()
+				.instantField("instant")
+					.required()
+				.build();
+
+		String content = "date,time,dateTime,instant\n2021-03-04,8:15:30,2021-03-04T05:06:07.5,2021-03-04T05:06:07Z\n20210305,23:59,2021-03-05 00:00,2021-03-05T00:00:00.001Z\n";
+
+		CsvReader<DateTimeLineObject> reader = mapper.create(new StringReader(content));
+		for(int i = 0; i < 2; i++) {
+			DateTimeLineObject next = reader.next();
+			assertThat(next.getDate()).isEqualTo(LocalDate.of(2021, 3, 4));
+			assertThat(next.getTime()).isEqualTo(LocalTime.of(8, 15, 30));
+			assertThat(next.getDateTime()).isEqualTo(LocalDateTime.of(2021, 3, 4, 5, 6, 7, 500_000_000));
+			assertThat(next.getInstant()).isEqualTo(Instant.parse("2021-03-04T05:06:07Z"));
+
+			next = reader.next();
+			assertThat(next.getDate()).isEqualTo(LocalDate.of(2021, 3, 5));
+			assertThat(next.getTime()).isEqualTo(LocalTime.of(23, 59));
+			assertThat(next.getDateTime()).isEqualTo(LocalDateTime.of(2021, 3, 5, 0, 0));
+			assertThat(next.getInstant()).isEqualTo(Instant.parse("2021-03-05T00:00:00.001Z"));
+
+			assertThat(reader.next()).isNull();
+
+			reader = mapper.create(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+		}
+	}
+
+	@Test
+	public void testPrimitiveSetters() throws Exception {
+		CsvMapper<DateTimeLineObject> mapper = CsvMapper.builder(DateTimeLineObject.class)
+				.dateField("epochDay")
+					.epochDay()
+					.required()
+				.timeField("secondOfDay")
+					.secondOfDay()
+					.required()
+				.instantField("epochSecond")
+					.epochSecond()
+					.required()
+				.build();
+
+		// GTFS time past midnight
+		String content = "epochDay,secondOfDay,epochSecond\n1970-01-02,25:10:00,1970-01-02T00:00:01Z\n";
+
+		CsvReader<DateTimeLineObject> reader = mapper.create(new StringReader(content));
+		DateTimeLineObject next = reader.next();
+		assertThat(next.getEpochDay()).isEqualTo(1);
+		assertThat(next.getSecondOfDay()).isEqualTo(25 * 3600 + 10 * 60);
+		assertThat(next.getEpochSecond()).isEqualTo(24 * 3600 + 1L);
+		assertThat(reader.next()).isNull();
+	}
+
+	@Test
+	public void testWrongSetterType() throws Exception {
+		assertThrows(CsvBuilderException.class, () -> {
+			CsvMapper.builder(DateTimeLineObject.class)
+				.dateField("date")
+					.epochDay()
+					.required()
+				.build();
+		});
+	}
+}
@@ -0,0 +1,106 @@
+package com.github.skjolber.stcsv.databinder.prototype;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.skjolber.stcsv.CsvException;
+import com.github.skjolber.stcsv.CsvReader;
+import com.github.skjolber.stcsv.databinder.CsvMapper;
+import com.github.skjolber.stcsv.databinder.CsvMapper2;
+
+public class CsvLineObjectScannerEnumFieldTest {
+
+	public enum LocationType {
+		STOP, STATION, ENTRANCE_EXIT, GENERIC_NODE, BOARDING_AREA, STATIONS
+	}
+
+	public static class EnumLineObject {
+
+		private LocationType locationType;
+
+		public LocationType getLocationType() {
+			return locationType;
+		}
+		public void setLocationType(LocationType locationType) {
+			this.locationType = locationType;
+		}
+	}
+
+	private static final String CONTENT = "locationType\nSTOP\nSTATION\nSTATIONS\nENTRANCE_EXIT\nGENERIC_NODE\nBOARDING_AREA\n0\n1\n4\n";
+
+	private static final LocationType[] EXPECTED = {
+		LocationType.STOP, LocationType.STATION, LocationType.STATIONS, LocationType.ENTRANCE_EXIT, LocationType.GENERIC_NODE, LocationType.BOARDING_AREA,
+		LocationType.STOP, LocationType.STATION, LocationType.BOARDING_AREA
+	};
+
+	@Test
+	public void testSetter() throws Exception {
+		CsvMapper<EnumLineObject> mapper = CsvMapper.builder(EnumLineObject.class)
+				.enumField("locationType", LocationType.class)
+					.alias("0", LocationType.STOP)
+					.alias("1", LocationType.STATION)
+					.alias("4", LocationType.BOARDING_AREA)
+					.required()
+				.build();
+
+		assertValues(mapper.create(new StringReader(CONTENT)));
+		assertValues(mapper.create(new ByteArrayInputStream(CONTENT.getBytes(StandardCharsets.UTF_8))));
+	}
+
+	@Test
+	public void testConsumer() throws Exception {
+		CsvMapper<EnumLineObject> mapper = CsvMapper.builder(EnumLineObject.class)
+				.enumField("locationType", LocationType.class)
+					.alias("0", LocationType.STOP)
+					.alias("1", LocationType.STATION)
+					.alias("4", LocationType.BOARDING_AREA)
+					.consumer((o, v) -> o.setLocationType(v))
+					.required()
+				.build();
+
+		assertValues(mapper.create(new StringReader(CONTENT)));
+		assertValues(mapper.create(new ByteArrayInputStream(CONTENT.getBytes(StandardCharsets.UTF_8))));
+	}
+
+	@Test
+	public void testTriConsumer() throws Exception {
+		CsvMapper2<EnumLineObject, CsvLineObjectScannerEnumFieldTest> mapper = CsvMapper2.builder(EnumLineObject.class, CsvLineObjectScannerEnumFieldTest.class)
+				.enumField("locationType", LocationType.class)
+					.alias("0", LocationType.STOP)
+					.alias("1", LocationType.STATION)
+					.alias("4", LocationType.BOARDING_AREA)
+					.consumer((o, i, v) -> o.setLocationType(v))
+					.required()
+				.build();
+
+		assertValues(mapper.create(new StringReader(CONTENT), this));
+	}
+
+	@Test
+	public void testUnknownValue() throws Exception {
+		CsvMapper<EnumLineObject> mapper = CsvMapper.builder(EnumLineObject.class)
+				.enumField("locationType", LocationType.class)
+					.required()
+				.build();
+
+		for(String value : new String[] {"STOq", "STATIO", "X", "stop", "STATIONSS"}) {
+			CsvReader<EnumLineObject> reader = mapper.create(new StringReader("locationType\n" + value + "\n"));
+			assertThrows(CsvException.class, () -> {
+				reader.next();
+			});
+		}
+	}
+
+	private void assertValues(CsvReader<EnumLineObject> reader) throws Exception {
+		for(LocationType expected : EXPECTED) {
+			assertThat(reader.next().getLocationType()).isEqualTo(expected);
+		}
+		assertThat(reader.next()).isNull();
+	}
+}
@@ -3,7 +3,10 @@ package com.github.skjolber.stcsv.databinder.prototype;
 import static com.google.common.truth.Truth.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.io.ByteArrayInputStream;
 import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -338,4 +341,49 @@ public class CsvLineObjectScannerEscapeTest {
 		assertThat(scanner.next()).isNull();
 	}	
 	
+	@Test
+	public void testManyEscapedCharactersAcrossBufferFills() throws Exception {
+		StringBuilder value = new StringBuilder();
+		for(int i = 0; i < 1000; i++) {
+			value.append("a\"b'c\\\n");
+		}
+		String originalValue = value.toString();
+
+		CsvMapper<CsvLineObject> noLinebreaks = CsvMapper.builder(CsvLineObject.class)
+				.stringField("stringValue")
+					.quotedWithoutLinebreaks()
+					.required()
+				.build();
+
+		// quote and escape: "" 
+		String doubleQuoted = "\"" + originalValue.replace("\"", "\"\"") + "\"";
+		assertParsed(mapping1, doubleQuoted, originalValue);
+		assertParsed(noLinebreaks, doubleQuoted.replace("\n", ""), originalValue.replace("\n", ""));
+
+		// quote ' and escape \
+		String escaped = "'" + originalValue.replace("\\", "\\\\").replace("'", "\\'") + "'";
+		assertParsed(mapping4, escaped, originalValue);
+	}
+
+	private void assertParsed(CsvMapper<CsvLineObject> mapping, String quotedValue, String originalValue) throws Exception {
+		StringBuilder builder = new StringBuilder();
+		builder.append("stringValue,randomValue\n");
+		for(int i = 0; i < 100; i++) {
+			builder.append(quotedValue);
+			builder.append(",random data\n");
+		}
+		String csv = builder.toString();
+
+		CsvReader<CsvLineObject> chars = mapping.create(new StringReader(csv));
+		CsvReader<CsvLineObject> bytes = mapping.create(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+		for(CsvReader<CsvLineObject> scanner : Arrays.asList(chars, bytes)) {
+			for(int i = 0; i < 100; i++) {
+				CsvLineObject next = scanner.next();
+				assertThat(next).isNotNull();
+				assertThat(next.getStringValue()).isEqualTo(originalValue);
+			}
+			assertThat(scanner.next()).isNull();
+		}
+	}
+
 }
@@ -0,0 +1,124 @@
+package com.github.skjolber.stcsv.databinder.prototype;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.skjolber.stcsv.CsvReader;
+import com.github.skjolber.stcsv.builder.CsvBuilderException;
+import com.github.skjolber.stcsv.databinder.CsvMapper;
+import com.github.skjolber.stcsv.databinder.CsvMapper2;
+
+public class CsvLineObjectScannerFieldTest {
+
+	public enum Direction {
+		OUTBOUND, INBOUND
+	}
+
+	public static class FieldLineObject {
+
+		public String name;
+		public long routeId; // column route_id
+		public Integer count;
+		public double value; // column 'amount'
+		public Direction direction;
+
+		private String hidden;
+		public final String constant = "x";
+
+		public String getHidden() {
+			return hidden;
+		}
+	}
+
+	private static final String CONTENT = "route_id,name,count,amount,direction\n1,first,5,1.5,INBOUND\n2,second,,2.5,OUTBOUND\n";
+
+	@Test
+	public void testFields() throws Exception {
+		CsvMapper<FieldLineObject> mapper = CsvMapper.builder(FieldLineObject.class)
+				.stringField("name")
+					.quotedWithoutLinebreaks()
+					.required()
+				.longField("route_id")
+					.required()
+				.integerField("count")
+					.optional()
+				.doubleField("amount")
+					.field("value")
+					.required()
+				.enumField("direction", Direction.class)
+					.required()
+				.build();
+
+		assertValues(mapper.create(new StringReader(CONTENT)));
+		assertValues(mapper.create(new ByteArrayInputStream(CONTENT.getBytes(StandardCharsets.UTF_8))));
+	}
+
+	@Test
+	public void testFieldsWithIntermediate() throws Exception {
+		CsvMapper2<FieldLineObject, CsvLineObjectScannerFieldTest> mapper = CsvMapper2.builder(FieldLineObject.class, CsvLineObjectScannerFieldTest.class)
+				.stringField("name")
+					.required()
+				.longField("route_id")
+					.required()
+				.integerField("count")
+					.optional()
+				.doubleField("amount")
+					.field("value")
+					.required()
+				.enumField("direction", Direction.class)
+					.required()
+				.build();
+
+		assertValues(mapper.create(new StringReader(CONTENT), this));
+	}
+
+	@Test
+	public void testInaccessibleField() throws Exception {
+		// private
+		assertThrows(CsvBuilderException.class, () -> {
+			CsvMapper.builder(FieldLineObject.class)
+				.stringField("hidden")
+					.required()
+				.build();
+		});
+		// final
+		assertThrows(CsvBuilderException.class, () -> {
+			CsvMapper.builder(FieldLineObject.class)
+				.stringField("value")
+					.field("constant")
+					.required()
+				.build();
+		});
+		// wrong type
+		assertThrows(CsvBuilderException.class, () -> {
+			CsvMapper.builder(FieldLineObject.class)
+				.integerField("name")
+					.required()
+				.build();
+		});
+	}
+
+	private void assertValues(CsvReader<FieldLineObject> reader) throws Exception {
+		FieldLineObject first = reader.next();
+		assertThat(first.name).isEqualTo("first");
+		assertThat(first.routeId).isEqualTo(1L);
+		assertThat(first.count).isEqualTo(5);
+		assertThat(first.value).isEqualTo(1.5d);
+		assertThat(first.direction).isEqualTo(Direction.INBOUND);
+
+		FieldLineObject second = reader.next();
+		assertThat(second.name).isEqualTo("second");
+		assertThat(second.routeId).isEqualTo(2L);
+		assertThat(second.count).isNull();
+		assertThat(second.value).isEqualTo(2.5d);
+		assertThat(second.direction).isEqualTo(Direction.OUTBOUND);
+
+		assertThat(reader.next()).isNull();
+	}
+}
@@ -0,0 +1,153 @@
+package com.github.skjolber.stcsv.databinder.prototype;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.skjolber.stcsv.CsvReader;
+import com.github.skjolber.stcsv.databinder.CsvMapper;
+import com.github.skjolber.stcsv.databinder.CsvMapper2;
+
+public class CsvLineObjectScannerReuseTest {
+
+	public static class ReuseLineObject {
+
+		private int route;
+		private long count;
+		private Integer direction;
+		private String name;
+		private double value;
+
+		public int getRoute() {
+			return route;
+		}
+		public void setRoute(int route) {
+			this.route = route;
+		}
+		public long getCount() {
+			return count;
+		}
+		public void setCount(long count) {
+			this.count = count;
+		}
+		public Integer getDirection() {
+			return direction;
+		}
+		public void setDirection(Integer direction) {
+			this.direction = direction;
+		}
+		public String getName() {
+			return name;
+		}
+		public void setName(String name) {
+			this.name = name;
+		}
+		public double getValue() {
+			return value;
+		}
+		public void setValue(double value) {
+			this.value = value;
+		}
+	}
+
+	public static final class ImmutableLineObject {
+
+		private final int route;
+
+		public ImmutableLineObject(int route) {
+			this.route = route;
+		}
+
+		public int getRoute() {
+			return route;
+		}
+	}
+
+	// no 'value' column
+	private static final String CONTENT = "route,count,direction,name\n# comment\n1,10,0,first\n2,,,\n3,30,1,third\n";
+
+	@Test
+	public void testReuse() throws Exception {
+		CsvMapper<ReuseLineObject> mapper = CsvMapper.builder(ReuseLineObject.class)
+				.integerField("route")
+					.required()
+				.longField("count")
+					.optional()
+				.integerField("direction")
+					.optional()
+				.stringField("name")
+					.optional()
+				.doubleField("value")
+					.optional()
+				.skipComments()
+				.build();
+
+		assertValues(mapper.create(new StringReader(CONTENT)));
+		assertValues(mapper.create(new ByteArrayInputStream(CONTENT.getBytes(StandardCharsets.UTF_8))));
+	}
+
+	@Test
+	public void testReuseWithIntermediate() throws Exception {
+		CsvMapper2<ReuseLineObject, CsvLineObjectScannerReuseTest> mapper = CsvMapper2.builder(ReuseLineObject.class, CsvLineObjectScannerReuseTest.class)
+				.integerField("route")
+					.required()
+				.longField("count")
+					.optional()
+				.integerField("direction")
+					.optional()
+				.stringField("name")
+					.optional()
+				.doubleField("value")
+					.optional()
+				.skipComments()
+				.build();
+
+		assertValues(mapper.create(new StringReader(CONTENT), this));
+	}
+
+	@Test
+	public void testReuseNotSupportedForConstructor() throws Exception {
+		CsvMapper<ImmutableLineObject> mapper = CsvMapper.builder(ImmutableLineObject.class)
+				.constructor("route")
+				.integerField("route")
+					.required()
+				.build();
+
+		CsvReader<ImmutableLineObject> reader = mapper.create(new StringReader("route\n1\n"));
+		assertThrows(UnsupportedOperationException.class, () -> {
+			reader.next(new ImmutableLineObject(0));
+		});
+	}
+
+	private void assertValues(CsvReader<ReuseLineObject> reader) throws Exception {
+		ReuseLineObject value = new ReuseLineObject();
+		value.setValue(1.5d); // not in file, so reset
+
+		assertThat(reader.next(value)).isTrue();
+		assertThat(value.getRoute()).isEqualTo(1);
+		assertThat(value.getCount()).isEqualTo(10L);
+		assertThat(value.getDirection()).isEqualTo(0);
+		assertThat(value.getName()).isEqualTo("first");
+		assertThat(value.getValue()).isEqualTo(0d);
+
+		// empty optional values are reset
+		assertThat(reader.next(value)).isTrue();
+		assertThat(value.getRoute()).isEqualTo(2);
+		assertThat(value.getCount()).isEqualTo(0L);
+		assertThat(value.getDirection()).isNull();
+		assertThat(value.getName()).isNull();
+
+		assertThat(reader.next(value)).isTrue();
+		assertThat(value.getRoute()).isEqualTo(3);
+		assertThat(value.getCount()).isEqualTo(30L);
+		assertThat(value.getDirection()).isEqualTo(1);
+		assertThat(value.getName()).isEqualTo("third");
+
+		assertThat(reader.next(value)).isFalse();
+	}
+}
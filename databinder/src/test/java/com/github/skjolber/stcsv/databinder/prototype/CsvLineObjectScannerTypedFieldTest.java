@@ -0,0 +1,189 @@
+package com.github.skjolber.stcsv.databinder.prototype;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.skjolber.stcsv.CsvReader;
+import com.github.skjolber.stcsv.databinder.CsvMapper;
+
+public class CsvLineObjectScannerTypedFieldTest {
+
+	public static class BoxedLineObject {
+
+		private Integer integerValue;
+		private Long longValue;
+		private Double doubleValue;
+		private Boolean booleanValue;
+		private Float floatValue;
+		private Short shortValue;
+		private Byte byteValue;
+		private Character characterValue;
+		private BigDecimal bigDecimalValue;
+
+		public Integer getIntegerValue() {
+			return integerValue;
+		}
+		public void setIntegerValue(Integer integerValue) {
+			this.integerValue = integerValue;
+		}
+		public Long getLongValue() {
+			return longValue;
+		}
+		public void setLongValue(Long longValue) {
+			this.longValue = longValue;
+		}
+		public Double getDoubleValue() {
+			return doubleValue;
+		}
+		public void setDoubleValue(Double doubleValue) {
+			this.doubleValue = doubleValue;
+		}
+		public Boolean getBooleanValue() {
+			return booleanValue;
+		}
+		public void setBooleanValue(Boolean booleanValue) {
+			this.booleanValue = booleanValue;
+		}
+		public Float getFloatValue() {
+			return floatValue;
+		}
+		public void setFloatValue(Float floatValue) {
+			this.floatValue = floatValue;
+		}
+		public Short getShortValue() {
+			return shortValue;
+		}
+		public void setShortValue(Short shortValue) {
+			this.shortValue = shortValue;
+		}
+		public Byte getByteValue() {
+			return byteValue;
+		}
+		public void setByteValue(Byte byteValue) {
+			this.byteValue = byteValue;
+		}
+		public Character getCharacterValue() {
+			return characterValue;
+		}
+		public void setCharacterValue(Character characterValue) {
+			this.characterValue = characterValue;
+		}
+		public BigDecimal getBigDecimalValue() {
+			return bigDecimalValue;
+		}
+		public void setBigDecimalValue(BigDecimal bigDecimalValue) {
+			this.bigDecimalValue = bigDecimalValue;
+		}
+	}
+
+	@Test
+	public void testPrimitiveFields() throws Exception {
+		CsvMapper<CsvLineObject> mapper = CsvMapper.builder(CsvLineObject.class)
+				.floatField("floatValue")
+					.required()
+				.shortField("shortValue")
+					.required()
+				.byteField("byteValue")
+					.required()
+				.charField("characterValue")
+					.required()
+				.build();
+
+		String content = "floatValue,shortValue,byteValue,characterValue\n-1.25,-32768,127,x\n";
+
+		CsvReader<CsvLineObject> reader = mapper.create(new StringReader(content));
+		CsvLineObject next = reader.next();
+		assertThat(next.getFloatValue()).isEqualTo(-1.25f);
+		assertThat(next.getShortValue()).isEqualTo((short)-32768);
+		assertThat(next.getByteValue()).isEqualTo((byte)127);
+		assertThat(next.getCharacterValue()).isEqualTo('x');
+		assertThat(reader.next()).isNull();
+
+		reader = mapper.create(new ByteArrayInputStream(content.replace('x', '\u00f8').getBytes(StandardCharsets.UTF_8)));
+		next = reader.next();
+		assertThat(next.getFloatValue()).isEqualTo(-1.25f);
+		assertThat(next.getByteValue()).isEqualTo((byte)127);
+		assertThat(next.getCharacterValue()).isEqualTo('\u00f8');
+	}
+
+	@Test
+	public void testBoxedFields() throws Exception {
+		CsvMapper<BoxedLineObject> mapper = CsvMapper.builder(BoxedLineObject.class)
+				.integerField("integerValue")
+					.optional()
+				.longField("longValue")
+					.optional()
+				.doubleField("doubleValue")
+					.optional()
+				.booleanField("booleanValue")
+					.optional()
+				.floatField("floatValue")
+					.optional()
+				.shortField("shortValue")
+					.optional()
+				.byteField("byteValue")
+					.optional()
+				.charField("characterValue")
+					.optional()
+				.bigDecimalField("bigDecimalValue")
+					.quoted()
+					.optional()
+				.build();
+
+		String content = "integerValue,longValue,doubleValue,booleanValue,floatValue,shortValue,byteValue,characterValue,bigDecimalValue\n"
+				+ "1,2,3.5,true,4.5,6,7,c,-123.4500\n"
+				+ ",,,,,,,,\"\"\n";
+
+		CsvReader<BoxedLineObject> reader = mapper.create(new StringReader(content));
+		BoxedLineObject next = reader.next();
+		assertThat(next.getIntegerValue()).isEqualTo(1);
+		assertThat(next.getLongValue()).isEqualTo(2L);
+		assertThat(next.getDoubleValue()).isEqualTo(3.5d);
+		assertThat(next.getBooleanValue()).isTrue();
+		assertThat(next.getFloatValue()).isEqualTo(4.5f);
+		assertThat(next.getShortValue()).isEqualTo((short)6);
+		assertThat(next.getByteValue()).isEqualTo((byte)7);
+		assertThat(next.getCharacterValue()).isEqualTo('c');
+		assertThat(next.getBigDecimalValue()).isEqualTo(new BigDecimal("-123.4500"));
+
+		next = reader.next();
+		assertThat(next.getIntegerValue()).isNull();
+		assertThat(next.getLongValue()).isNull();
+		assertThat(next.getDoubleValue()).isNull();
+		assertThat(next.getBooleanValue()).isNull();
+		assertThat(next.getFloatValue()).isNull();
+		assertThat(next.getShortValue()).isNull();
+		assertThat(next.getByteValue()).isNull();
+		assertThat(next.getCharacterValue()).isNull();
+		assertThat(next.getBigDecimalValue()).isNull();
+
+		assertThat(reader.next()).isNull();
+	}
+
+	@Test
+	public void testDecimalComma() throws Exception {
+		CsvMapper<CsvLineObject> mapper = CsvMapper.builder(CsvLineObject.class)
+				.divider(';')
+				.doubleField("doubleValue")
+					.decimalComma()
+					.required()
+				.build();
+
+		String content = "doubleValue\n-59,3293371\n1,5e3\n";
+
+		CsvReader<CsvLineObject> reader = mapper.create(new StringReader(content));
+		assertThat(reader.next().getDoubleValue()).isEqualTo(-59.3293371d);
+		assertThat(reader.next().getDoubleValue()).isEqualTo(1500d);
+		assertThat(reader.next()).isNull();
+
+		reader = mapper.create(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+		assertThat(reader.next().getDoubleValue()).isEqualTo(-59.3293371d);
+	}
+
+}
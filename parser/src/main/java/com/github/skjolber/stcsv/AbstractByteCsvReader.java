@@ -0,0 +1,450 @@
+package com.github.skjolber.stcsv;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import com.github.skjolber.stcsv.scan.ByteScanner;
+
+
+/**
+ * Base class for byte-oriented CSV parsing. Generated parsers extend this class when
+ * reading from an {@linkplain InputStream}.
+ * <br><br>
+ * This is the byte-based sibling of {@linkplain AbstractCsvReader}; the input is not decoded
+ * to characters. Dividers, quotes, escapes and newlines are matched as (ASCII) bytes,
+ * which is safe for UTF-8 input since no byte within a multi-byte UTF-8 sequence is an ASCII character.
+ * Only the values actually mapped to strings are decoded.
+ * <br><br>
+ * The buffering scheme is the same as for {@linkplain AbstractCsvReader}: each time the buffer is filled,
+ * the underlying implementation scans backwards for a newline.
+ * <br><br>
+ * If the file ends without a newline, one is inserted.
+ * <br><br>
+ * If a single row (or quoted value) does not fit within the buffer, the buffer grows, up to a max length. 
+ * Once the long row has been parsed, the buffer shrinks back to its initial length. Parsers must so reload
+ * the buffer after each fill.
+ *
+ * @param <T> the target class (output from each line of CSV file).
+ */
+
+public abstract class AbstractByteCsvReader<T> implements CsvReader<T> {
+
+	protected final InputStream input;
+	protected byte[] current;
+	protected int maxDataLength;
+	protected final int initialLength; // shrink back to this length
+	protected final int maxLength; // grow up to this length
+
+	protected int offset = 0;
+	protected int endOfLineIndex = 0; // last newline within the buffer
+	protected int dataLength = 0; // data length
+
+	protected boolean eof = false;
+
+	protected boolean skipLines = false; // i.e. skip empty and/or commented lines
+	protected boolean skipEmptyLines = false;
+	protected boolean skipComments = false;
+
+	/**
+	 * Construct new instance. The current buffer must at least contain a single row,
+	 * ending with a newline.
+	 *
+	 * @param input read input
+	 * @param current current buffer
+	 * @param offset buffer offset
+	 * @param length buffer payload length
+	 */
+
+	public AbstractByteCsvReader(InputStream input, byte[] current, int offset, int length) {
+		this(input, current, offset, length, current.length - 1);
+	}
+
+	/**
+	 * Construct new instance. The current buffer must at least contain a single row, 
+	 * ending with a newline. 
+	 * 
+	 * @param input read input
+	 * @param current current buffer
+	 * @param offset buffer offset
+	 * @param length buffer payload length
+	 * @param maxBufferLength max buffer length
+	 */
+
+	public AbstractByteCsvReader(InputStream input, byte[] current, int offset, int length, int maxBufferLength) {
+		this.input = input;
+		this.current = current;
+		this.offset = offset;
+		this.dataLength = length;
+		this.endOfLineIndex = findEndOfLine(length - 1);
+		// always leave one byte for artificially adding a linebreak if necessary
+		this.maxDataLength = current.length - 1;
+		this.initialLength = current.length;
+		this.maxLength = Math.max(maxBufferLength, maxDataLength) + 1;
+	}
+
+	public AbstractByteCsvReader(InputStream input, int length) {
+		this(input, new byte[length + 1], 0, 0);
+	}
+
+	public AbstractByteCsvReader(InputStream input, int length, int maxBufferLength) {
+		this(input, new byte[length + 1], 0, 0, maxBufferLength);
+	}
+
+	protected int findEndOfLine(int currentRange) {
+		if(currentRange > 0) {
+			// find first end of line
+			while(current[currentRange] != '\n') {
+				currentRange--;
+			}
+		}
+		return currentRange;
+	}
+
+	public int fill(int keep) throws IOException {
+		this.endOfLineIndex -= keep;
+		return fill();
+	}
+
+	public int fill() throws IOException {
+		byte[] current = this.current;
+		
+		// 012345 6789012
+		// a,b,c\nd,e,f\n
+		int dataLength = this.dataLength - endOfLineIndex - 1;
+		if(current.length > initialLength && dataLength < initialLength / 2) {
+			// a long row has passed, shrink back
+			current = resize(endOfLineIndex + 1, dataLength, initialLength);
+		} else if(dataLength > 0) {
+			// copy tail to head
+			System.arraycopy(current, endOfLineIndex + 1, current, 0, dataLength);
+		}
+		
+		if(eof) {
+			this.dataLength = dataLength;
+			this.endOfLineIndex = dataLength - 1;
+			
+			return endOfLineIndex;
+		}
+		
+		// the tail contains no usable newline. Also skip a newline at index 0 (i.e. an empty line), 
+		// as it would be returned as 0, which callers take to mean end of input
+		int tail = Math.max(dataLength, 1);
+		
+		int read;
+		do {
+			int maxDataLength = this.maxDataLength;
+			while(dataLength < maxDataLength) {
+				read = input.read(current, dataLength, maxDataLength - dataLength);
+				if(read == -1) {
+					eof = true;
+	
+					if(dataLength > 0 && current[dataLength - 1] != '\n') {
+						// artificially insert linebreak after last line 
+						// so that scanners detects end
+						current[dataLength] = '\n';
+						dataLength++;
+					}
+					this.endOfLineIndex = dataLength - 1;
+					this.dataLength = dataLength;
+					
+					return this.endOfLineIndex;
+				}
+				dataLength += read;
+			}
+			
+			// find last end of line
+			for(int i = dataLength - 1; i >= tail; i--) {
+				if(current[i] == '\n') {
+					this.dataLength = dataLength;
+					
+					return this.endOfLineIndex = i;
+				}
+			}
+			
+			// so a single row does not fit within the buffer
+			if(current.length >= maxLength) {
+				throw new CsvException("No linebreak found in " + maxDataLength + " bytes");
+			}
+			current = resize(0, dataLength, (int)Math.min(current.length * 2L, maxLength));
+		} while(true);
+	}
+
+	/**
+	 * Replace the buffer, moving data to the head.
+	 * 
+	 * @param offset start of data to keep
+	 * @param dataLength length of data to keep
+	 * @param length new buffer length
+	 * @return the new buffer
+	 */
+
+	protected byte[] resize(int offset, int dataLength, int length) {
+		byte[] next = new byte[length];
+		System.arraycopy(current, offset, next, 0, dataLength);
+		
+		this.current = next;
+		this.maxDataLength = length - 1;
+		
+		return next;
+	}
+
+	/**
+	 * Remove escape characters from a quoted value, so that each escape character and the following
+	 * character is replaced by the following character. The result is right-aligned, i.e. it still ends
+	 * at the end index.
+	 * <br><br>
+	 * Parsers only note that an escape character was seen while scanning the value, then unescape
+	 * once at the end of the value. So each character is moved at most twice, instead of the value
+	 * prefix being moved once per escape character.
+	 * 
+	 * @param current buffer
+	 * @param start value start index (inclusive)
+	 * @param end value end index (exclusive)
+	 * @param escapeCharacter escape character
+	 * @return the new start index
+	 */
+
+	public static int unescape(byte[] current, int start, int end, int escapeCharacter) {
+		int read = start;
+		while(current[read] != escapeCharacter) {
+			read++;
+		}
+		
+		// compact towards the start
+		int write = read;
+		while(read < end) {
+			if(current[read] == escapeCharacter) {
+				read++;
+			}
+			current[write++] = current[read++];
+		}
+		
+		// move to the end
+		int length = write - start;
+		System.arraycopy(current, start, current, end - length, length);
+		
+		return end - length;
+	}
+
+	/**
+	 * Find the first occurrence of a character, eight bytes at a time. Used by generated parsers
+	 * for the {@linkplain com.github.skjolber.stcsv.scan.ScanStrategy#SWAR} scan strategy.
+	 * 
+	 * @param current buffer
+	 * @param offset start index (inclusive)
+	 * @param c character
+	 * @return index of the character
+	 */
+
+	public static int indexOf(byte[] current, int offset, int c) {
+		return ByteScanner.SWAR.indexOf(current, offset, (byte)c);
+	}
+
+	/**
+	 * Skip empty and/or commented lines (starting with #) before the next row. Parsers check 
+	 * the {@linkplain #skipLines} flag once per row before calling this method.
+	 * 
+	 * @param emptyLines skip empty lines
+	 * @param comments skip comments
+	 */
+
+	public void setSkipLines(boolean emptyLines, boolean comments) {
+		this.skipEmptyLines = emptyLines;
+		this.skipComments = comments;
+		this.skipLines = emptyLines || comments;
+	}
+
+	/**
+	 * Skip empty and/or commented lines, filling the buffer if necessary.
+	 * 
+	 * @param currentOffset start of the next line
+	 * @return start of the next row, or -1 if there are no more rows
+	 * @throws IOException if the underlying input throws exception
+	 */
+
+	protected int skipEmptyOrCommentedLines(int currentOffset) throws IOException {
+		byte[] current = this.current;
+		while(true) {
+			if (currentOffset >= endOfLineIndex) {
+				fill(); // might return 0 if the next line is empty
+				if (dataLength == 0) {
+					return -1;
+				}
+				currentOffset = 0;
+				current = this.current;
+			}
+			
+			if(current[currentOffset] == '#') {
+				if(!skipComments) {
+					return currentOffset;
+				}
+				do {
+					currentOffset++;
+				} while(current[currentOffset] != '\n');
+				currentOffset++;
+			} else if(current[currentOffset] == '\n') {
+				if(!skipEmptyLines) {
+					return currentOffset;
+				}
+				currentOffset++;
+			} else if(current[currentOffset] == '\r' && current[currentOffset + 1] == '\n') {
+				if(!skipEmptyLines) {
+					return currentOffset;
+				}
+				currentOffset += 2;
+			} else {
+				return currentOffset;
+			}
+		}
+	}
+
+	public abstract T next() throws Exception;
+
+	public int getEndOfLineIndex() {
+		return endOfLineIndex;
+	}
+
+	/**
+	 * Get the current buffer. Note that {@linkplain #fill()} might replace the buffer, 
+	 * so it must be reloaded after each fill.
+	 * 
+	 * @return the current buffer
+	 */
+
+	public byte[] getCurrent() {
+		return current;
+	}
+
+	@Override
+	public void close() throws IOException {
+		input.close();
+	}
+
+	/**
+	 * Character access is not supported for byte input, use {@linkplain #getInputStream()} instead.
+	 */
+
+	@Override
+	public RawReader getReader() {
+		throw new UnsupportedOperationException("Byte input; use getInputStream()");
+	}
+
+	@Override
+	public RawInputStream getInputStream() {
+		return new RawInputStream() {
+
+			@Override
+			public byte[] getBuffer() {
+				return current;
+			}
+
+			@Override
+			public int getLimit() {
+				return dataLength;
+			}
+
+			@Override
+			public int getOffset() {
+				return offset;
+			}
+
+			@Override
+			public boolean fill() throws IOException {
+				if (AbstractByteCsvReader.this.fill() <= 0) {
+					return false;
+				}
+
+				return true;
+			}
+
+			@Override
+			public int read(byte b[], int off, int len) throws IOException {
+				int currentOffset = AbstractByteCsvReader.this.offset;
+				if (currentOffset >= dataLength) {
+					currentOffset = dataLength - endOfLineIndex - 1;
+					if (AbstractByteCsvReader.this.fill() <= 0) {
+						return -1;
+					}
+				}
+
+				int avail = dataLength - currentOffset;
+
+				if(len > avail) {
+					len = avail;
+				}
+
+				System.arraycopy(current, currentOffset, b, off, len);
+
+				AbstractByteCsvReader.this.offset = currentOffset + len;
+
+				return len;
+			}
+
+			@Override
+			public int read() throws IOException {
+				int currentOffset = AbstractByteCsvReader.this.offset;
+				if (currentOffset >= dataLength) {
+					currentOffset = dataLength - endOfLineIndex - 1;
+					if (AbstractByteCsvReader.this.fill() <= 0) {
+						return -1;
+					}
+				}
+
+				AbstractByteCsvReader.this.offset = currentOffset + 1;
+
+				return current[currentOffset] & 0xFF;
+			}
+
+			@Override
+			public long skip(long count) throws IOException {
+				int currentOffset = AbstractByteCsvReader.this.offset;
+				if (currentOffset >= dataLength) {
+					currentOffset = dataLength - endOfLineIndex - 1;
+					if (AbstractByteCsvReader.this.fill() <= 0) {
+						return -1;
+					}
+				}
+
+				int len = (int)Math.min(Integer.MAX_VALUE, count);
+
+				int avail = dataLength - currentOffset;
+				if(len > avail) {
+					len = avail;
+				}
+
+				AbstractByteCsvReader.this.offset = currentOffset + len;
+
+				return len;
+			}
+
+			@Override
+			public boolean skipToByte(byte c) throws IOException {
+				int currentOffset = AbstractByteCsvReader.this.offset;
+
+				byte[] current = AbstractByteCsvReader.this.current;
+
+				try {
+					do {
+						if (currentOffset >= dataLength) {
+							currentOffset = dataLength - endOfLineIndex - 1;
+							if (AbstractByteCsvReader.this.fill() <= 0) {
+								return false;
+							}
+							current = AbstractByteCsvReader.this.current;
+						}
+					} while (current[currentOffset++] != c);
+
+					AbstractByteCsvReader.this.offset = currentOffset;
+				} catch (ArrayIndexOutOfBoundsException e) {
+					return false;
+				}
+				return true;
+			}
+
+			@Override
+			public void close() throws IOException {
+				AbstractByteCsvReader.this.input.close();
+			}
+		};
+	}
+}
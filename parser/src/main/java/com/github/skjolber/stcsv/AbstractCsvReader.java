@@ -3,6 +3,8 @@ package com.github.skjolber.stcsv;
 import java.io.IOException;
 import java.io.Reader;
 
+import com.github.skjolber.stcsv.scan.CharScanner;
+
 
 /**
  * Base class for CSV data-binding. Generated parsers extend this class. 
@@ -15,6 +17,10 @@ import java.io.Reader;
  * The quoted parse loop must check whether the buffer must be filled upon encountering a quote. 
  * <br><br>
  * If the file ends without a newline, one is inserted.
+ * <br><br>
+ * If a single row (or quoted value) does not fit within the buffer, the buffer grows, up to a max length. 
+ * Once the long row has been parsed, the buffer shrinks back to its initial length. Parsers must so reload
+ * the buffer after each fill.
  * 
  * @param <T> the target class (output from each line of CSV file). 
  */
@@ -22,10 +28,15 @@ import java.io.Reader;
 public abstract class AbstractCsvReader<T> implements CsvReader<T> {
 
 	public static final int DEFAULT_RANGE_LENGTH = 64 * 1024;
+	public static final int MIN_RANGE_LENGTH = 256;
+
+	protected static final CharScanner SCANNER = CharScanner.INSTANCE;
 	
 	protected final Reader reader;
-	protected final char[] current;
-	protected final int maxDataLength;
+	protected char[] current;
+	protected int maxDataLength;
+	protected final int initialLength; // shrink back to this length
+	protected final int maxLength; // grow up to this length
 	
 	protected int offset = 0;
 	protected int endOfLineIndex = 0; // last newline within the buffer
@@ -33,6 +44,10 @@ public abstract class AbstractCsvReader<T> implements CsvReader<T> {
 	
 	protected boolean eof = false;
 
+	protected boolean skipLines = false; // i.e. skip empty and/or commented lines
+	protected boolean skipEmptyLines = false;
+	protected boolean skipComments = false;
+
 	/**
 	 * Construct new instance. The current buffer must at least contain a single row, 
 	 * ending with a newline. 
@@ -44,6 +59,21 @@ public abstract class AbstractCsvReader<T> implements CsvReader<T> {
 	 */
 	
 	public AbstractCsvReader(Reader reader, char[] current, int offset, int length) {
+		this(reader, current, offset, length, current.length - 1);
+	}
+
+	/**
+	 * Construct new instance. The current buffer must at least contain a single row, 
+	 * ending with a newline. 
+	 * 
+	 * @param reader read input
+	 * @param current current buffer
+	 * @param offset buffer offset
+	 * @param length buffer payload length
+	 * @param maxBufferLength max buffer length
+	 */
+
+	public AbstractCsvReader(Reader reader, char[] current, int offset, int length, int maxBufferLength) {
 		this.reader = reader;
 		this.current = current;
 		this.offset = offset;
@@ -51,14 +81,31 @@ public abstract class AbstractCsvReader<T> implements CsvReader<T> {
 		this.endOfLineIndex = findEndOfLine(length - 1);
 		// always leave one char for artificially adding a linebreak if necessary
 		this.maxDataLength = current.length - 1;
+		this.initialLength = current.length;
+		this.maxLength = Math.max(maxBufferLength, maxDataLength) + 1;
+	}
+
+	/**
+	 * Get the buffer length for input of (approximately) known length, so that small inputs
+	 * do not allocate a full buffer.
+	 *
+	 * @param lengthHint input length, or -1 if unknown
+	 * @param bufferLength default buffer length
+	 * @return buffer length
+	 */
+
+	public static int getBufferLength(long lengthHint, int bufferLength) {
+		if(lengthHint < 0 || lengthHint >= bufferLength) {
+			return bufferLength;
+		}
+		// add one so that end-of-stream is detected on the first fill
+		return (int)Math.min(bufferLength, Math.max(lengthHint + 1, MIN_RANGE_LENGTH));
 	}
 
 	protected int findEndOfLine(int currentRange) {
 		if(currentRange > 0) {
-			// find first end of line
-			while(current[currentRange] != '\n') {
-				currentRange--;
-			}
+			// find last end of line
+			return SCANNER.lastIndexOf(current, currentRange, 0, '\n');
 		}
 		return currentRange;
 	}
@@ -66,6 +113,10 @@ public abstract class AbstractCsvReader<T> implements CsvReader<T> {
 	public AbstractCsvReader(Reader reader, int length) {
 		this(reader, new char[length + 1], 0, 0);
 	}
+
+	public AbstractCsvReader(Reader reader, int length, int maxBufferLength) {
+		this(reader, new char[length + 1], 0, 0, maxBufferLength);
+	}
 	
 	public int fill(int keep) throws IOException { 
 		this.endOfLineIndex -= keep;
@@ -78,7 +129,10 @@ public abstract class AbstractCsvReader<T> implements CsvReader<T> {
 		// 012345 6789012
 		// a,b,c\nd,e,f\n
 		int dataLength = this.dataLength - endOfLineIndex - 1;
-		if(dataLength > 0) {
+		if(current.length > initialLength && dataLength < initialLength / 2) {
+			// a long row has passed, shrink back
+			current = resize(endOfLineIndex + 1, dataLength, initialLength);
+		} else if(dataLength > 0) {
 			// copy tail to head
 			System.arraycopy(current, endOfLineIndex + 1, current, 0, dataLength);
 		}
@@ -90,29 +144,173 @@ public abstract class AbstractCsvReader<T> implements CsvReader<T> {
 			return endOfLineIndex;
 		}
 		
+		// the tail contains no usable newline. Also skip a newline at index 0 (i.e. an empty line), 
+		// as it would be returned as 0, which callers take to mean end of input
+		int tail = Math.max(dataLength, 1);
+		
 		int read;
-		while(dataLength < maxDataLength) {
-			read = reader.read(current, dataLength, maxDataLength - dataLength);
-			if(read == -1) {
-				eof = true;
-
-				if(dataLength > 0 && current[dataLength - 1] != '\n') {
-					// artificially insert linebreak after last line 
-					// so that scanners detects end
-					current[dataLength] = '\n';
-					dataLength++;
+		do {
+			int maxDataLength = this.maxDataLength;
+			while(dataLength < maxDataLength) {
+				read = reader.read(current, dataLength, maxDataLength - dataLength);
+				if(read == -1) {
+					eof = true;
+	
+					if(dataLength > 0 && current[dataLength - 1] != '\n') {
+						// artificially insert linebreak after last line 
+						// so that scanners detects end
+						current[dataLength] = '\n';
+						dataLength++;
+					}
+					this.endOfLineIndex = dataLength - 1;
+					this.dataLength = dataLength;
+					
+					return this.endOfLineIndex;
 				}
-				this.endOfLineIndex = dataLength - 1;
+				dataLength += read;
+			}
+			
+			// find last end of line
+			int index = SCANNER.lastIndexOf(current, dataLength - 1, tail, '\n');
+			if(index != -1) {
 				this.dataLength = dataLength;
 				
-				return this.endOfLineIndex;
+				return this.endOfLineIndex = index;
+			}
+			
+			// so a single row does not fit within the buffer
+			if(current.length >= maxLength) {
+				throw new CsvException("No linebreak found in " + maxDataLength + " characters");
+			}
+			current = resize(0, dataLength, (int)Math.min(current.length * 2L, maxLength));
+		} while(true);
+	}
+
+	/**
+	 * Replace the buffer, moving data to the head.
+	 * 
+	 * @param offset start of data to keep
+	 * @param dataLength length of data to keep
+	 * @param length new buffer length
+	 * @return the new buffer
+	 */
+
+	protected char[] resize(int offset, int dataLength, int length) {
+		char[] next = new char[length];
+		System.arraycopy(current, offset, next, 0, dataLength);
+		
+		this.current = next;
+		this.maxDataLength = length - 1;
+		
+		return next;
+	}
+
+	/**
+	 * Remove escape characters from a quoted value, so that each escape character and the following
+	 * character is replaced by the following character. The result is right-aligned, i.e. it still ends
+	 * at the end index.
+	 * <br><br>
+	 * Parsers only note that an escape character was seen while scanning the value, then unescape
+	 * once at the end of the value. So each character is moved at most twice, instead of the value
+	 * prefix being moved once per escape character.
+	 * 
+	 * @param current buffer
+	 * @param start value start index (inclusive)
+	 * @param end value end index (exclusive)
+	 * @param escapeCharacter escape character
+	 * @return the new start index
+	 */
+
+	public static int unescape(char[] current, int start, int end, int escapeCharacter) {
+		int read = start;
+		while(current[read] != escapeCharacter) {
+			read++;
+		}
+		
+		// compact towards the start
+		int write = read;
+		while(read < end) {
+			if(current[read] == escapeCharacter) {
+				read++;
 			}
-			dataLength += read;
+			current[write++] = current[read++];
 		}
 		
-		this.dataLength = dataLength;
+		// move to the end
+		int length = write - start;
+		System.arraycopy(current, start, current, end - length, length);
 		
-		return this.endOfLineIndex = findEndOfLine(dataLength - 1);
+		return end - length;
+	}
+
+	/**
+	 * Find the first occurrence of a character. Used by generated parsers for the 
+	 * {@linkplain com.github.skjolber.stcsv.scan.ScanStrategy#SWAR} scan strategy; for characters
+	 * this delegates to the {@linkplain CharScanner}.
+	 * 
+	 * @param current buffer
+	 * @param offset start index (inclusive)
+	 * @param c character
+	 * @return index of the character
+	 */
+
+	public static int indexOf(char[] current, int offset, int c) {
+		return SCANNER.indexOf(current, offset, (char)c);
+	}
+
+	/**
+	 * Skip empty and/or commented lines (starting with #) before the next row. Parsers check 
+	 * the {@linkplain #skipLines} flag once per row before calling this method.
+	 * 
+	 * @param emptyLines skip empty lines
+	 * @param comments skip comments
+	 */
+
+	public void setSkipLines(boolean emptyLines, boolean comments) {
+		this.skipEmptyLines = emptyLines;
+		this.skipComments = comments;
+		this.skipLines = emptyLines || comments;
+	}
+
+	/**
+	 * Skip empty and/or commented lines, filling the buffer if necessary.
+	 * 
+	 * @param currentOffset start of the next line
+	 * @return start of the next row, or -1 if there are no more rows
+	 * @throws IOException if the underlying input throws exception
+	 */
+
+	protected int skipEmptyOrCommentedLines(int currentOffset) throws IOException {
+		char[] current = this.current;
+		while(true) {
+			if (currentOffset >= endOfLineIndex) {
+				fill(); // might return 0 if the next line is empty
+				if (dataLength == 0) {
+					return -1;
+				}
+				currentOffset = 0;
+				current = this.current;
+			}
+			
+			if(current[currentOffset] == '#') {
+				if(!skipComments) {
+					return currentOffset;
+				}
+				currentOffset = SCANNER.indexOf(current, currentOffset + 1, '\n') + 1;
+			} else if(current[currentOffset] == '\n') {
+				if(!skipEmptyLines) {
+					return currentOffset;
+				}
+				currentOffset++;
+			} else if(current[currentOffset] == '\r' && current[currentOffset + 1] == '\n') {
+				if(!skipEmptyLines) {
+					return currentOffset;
+				}
+				currentOffset += 2;
+			} else {
+				return currentOffset;
+			}
+		}
 	}
 
 	public abstract T next() throws Exception;
@@ -120,6 +318,17 @@ public abstract class AbstractCsvReader<T> implements CsvReader<T> {
 	public int getEndOfLineIndex() {
 		return endOfLineIndex;
 	}
+
+	/**
+	 * Get the current buffer. Note that {@linkplain #fill()} might replace the buffer, 
+	 * so it must be reloaded after each fill.
+	 * 
+	 * @return the current buffer
+	 */
+
+	public char[] getCurrent() {
+		return current;
+	}
 	
 	@Override
 	public void close() throws IOException {
@@ -242,7 +451,7 @@ public abstract class AbstractCsvReader<T> implements CsvReader<T> {
 			public boolean skipToCharacter(char c) throws IOException {
 				int currentOffset = AbstractCsvReader.this.offset;
 
-				final char[] current = AbstractCsvReader.this.current;
+				char[] current = AbstractCsvReader.this.current;
 
 				try {
 					do {
@@ -251,6 +460,7 @@ public abstract class AbstractCsvReader<T> implements CsvReader<T> {
 							if (AbstractCsvReader.this.fill() <= 0) {
 								return false;
 							}
+							current = AbstractCsvReader.this.current;
 						}
 					} while (current[currentOffset++] != c);
 
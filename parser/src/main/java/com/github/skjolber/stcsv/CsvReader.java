@@ -3,6 +3,49 @@ package com.github.skjolber.stcsv;
 public interface CsvReader<T> extends AutoCloseable {
 
 	T next() throws Exception;
-	
+
+	/**
+	 * Parse the next line into an existing object, rather than creating a new one. 
+	 * Only supported by generated (databinding) readers.
+	 * 
+	 * @param value object to parse into
+	 * @return true if a line was parsed, false if there are no more lines
+	 * @throws Exception if the line could not be parsed
+	 */
+
+	default boolean next(T value) throws Exception {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Parse the next lines into a (columnar) batch, until the batch is full or there are no more lines. 
+	 * Only supported by generated readers for columnar mappings.
+	 * 
+	 * @param batch batch to parse into
+	 * @return number of lines parsed, or 0 if there are no more lines
+	 * @throws Exception if a line could not be parsed
+	 */
+
+	default int nextBatch(T batch) throws Exception {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Access the underlying character buffer. Only supported for character input.
+	 * 
+	 * @return raw reader
+	 */
+
 	RawReader getReader();
+
+	/**
+	 * Access the underlying byte buffer. Only supported for byte input, i.e. readers created 
+	 * for an {@linkplain java.io.InputStream} or {@linkplain java.nio.channels.ReadableByteChannel}.
+	 * 
+	 * @return raw input stream
+	 */
+
+	default RawInputStream getInputStream() {
+		throw new UnsupportedOperationException("Character input; use getReader()");
+	}
 }
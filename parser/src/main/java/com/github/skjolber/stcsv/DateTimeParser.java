@@ -0,0 +1,417 @@
+package com.github.skjolber.stcsv;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ *
+ * Digit-by-digit parsing of dates and times directly from the parser buffer, for a fixed set of patterns:
+ * <ul>
+ *   <li>date: <code>yyyy-MM-dd</code> (ISO) or <code>yyyyMMdd</code></li>
+ *   <li>time: <code>HH:mm</code>, <code>HH:mm:ss</code> or <code>HH:mm:ss.SSSSSSSSS</code> (one to nine fraction digits),
+ *   where the hour may be a single digit. Seconds-of-day accept hours past 24:00, as used by GTFS for trips running past midnight.</li>
+ *   <li>date-time: date and time separated by <code>T</code> or space, with an optional trailing <code>Z</code>.</li>
+ * </ul>
+ * Date-times without offset are interpreted as UTC when converted to epoch seconds or {@linkplain Instant}.
+ *
+ */
+
+public class DateTimeParser {
+
+	protected static final int SECONDS_PER_DAY = 24 * 60 * 60;
+	protected static final long NANOS_PER_SECOND = 1000_000_000L;
+	protected static final long NANOS_PER_DAY = SECONDS_PER_DAY * NANOS_PER_SECOND;
+
+	protected static final int DAYS_0000_TO_1970 = (146097 * 5) - (30 * 365 + 7);
+
+	protected static final int[] NANO_SCALE = {0, 100_000_000, 10_000_000, 1_000_000, 100_000, 10_000, 1_000, 100, 10, 1};
+
+	private DateTimeParser() {
+	}
+
+	public static LocalDate parseLocalDate(char[] array, int start, int end) {
+		return LocalDate.ofEpochDay(parseEpochDay(array, start, end));
+	}
+
+	public static LocalTime parseLocalTime(char[] array, int start, int end) {
+		long nanoOfDay = parseNanoOfDay(array, start, end);
+		if(nanoOfDay >= NANOS_PER_DAY) {
+			throw newException(array, start, end);
+		}
+		return LocalTime.ofNanoOfDay(nanoOfDay);
+	}
+
+	public static int parseSecondOfDay(char[] array, int start, int end) {
+		return (int)(parseNanoOfDay(array, start, end) / NANOS_PER_SECOND);
+	}
+
+	public static LocalDateTime parseLocalDateTime(char[] array, int start, int end) {
+		int separator = getDateTimeSeparator(array, start, end);
+		long nanoOfDay = parseNanoOfDay(array, separator + 1, getDateTimeEnd(array, start, end));
+		if(nanoOfDay >= NANOS_PER_DAY) {
+			throw newException(array, start, end);
+		}
+		return LocalDateTime.of(LocalDate.ofEpochDay(parseEpochDay(array, start, separator)), LocalTime.ofNanoOfDay(nanoOfDay));
+	}
+
+	public static Instant parseInstant(char[] array, int start, int end) {
+		int separator = getDateTimeSeparator(array, start, end);
+		long nanoOfDay = parseNanoOfDay(array, separator + 1, getDateTimeEnd(array, start, end));
+		if(nanoOfDay >= NANOS_PER_DAY) {
+			throw newException(array, start, end);
+		}
+		return Instant.ofEpochSecond(parseEpochDay(array, start, separator) * (long)SECONDS_PER_DAY, nanoOfDay);
+	}
+
+	public static long parseEpochSecond(char[] array, int start, int end) {
+		int separator = getDateTimeSeparator(array, start, end);
+		long nanoOfDay = parseNanoOfDay(array, separator + 1, getDateTimeEnd(array, start, end));
+		if(nanoOfDay >= NANOS_PER_DAY) {
+			throw newException(array, start, end);
+		}
+		return parseEpochDay(array, start, separator) * (long)SECONDS_PER_DAY + nanoOfDay / NANOS_PER_SECOND;
+	}
+
+	/**
+	 * Parse a date as the number of days since 1970-01-01.
+	 *
+	 * @param array buffer
+	 * @param start start index (inclusive)
+	 * @param end end index (exclusive)
+	 * @return the epoch day
+	 */
+
+	public static int parseEpochDay(char[] array, int start, int end) {
+		int length = end - start;
+
+		int century;
+		int year;
+		int month;
+		int day;
+		if(length == 10 && array[start + 4] == '-' && array[start + 7] == '-') {
+			century = twoDigits(array, start);
+			year = twoDigits(array, start + 2);
+			month = twoDigits(array, start + 5);
+			day = twoDigits(array, start + 8);
+		} else if(length == 8) {
+			century = twoDigits(array, start);
+			year = twoDigits(array, start + 2);
+			month = twoDigits(array, start + 4);
+			day = twoDigits(array, start + 6);
+		} else {
+			throw newException(array, start, end);
+		}
+		if(century < 0 || year < 0 || month < 1 || month > 12 || day < 1) {
+			throw newException(array, start, end);
+		}
+		year += century * 100;
+		if(day > lengthOfMonth(year, month)) {
+			throw newException(array, start, end);
+		}
+		return toEpochDay(year, month, day);
+	}
+
+	/**
+	 * Parse a time as the number of nanoseconds since midnight. Hours past 24:00 are accepted.
+	 *
+	 * @param array buffer
+	 * @param start start index (inclusive)
+	 * @param end end index (exclusive)
+	 * @return the nano of day
+	 */
+
+	public static long parseNanoOfDay(char[] array, int start, int end) {
+		if(end - start < 4) {
+			throw newException(array, start, end);
+		}
+		int offset;
+		int hour;
+		if(array[start + 1] == ':') {
+			hour = oneDigit(array, start);
+			offset = start + 1;
+		} else {
+			hour = twoDigits(array, start);
+			offset = start + 2;
+		}
+		if(hour < 0 || end - offset < 3 || array[offset] != ':') {
+			throw newException(array, start, end);
+		}
+		int minute = twoDigits(array, offset + 1);
+		offset += 3;
+
+		int second = 0;
+		if(offset < end) {
+			if(end - offset < 3 || array[offset] != ':') {
+				throw newException(array, start, end);
+			}
+			second = twoDigits(array, offset + 1);
+			offset += 3;
+		}
+
+		int nano = 0;
+		if(offset < end) {
+			int digits = end - offset - 1;
+			if(array[offset] != '.' || digits < 1 || digits > 9) {
+				throw newException(array, start, end);
+			}
+			offset++;
+			while(offset < end) {
+				int digit = oneDigit(array, offset);
+				if(digit < 0) {
+					throw newException(array, start, end);
+				}
+				nano = nano * 10 + digit;
+				offset++;
+			}
+			nano *= NANO_SCALE[digits];
+		}
+		if(minute < 0 || minute > 59 || second < 0 || second > 59) {
+			throw newException(array, start, end);
+		}
+		return (hour * 3600 + minute * 60 + second) * NANOS_PER_SECOND + nano;
+	}
+
+	protected static int getDateTimeSeparator(char[] array, int start, int end) {
+		if(end - start > 10 && (array[start + 10] == 'T' || array[start + 10] == ' ')) {
+			return start + 10;
+		}
+		if(end - start > 8 && (array[start + 8] == 'T' || array[start + 8] == ' ')) {
+			return start + 8;
+		}
+		throw newException(array, start, end);
+	}
+
+	protected static int getDateTimeEnd(char[] array, int start, int end) {
+		if(array[end - 1] == 'Z') {
+			return end - 1;
+		}
+		return end;
+	}
+
+	protected static int oneDigit(char[] array, int offset) {
+		int digit = array[offset] - '0';
+		if(digit < 0 || digit > 9) {
+			return -1;
+		}
+		return digit;
+	}
+
+	protected static int twoDigits(char[] array, int offset) {
+		int high = array[offset] - '0';
+		int low = array[offset + 1] - '0';
+		if(high < 0 || high > 9 || low < 0 || low > 9) {
+			return -1;
+		}
+		return high * 10 + low;
+	}
+
+	protected static DateTimeException newException(char[] array, int start, int end) {
+		return new DateTimeException("Unable to parse '" + new String(array, start, end - start) + "'");
+	}
+
+	public static LocalDate parseLocalDate(byte[] array, int start, int end) {
+		return LocalDate.ofEpochDay(parseEpochDay(array, start, end));
+	}
+
+	public static LocalTime parseLocalTime(byte[] array, int start, int end) {
+		long nanoOfDay = parseNanoOfDay(array, start, end);
+		if(nanoOfDay >= NANOS_PER_DAY) {
+			throw newException(array, start, end);
+		}
+		return LocalTime.ofNanoOfDay(nanoOfDay);
+	}
+
+	public static int parseSecondOfDay(byte[] array, int start, int end) {
+		return (int)(parseNanoOfDay(array, start, end) / NANOS_PER_SECOND);
+	}
+
+	public static LocalDateTime parseLocalDateTime(byte[] array, int start, int end) {
+		int separator = getDateTimeSeparator(array, start, end);
+		long nanoOfDay = parseNanoOfDay(array, separator + 1, getDateTimeEnd(array, start, end));
+		if(nanoOfDay >= NANOS_PER_DAY) {
+			throw newException(array, start, end);
+		}
+		return LocalDateTime.of(LocalDate.ofEpochDay(parseEpochDay(array, start, separator)), LocalTime.ofNanoOfDay(nanoOfDay));
+	}
+
+	public static Instant parseInstant(byte[] array, int start, int end) {
+		int separator = getDateTimeSeparator(array, start, end);
+		long nanoOfDay = parseNanoOfDay(array, separator + 1, getDateTimeEnd(array, start, end));
+		if(nanoOfDay >= NANOS_PER_DAY) {
+			throw newException(array, start, end);
+		}
+		return Instant.ofEpochSecond(parseEpochDay(array, start, separator) * (long)SECONDS_PER_DAY, nanoOfDay);
+	}
+
+	public static long parseEpochSecond(byte[] array, int start, int end) {
+		int separator = getDateTimeSeparator(array, start, end);
+		long nanoOfDay = parseNanoOfDay(array, separator + 1, getDateTimeEnd(array, start, end));
+		if(nanoOfDay >= NANOS_PER_DAY) {
+			throw newException(array, start, end);
+		}
+		return parseEpochDay(array, start, separator) * (long)SECONDS_PER_DAY + nanoOfDay / NANOS_PER_SECOND;
+	}
+
+	public static int parseEpochDay(byte[] array, int start, int end) {
+		int length = end - start;
+
+		int century;
+		int year;
+		int month;
+		int day;
+		if(length == 10 && array[start + 4] == '-' && array[start + 7] == '-') {
+			century = twoDigits(array, start);
+			year = twoDigits(array, start + 2);
+			month = twoDigits(array, start + 5);
+			day = twoDigits(array, start + 8);
+		} else if(length == 8) {
+			century = twoDigits(array, start);
+			year = twoDigits(array, start + 2);
+			month = twoDigits(array, start + 4);
+			day = twoDigits(array, start + 6);
+		} else {
+			throw newException(array, start, end);
+		}
+		if(century < 0 || year < 0 || month < 1 || month > 12 || day < 1) {
+			throw newException(array, start, end);
+		}
+		year += century * 100;
+		if(day > lengthOfMonth(year, month)) {
+			throw newException(array, start, end);
+		}
+		return toEpochDay(year, month, day);
+	}
+
+	public static long parseNanoOfDay(byte[] array, int start, int end) {
+		if(end - start < 4) {
+			throw newException(array, start, end);
+		}
+		int offset;
+		int hour;
+		if(array[start + 1] == ':') {
+			hour = oneDigit(array, start);
+			offset = start + 1;
+		} else {
+			hour = twoDigits(array, start);
+			offset = start + 2;
+		}
+		if(hour < 0 || end - offset < 3 || array[offset] != ':') {
+			throw newException(array, start, end);
+		}
+		int minute = twoDigits(array, offset + 1);
+		offset += 3;
+
+		int second = 0;
+		if(offset < end) {
+			if(end - offset < 3 || array[offset] != ':') {
+				throw newException(array, start, end);
+			}
+			second = twoDigits(array, offset + 1);
+			offset += 3;
+		}
+
+		int nano = 0;
+		if(offset < end) {
+			int digits = end - offset - 1;
+			if(array[offset] != '.' || digits < 1 || digits > 9) {
+				throw newException(array, start, end);
+			}
+			offset++;
+			while(offset < end) {
+				int digit = oneDigit(array, offset);
+				if(digit < 0) {
+					throw newException(array, start, end);
+				}
+				nano = nano * 10 + digit;
+				offset++;
+			}
+			nano *= NANO_SCALE[digits];
+		}
+		if(minute < 0 || minute > 59 || second < 0 || second > 59) {
+			throw newException(array, start, end);
+		}
+		return (hour * 3600 + minute * 60 + second) * NANOS_PER_SECOND + nano;
+	}
+
+	protected static int getDateTimeSeparator(byte[] array, int start, int end) {
+		if(end - start > 10 && (array[start + 10] == 'T' || array[start + 10] == ' ')) {
+			return start + 10;
+		}
+		if(end - start > 8 && (array[start + 8] == 'T' || array[start + 8] == ' ')) {
+			return start + 8;
+		}
+		throw newException(array, start, end);
+	}
+
+	protected static int getDateTimeEnd(byte[] array, int start, int end) {
+		if(array[end - 1] == 'Z') {
+			return end - 1;
+		}
+		return end;
+	}
+
+	protected static int oneDigit(byte[] array, int offset) {
+		int digit = array[offset] - '0';
+		if(digit < 0 || digit > 9) {
+			return -1;
+		}
+		return digit;
+	}
+
+	protected static int twoDigits(byte[] array, int offset) {
+		int high = array[offset] - '0';
+		int low = array[offset + 1] - '0';
+		if(high < 0 || high > 9 || low < 0 || low > 9) {
+			return -1;
+		}
+		return high * 10 + low;
+	}
+
+	protected static DateTimeException newException(byte[] array, int start, int end) {
+		return new DateTimeException("Unable to parse '" + new String(array, start, end - start, StandardCharsets.UTF_8) + "'");
+	}
+
+	protected static int lengthOfMonth(int year, int month) {
+		switch (month) {
+		case 2:
+			return isLeapYear(year) ? 29 : 28;
+		case 4:
+		case 6:
+		case 9:
+		case 11:
+			return 30;
+		default:
+			return 31;
+		}
+	}
+
+	protected static boolean isLeapYear(int year) {
+		return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+	}
+
+	/**
+	 * Same as {@linkplain LocalDate#toEpochDay()}, for years 0 to 9999.
+	 *
+	 * @param year year
+	 * @param month month (1 to 12)
+	 * @param day day of month
+	 * @return the epoch day
+	 */
+
+	protected static int toEpochDay(int year, int month, int day) {
+		int total = 365 * year + (year + 3) / 4 - (year + 99) / 100 + (year + 399) / 400;
+		total += (367 * month - 362) / 12;
+		total += day - 1;
+		if(month > 2) {
+			total--;
+			if(!isLeapYear(year)) {
+				total--;
+			}
+		}
+		return total - DAYS_0000_TO_1970;
+	}
+}
@@ -0,0 +1,368 @@
+package com.github.skjolber.stcsv;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+
+/**
+ *
+ * Allocation-free, correctly rounded parsing of doubles, giving the same results as {@linkplain Double#parseDouble(String)}.
+ * <br><br>
+ * Plain decimal values (i.e. <code>-12.345e-6</code>) with up to 19 significant digits are converted using
+ * Clinger's fast path or, if that does not apply, the Eisel-Lemire algorithm (as in the fast_float library).
+ * Other values, i.e. <code>NaN</code>, hexadecimal or very long values, are passed on to the JDK.
+ *
+ */
+
+public class DoubleParser {
+
+	protected static final int MINIMUM_EXPONENT = -1023;
+	protected static final int INFINITE_POWER = 0x7FF;
+	protected static final int MANTISSA_EXPLICIT_BITS = 52;
+
+	protected static final int SMALLEST_POWER_OF_TEN = -342;
+	protected static final int LARGEST_POWER_OF_TEN = 308;
+
+	protected static final int MIN_EXPONENT_ROUND_TO_EVEN = -4;
+	protected static final int MAX_EXPONENT_ROUND_TO_EVEN = 23;
+
+	protected static final long MAX_CLINGER_MANTISSA = 1L << 53;
+
+	protected static final double[] POWERS_OF_TEN = {
+		1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+		1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+	};
+
+	/**
+	 * 128-bit approximations of 5^q for q in [-342, 308], high and low 64 bits interleaved. Positive powers are truncated,
+	 * negative powers rounded up; see the fast_float table generation script.
+	 */
+
+	protected static final long[] POWERS_OF_FIVE = powersOfFive();
+
+	private static long[] powersOfFive() {
+		long[] table = new long[2 * (LARGEST_POWER_OF_TEN - SMALLEST_POWER_OF_TEN + 1)];
+
+		BigInteger five = BigInteger.valueOf(5);
+		int index = 0;
+		for(int q = SMALLEST_POWER_OF_TEN; q <= LARGEST_POWER_OF_TEN; q++) {
+			BigInteger c;
+			if(q < 0) {
+				BigInteger power5 = five.pow(-q);
+				int z = power5.bitLength();
+				if(q >= -27) {
+					c = BigInteger.ONE.shiftLeft(z + 127).divide(power5).add(BigInteger.ONE);
+				} else {
+					c = BigInteger.ONE.shiftLeft(2 * z + 128).divide(power5).add(BigInteger.ONE);
+				}
+			} else {
+				c = five.pow(q);
+			}
+			// normalize to 128 bits
+			int bitLength = c.bitLength();
+			if(bitLength > 128) {
+				c = c.shiftRight(bitLength - 128);
+			} else if(bitLength < 128) {
+				c = c.shiftLeft(128 - bitLength);
+			}
+			table[index++] = c.shiftRight(64).longValue();
+			table[index++] = c.longValue();
+		}
+		return table;
+	}
+
+	private DoubleParser() {
+	}
+
+	public static double parseDouble(char[] array, int start, int end) {
+		return parseDouble(array, start, end, '.');
+	}
+
+	public static double parseDouble(byte[] array, int start, int end) {
+		return parseDouble(array, start, end, '.');
+	}
+
+	/**
+	 * Parse a double.
+	 *
+	 * @param array buffer
+	 * @param start start index (inclusive)
+	 * @param end end index (exclusive)
+	 * @param decimalSeparator decimal separator, i.e. '.' or ','
+	 * @return the parsed value
+	 */
+
+	public static double parseDouble(char[] array, int start, int end, char decimalSeparator) {
+		int offset = start;
+		if(offset >= end) {
+			return fallback(array, start, end, decimalSeparator);
+		}
+		boolean neg = array[offset] == '-';
+		if(neg || array[offset] == '+') {
+			offset++;
+		}
+
+		long mantissa = 0;
+		int digitsStart = offset;
+		while(offset < end && array[offset] >= '0' && array[offset] <= '9') {
+			mantissa = 10 * mantissa + (array[offset] - '0');
+			offset++;
+		}
+		int digits = offset - digitsStart;
+		long exponent = 0;
+		if(offset < end && array[offset] == decimalSeparator) {
+			offset++;
+			int fractionStart = offset;
+			while(offset < end && array[offset] >= '0' && array[offset] <= '9') {
+				mantissa = 10 * mantissa + (array[offset] - '0');
+				offset++;
+			}
+			exponent = fractionStart - offset;
+			digits -= exponent;
+		}
+		if(digits == 0) {
+			return fallback(array, start, end, decimalSeparator);
+		}
+		if(offset < end && (array[offset] == 'e' || array[offset] == 'E')) {
+			offset++;
+			boolean negativeExponent = false;
+			if(offset < end && (array[offset] == '-' || array[offset] == '+')) {
+				negativeExponent = array[offset] == '-';
+				offset++;
+			}
+			int exponentStart = offset;
+			long exponentNumber = 0;
+			while(offset < end && array[offset] >= '0' && array[offset] <= '9') {
+				if(exponentNumber < 0x10000) {
+					exponentNumber = 10 * exponentNumber + (array[offset] - '0');
+				}
+				offset++;
+			}
+			if(offset == exponentStart) {
+				return fallback(array, start, end, decimalSeparator);
+			}
+			exponent += negativeExponent ? -exponentNumber : exponentNumber;
+		}
+		if(offset != end) {
+			return fallback(array, start, end, decimalSeparator);
+		}
+
+		if(digits > 19) {
+			// leading zeros are not significant
+			int index = digitsStart;
+			while(index < end && (array[index] == '0' || array[index] == decimalSeparator)) {
+				if(array[index] == '0') {
+					digits--;
+				}
+				index++;
+			}
+			if(digits > 19) {
+				return fallback(array, start, end, decimalSeparator);
+			}
+		}
+
+		double value = toDouble(mantissa, exponent);
+
+		return neg ? -value : value;
+	}
+
+	public static double parseDouble(byte[] array, int start, int end, char decimalSeparator) {
+		int offset = start;
+		if(offset >= end) {
+			return fallback(array, start, end, decimalSeparator);
+		}
+		boolean neg = array[offset] == '-';
+		if(neg || array[offset] == '+') {
+			offset++;
+		}
+
+		long mantissa = 0;
+		int digitsStart = offset;
+		while(offset < end && array[offset] >= '0' && array[offset] <= '9') {
+			mantissa = 10 * mantissa + (array[offset] - '0');
+			offset++;
+		}
+		int digits = offset - digitsStart;
+		long exponent = 0;
+		if(offset < end && array[offset] == decimalSeparator) {
+			offset++;
+			int fractionStart = offset;
+			while(offset < end && array[offset] >= '0' && array[offset] <= '9') {
+				mantissa = 10 * mantissa + (array[offset] - '0');
+				offset++;
+			}
+			exponent = fractionStart - offset;
+			digits -= exponent;
+		}
+		if(digits == 0) {
+			return fallback(array, start, end, decimalSeparator);
+		}
+		if(offset < end && (array[offset] == 'e' || array[offset] == 'E')) {
+			offset++;
+			boolean negativeExponent = false;
+			if(offset < end && (array[offset] == '-' || array[offset] == '+')) {
+				negativeExponent = array[offset] == '-';
+				offset++;
+			}
+			int exponentStart = offset;
+			long exponentNumber = 0;
+			while(offset < end && array[offset] >= '0' && array[offset] <= '9') {
+				if(exponentNumber < 0x10000) {
+					exponentNumber = 10 * exponentNumber + (array[offset] - '0');
+				}
+				offset++;
+			}
+			if(offset == exponentStart) {
+				return fallback(array, start, end, decimalSeparator);
+			}
+			exponent += negativeExponent ? -exponentNumber : exponentNumber;
+		}
+		if(offset != end) {
+			return fallback(array, start, end, decimalSeparator);
+		}
+
+		if(digits > 19) {
+			// leading zeros are not significant
+			int index = digitsStart;
+			while(index < end && (array[index] == '0' || array[index] == decimalSeparator)) {
+				if(array[index] == '0') {
+					digits--;
+				}
+				index++;
+			}
+			if(digits > 19) {
+				return fallback(array, start, end, decimalSeparator);
+			}
+		}
+
+		double value = toDouble(mantissa, exponent);
+
+		return neg ? -value : value;
+	}
+
+	/**
+	 * Convert a decimal value to double.
+	 *
+	 * @param w decimal significand (unsigned)
+	 * @param q decimal exponent
+	 * @return positive value
+	 */
+
+	protected static double toDouble(long w, long q) {
+		if(w == 0 || q < SMALLEST_POWER_OF_TEN) {
+			return 0d;
+		}
+		if(q > LARGEST_POWER_OF_TEN) {
+			return Double.POSITIVE_INFINITY;
+		}
+		if(-22 <= q && q <= 22 && w >= 0 && w <= MAX_CLINGER_MANTISSA) {
+			// both exactly representable, so a single (correctly rounded) operation
+			if(q < 0) {
+				return w / POWERS_OF_TEN[(int)-q];
+			}
+			return w * POWERS_OF_TEN[(int)q];
+		}
+
+		// Eisel-Lemire
+		int lz = Long.numberOfLeadingZeros(w);
+		w <<= lz;
+
+		int index = 2 * (int)(q - SMALLEST_POWER_OF_TEN);
+		long firstHigh = unsignedMultiplyHigh(w, POWERS_OF_FIVE[index]);
+		long firstLow = w * POWERS_OF_FIVE[index];
+
+		long precisionMask = 0xFFFFFFFFFFFFFFFFL >>> (MANTISSA_EXPLICIT_BITS + 3);
+		if((firstHigh & precisionMask) == precisionMask) {
+			// need more precision
+			long secondHigh = unsignedMultiplyHigh(w, POWERS_OF_FIVE[index + 1]);
+			firstLow += secondHigh;
+			if(Long.compareUnsigned(secondHigh, firstLow) > 0) {
+				firstHigh++;
+			}
+		}
+
+		int upperbit = (int)(firstHigh >>> 63);
+		int shift = upperbit + 64 - MANTISSA_EXPLICIT_BITS - 3;
+		long mantissa = firstHigh >>> shift;
+		int power2 = power((int)q) + upperbit - lz - MINIMUM_EXPONENT;
+
+		if(power2 <= 0) {
+			// subnormal
+			if(-power2 + 1 >= 64) {
+				return 0d;
+			}
+			mantissa >>>= -power2 + 1;
+			mantissa += (mantissa & 1);
+			mantissa >>>= 1;
+			power2 = mantissa < (1L << MANTISSA_EXPLICIT_BITS) ? 0 : 1;
+
+			return Double.longBitsToDouble(mantissa | ((long)power2 << MANTISSA_EXPLICIT_BITS));
+		}
+
+		if(Long.compareUnsigned(firstLow, 1) <= 0 && q >= MIN_EXPONENT_ROUND_TO_EVEN && q <= MAX_EXPONENT_ROUND_TO_EVEN && (mantissa & 3) == 1) {
+			// exactly halfway between two values, round to even
+			if((mantissa << shift) == firstHigh) {
+				mantissa &= ~1L;
+			}
+		}
+
+		mantissa += (mantissa & 1);
+		mantissa >>>= 1;
+		if(mantissa >= (2L << MANTISSA_EXPLICIT_BITS)) {
+			mantissa = 1L << MANTISSA_EXPLICIT_BITS;
+			power2++;
+		}
+		mantissa &= ~(1L << MANTISSA_EXPLICIT_BITS);
+		if(power2 >= INFINITE_POWER) {
+			return Double.POSITIVE_INFINITY;
+		}
+		return Double.longBitsToDouble(mantissa | ((long)power2 << MANTISSA_EXPLICIT_BITS));
+	}
+
+	/**
+	 *
+	 * @param q decimal exponent
+	 * @return floor(log2(10^q)) + 63
+	 */
+
+	protected static int power(int q) {
+		return (((152170 + 65536) * q) >> 16) + 63;
+	}
+
+	protected static long unsignedMultiplyHigh(long a, long b) {
+		long aLow = a & 0xFFFFFFFFL;
+		long aHigh = a >>> 32;
+		long bLow = b & 0xFFFFFFFFL;
+		long bHigh = b >>> 32;
+
+		long lowLow = aLow * bLow;
+		long highLow = aHigh * bLow;
+		long lowHigh = aLow * bHigh;
+		long highHigh = aHigh * bHigh;
+
+		long cross = (lowLow >>> 32) + (highLow & 0xFFFFFFFFL) + lowHigh;
+
+		return highHigh + (highLow >>> 32) + (cross >>> 32);
+	}
+
+	protected static double fallback(char[] array, int start, int end, char decimalSeparator) {
+		String value = new String(array, start, end - start);
+		if(decimalSeparator != '.') {
+			if(value.indexOf('.') != -1) {
+				throw new NumberFormatException("Unexpected decimal point in '" + value + "'");
+			}
+			value = value.replace(decimalSeparator, '.');
+		}
+		return Double.parseDouble(value);
+	}
+
+	protected static double fallback(byte[] array, int start, int end, char decimalSeparator) {
+		String value = new String(array, start, end - start, StandardCharsets.UTF_8);
+		if(decimalSeparator != '.') {
+			if(value.indexOf('.') != -1) {
+				throw new NumberFormatException("Unexpected decimal point in '" + value + "'");
+			}
+			value = value.replace(decimalSeparator, '.');
+		}
+		return Double.parseDouble(value);
+	}
+}
@@ -10,4 +10,14 @@ public class EmptyCsvReader<T> extends AbstractCsvReader<T> {
 	public T next() throws Exception {
 		return null;
 	}
+
+	@Override
+	public boolean next(T value) throws Exception {
+		return false;
+	}
+
+	@Override
+	public int nextBatch(T batch) throws Exception {
+		return 0;
+	}
 }
@@ -0,0 +1,46 @@
+package com.github.skjolber.stcsv;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ *
+ * Access to underlying input stream, for error correction and such.
+ * The byte-based sibling of {@linkplain RawReader}.
+ *
+ */
+
+public abstract class RawInputStream extends InputStream {
+
+	public abstract byte[] getBuffer();
+
+	/**
+	 *
+	 * Index (relative to buffer)
+	 *
+	 * @return offset
+	 */
+
+	public abstract int getOffset();
+
+	/**
+	 * Limit (so that index is less than limit).
+	 *
+	 * @return limit
+	 */
+
+	public abstract int getLimit();
+
+	/**
+	 *
+	 * Fill buffer with additional data from the underlying input stream.
+	 *
+	 * @return true if there was more left
+	 * @throws IOException if underlying input stream throws exception
+	 */
+
+	public abstract boolean fill() throws IOException;
+
+	public abstract boolean skipToByte(byte c) throws IOException;
+
+}
@@ -0,0 +1,116 @@
+package com.github.skjolber.stcsv;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ *
+ * Bounded cache for deduplicating {@linkplain String} values of low-cardinality columns. The value is hashed
+ * in place, so that a cache hit does not allocate anything; on a miss a new {@linkplain String} is created and
+ * replaces any previous entry in its slot.
+ * <br><br>
+ * Thread-safe: entries are immutable, so concurrent readers at worst see a miss.
+ *
+ */
+
+public class StringCache {
+
+	protected final String[] entries;
+	protected final int mask;
+
+	/**
+	 * Constructor
+	 *
+	 * @param maxEntries maximum number of entries, rounded up to the nearest power of two
+	 */
+
+	public StringCache(int maxEntries) {
+		if(maxEntries <= 0) {
+			throw new IllegalArgumentException("Expected positive number of entries, got " + maxEntries);
+		}
+		int size = Integer.highestOneBit(maxEntries);
+		if(size < maxEntries) {
+			size = size << 1;
+		}
+		this.entries = new String[size];
+		this.mask = size - 1;
+	}
+
+	/**
+	 * Get a (possibly cached) value.
+	 *
+	 * @param array buffer
+	 * @param start start index (inclusive)
+	 * @param end end index (exclusive)
+	 * @return value with the characters of the range
+	 */
+
+	public String get(char[] array, int start, int end) {
+		int hash = 0;
+		for(int i = start; i < end; i++) {
+			hash = 31 * hash + array[i];
+		}
+		int slot = (hash ^ (hash >>> 16)) & mask;
+
+		String entry = entries[slot];
+		if(entry != null && contentEquals(entry, array, start, end)) {
+			return entry;
+		}
+
+		String value = new String(array, start, end - start);
+		entries[slot] = value;
+		return value;
+	}
+
+	/**
+	 * Get a (possibly cached) value. Only ASCII values are cached; other values are always decoded.
+	 *
+	 * @param array UTF-8 buffer
+	 * @param start start index (inclusive)
+	 * @param end end index (exclusive)
+	 * @return value decoded from the range
+	 */
+
+	public String get(byte[] array, int start, int end) {
+		int hash = 0;
+		for(int i = start; i < end; i++) {
+			hash = 31 * hash + array[i];
+		}
+		int slot = (hash ^ (hash >>> 16)) & mask;
+
+		String entry = entries[slot];
+		if(entry != null && contentEquals(entry, array, start, end)) {
+			return entry;
+		}
+
+		String value = new String(array, start, end - start, StandardCharsets.UTF_8);
+		if(value.length() == end - start) {
+			entries[slot] = value;
+		}
+		return value;
+	}
+
+	protected static boolean contentEquals(String entry, char[] array, int start, int end) {
+		if(entry.length() != end - start) {
+			return false;
+		}
+		for(int i = start; i < end; i++) {
+			if(entry.charAt(i - start) != array[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	protected static boolean contentEquals(String entry, byte[] array, int start, int end) {
+		if(entry.length() != end - start) {
+			return false;
+		}
+		for(int i = start; i < end; i++) {
+			// non-ASCII bytes are negative, and so never equal
+			if(entry.charAt(i - start) != array[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
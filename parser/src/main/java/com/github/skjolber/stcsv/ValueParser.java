@@ -0,0 +1,487 @@
+package com.github.skjolber.stcsv;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 
+ * Allocation-free parsing of primitive values directly from the parser buffer.
+ * 
+ */
+
+public class ValueParser {
+
+	protected final static long L_BILLION = 1000000000;
+
+	// exactly representable powers of ten for the float fast path
+	protected final static float[] FLOAT_POWERS_OF_TEN = {1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f};
+
+	private ValueParser() {
+	}
+
+    /**
+     * Helper method to (more) efficiently parse integer numbers from
+     * String values.
+     * 
+	 * @param ch array
+	 * @param offset start index (inclusive)
+	 * @param end end index (exclusive)
+	 * @return the parsed value
+	 */
+	
+    public static int parseInt(char[] ch, int offset, int end) {
+        /* Ok: let's keep strategy simple: ignoring optional minus sign,
+         * we'll parse 1 - 9 digits more efficiently;
+         * otherwise just defer to JDK parse functionality.
+         */
+        int len = end - offset;
+        boolean neg = (ch[offset] == '-');
+        // must have 1 - 9 digits after optional sign:
+        // negative?
+        if (neg) {
+            if (len == 1 || len > 10) {
+            	// this handles both overflow and numbers close to overflowing
+                return Integer.parseInt(new String(ch, end - len, len));
+            }
+            offset++;
+        } else {
+            if (len > 9) {
+            	// this handles both overflow and numbers close to overflowing
+            	return Integer.parseInt(new String(ch, end - len, len));
+            }
+        }
+        char c = ch[offset++];
+        
+        if (c > '9' || c < '0') {
+        	throw new NumberFormatException(new String(ch, end - len, len));
+        }
+        int num = c - '0';
+        
+        if (offset < end) {
+            c = ch[offset++];
+            if (c > '9' || c < '0') {
+            	throw new NumberFormatException(new String(ch, end - len, len));
+            }
+            num = (num * 10) + (c - '0');
+            if (offset < end) {
+                c = ch[offset++];
+                if (c > '9' || c < '0') {
+                	throw new NumberFormatException(new String(ch, end - len, len));
+                }
+                num = (num * 10) + (c - '0');
+                // Let's just loop if we have more than 3 digits:
+                if (offset < end) {
+                    do {
+                        c = ch[offset++];
+                        if (c > '9' || c < '0') {
+                        	throw new NumberFormatException(new String(ch, end - len, len));
+                        }
+                        num = (num * 10) + (c - '0');
+                    } while (offset < end);
+                }
+            }
+        }
+        return neg ? -num : num;
+    }    
+
+    public static int parseInt(byte[] ch, int offset, int end) {
+        /* Ok: let's keep strategy simple: ignoring optional minus sign,
+         * we'll parse 1 - 9 digits more efficiently;
+         * otherwise just defer to JDK parse functionality.
+         */
+        int len = end - offset;
+        boolean neg = (ch[offset] == '-');
+        // must have 1 - 9 digits after optional sign:
+        // negative?
+        if (neg) {
+            if (len == 1 || len > 10) {
+            	// this handles both overflow and numbers close to overflowing
+                return Integer.parseInt(new String(ch, end - len, len, StandardCharsets.UTF_8));
+            }
+            offset++;
+        } else {
+            if (len > 9) {
+            	// this handles both overflow and numbers close to overflowing
+            	return Integer.parseInt(new String(ch, end - len, len, StandardCharsets.UTF_8));
+            }
+        }
+        int c = ch[offset++];
+        
+        if (c > '9' || c < '0') {
+        	throw new NumberFormatException(new String(ch, end - len, len, StandardCharsets.UTF_8));
+        }
+        int num = c - '0';
+        
+        if (offset < end) {
+            c = ch[offset++];
+            if (c > '9' || c < '0') {
+            	throw new NumberFormatException(new String(ch, end - len, len, StandardCharsets.UTF_8));
+            }
+            num = (num * 10) + (c - '0');
+            if (offset < end) {
+                c = ch[offset++];
+                if (c > '9' || c < '0') {
+                	throw new NumberFormatException(new String(ch, end - len, len, StandardCharsets.UTF_8));
+                }
+                num = (num * 10) + (c - '0');
+                // Let's just loop if we have more than 3 digits:
+                if (offset < end) {
+                    do {
+                        c = ch[offset++];
+                        if (c > '9' || c < '0') {
+                        	throw new NumberFormatException(new String(ch, end - len, len, StandardCharsets.UTF_8));
+                        }
+                        num = (num * 10) + (c - '0');
+                    } while (offset < end);
+                }
+            }
+        }
+        return neg ? -num : num;
+    }
+
+    public static long parseLong(char[] ch, int off, int end) {
+    	boolean neg = (ch[off] == '-');
+    	if(neg) {
+    		off++;
+    	}
+    	
+    	int len = end - off;
+    	
+    	if(len > 9) {
+             int len1 = len-9;
+    		
+    		 long val = parseInteger(ch, off, len1) * L_BILLION + parseInteger(ch, off+len1, 9);    		
+    		 
+    		 return neg ? -val : val;
+    	} else if(len > 0) {
+    		long val =  parseInteger(ch, off, end - off);
+    		
+    		return neg ? -val : val;
+    	} else {
+    		throw new NumberFormatException();
+    	}
+    }
+
+    public static long parseLong(byte[] ch, int off, int end) {
+    	boolean neg = (ch[off] == '-');
+    	if(neg) {
+    		off++;
+    	}
+    	
+    	int len = end - off;
+    	
+    	if(len > 9) {
+             int len1 = len-9;
+    		
+    		 long val = parseInteger(ch, off, len1) * L_BILLION + parseInteger(ch, off+len1, 9);    		
+    		 
+    		 return neg ? -val : val;
+    	} else if(len > 0) {
+    		long val =  parseInteger(ch, off, end - off);
+    		
+    		return neg ? -val : val;
+    	} else {
+    		throw new NumberFormatException();
+    	}
+    }
+
+    /**
+     * Fast method for parsing integers that are known to fit into
+     * regular 32-bit signed int type. This means that length is
+     * between 1 and 9 digits (inclusive)
+     * 
+	 * @param ch array
+	 * @param off start index (inclusive)
+	 * @param len length 
+     * @return parsed value
+     */
+    
+    protected static int parseInteger(char[] ch, int off, int len)
+    {
+        int num = ch[off + len - 1] - '0'; // LSD
+        
+        switch(len) {
+        case 9: 
+            num += (ch[off++] - '0') * 100000000;
+        case 8: 
+            num += (ch[off++] - '0') * 10000000;
+        case 7: 
+            num += (ch[off++] - '0') * 1000000;
+        case 6: 
+            num += (ch[off++] - '0') * 100000;
+        case 5: 
+            num += (ch[off++] - '0') * 10000;
+        case 4: 
+            num += (ch[off++] - '0') * 1000;
+        case 3: 
+            num += (ch[off++] - '0') * 100;
+        case 2: 
+            num += (ch[off] - '0') * 10;
+        default: return num;
+        }
+    }
+
+    protected static int parseInteger(byte[] ch, int off, int len)
+    {
+        int num = ch[off + len - 1] - '0'; // LSD
+        
+        switch(len) {
+        case 9: 
+            num += (ch[off++] - '0') * 100000000;
+        case 8: 
+            num += (ch[off++] - '0') * 10000000;
+        case 7: 
+            num += (ch[off++] - '0') * 1000000;
+        case 6: 
+            num += (ch[off++] - '0') * 100000;
+        case 5: 
+            num += (ch[off++] - '0') * 10000;
+        case 4: 
+            num += (ch[off++] - '0') * 1000;
+        case 3: 
+            num += (ch[off++] - '0') * 100;
+        case 2: 
+            num += (ch[off] - '0') * 10;
+        default: return num;
+        }
+    }
+
+	public static boolean parseBoolean(char[] array, int start, int end) {
+		return end - start == 4 && 
+		(array[start] == 't' || array[start] == 'T') &&
+		(array[++start] == 'r' || array[start] == 'R') &&
+		(array[++start] == 'u' || array[start] == 'U') &&
+		(array[++start] == 'e' || array[start] == 'E');
+	}
+
+	public static boolean parseBoolean(byte[] array, int start, int end) {
+		return end - start == 4 && 
+		(array[start] == 't' || array[start] == 'T') &&
+		(array[++start] == 'r' || array[start] == 'R') &&
+		(array[++start] == 'u' || array[start] == 'U') &&
+		(array[++start] == 'e' || array[start] == 'E');
+	}
+
+	public static double parseDouble(char[] array, int start, int end) {
+		return DoubleParser.parseDouble(array, start, end, '.');
+	}
+
+	public static double parseDouble(byte[] array, int start, int end) {
+		return DoubleParser.parseDouble(array, start, end, '.');
+	}
+
+	public static double parseDecimalCommaDouble(char[] array, int start, int end) {
+		return DoubleParser.parseDouble(array, start, end, ',');
+	}
+
+	public static double parseDecimalCommaDouble(byte[] array, int start, int end) {
+		return DoubleParser.parseDouble(array, start, end, ',');
+	}
+
+	public static short parseShort(char[] array, int start, int end) {
+		int value = parseInt(array, start, end);
+		if(value < Short.MIN_VALUE || value > Short.MAX_VALUE) {
+			throw new NumberFormatException("Value out of range: " + new String(array, start, end - start));
+		}
+		return (short)value;
+	}
+
+	public static short parseShort(byte[] array, int start, int end) {
+		int value = parseInt(array, start, end);
+		if(value < Short.MIN_VALUE || value > Short.MAX_VALUE) {
+			throw new NumberFormatException("Value out of range: " + new String(array, start, end - start, StandardCharsets.UTF_8));
+		}
+		return (short)value;
+	}
+
+	public static byte parseByte(char[] array, int start, int end) {
+		int value = parseInt(array, start, end);
+		if(value < Byte.MIN_VALUE || value > Byte.MAX_VALUE) {
+			throw new NumberFormatException("Value out of range: " + new String(array, start, end - start));
+		}
+		return (byte)value;
+	}
+
+	public static byte parseByte(byte[] array, int start, int end) {
+		int value = parseInt(array, start, end);
+		if(value < Byte.MIN_VALUE || value > Byte.MAX_VALUE) {
+			throw new NumberFormatException("Value out of range: " + new String(array, start, end - start, StandardCharsets.UTF_8));
+		}
+		return (byte)value;
+	}
+
+	public static char parseChar(char[] array, int start, int end) {
+		if(end - start != 1) {
+			throw new IllegalArgumentException("Expected single character, got '" + new String(array, start, end - start) + "'");
+		}
+		return array[start];
+	}
+
+	public static char parseChar(byte[] array, int start, int end) {
+		if(end - start == 1 && array[start] >= 0) {
+			return (char)array[start];
+		}
+		// multi-byte UTF-8 sequence
+		String value = new String(array, start, end - start, StandardCharsets.UTF_8);
+		if(value.length() != 1) {
+			throw new IllegalArgumentException("Expected single character, got '" + value + "'");
+		}
+		return value.charAt(0);
+	}
+
+	/**
+	 * Parse a float. Plain decimal values with at most 7 significant digits and 10 fraction digits
+	 * are computed with a single (correctly rounded) float operation, other values are passed to the JDK.
+	 * 
+	 * @param array buffer
+	 * @param start start index (inclusive)
+	 * @param end end index (exclusive)
+	 * @return the parsed value
+	 */
+
+	public static float parseFloat(char[] array, int start, int end) {
+		int offset = start;
+		boolean neg = offset < end && array[offset] == '-';
+		if(neg) {
+			offset++;
+		}
+		int mantissa = 0;
+		int digits = 0;
+		int scale = -1;
+		while(offset < end) {
+			char c = array[offset];
+			if(c >= '0' && c <= '9') {
+				if(mantissa != 0 || c != '0') {
+					digits++;
+				}
+				mantissa = mantissa * 10 + (c - '0');
+				if(scale != -1) {
+					scale++;
+				}
+			} else if(c == '.' && scale == -1) {
+				scale = 0;
+			} else {
+				break;
+			}
+			if(digits > 7) {
+				break;
+			}
+			offset++;
+		}
+		if(offset == end && scale < FLOAT_POWERS_OF_TEN.length && offset > start + (neg ? 1 : 0) + (scale == -1 ? 0 : 1)) {
+			float value = scale > 0 ? mantissa / FLOAT_POWERS_OF_TEN[scale] : mantissa;
+			return neg ? -value : value;
+		}
+		return Float.parseFloat(new String(array, start, end - start));
+	}
+
+	public static float parseFloat(byte[] array, int start, int end) {
+		int offset = start;
+		boolean neg = offset < end && array[offset] == '-';
+		if(neg) {
+			offset++;
+		}
+		int mantissa = 0;
+		int digits = 0;
+		int scale = -1;
+		while(offset < end) {
+			byte c = array[offset];
+			if(c >= '0' && c <= '9') {
+				if(mantissa != 0 || c != '0') {
+					digits++;
+				}
+				mantissa = mantissa * 10 + (c - '0');
+				if(scale != -1) {
+					scale++;
+				}
+			} else if(c == '.' && scale == -1) {
+				scale = 0;
+			} else {
+				break;
+			}
+			if(digits > 7) {
+				break;
+			}
+			offset++;
+		}
+		if(offset == end && scale < FLOAT_POWERS_OF_TEN.length && offset > start + (neg ? 1 : 0) + (scale == -1 ? 0 : 1)) {
+			float value = scale > 0 ? mantissa / FLOAT_POWERS_OF_TEN[scale] : mantissa;
+			return neg ? -value : value;
+		}
+		return Float.parseFloat(new String(array, start, end - start, StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Parse a {@linkplain BigDecimal}. Plain decimal values of up to 18 characters are created from their
+	 * unscaled value, without an intermediate {@linkplain String}.
+	 * 
+	 * @param array buffer
+	 * @param start start index (inclusive)
+	 * @param end end index (exclusive)
+	 * @return the parsed value
+	 */
+
+	public static BigDecimal parseBigDecimal(char[] array, int start, int end) {
+		int offset = start;
+		boolean neg = offset < end && array[offset] == '-';
+		if(neg || (offset < end && array[offset] == '+')) {
+			offset++;
+		}
+		if(end - offset <= 18) {
+			long unscaled = 0;
+			int scale = -1;
+			int digits = 0;
+			while(offset < end) {
+				char c = array[offset];
+				if(c >= '0' && c <= '9') {
+					unscaled = unscaled * 10 + (c - '0');
+					digits++;
+					if(scale != -1) {
+						scale++;
+					}
+				} else if(c == '.' && scale == -1) {
+					scale = 0;
+				} else {
+					break;
+				}
+				offset++;
+			}
+			if(offset == end && digits > 0) {
+				return BigDecimal.valueOf(neg ? -unscaled : unscaled, scale == -1 ? 0 : scale);
+			}
+		}
+		return new BigDecimal(array, start, end - start);
+	}
+
+	public static BigDecimal parseBigDecimal(byte[] array, int start, int end) {
+		int offset = start;
+		boolean neg = offset < end && array[offset] == '-';
+		if(neg || (offset < end && array[offset] == '+')) {
+			offset++;
+		}
+		if(end - offset <= 18) {
+			long unscaled = 0;
+			int scale = -1;
+			int digits = 0;
+			while(offset < end) {
+				byte c = array[offset];
+				if(c >= '0' && c <= '9') {
+					unscaled = unscaled * 10 + (c - '0');
+					digits++;
+					if(scale != -1) {
+						scale++;
+					}
+				} else if(c == '.' && scale == -1) {
+					scale = 0;
+				} else {
+					break;
+				}
+				offset++;
+			}
+			if(offset == end && digits > 0) {
+				return BigDecimal.valueOf(neg ? -unscaled : unscaled, scale == -1 ? 0 : scale);
+			}
+		}
+		return new BigDecimal(new String(array, start, end - start, StandardCharsets.UTF_8));
+	}
+}
@@ -1,9 +1,18 @@
 package com.github.skjolber.stcsv.builder;
 
+import java.util.concurrent.Executor;
+
 import com.github.skjolber.stcsv.AbstractCsvReader;
+import com.github.skjolber.stcsv.scan.ScanStrategy;
 
 public abstract class AbstractCsvBuilder<B>  {
 
+	protected static final Executor DEFAULT_READ_AHEAD_EXECUTOR = (command) -> {
+		Thread thread = new Thread(command, "csv-read-ahead");
+		thread.setDaemon(true);
+		thread.start();
+	};
+
 	protected static boolean isSafeCharDelimiter(char c) {
 		return !Character.isLowSurrogate(c);
 	}
@@ -15,6 +24,9 @@ public abstract class AbstractCsvBuilder<B>  {
 	protected boolean skipComments = false;
 	protected boolean skipEmptyLines = false;
 	protected int bufferLength = AbstractCsvReader.DEFAULT_RANGE_LENGTH;
+	protected int maxBufferLength = -1; // i.e. same as buffer length
+	protected Executor readAheadExecutor;
+	protected ScanStrategy scanStrategy = ScanStrategy.SCALAR;
 
 	@SuppressWarnings("unchecked")
 	public B skipEmptyLines() {
@@ -36,7 +48,62 @@ public abstract class AbstractCsvBuilder<B>  {
 		
 		return (B) this;
 	}
+
+	/**
+	 * Max buffer length. The buffer grows up to this length if a single row (or quoted value) 
+	 * does not fit within the buffer, then shrinks back once the row has been parsed. 
+	 * 
+	 * @param length max buffer length
+	 * @return this
+	 */
+
+	@SuppressWarnings("unchecked")
+	public B maxBufferLength(int length) {
+		this.maxBufferLength = length;
+		
+		return (B) this;
+	}
 	
+	/**
+	 * Read input ahead of the parser in a (new) background thread, so that reading and parsing overlap.
+	 * 
+	 * @return this
+	 */
+
+	public B readAhead() {
+		return readAhead(DEFAULT_READ_AHEAD_EXECUTOR);
+	}
+
+	/**
+	 * Read input ahead of the parser using a task on the given executor, so that reading and parsing overlap.
+	 * The task runs until the input is exhausted or the reader is closed, so the executor should
+	 * run it on a dedicated (platform or virtual) thread.
+	 * 
+	 * @param executor executor for the read-ahead task
+	 * @return this
+	 */
+
+	@SuppressWarnings("unchecked")
+	public B readAhead(Executor executor) {
+		this.readAheadExecutor = executor;
+		
+		return (B) this;
+	}
+
+	/**
+	 * Strategy for scanning (UTF-8) byte input for dividers, quotes and newlines.
+	 * 
+	 * @param strategy scan strategy
+	 * @return this
+	 */
+
+	@SuppressWarnings("unchecked")
+	public B scanStrategy(ScanStrategy strategy) {
+		this.scanStrategy = strategy;
+		
+		return (B) this;
+	}
+
 	@SuppressWarnings("unchecked")
 	public B divider(char c) {
 		if(!isSafeCharDelimiter(c) || c == '\n') {
@@ -76,4 +143,16 @@ public abstract class AbstractCsvBuilder<B>  {
 	public int getBufferLength() {
 		return bufferLength;
 	}
+
+	public int getMaxBufferLength() {
+		return Math.max(bufferLength, maxBufferLength);
+	}
+
+	public Executor getReadAheadExecutor() {
+		return readAheadExecutor;
+	}
+
+	public ScanStrategy getScanStrategy() {
+		return scanStrategy;
+	}
 }
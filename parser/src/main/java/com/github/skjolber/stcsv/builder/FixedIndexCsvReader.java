@@ -1,6 +1,7 @@
 package com.github.skjolber.stcsv.builder;
 
 import com.github.skjolber.stcsv.CsvReader;
+import com.github.skjolber.stcsv.RawInputStream;
 import com.github.skjolber.stcsv.RawReader;
 
 /**
@@ -50,4 +51,9 @@ public class FixedIndexCsvReader implements CsvReader<String[]>{
 	public RawReader getReader() {
 		return reader.getReader();
 	}
+
+	@Override
+	public RawInputStream getInputStream() {
+		return reader.getInputStream();
+	}
 }
@@ -0,0 +1,60 @@
+package com.github.skjolber.stcsv.builder;
+
+import com.github.skjolber.stcsv.CsvReader;
+import com.github.skjolber.stcsv.RawInputStream;
+import com.github.skjolber.stcsv.RawReader;
+
+/**
+ * 
+ * Wrappper {@linkplain CsvReader} which normalizes / fixes the line offset 
+ * indexes as seen from the consumer's perspective. Unmapped columns are empty.
+ * 
+ */
+
+public class FixedIndexOffsetCsvReader implements CsvReader<int[]>{
+
+	private final CsvReader<int[]> reader;
+	
+	private final int[] source;
+	private final int[] destination;
+	
+	private int[] fixed;
+	
+	public FixedIndexOffsetCsvReader(CsvReader<int[]> reader, int[] source, int[] destination, int length) {
+		this.reader = reader;
+		this.source = source;
+		this.destination = destination;
+		
+		this.fixed = new int[length * 2];
+	}
+
+	@Override
+	public int[] next() throws Exception {
+		int[] next = reader.next();
+		if(next == null) {
+			return null;
+		}
+		
+		for(int i = 0; i < source.length; i++) {
+			fixed[destination[i] * 2] = next[source[i] * 2];
+			fixed[destination[i] * 2 + 1] = next[source[i] * 2 + 1];
+		}
+		
+		return fixed;
+	}
+
+	@Override
+	public void close() throws Exception {
+		reader.close();
+	}
+	
+	@Override
+	public RawReader getReader() {
+		return reader.getReader();
+	}
+
+	@Override
+	public RawInputStream getInputStream() {
+		return reader.getInputStream();
+	}
+}
@@ -1,77 +1,504 @@
 package com.github.skjolber.stcsv.builder;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import com.github.skjolber.stcsv.AbstractByteCsvReader;
+import com.github.skjolber.stcsv.AbstractCsvReader;
+import com.github.skjolber.stcsv.CsvException;
 import com.github.skjolber.stcsv.CsvReader;
 import com.github.skjolber.stcsv.EmptyCsvReader;
+import com.github.skjolber.stcsv.StringCache;
+import com.github.skjolber.stcsv.io.ByteBufferInputStream;
+import com.github.skjolber.stcsv.io.MappedFileInputStream;
+import com.github.skjolber.stcsv.io.ReadAheadInputStream;
+import com.github.skjolber.stcsv.io.ReadAheadReader;
+import com.github.skjolber.stcsv.io.ReadableByteChannelInputStream;
+import com.github.skjolber.stcsv.row.ColumnType;
+import com.github.skjolber.stcsv.row.CsvRow;
+import com.github.skjolber.stcsv.row.CsvRowReader;
+import com.github.skjolber.stcsv.row.DefaultCsvRowReader;
+import com.github.skjolber.stcsv.row.DefaultRFC4180CsvRowReader;
+import com.github.skjolber.stcsv.row.OffsetCsvReader;
+import com.github.skjolber.stcsv.row.RFC4180CsvRowReader;
+import com.github.skjolber.stcsv.row.TypedCsvRow;
+import com.github.skjolber.stcsv.row.TypedCsvRowReader;
+import com.github.skjolber.stcsv.sa.DefaultStringArrayByteCsvReader;
 import com.github.skjolber.stcsv.sa.DefaultStringArrayCsvReader;
+import com.github.skjolber.stcsv.sa.NoLinebreakStringArrayByteCsvReader;
 import com.github.skjolber.stcsv.sa.NoLinebreakStringArrayCsvReader;
+import com.github.skjolber.stcsv.sa.ProjectedStringArrayByteCsvReader;
+import com.github.skjolber.stcsv.sa.ProjectedStringArrayCsvReader;
+import com.github.skjolber.stcsv.sa.rfc4180.DefaultRFC4180StringArrayByteCsvReader;
+import com.github.skjolber.stcsv.sa.rfc4180.DefaultRFC4180StringArrayCsvReader;
+import com.github.skjolber.stcsv.sa.rfc4180.NoLinebreakRFC4180StringArrayByteCsvReader;
 import com.github.skjolber.stcsv.sa.rfc4180.NoLinebreakRFC4180StringArrayCsvReader;
+import com.github.skjolber.stcsv.sa.rfc4180.RFC4180StringArrayByteCsvReader;
 import com.github.skjolber.stcsv.sa.rfc4180.RFC4180StringArrayCsvReader;
+import com.github.skjolber.stcsv.scan.ByteScanner;
 
 public class StringArrayCsvReaderBuilder extends AbstractCsvBuilder<StringArrayCsvReaderBuilder> {
 
 	protected boolean linebreaks = true;
 	protected Map<String, Integer> columnIndexes;
+	protected Map<Integer, Integer> deduplicatedColumns;
+	protected Map<String, ColumnType> columnTypes;
 
 	public CsvReader<String[]> build(Reader reader) throws Exception {
-		if(skipComments) {
-			throw new CsvBuilderException("Skipping comments not supported");
+		return build(reader, -1L);
+	}
+
+	/**
+	 * Build a reader for input of (approximately) known length, so that the buffer can be sized accordingly.
+	 * 
+	 * @param reader input
+	 * @param length input length hint, or -1 if unknown
+	 * @return reader for the input
+	 * @throws Exception if the reader could not be constructed
+	 */
+
+	public CsvReader<String[]> build(Reader reader, long length) throws Exception {
+		int bufferLength = AbstractCsvReader.getBufferLength(length, this.bufferLength);
+		
+		if(readAheadExecutor != null) {
+			reader = new ReadAheadReader(reader, bufferLength, readAheadExecutor);
 		}
-		if(skipEmptyLines) {
-			throw new CsvBuilderException("Skipping empty lines not supported");
+		
+		return mapColumns(reader(reader, bufferLength));
+	}
+
+	/**
+	 * Build a reader which returns a flyweight {@linkplain CsvRow} for each row, so that values are not copied 
+	 * out of the parser buffer unless explicitly requested.
+	 * 
+	 * @param reader input
+	 * @return reader for the input
+	 * @throws Exception if the reader could not be constructed
+	 */
+
+	public CsvReader<CsvRow> buildRows(Reader reader) throws Exception {
+		return buildRows(reader, -1L);
+	}
+
+	/**
+	 * Build a reader which returns a flyweight {@linkplain CsvRow} for each row, 
+	 * for input of (approximately) known length, so that the buffer can be sized accordingly.
+	 * 
+	 * @param reader input
+	 * @param length input length hint, or -1 if unknown
+	 * @return reader for the input
+	 * @throws Exception if the reader could not be constructed
+	 */
+
+	public CsvReader<CsvRow> buildRows(Reader reader, long length) throws Exception {
+		if(columnIndexes != null) {
+			throw new CsvBuilderException("Column mapping not supported for rows");
+		}
+		
+		int bufferLength = AbstractCsvReader.getBufferLength(length, this.bufferLength);
+		
+		if(readAheadExecutor != null) {
+			reader = new ReadAheadReader(reader, bufferLength, readAheadExecutor);
 		}
 		
-		CsvReader<String[]> r = reader(reader);
+		CsvRowReader rowReader = rowReader(reader, bufferLength);
+		if(rowReader == null) {
+			return new EmptyCsvReader<>();
+		}
+		return rowReader;
+	}
+
+	/**
+	 * Build a reader which parses int, long, double and boolean values directly from the buffer, 
+	 * according to the types given by {@linkplain #withColumnType(String, ColumnType)}. 
+	 * The first row is the header.
+	 * 
+	 * @param reader input
+	 * @return reader for the input
+	 * @throws Exception if the reader could not be constructed
+	 */
+
+	public CsvReader<TypedCsvRow> buildTyped(Reader reader) throws Exception {
+		return buildTyped(reader, -1L);
+	}
+
+	/**
+	 * Build a reader which parses int, long, double and boolean values directly from the buffer, 
+	 * for input of (approximately) known length, so that the buffer can be sized accordingly.
+	 * 
+	 * @param reader input
+	 * @param length input length hint, or -1 if unknown
+	 * @return reader for the input
+	 * @throws Exception if the reader could not be constructed
+	 */
+
+	public CsvReader<TypedCsvRow> buildTyped(Reader reader, long length) throws Exception {
 		if(columnIndexes != null) {
+			throw new CsvBuilderException("Column mapping not supported for typed rows");
+		}
+		
+		CsvReader<CsvRow> rowReader = buildRows(reader, length);
+		
+		CsvRow next = rowReader.next();
+		if(next == null) {
+			return new EmptyCsvReader<>();
+		}
+		String[] names = new String[next.getColumnCount()];
+		ColumnType[] types = new ColumnType[names.length];
+		for(int i = 0; i < names.length; i++) {
+			names[i] = next.getString(i);
+			
+			if(columnTypes != null) {
+				types[i] = columnTypes.get(names[i]);
+			}
+		}
+		return new TypedCsvRowReader(rowReader, names, types);
+	}
+
+	/**
+	 * Build a reader which returns the start and end index of each value within the buffer 
+	 * of {@linkplain com.github.skjolber.stcsv.RawReader#getBuffer()}, so that rows can be 
+	 * indexed without creating any objects. 
+	 * 
+	 * @param reader input
+	 * @return reader for the input
+	 * @throws Exception if the reader could not be constructed
+	 * @see OffsetCsvReader
+	 */
+
+	public CsvReader<int[]> buildOffsets(Reader reader) throws Exception {
+		return buildOffsets(reader, -1L);
+	}
+
+	/**
+	 * Build a reader which returns the start and end index of each value within the buffer 
+	 * of {@linkplain com.github.skjolber.stcsv.RawReader#getBuffer()}, for input of (approximately) known length, 
+	 * so that the buffer can be sized accordingly.
+	 * 
+	 * @param reader input
+	 * @param length input length hint, or -1 if unknown
+	 * @return reader for the input
+	 * @throws Exception if the reader could not be constructed
+	 * @see OffsetCsvReader
+	 */
+
+	public CsvReader<int[]> buildOffsets(Reader reader, long length) throws Exception {
+		int bufferLength = AbstractCsvReader.getBufferLength(length, this.bufferLength);
+		
+		if(readAheadExecutor != null) {
+			reader = new ReadAheadReader(reader, bufferLength, readAheadExecutor);
+		}
+		
+		CsvRowReader rowReader = rowReader(reader, bufferLength);
+		if(rowReader == null) {
+			return new EmptyCsvReader<>();
+		}
+		OffsetCsvReader offsetReader = new OffsetCsvReader(rowReader);
+		if(columnIndexes != null) {
+			CsvRow next = rowReader.next();
+			if(next != null) {
+				String[] names = new String[next.getColumnCount()];
+				for(int i = 0; i < names.length; i++) {
+					names[i] = next.getString(i);
+				}
+				int[][] mapping = mapping(names);
+				
+				return new FixedIndexOffsetCsvReader(offsetReader, mapping[0], mapping[1], mappedLength(mapping[1]));
+			}
+		}
+		return offsetReader;
+	}
+
+	/**
+	 * Build a reader which parses bytes directly, without decoding the whole input to characters first.
+	 * Input must be UTF-8 (or another ASCII-compatible encoding); only the resulting values are decoded.
+	 * 
+	 * @param input UTF-8 input
+	 * @return reader for the input
+	 * @throws Exception if the reader could not be constructed
+	 */
+
+	public CsvReader<String[]> build(InputStream input) throws Exception {
+		return build(input, -1L);
+	}
+
+	/**
+	 * Build a reader which parses bytes directly, for input of (approximately) known length, 
+	 * so that the buffer can be sized accordingly.
+	 * 
+	 * @param input UTF-8 input
+	 * @param length input length hint, or -1 if unknown
+	 * @return reader for the input
+	 * @throws Exception if the reader could not be constructed
+	 */
+
+	public CsvReader<String[]> build(InputStream input, long length) throws Exception {
+		if(divider >= 0x80 || quoteCharacter >= 0x80 || escapeCharacter >= 0x80) {
+			throw new CsvBuilderException("Byte input requires ASCII divider, quote and escape characters");
+		}
+		
+		int bufferLength = AbstractCsvReader.getBufferLength(length, this.bufferLength);
+		
+		if(readAheadExecutor != null) {
+			input = new ReadAheadInputStream(input, bufferLength, readAheadExecutor);
+		}
+		
+		return mapColumns(reader(input, bufferLength));
+	}
+
+	/**
+	 * Build a reader which reads (UTF-8) bytes from a channel directly into the parser buffer.
+	 * 
+	 * @param channel UTF-8 input, in blocking mode
+	 * @return reader for the input
+	 * @throws Exception if the reader could not be constructed
+	 */
+
+	public CsvReader<String[]> build(ReadableByteChannel channel) throws Exception {
+		return build(new ReadableByteChannelInputStream(channel));
+	}
+
+	/**
+	 * Build a reader for the remaining (UTF-8) bytes of a heap or direct buffer, 
+	 * which are copied directly into the parser buffer.
+	 * 
+	 * @param buffer UTF-8 input
+	 * @return reader for the input
+	 * @throws Exception if the reader could not be constructed
+	 */
+
+	public CsvReader<String[]> build(ByteBuffer buffer) throws Exception {
+		return build(new ByteBufferInputStream(buffer), buffer.remaining());
+	}
+
+	/**
+	 * Build a reader for a (UTF-8) file, which is read using memory mapping.
+	 * 
+	 * @param path UTF-8 file
+	 * @return reader for the file
+	 * @throws Exception if the reader could not be constructed
+	 */
+
+	public CsvReader<String[]> build(Path path) throws Exception {
+		MappedFileInputStream input = new MappedFileInputStream(path);
+		try {
+			CsvReader<String[]> reader = build(input, input.available());
+			if(reader instanceof EmptyCsvReader) {
+				input.close();
+			}
+			return reader;
+		} catch(Exception e) {
+			input.close();
+			throw e;
+		}
+	}
+
+	private CsvReader<String[]> mapColumns(CsvReader<String[]> r) throws Exception {
+		if(columnIndexes != null) {
+			// project so that values are only created for the mapped columns
 			String[] next = r.next();
 			if(next != null) {
-				List<Integer> source = new ArrayList<>();
-				List<Integer> destination = new ArrayList<>();
+				int[][] mapping = mapping(next);
 				
-				int maxDestination = -1;
-				for(int i = 0; i < next.length; i++) {
-					String n = next[i];
-					
-					Integer integer = columnIndexes.get(n);
-					if(integer != null) {
-						source.add(i);
-						destination.add(integer);
-						
-						if(maxDestination < integer) {
-							maxDestination = integer;
-						}
-					}
+				if(r instanceof ProjectedStringArrayCsvReader) {
+					((ProjectedStringArrayCsvReader)r).setProjection(mapping[0], mapping[1], mappedLength(mapping[1]));
+				} else {
+					((ProjectedStringArrayByteCsvReader)r).setProjection(mapping[0], mapping[1], mappedLength(mapping[1]));
 				}
+			}
+		}
+		return r;
+	}
+
+	/**
+	 * Map the columns of the first row.
+	 * 
+	 * @param names column names
+	 * @return source and destination indexes
+	 */
+
+	private int[][] mapping(String[] names) {
+		List<Integer> source = new ArrayList<>();
+		List<Integer> destination = new ArrayList<>();
+		
+		for(int i = 0; i < names.length; i++) {
+			String n = names[i];
+			
+			Integer integer = columnIndexes.get(n);
+			if(integer != null) {
+				source.add(i);
+				destination.add(integer);
+			}
+		}
+
+		int[] s = new int[source.size()];
+		int[] d = new int[source.size()];
+		for(int i = 0; i < s.length; i++) {
+			s[i] = source.get(i);
+			d[i] = destination.get(i);
+		}
+		return new int[][] {s, d};
+	}
+
+	private static int mappedLength(int[] destination) {
+		int maxDestination = -1;
+		for(int d : destination) {
+			if(maxDestination < d) {
+				maxDestination = d;
+			}
+		}
+		return maxDestination + 1;
+	}
+
+	private CsvReader<String[]> reader(Reader reader, int bufferLength) throws IOException {
+		CharHead head = head(reader, bufferLength);
+		if(head == null) {
+			return new EmptyCsvReader<>();
+		}
+		int maxBufferLength = getMaxBufferLength();
+		char[] current = head.current;
+		int offset = head.length;
+		int columns = head.columns;
 
-				int[] s = new int[source.size()];
-				int[] d = new int[source.size()];
-				for(int i = 0; i < s.length; i++) {
-					s[i] = source.get(i);
-					d[i] = destination.get(i);
+		if(columnIndexes != null || deduplicatedColumns != null) {
+			ProjectedStringArrayCsvReader projected = new ProjectedStringArrayCsvReader(reader, current, 0, offset, maxBufferLength, columns, quoteCharacter, escapeCharacter, divider, linebreaks);
+			if(deduplicatedColumns != null) {
+				for (Map.Entry<Integer, Integer> entry : deduplicatedColumns.entrySet()) {
+					projected.setCache(entry.getKey(), new StringCache(entry.getValue()));
 				}
-				
-				return new FixedIndexCsvReader(r, s, d, maxDestination + 1);
-				
 			}
+			return skipLines(projected);
 		}
-		return r;
+		if(divider == ',' && quoteCharacter == '"' && escapeCharacter == '"') {
+			if(!linebreaks) {
+				return skipLines(new NoLinebreakRFC4180StringArrayCsvReader(reader, current, 0, offset, maxBufferLength, columns));
+			}
+			return skipLines(new RFC4180StringArrayCsvReader(reader, current, 0, offset, maxBufferLength, columns));
+		}
+		if(quoteCharacter == escapeCharacter) {
+			return skipLines(new DefaultRFC4180StringArrayCsvReader(reader, current, 0, offset, maxBufferLength, columns, quoteCharacter, divider));
+		}
+		if(!linebreaks) {
+			return skipLines(new NoLinebreakStringArrayCsvReader(reader, current, 0, offset, maxBufferLength, columns, quoteCharacter, escapeCharacter, divider));
+		}
+		return skipLines(new DefaultStringArrayCsvReader(reader, current, 0, offset, maxBufferLength, columns, quoteCharacter, escapeCharacter, divider));
+	}
+
+	private CsvRowReader rowReader(Reader reader, int bufferLength) throws IOException {
+		CharHead head = head(reader, bufferLength);
+		if(head == null) {
+			return null;
+		}
+		int maxBufferLength = getMaxBufferLength();
+
+		// quoted values might always contain linebreaks
+		if(divider == ',' && quoteCharacter == '"' && escapeCharacter == '"') {
+			return skipLines(new RFC4180CsvRowReader(reader, head.current, 0, head.length, maxBufferLength, head.columns));
+		}
+		if(quoteCharacter == escapeCharacter) {
+			return skipLines(new DefaultRFC4180CsvRowReader(reader, head.current, 0, head.length, maxBufferLength, head.columns, quoteCharacter, divider));
+		}
+		return skipLines(new DefaultCsvRowReader(reader, head.current, 0, head.length, maxBufferLength, head.columns, quoteCharacter, escapeCharacter, divider));
+	}
+
+	private <R extends AbstractCsvReader<?>> R skipLines(R reader) {
+		if(skipEmptyLines || skipComments) {
+			reader.setSkipLines(skipEmptyLines, skipComments);
+		}
+		return reader;
+	}
+
+	private <R extends AbstractByteCsvReader<?>> R skipLines(R reader) {
+		if(skipEmptyLines || skipComments) {
+			reader.setSkipLines(skipEmptyLines, skipComments);
+		}
+		return reader;
 	}
 
-	private CsvReader<String[]> reader(Reader reader) throws IOException {
+	/**
+	 * Buffered start of the input, containing at least the first row.
+	 */
+
+	private static class CharHead {
+
+		private final char[] current;
+		private final int length;
+		private final int columns;
+
+		public CharHead(char[] current, int length, int columns) {
+			this.current = current;
+			this.length = length;
+			this.columns = columns;
+		}
+	}
+
+	private CharHead head(Reader reader, int bufferLength) throws IOException {
+		int maxBufferLength = getMaxBufferLength();
 		
 		char[] current = new char[bufferLength + 1];
 		int offset = 0;
+		try {
+	
+			do {
+				int read = reader.read(current, offset, current.length - 1 - offset);
+				if(read == -1) {
+					if(offset > 0) {
+						if(current[offset - 1] == '\n') {
+							// the input ended with a newline
+						} else {
+							// artificially insert linebreak after last line
+							// so that scanners detects end
+							current[offset] = '\n';
+							offset++;
+						}
+					}
+					break;
+				} else {
+					offset += read;
+				}
+				
+				if(offset == current.length - 1) {
+					if(hasLinebreak(current, firstRow(current, offset), offset)) {
+						break;
+					}
+					// first row does not fit within the buffer
+					if(current.length > maxBufferLength) {
+						throw new CsvException("No linebreak found in " + offset + " characters");
+					}
+					current = Arrays.copyOf(current, (int)Math.min(current.length * 2L, maxBufferLength + 1));
+				}
+			} while(true);
+
+			int first = firstRow(current, offset);
+			if(first == offset) {
+				return null;
+			}
+
+			return new CharHead(current, offset, countColumnsLine(current, first, offset));
+		} catch(Exception e) {
+			throw new CsvBuilderException(e);
+		}
+	}
+	
+	private CsvReader<String[]> reader(InputStream input, int bufferLength) throws IOException {
+		int maxBufferLength = getMaxBufferLength();
+		
+		byte[] current = new byte[bufferLength + 1];
+		int offset = 0;
 		int columns;
 		try {
 	
 			do {
-				int read = reader.read(current, offset, bufferLength - offset);
+				int read = input.read(current, offset, current.length - 1 - offset);
 				if(read == -1) {
 					if(offset > 0) {
 						if(current[offset - 1] == '\n') {
@@ -87,37 +514,167 @@ public class StringArrayCsvReaderBuilder extends AbstractCsvBuilder<StringArrayC
 				} else {
 					offset += read;
 				}
-			} while(offset < bufferLength);
+				
+				if(offset == current.length - 1) {
+					if(hasLinebreak(current, firstRow(current, offset), offset)) {
+						break;
+					}
+					// first row does not fit within the buffer
+					if(current.length > maxBufferLength) {
+						throw new CsvException("No linebreak found in " + offset + " bytes");
+					}
+					current = Arrays.copyOf(current, (int)Math.min(current.length * 2L, maxBufferLength + 1));
+				}
+			} while(true);
 
-			if(offset == 0) {
+			int first = firstRow(current, offset);
+			if(first == offset) {
 				return new EmptyCsvReader<>();			
 			}
 
-			columns = countColumnsLine(current, offset);
+			columns = countColumnsLine(current, first, offset);
 		} catch(Exception e) {
 			throw new CsvBuilderException(e);
 		}
+		ByteScanner scanner = ByteScanner.getInstance(scanStrategy);
+		if(columnIndexes != null || deduplicatedColumns != null) {
+			ProjectedStringArrayByteCsvReader projected = new ProjectedStringArrayByteCsvReader(input, current, 0, offset, maxBufferLength, columns, quoteCharacter, escapeCharacter, divider, linebreaks, scanner);
+			if(deduplicatedColumns != null) {
+				for (Map.Entry<Integer, Integer> entry : deduplicatedColumns.entrySet()) {
+					projected.setCache(entry.getKey(), new StringCache(entry.getValue()));
+				}
+			}
+			return skipLines(projected);
+		}
 		if(divider == ',' && quoteCharacter == '"' && escapeCharacter == '"') {
 			if(!linebreaks) {
-				return new NoLinebreakRFC4180StringArrayCsvReader(reader, current, 0, offset, columns);
+				return skipLines(new NoLinebreakRFC4180StringArrayByteCsvReader(input, current, 0, offset, maxBufferLength, columns, scanner));
 			}
-			return new RFC4180StringArrayCsvReader(reader, current, 0, offset, columns);
+			return skipLines(new RFC4180StringArrayByteCsvReader(input, current, 0, offset, maxBufferLength, columns, scanner));
 		}
 		if(quoteCharacter == escapeCharacter) {
-			// TODO add implementation based on RFC4180 implementation
-			throw new CsvBuilderException("Identical escape and quote character not supported");
+			return skipLines(new DefaultRFC4180StringArrayByteCsvReader(input, current, 0, offset, maxBufferLength, columns, quoteCharacter, divider, scanner));
 		}
 		if(!linebreaks) {
-			return new NoLinebreakStringArrayCsvReader(reader, current, 0, offset, columns, quoteCharacter, escapeCharacter, divider);
+			return skipLines(new NoLinebreakStringArrayByteCsvReader(input, current, 0, offset, maxBufferLength, columns, quoteCharacter, escapeCharacter, divider, scanner));
 		}
-		return new DefaultStringArrayCsvReader(reader, current, 0, offset, columns, quoteCharacter, escapeCharacter, divider);
+		return skipLines(new DefaultStringArrayByteCsvReader(input, current, 0, offset, maxBufferLength, columns, quoteCharacter, escapeCharacter, divider, scanner));
 	}
 	
-	private int countColumnsLine(char[] current, int end) {
+	/**
+	 * Find the first row, i.e. skip empty and/or commented lines if so configured.
+	 * 
+	 * @param current buffer
+	 * @param end buffer data end
+	 * @return index of first row, or end if no (complete) row
+	 */
+
+	private int firstRow(char[] current, int end) {
+		int i = 0;
+		while(i < end) {
+			if(current[i] == '#' && skipComments) {
+				do {
+					i++;
+				} while(i < end && current[i] != '\n');
+				i++;
+			} else if(current[i] == '\n' && skipEmptyLines) {
+				i++;
+			} else if(current[i] == '\r' && i + 1 < end && current[i + 1] == '\n' && skipEmptyLines) {
+				i += 2;
+			} else {
+				return i;
+			}
+		}
+		return end;
+	}
+
+	private static boolean hasLinebreak(char[] current, int start, int end) {
+		for(int i = end - 1; i >= start; i--) {
+			if(current[i] == '\n') {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private int countColumnsLine(char[] current, int start, int end) {
 		int count = 0;
 
 		iterate:
-		for(int i = 0; i < end; i++) {
+		for(int i = start; i < end; i++) {
+			count++;
+			if(current[i] == quoteCharacter) { // first character must be quote if quoted
+				while(true) {
+					++i;
+					if(current[i] == escapeCharacter) {
+						if(quoteCharacter == escapeCharacter) {
+							i++;
+							if (current[i] != quoteCharacter) {
+								break;
+							}
+						} else {
+							// skip single character
+							i++;
+						}
+					} else if(current[i] == quoteCharacter) {
+						i++;
+						break;
+					}
+				}
+			}
+			while(i < end) {
+				if(current[i] == divider) {
+					break;
+				} else if(current[i] == '\n') {
+					break iterate;
+				}
+				i++;
+			}
+		}
+		return count;
+	}
+	
+	/**
+	 * Find the first row, i.e. skip empty and/or commented lines if so configured.
+	 * 
+	 * @param current buffer
+	 * @param end buffer data end
+	 * @return index of first row, or end if no (complete) row
+	 */
+
+	private int firstRow(byte[] current, int end) {
+		int i = 0;
+		while(i < end) {
+			if(current[i] == '#' && skipComments) {
+				do {
+					i++;
+				} while(i < end && current[i] != '\n');
+				i++;
+			} else if(current[i] == '\n' && skipEmptyLines) {
+				i++;
+			} else if(current[i] == '\r' && i + 1 < end && current[i + 1] == '\n' && skipEmptyLines) {
+				i += 2;
+			} else {
+				return i;
+			}
+		}
+		return end;
+	}
+
+	private static boolean hasLinebreak(byte[] current, int start, int end) {
+		for(int i = end - 1; i >= start; i--) {
+			if(current[i] == '\n') {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private int countColumnsLine(byte[] current, int start, int end) {
+		int count = 0;
+
+		iterate:
+		for(int i = start; i < end; i++) {
 			count++;
 			if(current[i] == quoteCharacter) { // first character must be quote if quoted
 				while(true) {
@@ -164,4 +721,43 @@ public class StringArrayCsvReaderBuilder extends AbstractCsvBuilder<StringArrayC
 		return this;
 	}
 
+	/**
+	 * Set the type of a column, for readers created using {@linkplain #buildTyped(Reader)}.
+	 * Columns are strings by default.
+	 * 
+	 * @param sourceColumnName column name
+	 * @param type column type
+	 * @return this instance
+	 */
+
+	public StringArrayCsvReaderBuilder withColumnType(String sourceColumnName, ColumnType type) {
+		if(this.columnTypes == null) {
+			this.columnTypes = new HashMap<>(32);
+		}
+		this.columnTypes.put(sourceColumnName, type);
+		
+		return this;
+	}
+
+	/**
+	 * Deduplicate the values of a low-cardinality column, so that repeated values are returned 
+	 * as the same {@linkplain String} instance rather than being created for each row.
+	 * 
+	 * @param sourceColumnIndex column index in the input
+	 * @param maxEntries maximum number of values to keep
+	 * @return this instance
+	 */
+
+	public StringArrayCsvReaderBuilder deduplicated(int sourceColumnIndex, int maxEntries) {
+		if(maxEntries <= 0) {
+			throw new CsvBuilderException("Expected positive number of entries");
+		}
+		if(this.deduplicatedColumns == null) {
+			this.deduplicatedColumns = new HashMap<>();
+		}
+		this.deduplicatedColumns.put(sourceColumnIndex, maxEntries);
+		
+		return this;
+	}
+
 }
@@ -0,0 +1,57 @@
+package com.github.skjolber.stcsv.io;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * 
+ * {@linkplain InputStream} which reads the remaining bytes of a {@linkplain ByteBuffer}. 
+ * Bytes are copied directly from the (heap or direct) buffer into the destination array.
+ * <br><br>
+ * The buffer position is advanced as bytes are read. Not thread-safe.
+ */
+
+public class ByteBufferInputStream extends InputStream {
+
+	protected final ByteBuffer buffer;
+
+	public ByteBufferInputStream(ByteBuffer buffer) {
+		this.buffer = buffer;
+	}
+
+	@Override
+	public int read() {
+		if(!buffer.hasRemaining()) {
+			return -1;
+		}
+		return buffer.get() & 0xFF;
+	}
+
+	@Override
+	public int read(byte[] b, int off, int len) {
+		if(len == 0) {
+			return 0;
+		}
+		if(!buffer.hasRemaining()) {
+			return -1;
+		}
+		int count = Math.min(len, buffer.remaining());
+		buffer.get(b, off, count);
+		return count;
+	}
+
+	@Override
+	public long skip(long n) {
+		if(n <= 0) {
+			return 0;
+		}
+		int count = (int)Math.min(n, buffer.remaining());
+		buffer.position(buffer.position() + count);
+		return count;
+	}
+
+	@Override
+	public int available() {
+		return buffer.remaining();
+	}
+}
@@ -0,0 +1,132 @@
+package com.github.skjolber.stcsv.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 
+ * {@linkplain InputStream} which reads a file via a sliding memory-mapped window, 
+ * so that reading does not involve read system calls, just copying from the mapped memory. 
+ * <br><br>
+ * Not thread-safe.
+ */
+
+public class MappedFileInputStream extends InputStream {
+
+	public static final int DEFAULT_WINDOW_SIZE = 64 * 1024 * 1024;
+
+	protected final FileChannel channel;
+	protected final long size; // end position (exclusive)
+	protected final int windowSize;
+
+	protected MappedByteBuffer window;
+	protected long windowPosition; // file position of the current window 
+
+	public MappedFileInputStream(Path path) throws IOException {
+		this(path, DEFAULT_WINDOW_SIZE);
+	}
+
+	public MappedFileInputStream(Path path, int windowSize) throws IOException {
+		this(path, 0, -1, windowSize);
+	}
+
+	/**
+	 * Constructor for reading part of a file.
+	 * 
+	 * @param path file
+	 * @param position start position
+	 * @param length number of bytes to read, or -1 to read to the end of the file
+	 * @param windowSize max size of each mapped window
+	 * @throws IOException if the file could not be opened
+	 */
+
+	public MappedFileInputStream(Path path, long position, long length, int windowSize) throws IOException {
+		if(windowSize <= 0) {
+			throw new IllegalArgumentException("Expected positive window size, got " + windowSize);
+		}
+		this.channel = FileChannel.open(path, StandardOpenOption.READ);
+		try {
+			long fileSize = channel.size();
+			if(length == -1) {
+				this.size = fileSize;
+			} else {
+				this.size = Math.min(fileSize, position + length);
+			}
+		} catch(IOException e) {
+			channel.close();
+			throw e;
+		}
+		this.windowPosition = position;
+		this.windowSize = windowSize;
+	}
+
+	/**
+	 * Make sure the window has remaining bytes, mapping the next window if necessary.
+	 * 
+	 * @return false if end of file
+	 * @throws IOException if mapping fails
+	 */
+
+	protected boolean ensureRemaining() throws IOException {
+		if(window != null) {
+			if(window.hasRemaining()) {
+				return true;
+			}
+			windowPosition += window.capacity();
+			window = null;
+		}
+		if(windowPosition >= size) {
+			return false;
+		}
+		window = channel.map(FileChannel.MapMode.READ_ONLY, windowPosition, Math.min(windowSize, size - windowPosition));
+
+		return true;
+	}
+
+	@Override
+	public int read() throws IOException {
+		if(!ensureRemaining()) {
+			return -1;
+		}
+		return window.get() & 0xFF;
+	}
+
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+		if(len == 0) {
+			return 0;
+		}
+		if(!ensureRemaining()) {
+			return -1;
+		}
+		int count = Math.min(len, window.remaining());
+		window.get(b, off, count);
+		return count;
+	}
+
+	@Override
+	public long skip(long n) throws IOException {
+		if(n <= 0 || !ensureRemaining()) {
+			return 0;
+		}
+		int count = (int)Math.min(n, window.remaining());
+		window.position(window.position() + count);
+		return count;
+	}
+
+	@Override
+	public int available() throws IOException {
+		long remaining = size - windowPosition - (window != null ? window.position() : 0);
+		return (int)Math.min(Integer.MAX_VALUE, remaining);
+	}
+
+	@Override
+	public void close() throws IOException {
+		window = null;
+		channel.close();
+	}
+}
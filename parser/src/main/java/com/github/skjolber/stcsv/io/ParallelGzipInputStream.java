@@ -0,0 +1,463 @@
+package com.github.skjolber.stcsv.io;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+/**
+ *
+ * {@linkplain InputStream} which decompresses a gzip file made up of multiple (concatenated) members,
+ * such as BGZF files, by inflating the members in parallel.
+ * <br><br>
+ * Member boundaries are not known up front, so the file is scanned for candidate member headers, which
+ * are inflated speculatively. Starting with the first member, the next member always starts where the previous
+ * member ended; candidates which turn out to be within another member are discarded. So the decompressed data
+ * is always returned in order.
+ * <br><br>
+ * Each member is inflated up to a max length in the background; the remainder of a larger member is inflated
+ * as it is read. So a file with a single (large) member is mostly inflated sequentially.
+ * <br><br>
+ * Not thread-safe.
+ */
+
+public class ParallelGzipInputStream extends InputStream {
+
+	public static final int DEFAULT_MAX_MEMBER_LENGTH = 8 * 1024 * 1024;
+
+	protected static final int CHUNK_LENGTH = 64 * 1024;
+
+	// header flags
+	protected static final int FHCRC = 2;
+	protected static final int FEXTRA = 4;
+	protected static final int FNAME = 8;
+	protected static final int FCOMMENT = 16;
+	protected static final int FRESERVED = 0xE0;
+
+	protected static int read(FileChannel channel, byte[] buffer, long position) throws IOException {
+		ByteBuffer wrapper = ByteBuffer.wrap(buffer);
+		int length = 0;
+		do {
+			int read = channel.read(wrapper, position + length);
+			if(read == -1) {
+				break;
+			}
+			length += read;
+		} while(wrapper.hasRemaining());
+
+		return length;
+	}
+
+	protected final FileChannel channel;
+	protected final long size;
+	protected final Executor executor;
+	protected final int lookahead;
+	protected final int maxMemberLength;
+
+	protected final ArrayDeque<Member> members = new ArrayDeque<>(); // submitted members, ordered by start position
+	protected final Scanner scanner = new Scanner();
+
+	protected long position = 0; // start position of the current member
+	protected Member current;
+	protected int chunkIndex;
+
+	protected byte[] chunk;
+	protected int offset;
+	protected int limit;
+
+	public ParallelGzipInputStream(Path path) throws IOException {
+		this(path, ForkJoinPool.commonPool(), Math.max(2, Runtime.getRuntime().availableProcessors() * 2));
+	}
+
+	public ParallelGzipInputStream(Path path, Executor executor, int lookahead) throws IOException {
+		this(path, executor, lookahead, DEFAULT_MAX_MEMBER_LENGTH);
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param path gzip file
+	 * @param executor executor for inflating members
+	 * @param lookahead max number of members inflated in advance
+	 * @param maxMemberLength max number of bytes inflated in advance per member
+	 * @throws IOException if the file could not be opened
+	 */
+
+	public ParallelGzipInputStream(Path path, Executor executor, int lookahead, int maxMemberLength) throws IOException {
+		if(lookahead < 1) {
+			throw new IllegalArgumentException("Expected positive lookahead, got " + lookahead);
+		}
+		this.channel = FileChannel.open(path, StandardOpenOption.READ);
+		try {
+			this.size = channel.size();
+		} catch(IOException e) {
+			channel.close();
+			throw e;
+		}
+		this.executor = executor;
+		this.lookahead = lookahead;
+		this.maxMemberLength = maxMemberLength;
+	}
+
+	protected boolean next() throws IOException {
+		while(true) {
+			if(current == null && !nextMember()) {
+				return false;
+			}
+			List<byte[]> chunks = current.chunks;
+			if(chunkIndex < chunks.size()) {
+				chunk = chunks.get(chunkIndex);
+				chunks.set(chunkIndex, null);
+				chunkIndex++;
+
+				offset = 0;
+				limit = chunk.length;
+				if(limit > 0) {
+					return true;
+				}
+			} else if(!current.isFinished()) {
+				// inflate the remainder of a large member
+				chunks.clear();
+				chunkIndex = 0;
+
+				current.inflate(CHUNK_LENGTH);
+			} else {
+				position = current.end;
+				current = null;
+			}
+		}
+	}
+
+	protected boolean nextMember() throws IOException {
+		if(position >= size) {
+			return false;
+		}
+
+		// discard candidates within the previous member
+		Member member = members.peekFirst();
+		while(member != null && member.start < position) {
+			members.removeFirst().cancelled = true;
+
+			member = members.peekFirst();
+		}
+		if(member != null && member.start == position) {
+			members.removeFirst();
+		} else {
+			member = submit(new Member(position));
+		}
+
+		// keep inflating ahead
+		scanner.skip(position + 1);
+		while(members.size() < lookahead) {
+			long candidate = scanner.next();
+			if(candidate == -1) {
+				break;
+			}
+			if(members.isEmpty() || members.peekLast().start < candidate) {
+				members.addLast(submit(new Member(candidate)));
+			}
+		}
+
+		member.future.join();
+		if(member.exception != null) {
+			if(member.invalidHeader && position > 0) {
+				// trailing garbage, ignore like GZIPInputStream
+				member.release();
+				position = size;
+
+				return false;
+			}
+			throw member.exception;
+		}
+		current = member;
+		chunkIndex = 0;
+
+		return true;
+	}
+
+	protected Member submit(Member member) {
+		member.future = CompletableFuture.runAsync(member, executor);
+
+		return member;
+	}
+
+	@Override
+	public int read() throws IOException {
+		if(offset == limit && !next()) {
+			return -1;
+		}
+		return chunk[offset++] & 0xFF;
+	}
+
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+		if(len == 0) {
+			return 0;
+		}
+		if(offset == limit && !next()) {
+			return -1;
+		}
+		int available = limit - offset;
+		if(len > available) {
+			len = available;
+		}
+		System.arraycopy(chunk, offset, b, off, len);
+		offset += len;
+
+		return len;
+	}
+
+	@Override
+	public int available() throws IOException {
+		return limit - offset;
+	}
+
+	@Override
+	public void close() throws IOException {
+		for(Member member : members) {
+			member.cancelled = true;
+		}
+		members.clear();
+		if(current != null) {
+			current.release();
+			current = null;
+		}
+		channel.close();
+	}
+
+	/**
+	 * Scanner for candidate member headers.
+	 */
+
+	protected class Scanner {
+
+		protected final byte[] buffer = new byte[CHUNK_LENGTH];
+		protected long bufferPosition = 0; // file position of the buffer start
+		protected int length = 0;
+		protected int index = 0;
+
+		protected void skip(long to) {
+			if(bufferPosition + index < to) {
+				if(to < bufferPosition + length) {
+					index = (int)(to - bufferPosition);
+				} else {
+					bufferPosition = to;
+					length = 0;
+					index = 0;
+				}
+			}
+		}
+
+		/**
+		 * Find the next candidate member start.
+		 *
+		 * @return the next candidate position, or -1 if none
+		 * @throws IOException if the file could not be read
+		 */
+
+		protected long next() throws IOException {
+			byte[] buffer = this.buffer;
+			while(true) {
+				// magic, deflate compression and no reserved flags
+				while(index + 3 < length) {
+					if(buffer[index] == 0x1f && buffer[index + 1] == (byte)0x8b && buffer[index + 2] == 8 && (buffer[index + 3] & FRESERVED) == 0) {
+						return bufferPosition + index++;
+					}
+					index++;
+				}
+
+				bufferPosition += index;
+				length = read(channel, buffer, bufferPosition);
+				index = 0;
+				if(length < 4) {
+					return -1;
+				}
+			}
+		}
+	}
+
+	/**
+	 * A (candidate) member.
+	 */
+
+	protected class Member implements Runnable {
+
+		protected final long start;
+		protected volatile boolean cancelled = false;
+		protected CompletableFuture<Void> future;
+
+		protected final List<byte[]> chunks = new ArrayList<>();
+		protected long end = -1; // set once finished
+
+		protected IOException exception;
+		protected boolean invalidHeader = false;
+
+		// inflate state
+		protected Inflater inflater;
+		protected final CRC32 crc = new CRC32();
+		protected long length = 0;
+
+		// compressed input
+		protected byte[] input;
+		protected long inputPosition; // file position of the input buffer start
+		protected int inputOffset = 0;
+		protected int inputLength = 0;
+
+		protected Member(long start) {
+			this.start = start;
+			this.inputPosition = start;
+		}
+
+		@Override
+		public void run() {
+			if(cancelled) {
+				return;
+			}
+			try {
+				inflate(maxMemberLength);
+			} catch(IOException e) {
+				exception = e;
+			} catch(Exception e) {
+				exception = new IOException(e);
+			}
+			if(cancelled || exception != null) {
+				release();
+			}
+		}
+
+		protected boolean isFinished() {
+			return end != -1;
+		}
+
+		/**
+		 * Inflate (at least) the given number of bytes, or until the member is finished.
+		 *
+		 * @param maxLength number of bytes
+		 * @throws IOException if the member is not valid
+		 */
+
+		protected void inflate(int maxLength) throws IOException {
+			if(inflater == null) {
+				input = new byte[CHUNK_LENGTH];
+				readHeader();
+				inflater = new Inflater(true);
+			}
+			Inflater inflater = this.inflater;
+			try {
+				int count = 0;
+				while(count < maxLength && !cancelled) {
+					byte[] chunk = new byte[CHUNK_LENGTH];
+					int chunkLength = 0;
+					while(chunkLength < chunk.length && !inflater.finished()) {
+						if(inflater.needsInput()) {
+							if(inputOffset == inputLength && fillInput() == 0) {
+								throw new EOFException("Unexpected end of gzip member starting at " + start);
+							}
+							inflater.setInput(input, inputOffset, inputLength - inputOffset);
+							inputOffset = inputLength;
+						} else if(inflater.needsDictionary()) {
+							throw new ZipException("Unexpected preset dictionary in gzip member starting at " + start);
+						}
+						chunkLength += inflater.inflate(chunk, chunkLength, chunk.length - chunkLength);
+					}
+					crc.update(chunk, 0, chunkLength);
+					length += chunkLength;
+					count += chunkLength;
+
+					chunks.add(chunkLength == chunk.length ? chunk : Arrays.copyOf(chunk, chunkLength));
+
+					if(inflater.finished()) {
+						inputOffset = inputLength - inflater.getRemaining();
+						readTrailer();
+						release();
+
+						return;
+					}
+				}
+			} catch(DataFormatException e) {
+				throw new ZipException("Invalid gzip member starting at " + start + ": " + e.getMessage());
+			}
+		}
+
+		protected void readHeader() throws IOException {
+			if(readByte() != 0x1f || readByte() != 0x8b || readByte() != 8) {
+				invalidHeader = true;
+				throw new ZipException("Not in GZIP format");
+			}
+			int flags = readByte();
+			if((flags & FRESERVED) != 0) {
+				invalidHeader = true;
+				throw new ZipException("Unsupported gzip flags " + flags);
+			}
+			skipBytes(6); // modification time, extra flags, operating system
+			if((flags & FEXTRA) != 0) {
+				skipBytes(readByte() | (readByte() << 8));
+			}
+			if((flags & FNAME) != 0) {
+				while(readByte() != 0);
+			}
+			if((flags & FCOMMENT) != 0) {
+				while(readByte() != 0);
+			}
+			if((flags & FHCRC) != 0) {
+				skipBytes(2);
+			}
+		}
+
+		protected void readTrailer() throws IOException {
+			long crc = readInt();
+			long length = readInt();
+			if(crc != this.crc.getValue() || length != (this.length & 0xFFFFFFFFL)) {
+				throw new ZipException("Corrupt gzip trailer for member starting at " + start);
+			}
+			end = inputPosition + inputOffset;
+		}
+
+		protected long readInt() throws IOException {
+			return (readByte() | (readByte() << 8) | (readByte() << 16) | ((long)readByte() << 24));
+		}
+
+		protected void skipBytes(int count) throws IOException {
+			for(int i = 0; i < count; i++) {
+				readByte();
+			}
+		}
+
+		protected int readByte() throws IOException {
+			if(inputOffset == inputLength && fillInput() == 0) {
+				throw new EOFException("Unexpected end of gzip member starting at " + start);
+			}
+			return input[inputOffset++] & 0xFF;
+		}
+
+		protected int fillInput() throws IOException {
+			inputPosition += inputLength;
+			inputOffset = 0;
+			inputLength = read(channel, input, inputPosition);
+
+			return inputLength;
+		}
+
+		protected void release() {
+			if(inflater != null) {
+				inflater.end();
+				inflater = null;
+			}
+			input = null;
+		}
+	}
+}
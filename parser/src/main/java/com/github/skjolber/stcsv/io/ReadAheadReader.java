@@ -0,0 +1,201 @@
+package com.github.skjolber.stcsv.io;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.InterruptedIOException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ *
+ * {@linkplain Reader} which reads ahead of its consumer in a background thread,
+ * so that reading the underlying input overlaps with parsing.
+ * <br><br>
+ * Buffers are handed over through a fixed ring of buffers, using a pair of (volatile) counters;
+ * one thread only ever waits if the other is behind, so there are no locks on the hot path.
+ * <br><br>
+ * Not thread-safe; intended for a single consumer. The underlying reader is closed by the background thread,
+ * once it reaches the end of the stream or this reader is closed.
+ *
+ */
+
+public class ReadAheadReader extends Reader {
+
+	public static final int DEFAULT_BUFFERS = 3;
+
+	protected final Reader reader;
+
+	protected final char[][] buffers;
+	protected final int[] lengths; // -1 for end of stream
+
+	// counters: number of buffers produced and consumed
+	protected volatile long produced = 0;
+	protected volatile long consumed = 0;
+
+	protected volatile Thread producer;
+	protected volatile Thread consumer;
+
+	protected volatile boolean closed = false;
+	protected volatile Throwable exception;
+
+	// consumer state
+	protected char[] current;
+	protected int offset;
+	protected int limit;
+	protected boolean eof = false;
+
+	public ReadAheadReader(Reader reader, int bufferLength, Executor executor) {
+		this(reader, bufferLength, DEFAULT_BUFFERS, executor);
+	}
+
+	public ReadAheadReader(Reader reader, int bufferLength, int buffers, Executor executor) {
+		if(buffers < 2) {
+			throw new IllegalArgumentException("Expected at least 2 buffers, got " + buffers);
+		}
+		this.reader = reader;
+		this.buffers = new char[buffers][bufferLength];
+		this.lengths = new int[buffers];
+
+		executor.execute(this::produce);
+	}
+
+	protected void produce() {
+		producer = Thread.currentThread();
+		try {
+			long count = 0;
+			while(!closed) {
+				// wait for a free buffer
+				while(count - consumed >= buffers.length) {
+					if(closed) {
+						return;
+					}
+					LockSupport.park(this);
+				}
+
+				int index = (int)(count % buffers.length);
+
+				int length;
+				try {
+					length = fill(buffers[index]);
+				} catch(Throwable e) {
+					exception = e;
+					length = -1;
+				}
+				lengths[index] = length;
+
+				// publish
+				produced = ++count;
+
+				LockSupport.unpark(consumer);
+
+				if(length == -1) {
+					return;
+				}
+			}
+		} finally {
+			try {
+				reader.close();
+			} catch (IOException e) {
+				// ignore
+			}
+		}
+	}
+
+	protected int fill(char[] buffer) throws IOException {
+		int length = 0;
+		do {
+			int read = reader.read(buffer, length, buffer.length - length);
+			if(read == -1) {
+				if(length == 0) {
+					return -1;
+				}
+				break;
+			}
+			length += read;
+		} while(length < buffer.length);
+
+		return length;
+	}
+
+	protected boolean next() throws IOException {
+		if(eof) {
+			return false;
+		}
+		long count = consumed;
+		if(current != null) {
+			// release the current buffer
+			consumed = ++count;
+
+			LockSupport.unpark(producer);
+		}
+
+		// wait for the next buffer
+		if(produced == count) {
+			consumer = Thread.currentThread();
+			while(produced == count) {
+				LockSupport.park(this);
+				if(Thread.interrupted()) {
+					throw new InterruptedIOException();
+				}
+			}
+		}
+
+		int index = (int)(count % buffers.length);
+		int length = lengths[index];
+		if(length == -1) {
+			eof = true;
+			current = null;
+
+			Throwable exception = this.exception;
+			if(exception != null) {
+				throw new IOException(exception);
+			}
+			return false;
+		}
+
+		current = buffers[index];
+		offset = 0;
+		limit = length;
+
+		return true;
+	}
+
+	@Override
+	public int read() throws IOException {
+		if(offset == limit && !next()) {
+			return -1;
+		}
+		return current[offset++];
+	}
+
+	@Override
+	public int read(char[] b, int off, int len) throws IOException {
+		if(len == 0) {
+			return 0;
+		}
+		if(offset == limit && !next()) {
+			return -1;
+		}
+
+		int available = limit - offset;
+		if(len > available) {
+			len = available;
+		}
+		System.arraycopy(current, offset, b, off, len);
+		offset += len;
+
+		return len;
+	}
+
+	@Override
+	public boolean ready() throws IOException {
+		return offset < limit;
+	}
+
+	@Override
+	public void close() throws IOException {
+		closed = true;
+
+		LockSupport.unpark(producer);
+	}
+}
@@ -0,0 +1,84 @@
+package com.github.skjolber.stcsv.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.IllegalBlockingModeException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SelectableChannel;
+
+/**
+ * 
+ * {@linkplain InputStream} which reads from a {@linkplain ReadableByteChannel} directly into the destination array, 
+ * by wrapping the array in a (reused) heap {@linkplain ByteBuffer}.
+ * <br><br>
+ * Unlike {@linkplain java.nio.channels.Channels#newInputStream(ReadableByteChannel)}, reads are not synchronized.
+ * Non-blocking channels are not supported. Not thread-safe.
+ */
+
+public class ReadableByteChannelInputStream extends InputStream {
+
+	protected final ReadableByteChannel channel;
+
+	protected byte[] array;
+	protected ByteBuffer wrapper; // wraps the last destination array
+	protected final ByteBuffer single = ByteBuffer.allocate(1);
+
+	/**
+	 * Constructor
+	 * 
+	 * @param channel channel, in blocking mode
+	 * @throws IllegalBlockingModeException if the channel is in non-blocking mode
+	 */
+
+	public ReadableByteChannelInputStream(ReadableByteChannel channel) {
+		if(channel instanceof SelectableChannel && !((SelectableChannel)channel).isBlocking()) {
+			throw new IllegalBlockingModeException();
+		}
+		this.channel = channel;
+	}
+
+	@Override
+	public int read() throws IOException {
+		ByteBuffer single = this.single;
+		single.clear();
+		
+		int read = read(single);
+		if(read == -1) {
+			return -1;
+		}
+		return single.get(0) & 0xFF;
+	}
+
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+		if(len == 0) {
+			return 0;
+		}
+		ByteBuffer wrapper = this.wrapper;
+		if(array != b) {
+			wrapper = this.wrapper = ByteBuffer.wrap(b);
+			array = b;
+		} else {
+			wrapper.clear();
+		}
+		wrapper.position(off);
+		wrapper.limit(off + len);
+		
+		return read(wrapper);
+	}
+
+	protected int read(ByteBuffer buffer) throws IOException {
+		int read = channel.read(buffer);
+		if(read == 0) {
+			// a blocking channel reads at least one byte, so the channel was switched to non-blocking mode
+			throw new IllegalBlockingModeException();
+		}
+		return read;
+	}
+
+	@Override
+	public void close() throws IOException {
+		channel.close();
+	}
+}
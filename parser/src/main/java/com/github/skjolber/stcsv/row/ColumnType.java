@@ -0,0 +1,17 @@
+package com.github.skjolber.stcsv.row;
+
+/**
+ * 
+ * Column value type for {@linkplain TypedCsvRow}.
+ * 
+ */
+
+public enum ColumnType {
+	
+	STRING,
+	INT,
+	LONG,
+	DOUBLE,
+	BOOLEAN;
+
+}
@@ -0,0 +1,171 @@
+package com.github.skjolber.stcsv.row;
+
+/**
+ * 
+ * Flyweight view of the current row. Values are not copied out of the parser buffer; 
+ * each value is rather available as a range (start and end index) within the buffer, or as a 
+ * {@linkplain CharSequence} view of that range.
+ * <br><br>
+ * The row, its buffer and its views are only valid until the next call to
+ * {@linkplain com.github.skjolber.stcsv.CsvReader#next()}; use {@linkplain #getString(int)} to 
+ * explicitly materialize values which must be kept.
+ * 
+ */
+
+public class CsvRow {
+
+	protected char[] buffer;
+	protected final int[] offsets; // start and end index per column
+	protected final Value[] values;
+
+	public CsvRow(int[] offsets) {
+		this.offsets = offsets;
+		this.values = new Value[offsets.length / 2];
+		for(int i = 0; i < values.length; i++) {
+			values[i] = new Value(i * 2);
+		}
+	}
+
+	/**
+	 * Get the current buffer. The buffer might be replaced when the next row is read.
+	 * 
+	 * @return buffer which contains the values of the current row
+	 */
+
+	public char[] getBuffer() {
+		return buffer;
+	}
+
+	public int getColumnCount() {
+		return values.length;
+	}
+
+	/**
+	 * Get value start index.
+	 * 
+	 * @param column column index
+	 * @return start index (inclusive) within the buffer
+	 */
+
+	public int getStart(int column) {
+		return offsets[column * 2];
+	}
+
+	/**
+	 * Get value end index.
+	 * 
+	 * @param column column index
+	 * @return end index (exclusive) within the buffer
+	 */
+
+	public int getEnd(int column) {
+		return offsets[column * 2 + 1];
+	}
+
+	public int getLength(int column) {
+		return offsets[column * 2 + 1] - offsets[column * 2];
+	}
+
+	public boolean isEmpty(int column) {
+		return offsets[column * 2 + 1] == offsets[column * 2];
+	}
+
+	/**
+	 * Get a view of a value. The view is reused, so no objects are allocated.
+	 * 
+	 * @param column column index
+	 * @return value view, of zero length if the value is empty
+	 */
+
+	public CharSequence getCharSequence(int column) {
+		return values[column];
+	}
+
+	/**
+	 * Get a value as a (new) string.
+	 * 
+	 * @param column column index
+	 * @return the value, or null if empty (like for the String array readers)
+	 */
+
+	public String getString(int column) {
+		int start = offsets[column * 2];
+		int end = offsets[column * 2 + 1];
+		if(start == end) {
+			return null;
+		}
+		return new String(buffer, start, end - start);
+	}
+
+	/**
+	 * Compare a value to a char sequence, without creating a string.
+	 * 
+	 * @param column column index
+	 * @param value value to compare
+	 * @return true if the value contains the same characters
+	 */
+
+	public boolean contentEquals(int column, CharSequence value) {
+		int start = offsets[column * 2];
+		int end = offsets[column * 2 + 1];
+		if(end - start != value.length()) {
+			return false;
+		}
+		final char[] buffer = this.buffer;
+		for(int i = 0; start < end; i++) {
+			if(buffer[start++] != value.charAt(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Get the hash code of a value, without creating a string.
+	 * 
+	 * @param column column index
+	 * @return same hash code as {@linkplain String#hashCode()} for the value 
+	 */
+
+	public int hashCode(int column) {
+		int start = offsets[column * 2];
+		int end = offsets[column * 2 + 1];
+
+		final char[] buffer = this.buffer;
+		int hash = 0;
+		while(start < end) {
+			hash = 31 * hash + buffer[start++];
+		}
+		return hash;
+	}
+
+	protected class Value implements CharSequence {
+
+		private final int index;
+
+		public Value(int index) {
+			this.index = index;
+		}
+
+		@Override
+		public int length() {
+			return offsets[index + 1] - offsets[index];
+		}
+
+		@Override
+		public char charAt(int i) {
+			return buffer[offsets[index] + i];
+		}
+
+		@Override
+		public CharSequence subSequence(int start, int end) {
+			return new String(buffer, offsets[index] + start, end - start);
+		}
+
+		@Override
+		public String toString() {
+			int start = offsets[index];
+			return new String(buffer, start, offsets[index + 1] - start);
+		}
+	}
+}
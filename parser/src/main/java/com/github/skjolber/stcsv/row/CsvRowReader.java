@@ -0,0 +1,84 @@
+package com.github.skjolber.stcsv.row;
+
+import java.io.IOException;
+import java.io.Reader;
+
+import com.github.skjolber.stcsv.AbstractCsvReader;
+import com.github.skjolber.stcsv.builder.StringArrayCsvReaderBuilder;
+
+/**
+ * 
+ * Base class for readers which return a flyweight {@linkplain CsvRow} instead of a String array.
+ * Parse loops record the start and end index of each value, quoted values are unescaped in place.
+ * <br><br>
+ * Implementation note: Unlike the String array readers, the whole row must be kept
+ * within the buffer; so if the buffer must be filled in the middle of a row, the row
+ * is moved to the start of the buffer and the offsets parsed so far are adjusted.
+ *
+ */
+
+public abstract class CsvRowReader extends AbstractCsvReader<CsvRow> {
+
+	public static StringArrayCsvReaderBuilder builder() {
+		return new StringArrayCsvReaderBuilder();
+	}
+
+	protected final int[] offsets;
+	protected final CsvRow row;
+	protected final int lastIndex; // offsets index of last column
+
+	public CsvRowReader(Reader reader, int columns) {
+		super(reader, 65536);
+
+		this.offsets = new int[columns * 2];
+		this.row = new CsvRow(offsets);
+		this.lastIndex = offsets.length - 2;
+	}
+
+	public CsvRowReader(Reader reader, char[] current, int offset, int length, int columns) {
+		this(reader, current, offset, length, current.length - 1, columns);
+	}
+
+	public CsvRowReader(Reader reader, char[] current, int offset, int length, int maxBufferLength, int columns) {
+		super(reader, current, offset, length, maxBufferLength);
+
+		this.offsets = new int[columns * 2];
+		this.row = new CsvRow(offsets);
+		this.lastIndex = offsets.length - 2;
+	}
+
+	/**
+	 * Fill the buffer in the middle of a row. The row is kept and moved to the start of the buffer,
+	 * so offsets must be adjusted by subtracting the row start.
+	 * 
+	 * @param rowStart start of the current row
+	 * @param index number of offsets parsed so far
+	 * @return the new end of line index
+	 * @throws IOException if the underlying reader throws exception
+	 */
+
+	protected int fillRow(int rowStart, int index) throws IOException {
+		final int[] offsets = this.offsets;
+		for(int i = 0; i < index; i++) {
+			offsets[i] -= rowStart;
+		}
+		return fill(endOfLineIndex - rowStart + 1);
+	}
+
+	protected CsvRow row(char[] current) {
+		row.buffer = current;
+
+		return row;
+	}
+
+	/**
+	 * Get the offsets of the current row, in pairs of start (inclusive) and end (exclusive) index
+	 * per column.
+	 * 
+	 * @return offsets, updated for each call to {@linkplain #next()} 
+	 */
+
+	public int[] getOffsets() {
+		return offsets;
+	}
+}
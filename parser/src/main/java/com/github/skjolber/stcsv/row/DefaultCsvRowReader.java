@@ -0,0 +1,180 @@
+package com.github.skjolber.stcsv.row;
+
+import java.io.IOException;
+import java.io.Reader;
+
+import com.github.skjolber.stcsv.CsvException;
+import com.github.skjolber.stcsv.builder.CsvBuilderException;
+
+public class DefaultCsvRowReader extends CsvRowReader {
+
+	protected final char divider;
+	protected final char quoteCharacter;
+	protected final char escapeCharacter;
+
+	public DefaultCsvRowReader(Reader reader, int columns, char quoteCharacter, char escapeCharacter, char divider) {
+		super(reader, columns);
+
+		if(quoteCharacter == escapeCharacter) {
+			throw new CsvBuilderException("Identical escape and quote character not supported");
+		}
+		this.quoteCharacter = quoteCharacter;
+		this.escapeCharacter = escapeCharacter;
+		this.divider = divider;
+	}
+
+	public DefaultCsvRowReader(Reader reader, char[] current, int offset, int length, int columns, char quoteCharacter, char escapeCharacter, char divider) {
+		this(reader, current, offset, length, current.length - 1, columns, quoteCharacter, escapeCharacter, divider);
+	}
+
+	public DefaultCsvRowReader(Reader reader, char[] current, int offset, int length, int maxBufferLength, int columns, char quoteCharacter, char escapeCharacter, char divider) {
+		super(reader, current, offset, length, maxBufferLength, columns);
+
+		if(quoteCharacter == escapeCharacter) {
+			throw new CsvBuilderException("Identical escape and quote character not supported");
+		}
+		this.quoteCharacter = quoteCharacter;
+		this.escapeCharacter = escapeCharacter;
+		this.divider = divider;
+	}
+
+	public CsvRow next() throws IOException {
+		int currentOffset = super.offset;
+		if (currentOffset >= super.endOfLineIndex) {
+			if (this.fill() <= 0) {
+				return null;
+			}
+
+			currentOffset = 0;
+		}
+		if (super.skipLines) {
+			if ((currentOffset = this.skipEmptyOrCommentedLines(currentOffset)) == -1) {
+				return null;
+			}
+		}
+
+		char[] current = super.current; // replaced if the buffer grows or shrinks
+
+		try {
+			final int[] offsets = this.offsets;
+			final char divider = this.divider;
+			final char quoteCharacter = this.quoteCharacter;
+			final char escapeCharacter = this.escapeCharacter;
+
+			int rowStart = currentOffset;
+			int start;
+
+			for(int i = 0; i < lastIndex; i += 2) {
+				if (current[currentOffset] != quoteCharacter) {
+					start = currentOffset;
+					if (current[currentOffset] != divider) {
+						currentOffset = SCANNER.indexOf(current, currentOffset + 1, divider);
+					}
+					offsets[i] = start;
+					offsets[i + 1] = currentOffset;
+				} else {
+					int rangeIndex = this.getEndOfLineIndex();
+					start = currentOffset + 1; // do not include quote character
+					boolean escaped = false;
+
+					quoted : 
+					while (true) {
+						currentOffset = SCANNER.indexOf(current, currentOffset + 1, quoteCharacter, escapeCharacter, '\n');
+
+						if (current[currentOffset] == quoteCharacter) {
+							if (escaped) {
+								start = unescape(current, start, currentOffset, escapeCharacter);
+							}
+							offsets[i] = start;
+							offsets[i + 1] = currentOffset;
+
+							do {
+								++currentOffset;
+							} while (current[currentOffset] != divider);
+							
+							break quoted;
+						} else if (current[currentOffset] == escapeCharacter) {
+							++currentOffset; // so this also needs a range check now, if escaping newline
+							escaped = true; // unescape once the whole value has been read
+						} 
+						
+						if(currentOffset == rangeIndex) { // or in other words if current[currentOffset] == '\n'
+							rangeIndex = this.fillRow(rowStart, i);
+
+							currentOffset -= rowStart;
+							start -= rowStart;
+							rowStart = 0;
+							if (rangeIndex <= currentOffset) {
+								throw new CsvException("Illegal value in column " + (i / 2));
+							}
+							current = super.current;
+						}
+					}
+				}
+				++currentOffset;
+			}
+			
+			// last column
+			if (current[currentOffset] != quoteCharacter) {
+				start = currentOffset;
+				if (current[currentOffset] != '\n') {
+					currentOffset = SCANNER.indexOf(current, currentOffset + 1, '\n');
+
+					if(current[currentOffset - 1] == '\r') { // check for linefeed
+						offsets[lastIndex + 1] = currentOffset - 1;
+					} else {
+						offsets[lastIndex + 1] = currentOffset;
+					}
+				} else {
+					offsets[lastIndex + 1] = currentOffset;
+				}
+				offsets[lastIndex] = start;
+			} else {
+				int rangeIndex = this.getEndOfLineIndex();
+				start = currentOffset + 1; // do not include quote character
+				boolean escaped = false;
+
+				quoted : 
+				while (true) {
+					currentOffset = SCANNER.indexOf(current, currentOffset + 1, quoteCharacter, escapeCharacter, '\n');
+
+					if (current[currentOffset] == quoteCharacter) {
+						if (escaped) {
+							start = unescape(current, start, currentOffset, escapeCharacter);
+						}
+						offsets[lastIndex] = start;
+						offsets[lastIndex + 1] = currentOffset;
+
+						do {
+							++currentOffset;
+						} while (current[currentOffset] != '\n'); // i.e. skip \r
+						break quoted;
+					} else if (current[currentOffset] == escapeCharacter) {
+						// so this also needs a range check now, if escaping newline
+						++currentOffset;
+						escaped = true; // unescape once the whole value has been read
+					} 
+						
+					if (currentOffset == rangeIndex) { // or in other words if current[currentOffset] == '\n
+						rangeIndex = this.fillRow(rowStart, lastIndex);
+
+						currentOffset -= rowStart;
+						start -= rowStart;
+						rowStart = 0;
+						if (rangeIndex <= currentOffset) {
+							throw new CsvException("Illegal value in column " + (lastIndex / 2));
+						}
+						current = super.current;
+					}
+				}
+			}
+			++currentOffset;
+
+			super.offset = currentOffset;
+
+			return row(current);
+		} catch (ArrayIndexOutOfBoundsException e) {
+			throw new CsvException(e);
+		}
+	}
+}
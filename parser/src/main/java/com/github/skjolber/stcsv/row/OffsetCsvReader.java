@@ -0,0 +1,44 @@
+package com.github.skjolber.stcsv.row;
+
+import com.github.skjolber.stcsv.CsvReader;
+import com.github.skjolber.stcsv.RawReader;
+
+/**
+ * 
+ * Reader which returns the start (inclusive) and end (exclusive) index of each value, in pairs, 
+ * so that value n is located at offsets <code>[2 * n]</code> to <code>[2 * n + 1]</code> within the 
+ * buffer of {@linkplain RawReader#getBuffer()}. Quoted values are unescaped in place. 
+ * <br><br>
+ * The offsets array is reused between rows, and the buffer might be replaced when the next row is read,
+ * so keep a reference to the {@linkplain RawReader} rather than to the buffer.
+ * 
+ */
+
+public class OffsetCsvReader implements CsvReader<int[]> {
+
+	protected final CsvRowReader reader;
+	protected final int[] offsets;
+
+	public OffsetCsvReader(CsvRowReader reader) {
+		this.reader = reader;
+		this.offsets = reader.getOffsets();
+	}
+
+	@Override
+	public int[] next() throws Exception {
+		if(reader.next() == null) {
+			return null;
+		}
+		return offsets;
+	}
+
+	@Override
+	public void close() throws Exception {
+		reader.close();
+	}
+
+	@Override
+	public RawReader getReader() {
+		return reader.getReader();
+	}
+}
@@ -0,0 +1,178 @@
+package com.github.skjolber.stcsv.row;
+
+import java.io.IOException;
+import java.io.Reader;
+
+import com.github.skjolber.stcsv.CsvException;
+
+public final class RFC4180CsvRowReader extends CsvRowReader {
+
+	public RFC4180CsvRowReader(Reader reader, int columns) {
+		super(reader, columns);
+	}
+
+	public RFC4180CsvRowReader(Reader reader, char[] current, int offset, int length, int columns) {
+		super(reader, current, offset, length, columns);
+	}
+
+	public RFC4180CsvRowReader(Reader reader, char[] current, int offset, int length, int maxBufferLength, int columns) {
+		super(reader, current, offset, length, maxBufferLength, columns);
+	}
+
+	public CsvRow next() throws IOException {
+		int currentOffset = super.offset;
+		if (currentOffset >= super.endOfLineIndex) {
+			if (this.fill() <= 0) {
+				return null;
+			}
+
+			currentOffset = 0;
+		}
+		if (super.skipLines) {
+			if ((currentOffset = this.skipEmptyOrCommentedLines(currentOffset)) == -1) {
+				return null;
+			}
+		}
+
+		char[] current = super.current; // replaced if the buffer grows or shrinks
+
+		try {
+			final int[] offsets = this.offsets;
+
+			int rowStart = currentOffset;
+			int start;
+
+			for(int i = 0; i < lastIndex; i += 2) {
+				if (current[currentOffset] != '"') {
+					start = currentOffset;
+					if (current[currentOffset] != ',') {
+						currentOffset = SCANNER.indexOf(current, currentOffset + 1, ',');
+					}
+					offsets[i] = start;
+					offsets[i + 1] = currentOffset;
+				} else {
+					int rangeIndex = this.getEndOfLineIndex();
+					start = currentOffset + 1; // do not include quote character
+					boolean escaped = false;
+
+					quoted : 
+					while (true) {
+						currentOffset = SCANNER.indexOf(current, currentOffset + 1, '"', '\n');
+						
+						if (current[currentOffset] == '"') {
+							currentOffset++;
+							if (currentOffset == rangeIndex) {
+								// attempt to fill; EOF not acceptable unless last column
+								rangeIndex = this.fillRow(rowStart, i);
+
+								currentOffset -= rowStart;
+								start -= rowStart;
+								rowStart = 0;
+								if (rangeIndex <= currentOffset) {
+									throw new CsvException("Illegal value in column " + (i / 2));
+								}
+								current = super.current;
+							}
+							
+							if (current[currentOffset] != '"') {
+								// single quote
+								if (escaped) {
+									start = unescape(current, start, currentOffset - 1, '"');
+								}
+								offsets[i] = start;
+								offsets[i + 1] = currentOffset - 1;
+
+								while (current[currentOffset] != ',') {
+									++currentOffset;
+								}
+								
+								break quoted;
+							}
+
+							// double quote, i.e. convert 2x double quote to 1x double quote
+							// once the whole value has been read
+							escaped = true;
+						} else if (currentOffset == rangeIndex) {
+							rangeIndex = this.fillRow(rowStart, i);
+
+							currentOffset -= rowStart;
+							start -= rowStart;
+							rowStart = 0;
+							if (rangeIndex <= currentOffset) {
+								throw new CsvException("Illegal value in column " + (i / 2));
+							}
+							current = super.current;
+						}
+					}
+				}
+				++currentOffset;
+			}
+			
+			// last column
+			if (current[currentOffset] != '"') {
+				start = currentOffset;
+				if (current[currentOffset] != '\n') {
+					currentOffset = SCANNER.indexOf(current, currentOffset + 1, '\n');
+
+					if(current[currentOffset - 1] == '\r') { // check for linefeed
+						offsets[lastIndex + 1] = currentOffset - 1;
+					} else {
+						offsets[lastIndex + 1] = currentOffset;
+					}
+				} else {
+					offsets[lastIndex + 1] = currentOffset;
+				}
+				offsets[lastIndex] = start;
+			} else {
+				int rangeIndex = this.getEndOfLineIndex();
+				start = currentOffset + 1; // do not include quote character
+				boolean escaped = false;
+
+				quoted : 
+				while (true) {
+					currentOffset = SCANNER.indexOf(current, currentOffset + 1, '"', '\n');
+					
+					if (current[currentOffset] == '"') {
+						currentOffset++;
+
+						if (current[currentOffset] != '"') {
+							// single quote
+							if (escaped) {
+								start = unescape(current, start, currentOffset - 1, '"');
+							}
+							offsets[lastIndex] = start;
+							offsets[lastIndex + 1] = currentOffset - 1;
+
+							while (current[currentOffset] != '\n') { // i.e. skip \r 
+								++currentOffset;
+							}
+							
+							break quoted;
+						}
+
+						// double quote, i.e. convert 2x double quote to 1x double quote
+						// once the whole value has been read
+						escaped = true;
+					} else if (currentOffset == rangeIndex) {
+						rangeIndex = this.fillRow(rowStart, lastIndex);
+
+						currentOffset -= rowStart;
+						start -= rowStart;
+						rowStart = 0;
+						if (rangeIndex <= currentOffset) {
+							throw new CsvException("Illegal value in column " + (lastIndex / 2));
+						}
+						current = super.current;
+					}
+				}
+			}
+			++currentOffset;
+
+			super.offset = currentOffset;
+
+			return row(current);
+		} catch (ArrayIndexOutOfBoundsException e) {
+			throw new CsvException(e);
+		}
+	}
+}
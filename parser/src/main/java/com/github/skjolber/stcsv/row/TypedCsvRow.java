@@ -0,0 +1,157 @@
+package com.github.skjolber.stcsv.row;
+
+import com.github.skjolber.stcsv.CsvException;
+import com.github.skjolber.stcsv.ValueParser;
+
+/**
+ * 
+ * Row with primitive values parsed directly from the parser buffer, according to a per-column 
+ * {@linkplain ColumnType}. No objects are created for primitive values; string values are available 
+ * through the underlying {@linkplain CsvRow}.
+ * <br><br>
+ * The row is reused, and string values are only valid until the next call to 
+ * {@linkplain com.github.skjolber.stcsv.CsvReader#next()}.
+ * 
+ */
+
+public class TypedCsvRow {
+
+	protected CsvRow row;
+	protected final ColumnType[] types; // per column, null for string
+	protected final long[] longs; // int, long and boolean values
+	protected final double[] doubles;
+
+	public TypedCsvRow(ColumnType[] types) {
+		this.types = types;
+		this.longs = new long[types.length];
+		this.doubles = new double[types.length];
+	}
+
+	protected void parse(CsvRow row) {
+		this.row = row;
+
+		final char[] buffer = row.getBuffer();
+		final ColumnType[] types = this.types;
+		for(int i = 0; i < types.length; i++) {
+			if(types[i] == null) {
+				continue;
+			}
+			int start = row.getStart(i);
+			int end = row.getEnd(i);
+			if(start == end) {
+				longs[i] = 0;
+				doubles[i] = 0;
+
+				continue;
+			}
+			try {
+				switch(types[i]) {
+					case INT: {
+						longs[i] = ValueParser.parseInt(buffer, start, end);
+						break;
+					}
+					case LONG: {
+						longs[i] = ValueParser.parseLong(buffer, start, end);
+						break;
+					}
+					case DOUBLE: {
+						doubles[i] = ValueParser.parseDouble(buffer, start, end);
+						break;
+					}
+					case BOOLEAN: {
+						longs[i] = ValueParser.parseBoolean(buffer, start, end) ? 1 : 0;
+						break;
+					}
+					default : {
+					}
+				}
+			} catch(NumberFormatException e) {
+				throw new CsvException("Illegal value in column " + i, e);
+			}
+		}
+	}
+
+	public int getColumnCount() {
+		return row.getColumnCount();
+	}
+
+	/**
+	 * Get an int value.
+	 * 
+	 * @param column column index
+	 * @return the value, or zero if empty
+	 */
+
+	public int getInt(int column) {
+		return (int)longs[column];
+	}
+
+	/**
+	 * Get a long value.
+	 * 
+	 * @param column column index
+	 * @return the value, or zero if empty
+	 */
+
+	public long getLong(int column) {
+		return longs[column];
+	}
+
+	/**
+	 * Get a double value.
+	 * 
+	 * @param column column index
+	 * @return the value, or zero if empty
+	 */
+
+	public double getDouble(int column) {
+		return doubles[column];
+	}
+
+	/**
+	 * Get a boolean value.
+	 * 
+	 * @param column column index
+	 * @return the value, or false if empty
+	 */
+
+	public boolean getBoolean(int column) {
+		return longs[column] != 0;
+	}
+
+	public boolean isEmpty(int column) {
+		return row.isEmpty(column);
+	}
+
+	/**
+	 * Get a value as a (new) string.
+	 * 
+	 * @param column column index
+	 * @return the value, or null if empty
+	 */
+
+	public String getString(int column) {
+		return row.getString(column);
+	}
+
+	/**
+	 * Get a view of a value, see {@linkplain CsvRow#getCharSequence(int)}.
+	 * 
+	 * @param column column index
+	 * @return value view, of zero length if the value is empty
+	 */
+
+	public CharSequence getCharSequence(int column) {
+		return row.getCharSequence(column);
+	}
+
+	/**
+	 * Get the underlying row.
+	 * 
+	 * @return the flyweight row
+	 */
+
+	public CsvRow getRow() {
+		return row;
+	}
+}
@@ -0,0 +1,86 @@
+package com.github.skjolber.stcsv.row;
+
+import com.github.skjolber.stcsv.CsvException;
+import com.github.skjolber.stcsv.CsvReader;
+import com.github.skjolber.stcsv.RawInputStream;
+import com.github.skjolber.stcsv.RawReader;
+
+/**
+ * 
+ * Reader which parses primitive values directly from the parser buffer, according to a per-column
+ * {@linkplain ColumnType}. The first row is the header, which is not parsed.
+ * 
+ */
+
+public class TypedCsvRowReader implements CsvReader<TypedCsvRow> {
+
+	protected final CsvReader<CsvRow> reader;
+	protected final String[] header;
+	protected final TypedCsvRow row;
+
+	public TypedCsvRowReader(CsvReader<CsvRow> reader, String[] header, ColumnType[] types) {
+		this.reader = reader;
+		this.header = header;
+		
+		ColumnType[] rowTypes = new ColumnType[header.length];
+		for(int i = 0; i < types.length && i < rowTypes.length; i++) {
+			if(types[i] != ColumnType.STRING) {
+				rowTypes[i] = types[i];
+			}
+		}
+		this.row = new TypedCsvRow(rowTypes);
+	}
+
+	@Override
+	public TypedCsvRow next() throws Exception {
+		CsvRow next = reader.next();
+		if(next == null) {
+			return null;
+		}
+		row.parse(next);
+		
+		return row;
+	}
+
+	/**
+	 * Get the column names, i.e. the first row.
+	 * 
+	 * @return column names
+	 */
+
+	public String[] getHeader() {
+		return header;
+	}
+
+	/**
+	 * Get the index of a column.
+	 * 
+	 * @param name column name
+	 * @return column index
+	 * @throws CsvException if there is no such column
+	 */
+
+	public int getColumnIndex(String name) {
+		for(int i = 0; i < header.length; i++) {
+			if(name.equals(header[i])) {
+				return i;
+			}
+		}
+		throw new CsvException("Unknown column '" + name + "'");
+	}
+
+	@Override
+	public void close() throws Exception {
+		reader.close();
+	}
+
+	@Override
+	public RawReader getReader() {
+		return reader.getReader();
+	}
+
+	@Override
+	public RawInputStream getInputStream() {
+		return reader.getInputStream();
+	}
+}
@@ -32,7 +32,11 @@ public class DefaultStringArrayCsvReader extends StringArrayCsvReader {
 	}
 
 	public DefaultStringArrayCsvReader(Reader reader, char[] current, int offset, int length, int columns, char quoteCharacter, char escapeCharacter, char divider) {
-		super(reader, current, offset, length);
+		this(reader, current, offset, length, current.length - 1, columns, quoteCharacter, escapeCharacter, divider);
+	}
+
+	public DefaultStringArrayCsvReader(Reader reader, char[] current, int offset, int length, int maxBufferLength, int columns, char quoteCharacter, char escapeCharacter, char divider) {
+		super(reader, current, offset, length, maxBufferLength);
 
 		this.value = new String[columns];
 		this.lastIndex = columns - 1;
@@ -54,11 +58,19 @@ public class DefaultStringArrayCsvReader extends StringArrayCsvReader {
 
 			currentOffset = 0;
 		}
+		if (super.skipLines) {
+			if ((currentOffset = this.skipEmptyOrCommentedLines(currentOffset)) == -1) {
+				return null;
+			}
+		}
 
-		final char[] current = super.current;
+		char[] current = super.current; // replaced if the buffer grows or shrinks
 
 		try {
 			final String[] value = this.value;
+			final char divider = this.divider;
+			final char quoteCharacter = this.quoteCharacter;
+			final char escapeCharacter = this.escapeCharacter;
 
 			int start;
 
@@ -67,9 +79,7 @@ public class DefaultStringArrayCsvReader extends StringArrayCsvReader {
 					if (current[currentOffset] != divider) {
 						start = currentOffset;
 	
-						do {
-							++currentOffset;
-						} while (current[currentOffset] != divider);
+						currentOffset = SCANNER.indexOf(current, currentOffset + 1, divider);
 	
 						value[i] = new String(current, start, currentOffset - start);
 					} else {
@@ -78,12 +88,16 @@ public class DefaultStringArrayCsvReader extends StringArrayCsvReader {
 				} else {
 					int rangeIndex = this.getEndOfLineIndex();
 					start = currentOffset + 1; // do not include quote character
+					boolean escaped = false;
 	
 					quoted : 
 					while (true) {
-						while (current[++currentOffset] > maxCharacter);
+						currentOffset = SCANNER.indexOf(current, currentOffset + 1, quoteCharacter, escapeCharacter, '\n');
 
 						if (current[currentOffset] == quoteCharacter) {
+							if (escaped) {
+								start = unescape(current, start, currentOffset, escapeCharacter);
+							}
 							if (currentOffset > start) {
 								value[i] = new String(current, start, currentOffset - start);
 							} else {
@@ -96,15 +110,17 @@ public class DefaultStringArrayCsvReader extends StringArrayCsvReader {
 							
 							break quoted;
 						} else 	if (current[currentOffset] == escapeCharacter) {
-							System.arraycopy(current, start, current, ++start, ++currentOffset - start); // so this also needs a range check now, if escaping newline
+							++currentOffset; // so this also needs a range check now, if escaping newline
+							escaped = true; // unescape once the whole value has been read
 						} 
 						
 						if(currentOffset == rangeIndex) { // or in other words if current[currentOffset] == '\n'
 							currentOffset -= start;
-							if ((rangeIndex = this.fill(currentOffset + 1)) <= currentOffset + 1) {
+							if ((rangeIndex = this.fill(currentOffset + 1)) <= currentOffset) {
 								throw new CsvException("Illegal value in column " + i);
 							}
 	
+							current = super.current;
 							start = 0;
 						}
 					}
@@ -117,9 +133,7 @@ public class DefaultStringArrayCsvReader extends StringArrayCsvReader {
 				if (current[currentOffset] != '\n') {
 					start = currentOffset;
 
-					do {
-						++currentOffset;
-					} while (current[currentOffset] != '\n');
+					currentOffset = SCANNER.indexOf(current, currentOffset + 1, '\n');
 
 					if(current[currentOffset - 1] == '\r') { // check for linefeed
 						if(currentOffset - 1 == start) {
@@ -136,12 +150,16 @@ public class DefaultStringArrayCsvReader extends StringArrayCsvReader {
 			} else {
 				int rangeIndex = this.getEndOfLineIndex();
 				start = currentOffset + 1; // do not include quote character
+				boolean escaped = false;
 
 				quoted : 
 				while (true) {
-					while (current[++currentOffset] > maxCharacter);
+					currentOffset = SCANNER.indexOf(current, currentOffset + 1, quoteCharacter, escapeCharacter, '\n');
 
 					if (current[currentOffset] == quoteCharacter) {
+						if (escaped) {
+							start = unescape(current, start, currentOffset, escapeCharacter);
+						}
 						if (currentOffset > start) {
 							value[lastIndex] = new String(current, start, currentOffset - start);
 						} else {
@@ -154,15 +172,17 @@ public class DefaultStringArrayCsvReader extends StringArrayCsvReader {
 						break quoted;
 					} else if (current[currentOffset] == escapeCharacter) {
 						// so this also needs a range check now, if escaping newline
-						System.arraycopy(current, start, current, ++start, ++currentOffset - start);
+						++currentOffset;
+						escaped = true; // unescape once the whole value has been read
 					} 
 						
 					if (currentOffset == rangeIndex) { // or in other words if current[currentOffset] == '\n
 						currentOffset -= start;
-						if ((rangeIndex = this.fill(currentOffset + 1)) <= currentOffset + 1) {
+						if ((rangeIndex = this.fill(currentOffset + 1)) <= currentOffset) {
 							throw new CsvException("Illegal value in column " + lastIndex);
 						}
 
+						current = super.current;
 						start = 0;
 					}
 				}
@@ -0,0 +1,188 @@
+package com.github.skjolber.stcsv.sa;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import com.github.skjolber.stcsv.CsvException;
+import com.github.skjolber.stcsv.builder.CsvBuilderException;
+import com.github.skjolber.stcsv.scan.ByteScanner;
+
+/**
+ * 
+ * Reader for CSV files which do not have (quoted) values containing newlines.
+ * 
+ *
+ */
+
+public final class NoLinebreakStringArrayByteCsvReader extends StringArrayByteCsvReader {
+	
+	protected final String[] value;
+	protected final int lastIndex;
+	
+	protected final byte divider;
+	protected final byte quoteCharacter;
+	protected final byte escapeCharacter;
+	
+	protected final byte maxCharacter;
+	
+	public NoLinebreakStringArrayByteCsvReader(InputStream input, int columns, char quoteCharacter, char escapeCharacter, char divider) {
+		super(input, 65536);
+		
+		this.value = new String[columns];
+		this.lastIndex = columns - 1;
+		
+		this.quoteCharacter = (byte)quoteCharacter;
+		this.escapeCharacter = (byte)escapeCharacter;
+		if(quoteCharacter == escapeCharacter) {
+			throw new CsvBuilderException("Identical escape and quote character not supported");
+		}
+		this.divider = (byte)divider;
+		this.maxCharacter = (byte) Math.max(quoteCharacter, Math.max(escapeCharacter, '\n'));
+	}
+
+	public NoLinebreakStringArrayByteCsvReader(InputStream input, byte[] current, int offset, int length, int columns, char quoteCharacter, char escapeCharacter, char divider) {
+		this(input, current, offset, length, current.length - 1, columns, quoteCharacter, escapeCharacter, divider);
+	}
+
+	public NoLinebreakStringArrayByteCsvReader(InputStream input, byte[] current, int offset, int length, int maxBufferLength, int columns, char quoteCharacter, char escapeCharacter, char divider) {
+		this(input, current, offset, length, maxBufferLength, columns, quoteCharacter, escapeCharacter, divider, ByteScanner.SCALAR);
+	}
+
+	public NoLinebreakStringArrayByteCsvReader(InputStream input, byte[] current, int offset, int length, int maxBufferLength, int columns, char quoteCharacter, char escapeCharacter, char divider, ByteScanner scanner) {
+		super(input, current, offset, length, maxBufferLength, scanner);
+
+		this.value = new String[columns];
+		this.lastIndex = columns - 1;
+		if(quoteCharacter == escapeCharacter) {
+			throw new CsvBuilderException("Identical escape and quote character not supported");
+		}
+		this.quoteCharacter = (byte)quoteCharacter;
+		this.escapeCharacter = (byte)escapeCharacter;
+		this.divider = (byte)divider;
+		this.maxCharacter = (byte) Math.max(quoteCharacter, escapeCharacter);
+	}	
+	
+	public String[] next() throws IOException {
+		int currentOffset = super.offset;
+		if (currentOffset >= super.endOfLineIndex) {
+			if (this.fill() <= 0) {
+				return null;
+			}
+
+			currentOffset = 0;
+		}
+		if (super.skipLines) {
+			if ((currentOffset = this.skipEmptyOrCommentedLines(currentOffset)) == -1) {
+				return null;
+			}
+		}
+
+		final byte[] current = super.current;
+
+		try {
+			final String[] value = this.value;
+			final byte divider = this.divider;
+			final byte quoteCharacter = this.quoteCharacter;
+			final byte escapeCharacter = this.escapeCharacter;
+
+			int start;
+
+			for(int i = 0; i < lastIndex; i++) {
+				if (current[currentOffset] != quoteCharacter) {
+					if (current[currentOffset] != divider) {
+						start = currentOffset;
+	
+						currentOffset = scanner.indexOf(current, currentOffset + 1, divider);
+	
+						value[i] = new String(current, start, currentOffset - start, StandardCharsets.UTF_8);
+					} else {
+						value[i] = null;
+					}
+				} else {
+					start = currentOffset + 1; // do not include quote character
+					boolean escaped = false;
+	
+					quoted : 
+					while (true) {
+						currentOffset = scanner.indexOf(current, currentOffset + 1, quoteCharacter, escapeCharacter);
+
+						if (current[currentOffset] == quoteCharacter) {
+							if (escaped) {
+								start = unescape(current, start, currentOffset, escapeCharacter);
+							}
+							if (currentOffset > start) {
+								value[i] = new String(current, start, currentOffset - start, StandardCharsets.UTF_8);
+							} else {
+								value[i] = null;
+							}
+
+							do {
+								++currentOffset;
+							} while (current[currentOffset] != divider);
+							break quoted;
+						} else if (current[currentOffset] == escapeCharacter) {
+							++currentOffset; // so this also needs a range check now, if escaping newline
+							escaped = true; // unescape once the whole value has been read
+						}
+					}
+				}
+				++currentOffset;
+			}
+			
+			// last column
+			if (current[currentOffset] != quoteCharacter) {
+				if (current[currentOffset] != '\n') {
+					start = currentOffset;
+
+					currentOffset = scanner.indexOf(current, currentOffset + 1, (byte)'\n');
+
+					if(current[currentOffset - 1] == '\r') { // check for linefeed
+						if(currentOffset - 1 == start) {
+							value[lastIndex] = null;
+						} else {
+							value[lastIndex] = new String(current, start, currentOffset - start - 1, StandardCharsets.UTF_8);
+						}
+					} else {
+						value[lastIndex] = new String(current, start, currentOffset - start, StandardCharsets.UTF_8);
+					}
+				} else {
+					value[lastIndex] = null;
+				}
+			} else {
+				start = currentOffset + 1; // do not include quote character
+				boolean escaped = false;
+
+				quoted : while (true) {
+					currentOffset = scanner.indexOf(current, currentOffset + 1, quoteCharacter, escapeCharacter);
+
+					if (current[currentOffset] == quoteCharacter) {
+						if (escaped) {
+							start = unescape(current, start, currentOffset, escapeCharacter);
+						}
+						if (currentOffset > start) {
+							value[lastIndex] = new String(current, start, currentOffset - start, StandardCharsets.UTF_8);
+						} else {
+							value[lastIndex] = null;
+						}
+
+						do {
+							++currentOffset;
+						} while (current[currentOffset] != '\n');
+						break quoted;
+					} else 	if (current[currentOffset] == escapeCharacter) {
+						++currentOffset; // so this also needs a range check now, if escaping newline
+						escaped = true; // unescape once the whole value has been read
+					}
+				}
+			}
+			++currentOffset;			
+
+			super.offset = currentOffset;
+
+			return value;
+		} catch (ArrayIndexOutOfBoundsException e) {
+			throw new CsvException(e);
+		}
+	}
+}
\ No newline at end of file
@@ -40,7 +40,11 @@ public final class NoLinebreakStringArrayCsvReader extends StringArrayCsvReader
 	}
 
 	public NoLinebreakStringArrayCsvReader(Reader reader, char[] current, int offset, int length, int columns, char quoteCharacter, char escapeCharacter, char divider) {
-		super(reader, current, offset, length);
+		this(reader, current, offset, length, current.length - 1, columns, quoteCharacter, escapeCharacter, divider);
+	}
+
+	public NoLinebreakStringArrayCsvReader(Reader reader, char[] current, int offset, int length, int maxBufferLength, int columns, char quoteCharacter, char escapeCharacter, char divider) {
+		super(reader, current, offset, length, maxBufferLength);
 
 		this.value = new String[columns];
 		this.lastIndex = columns - 1;
@@ -62,11 +66,19 @@ public final class NoLinebreakStringArrayCsvReader extends StringArrayCsvReader
 
 			currentOffset = 0;
 		}
+		if (super.skipLines) {
+			if ((currentOffset = this.skipEmptyOrCommentedLines(currentOffset)) == -1) {
+				return null;
+			}
+		}
 
 		final char[] current = super.current;
 
 		try {
 			final String[] value = this.value;
+			final char divider = this.divider;
+			final char quoteCharacter = this.quoteCharacter;
+			final char escapeCharacter = this.escapeCharacter;
 
 			int start;
 
@@ -85,12 +97,16 @@ public final class NoLinebreakStringArrayCsvReader extends StringArrayCsvReader
 					}
 				} else {
 					start = currentOffset + 1; // do not include quote character
+					boolean escaped = false;
 	
 					quoted : 
 					while (true) {
 						while (current[++currentOffset] > maxCharacter);
 
 						if (current[currentOffset] == quoteCharacter) {
+							if (escaped) {
+								start = unescape(current, start, currentOffset, escapeCharacter);
+							}
 							if (currentOffset > start) {
 								value[i] = new String(current, start, currentOffset - start);
 							} else {
@@ -103,7 +119,7 @@ public final class NoLinebreakStringArrayCsvReader extends StringArrayCsvReader
 							break quoted;
 						} else if (current[currentOffset] == escapeCharacter) {
 							++currentOffset; // so this also needs a range check now, if escaping newline
-							System.arraycopy(current, start, current, ++start, currentOffset - start);
+							escaped = true; // unescape once the whole value has been read
 						}
 					}
 				}
@@ -133,11 +149,15 @@ public final class NoLinebreakStringArrayCsvReader extends StringArrayCsvReader
 				}
 			} else {
 				start = currentOffset + 1; // do not include quote character
+				boolean escaped = false;
 
 				quoted : while (true) {
 					while (current[++currentOffset] > maxCharacter);
 
 					if (current[currentOffset] == quoteCharacter) {
+						if (escaped) {
+							start = unescape(current, start, currentOffset, escapeCharacter);
+						}
 						if (currentOffset > start) {
 							value[lastIndex] = new String(current, start, currentOffset - start);
 						} else {
@@ -150,7 +170,7 @@ public final class NoLinebreakStringArrayCsvReader extends StringArrayCsvReader
 						break quoted;
 					} else 	if (current[currentOffset] == escapeCharacter) {
 						++currentOffset; // so this also needs a range check now, if escaping newline
-						System.arraycopy(current, start, current, ++start, currentOffset - start);
+						escaped = true; // unescape once the whole value has been read
 					}
 				}
 			}
@@ -0,0 +1,284 @@
+package com.github.skjolber.stcsv.sa;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import com.github.skjolber.stcsv.CsvException;
+import com.github.skjolber.stcsv.StringCache;
+import com.github.skjolber.stcsv.scan.ByteScanner;
+
+/**
+ *
+ * Reader which only creates {@linkplain String}s for projected (mapped) columns. Other columns
+ * are scanned past, and if values contain no linebreaks, the remainder of the line is skipped
+ * after the last projected column. Values of low-cardinality columns can be deduplicated using a
+ * {@linkplain StringCache}.
+ * <br><br>
+ * All columns are returned until a projection is set, so that the first row (the header) can be
+ * read in full.
+ *
+ */
+
+public class ProjectedStringArrayByteCsvReader extends StringArrayByteCsvReader {
+
+	protected String[] value;
+	protected final int lastIndex;
+
+	protected final byte divider;
+	protected final byte quoteCharacter;
+	protected final byte escapeCharacter;
+	protected final boolean doubleQuote; // quote character is also the escape character
+	protected final boolean linebreaks;
+
+	protected final int[] destination; // per column, -1 if not projected
+	protected int restIndex = Integer.MAX_VALUE; // skip the rest of the line after this column
+
+	protected final StringCache[] caches; // per column, null if not deduplicated
+
+	public ProjectedStringArrayByteCsvReader(InputStream input, byte[] current, int offset, int length, int maxBufferLength, int columns, char quoteCharacter, char escapeCharacter, char divider, boolean linebreaks, ByteScanner scanner) {
+		super(input, current, offset, length, maxBufferLength, scanner);
+
+		this.value = new String[columns];
+		this.lastIndex = columns - 1;
+		this.quoteCharacter = (byte)quoteCharacter;
+		this.escapeCharacter = (byte)escapeCharacter;
+		this.doubleQuote = quoteCharacter == escapeCharacter;
+		this.divider = (byte)divider;
+		this.linebreaks = linebreaks;
+
+		this.destination = new int[columns];
+		for(int i = 0; i < columns; i++) {
+			destination[i] = i;
+		}
+		this.caches = new StringCache[columns];
+	}
+
+	/**
+	 * Deduplicate the values of a column.
+	 *
+	 * @param column source column index
+	 * @param cache cache to get values from
+	 */
+
+	public void setCache(int column, StringCache cache) {
+		if(column < caches.length) {
+			caches[column] = cache;
+		}
+	}
+
+	protected String newString(int column, byte[] current, int start, int end) {
+		StringCache cache = caches[column];
+		if(cache != null) {
+			return cache.get(current, start, end);
+		}
+		return new String(current, start, end - start, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Set the projection for the following rows.
+	 *
+	 * @param source source column indexes
+	 * @param destination destination indexes, in the same order as source
+	 * @param length length of the returned array
+	 */
+
+	public void setProjection(int[] source, int[] destination, int length) {
+		for(int i = 0; i < this.destination.length; i++) {
+			this.destination[i] = -1;
+		}
+		int last = -1;
+		for(int i = 0; i < source.length; i++) {
+			if(source[i] <= lastIndex) {
+				this.destination[source[i]] = destination[i];
+				if(last < source[i]) {
+					last = source[i];
+				}
+			}
+		}
+		if(!linebreaks && last < lastIndex) {
+			this.restIndex = Math.max(last, 0);
+		} else {
+			this.restIndex = Integer.MAX_VALUE;
+		}
+		this.value = new String[length];
+	}
+
+	public String[] next() throws IOException {
+		int currentOffset = super.offset;
+		if (currentOffset >= super.endOfLineIndex) {
+			if (this.fill() <= 0) {
+				return null;
+			}
+
+			currentOffset = 0;
+		}
+		if (super.skipLines) {
+			if ((currentOffset = this.skipEmptyOrCommentedLines(currentOffset)) == -1) {
+				return null;
+			}
+		}
+
+		byte[] current = super.current; // replaced if the buffer grows or shrinks
+
+		try {
+			final String[] value = this.value;
+			final int[] destination = this.destination;
+			final byte divider = this.divider;
+			final byte quoteCharacter = this.quoteCharacter;
+			final byte escapeCharacter = this.escapeCharacter;
+
+			int start;
+
+			for(int i = 0; i < lastIndex; i++) {
+				int d = destination[i];
+				if (current[currentOffset] != quoteCharacter) {
+					if (current[currentOffset] != divider) {
+						start = currentOffset;
+
+						currentOffset = scanner.indexOf(current, currentOffset + 1, divider);
+
+						if(d != -1) {
+							value[d] = newString(i, current, start, currentOffset);
+						}
+					} else if(d != -1) {
+						value[d] = null;
+					}
+				} else {
+					int rangeIndex = this.getEndOfLineIndex();
+					start = currentOffset + 1; // do not include quote character
+					boolean escaped = false;
+
+					quoted :
+					while (true) {
+						currentOffset = scanner.indexOf(current, currentOffset + 1, quoteCharacter, escapeCharacter, (byte)'\n');
+
+						if (current[currentOffset] == quoteCharacter) {
+							if (doubleQuote && current[currentOffset + 1] == quoteCharacter) {
+								// double quote, i.e. convert 2x double quote to 1x double quote
+								// once the whole value has been read
+								++currentOffset;
+								escaped = true;
+								continue;
+							}
+							if(d != -1) {
+								if (escaped) {
+									start = unescape(current, start, currentOffset, escapeCharacter);
+								}
+								if (currentOffset > start) {
+									value[d] = newString(i, current, start, currentOffset);
+								} else {
+									value[d] = null;
+								}
+							}
+
+							do {
+								++currentOffset;
+							} while (current[currentOffset] != divider);
+
+							break quoted;
+						} else if (current[currentOffset] == escapeCharacter) {
+							++currentOffset; // so this also needs a range check now, if escaping newline
+							escaped = true; // unescape once the whole value has been read
+						}
+
+						if(currentOffset == rangeIndex) { // or in other words if current[currentOffset] == '\n'
+							currentOffset -= start;
+							if ((rangeIndex = this.fill(currentOffset + 1)) <= currentOffset) {
+								throw new CsvException("Illegal value in column " + i);
+							}
+
+							current = super.current;
+							start = 0;
+						}
+					}
+				}
+				++currentOffset;
+
+				if(i == restIndex) {
+					// no more projected columns
+					super.offset = scanner.indexOf(current, currentOffset, (byte)'\n') + 1;
+
+					return value;
+				}
+			}
+
+			// last column
+			int d = destination[lastIndex];
+			if (current[currentOffset] != quoteCharacter) {
+				if (current[currentOffset] != '\n') {
+					start = currentOffset;
+
+					currentOffset = scanner.indexOf(current, currentOffset + 1, (byte)'\n');
+
+					if(d != -1) {
+						if(current[currentOffset - 1] == '\r') { // check for linefeed
+							if(currentOffset - 1 == start) {
+								value[d] = null;
+							} else {
+								value[d] = newString(lastIndex, current, start, currentOffset - 1);
+							}
+						} else {
+							value[d] = newString(lastIndex, current, start, currentOffset);
+						}
+					}
+				} else if(d != -1) {
+					value[d] = null;
+				}
+			} else {
+				int rangeIndex = this.getEndOfLineIndex();
+				start = currentOffset + 1; // do not include quote character
+				boolean escaped = false;
+
+				quoted :
+				while (true) {
+					currentOffset = scanner.indexOf(current, currentOffset + 1, quoteCharacter, escapeCharacter, (byte)'\n');
+
+					if (current[currentOffset] == quoteCharacter) {
+						if (doubleQuote && current[currentOffset + 1] == quoteCharacter) {
+							++currentOffset;
+							escaped = true;
+							continue;
+						}
+						if(d != -1) {
+							if (escaped) {
+								start = unescape(current, start, currentOffset, escapeCharacter);
+							}
+							if (currentOffset > start) {
+								value[d] = newString(lastIndex, current, start, currentOffset);
+							} else {
+								value[d] = null;
+							}
+						}
+
+						do {
+							++currentOffset;
+						} while (current[currentOffset] != '\n'); // i.e. skip \r
+						break quoted;
+					} else if (current[currentOffset] == escapeCharacter) {
+						// so this also needs a range check now, if escaping newline
+						++currentOffset;
+						escaped = true; // unescape once the whole value has been read
+					}
+
+					if (currentOffset == rangeIndex) { // or in other words if current[currentOffset] == '\n
+						currentOffset -= start;
+						if ((rangeIndex = this.fill(currentOffset + 1)) <= currentOffset) {
+							throw new CsvException("Illegal value in column " + lastIndex);
+						}
+
+						current = super.current;
+						start = 0;
+					}
+				}
+			}
+			++currentOffset;
+
+			super.offset = currentOffset;
+
+			return value;
+		} catch (ArrayIndexOutOfBoundsException e) {
+			throw new CsvException(e);
+		}
+	}
+}
@@ -0,0 +1,37 @@
+package com.github.skjolber.stcsv.sa;
+
+import java.io.InputStream;
+
+import com.github.skjolber.stcsv.AbstractByteCsvReader;
+import com.github.skjolber.stcsv.builder.StringArrayCsvReaderBuilder;
+import com.github.skjolber.stcsv.scan.ByteScanner;
+
+public abstract class StringArrayByteCsvReader extends AbstractByteCsvReader<String[]> {
+
+	public static StringArrayCsvReaderBuilder builder() {
+		return new StringArrayCsvReaderBuilder();
+	}
+	
+	protected final ByteScanner scanner;
+
+	public StringArrayByteCsvReader(InputStream input, int length) {
+		super(input, length);
+		
+		this.scanner = ByteScanner.SCALAR;
+	}
+
+	public StringArrayByteCsvReader(InputStream input, byte[] current, int offset, int length) {
+		this(input, current, offset, length, current.length - 1);
+	}
+
+	public StringArrayByteCsvReader(InputStream input, byte[] current, int offset, int length, int maxBufferLength) {
+		this(input, current, offset, length, maxBufferLength, ByteScanner.SCALAR);
+	}
+
+	public StringArrayByteCsvReader(InputStream input, byte[] current, int offset, int length, int maxBufferLength, ByteScanner scanner) {
+		super(input, current, offset, length, maxBufferLength);
+		
+		this.scanner = scanner;
+	}
+
+}
@@ -16,7 +16,11 @@ public abstract class StringArrayCsvReader extends AbstractCsvReader<String[]> {
 	}
 
 	public StringArrayCsvReader(Reader reader, char[] current, int offset, int length) {
-		super(reader, current, offset, length);
+		this(reader, current, offset, length, current.length - 1);
+	}
+
+	public StringArrayCsvReader(Reader reader, char[] current, int offset, int length, int maxBufferLength) {
+		super(reader, current, offset, length, maxBufferLength);
 	}
 
 }
@@ -0,0 +1,227 @@
+package com.github.skjolber.stcsv.sa.rfc4180;
+
+import java.io.IOException;
+import java.io.Reader;
+
+import com.github.skjolber.stcsv.CsvException;
+import com.github.skjolber.stcsv.sa.StringArrayCsvReader;
+
+/**
+ * 
+ * Parser for RFC-4180 style input (i.e. the quote character is escaped by repeating it) with 
+ * custom divider and quote character, for example semicolon-separated values.
+ * 
+ */
+
+public class DefaultRFC4180StringArrayCsvReader extends StringArrayCsvReader {
+	
+	protected final String[] value;
+	protected final int lastIndex;
+
+	protected final char divider;
+	protected final char quoteCharacter; // also escape character
+
+	public DefaultRFC4180StringArrayCsvReader(Reader reader, int columns, char quoteCharacter, char divider) {
+		super(reader, 65536);
+		
+		this.value = new String[columns];
+		this.lastIndex = columns - 1;
+		this.quoteCharacter = quoteCharacter;
+		this.divider = divider;
+	}
+
+	public DefaultRFC4180StringArrayCsvReader(Reader reader, char[] current, int offset, int length, int columns, char quoteCharacter, char divider) {
+		this(reader, current, offset, length, current.length - 1, columns, quoteCharacter, divider);
+	}
+
+	public DefaultRFC4180StringArrayCsvReader(Reader reader, char[] current, int offset, int length, int maxBufferLength, int columns, char quoteCharacter, char divider) {
+		super(reader, current, offset, length, maxBufferLength);
+
+		this.value = new String[columns];
+		this.lastIndex = columns - 1;
+		this.quoteCharacter = quoteCharacter;
+		this.divider = divider;
+	}	
+	
+	public String[] next() throws IOException {
+		int currentOffset = super.offset;
+		if (currentOffset >= super.endOfLineIndex) {
+			if (this.fill() <= 0) {
+				return null;
+			}
+
+			currentOffset = 0;
+		}
+		if (super.skipLines) {
+			if ((currentOffset = this.skipEmptyOrCommentedLines(currentOffset)) == -1) {
+				return null;
+			}
+		}
+
+		char[] current = super.current; // replaced if the buffer grows or shrinks
+
+		try {
+			final String[] value = this.value;
+			final char divider = this.divider;
+			final char quoteCharacter = this.quoteCharacter;
+
+			int start;
+
+			for(int i = 0; i < lastIndex; i++) {
+				if (current[currentOffset] != quoteCharacter) {
+					if (current[currentOffset] != divider) {
+						start = currentOffset;
+	
+						currentOffset = SCANNER.indexOf(current, currentOffset + 1, divider);
+	
+						value[i] = new String(current, start, currentOffset - start);
+					} else {
+						value[i] = null;
+					}
+				} else {
+					int rangeIndex = this.getEndOfLineIndex();
+					start = currentOffset + 1; // do not include quote character
+					boolean escaped = false;
+
+
+					quoted : 
+					while (true) {
+						currentOffset = SCANNER.indexOf(current, currentOffset + 1, quoteCharacter, '\n');
+						
+						if (current[currentOffset] == quoteCharacter) {
+							
+							// we're in the middle column, so there should never be a single quote followed by a newline,
+							// so checking against the rangeIndex is strictly not necessary
+
+							currentOffset++;
+							if (currentOffset == rangeIndex) {
+								// attempt to fill
+								currentOffset -= start;
+								if ((rangeIndex = this.fill(currentOffset + 1)) <= currentOffset) {
+									// expected more bytes; EOF not acceptable unless last column
+									throw new CsvException("Illegal value in column " + i);
+								}
+
+								current = super.current;
+								start = 0;
+							}
+							
+							if (current[currentOffset] != quoteCharacter) {
+								// single quote
+								if (escaped) {
+									start = unescape(current, start, currentOffset - 1, quoteCharacter);
+								}
+								if (currentOffset - 1 > start) {
+									value[i] = new String(current, start, currentOffset - start - 1);
+								} else {
+									value[i] = null;
+								}
+
+								while (current[currentOffset] != divider) {
+									++currentOffset;
+								}
+								
+								break quoted;
+							}
+
+							// double quote, i.e. convert 2x double quote to 1x double quote
+							// once the whole value has been read
+							escaped = true;
+						} else if (currentOffset == rangeIndex) {
+							currentOffset -= start;
+							if ((rangeIndex = this.fill(currentOffset + 1)) <= currentOffset) {
+								throw new CsvException("Illegal value in column " + i);
+							}
+
+							current = super.current;
+							start = 0;
+						}
+					}
+				}
+				++currentOffset;
+			}
+			
+			// last column
+			if (current[currentOffset] != quoteCharacter) {
+				if (current[currentOffset] != '\n') {
+					start = currentOffset;
+
+					currentOffset = SCANNER.indexOf(current, currentOffset + 1, '\n');
+
+					if(current[currentOffset - 1] == '\r') { // check for linefeed
+						if(currentOffset - 1 == start) {
+							value[lastIndex] = null;
+						} else {
+							value[lastIndex] = new String(current, start, currentOffset - start - 1);
+						}
+					} else {
+						value[lastIndex] = new String(current, start, currentOffset - start);
+					}
+				} else {
+					value[lastIndex] = null;
+				}
+			} else {
+				int rangeIndex = this.getEndOfLineIndex();
+				start = currentOffset + 1; // do not include quote character
+				boolean escaped = false;
+
+				quoted : 
+				while (true) {
+					currentOffset = SCANNER.indexOf(current, currentOffset + 1, quoteCharacter, '\n');
+					
+					if (current[currentOffset] == quoteCharacter) {
+						
+						currentOffset++;
+						if (currentOffset == rangeIndex) {
+							currentOffset -= start;
+							
+							// attempt to fill, if we're at EOF thats okey
+							rangeIndex = this.fill(currentOffset + 1);
+
+							current = super.current;
+							start = 0;
+						}
+						
+						if (current[currentOffset] != quoteCharacter) {
+							// single quote
+							if (escaped) {
+								start = unescape(current, start, currentOffset - 1, quoteCharacter);
+							}
+							if (currentOffset - 1 > start) {
+								value[lastIndex] = new String(current, start, currentOffset - start - 1);
+							} else {
+								value[lastIndex] = null;
+							}
+
+							while (current[currentOffset] != '\n') { // i.e. skip \r 
+								++currentOffset;
+							}
+							
+							break quoted;
+						}
+
+						// double quote, i.e. convert 2x double quote to 1x double quote
+						// once the whole value has been read
+						escaped = true;
+						
+					} else if (currentOffset == rangeIndex) {
+						currentOffset -= start;
+						if ((rangeIndex = this.fill(currentOffset + 1)) <= currentOffset) {
+							throw new CsvException("Illegal value in column " + lastIndex);
+						}
+
+						current = super.current;
+						start = 0;
+					}
+				}
+			}
+			++currentOffset;			
+
+			super.offset = currentOffset;
+
+			return value;
+		} catch (ArrayIndexOutOfBoundsException e) {
+			throw new CsvException(e);
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,172 @@
+package com.github.skjolber.stcsv.sa.rfc4180;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import com.github.skjolber.stcsv.CsvException;
+import com.github.skjolber.stcsv.sa.StringArrayByteCsvReader;
+import com.github.skjolber.stcsv.scan.ByteScanner;
+
+/**
+ * 
+ * RFC 4180 Reader for CSV files which do not have (quoted) values containing newlines.
+ * 
+ *
+ */
+
+public final class NoLinebreakRFC4180StringArrayByteCsvReader extends StringArrayByteCsvReader {
+	
+	protected final String[] value;
+	protected final int lastIndex;
+
+	public NoLinebreakRFC4180StringArrayByteCsvReader(InputStream input, int columns) {
+		super(input, 65536);
+		
+		this.value = new String[columns];
+		this.lastIndex = columns - 1;
+	}
+
+	public NoLinebreakRFC4180StringArrayByteCsvReader(InputStream input, byte[] current, int offset, int length, int columns) {
+		this(input, current, offset, length, current.length - 1, columns);
+	}
+
+	public NoLinebreakRFC4180StringArrayByteCsvReader(InputStream input, byte[] current, int offset, int length, int maxBufferLength, int columns) {
+		this(input, current, offset, length, maxBufferLength, columns, ByteScanner.SCALAR);
+	}
+
+	public NoLinebreakRFC4180StringArrayByteCsvReader(InputStream input, byte[] current, int offset, int length, int maxBufferLength, int columns, ByteScanner scanner) {
+		super(input, current, offset, length, maxBufferLength, scanner);
+
+		this.value = new String[columns];
+		this.lastIndex = columns - 1;
+	}	
+	
+	public String[] next() throws IOException {
+		int currentOffset = super.offset;
+		if (currentOffset >= super.endOfLineIndex) {
+			if (this.fill() <= 0) {
+				return null;
+			}
+
+			currentOffset = 0;
+		}
+		if (super.skipLines) {
+			if ((currentOffset = this.skipEmptyOrCommentedLines(currentOffset)) == -1) {
+				return null;
+			}
+		}
+
+		final byte[] current = super.current;
+
+		try {
+			final String[] value = this.value;
+
+			int start;
+
+			for(int i = 0; i < lastIndex; i++) {
+				if (current[currentOffset] != '"') {
+					if (current[currentOffset] != ',') {
+						start = currentOffset;
+	
+						currentOffset = scanner.indexOf(current, currentOffset + 1, (byte)',');
+	
+						value[i] = new String(current, start, currentOffset - start, StandardCharsets.UTF_8);
+					} else {
+						value[i] = null;
+					}
+				} else {
+					start = currentOffset + 1; // do not include quote character
+					boolean escaped = false;
+	
+					quoted : 
+					while (true) {
+						currentOffset = scanner.indexOf(current, currentOffset + 1, (byte)'"');
+
+						if (current[currentOffset + 1] != '"') {
+							// single quote
+							if (escaped) {
+								start = unescape(current, start, currentOffset, '"');
+							}
+							if (currentOffset > start) {
+								value[i] = new String(current, start, currentOffset - start, StandardCharsets.UTF_8);
+							} else {
+								value[i] = null;
+							}
+
+							do {
+								++currentOffset;
+							} while (current[currentOffset] != ',');
+							
+							break quoted;
+						}
+
+						// double quote, i.e. convert 2x double quote to 1x double quote
+						// once the whole value has been read
+						++currentOffset;
+						escaped = true;
+					}
+				}
+				++currentOffset;
+			}
+			
+			// last column
+			if (current[currentOffset] != '"') {
+				if (current[currentOffset] != '\n') {
+					start = currentOffset;
+
+					currentOffset = scanner.indexOf(current, currentOffset + 1, (byte)'\n');
+
+					if(current[currentOffset - 1] == '\r') { // check for linefeed
+						if(currentOffset - 1 == start) {
+							value[lastIndex] = null;
+						} else {
+							value[lastIndex] = new String(current, start, currentOffset - start - 1, StandardCharsets.UTF_8);
+						}
+					} else {
+						value[lastIndex] = new String(current, start, currentOffset - start, StandardCharsets.UTF_8);
+					}
+				} else {
+					value[lastIndex] = null;
+				}
+			} else {
+				start = currentOffset + 1; // do not include quote character
+				boolean escaped = false;
+
+				quoted : 
+				while (true) {
+					currentOffset = scanner.indexOf(current, currentOffset + 1, (byte)'"');
+					
+					if (current[currentOffset + 1] != '"') {
+						if (escaped) {
+							start = unescape(current, start, currentOffset, '"');
+						}
+						if (currentOffset > start) {
+							value[lastIndex] = new String(current, start, currentOffset - start, StandardCharsets.UTF_8);
+						} else {
+							value[lastIndex] = null;
+						}
+
+						do {
+							++currentOffset;
+						} while (current[currentOffset] != '\n');
+						
+						break quoted;
+					}
+
+					// double quote, i.e. convert 2x double quote to 1x double quote
+					// once the whole value has been read
+					++currentOffset;
+					escaped = true;
+				}
+			}
+			++currentOffset;			
+
+			super.offset = currentOffset;
+
+			return value;
+		} catch (ArrayIndexOutOfBoundsException e) {
+			throw new CsvException(e);
+		}
+	}
+}
\ No newline at end of file
@@ -26,7 +26,11 @@ public final class NoLinebreakRFC4180StringArrayCsvReader extends StringArrayCsv
 	}
 
 	public NoLinebreakRFC4180StringArrayCsvReader(Reader reader, char[] current, int offset, int length, int columns) {
-		super(reader, current, offset, length);
+		this(reader, current, offset, length, current.length - 1, columns);
+	}
+
+	public NoLinebreakRFC4180StringArrayCsvReader(Reader reader, char[] current, int offset, int length, int maxBufferLength, int columns) {
+		super(reader, current, offset, length, maxBufferLength);
 
 		this.value = new String[columns];
 		this.lastIndex = columns - 1;
@@ -41,6 +45,11 @@ public final class NoLinebreakRFC4180StringArrayCsvReader extends StringArrayCsv
 
 			currentOffset = 0;
 		}
+		if (super.skipLines) {
+			if ((currentOffset = this.skipEmptyOrCommentedLines(currentOffset)) == -1) {
+				return null;
+			}
+		}
 
 		final char[] current = super.current;
 
@@ -64,6 +73,7 @@ public final class NoLinebreakRFC4180StringArrayCsvReader extends StringArrayCsv
 					}
 				} else {
 					start = currentOffset + 1; // do not include quote character
+					boolean escaped = false;
 	
 					quoted : 
 					while (true) {
@@ -71,6 +81,9 @@ public final class NoLinebreakRFC4180StringArrayCsvReader extends StringArrayCsv
 
 						if (current[currentOffset + 1] != '"') {
 							// single quote
+							if (escaped) {
+								start = unescape(current, start, currentOffset, '"');
+							}
 							if (currentOffset > start) {
 								value[i] = new String(current, start, currentOffset - start);
 							} else {
@@ -85,13 +98,9 @@ public final class NoLinebreakRFC4180StringArrayCsvReader extends StringArrayCsv
 						}
 
 						// double quote, i.e. convert 2x double quote to 1x double quote
-						//
-						// equivalent to
-						// System.arraycopy(current, start, current, start + 1, currentOffset - start);
-						// ++currentOffset;
-						// ++start;
-
-						System.arraycopy(current, start, current, ++start, ++currentOffset - start);
+						// once the whole value has been read
+						++currentOffset;
+						escaped = true;
 					}
 				}
 				++currentOffset;
@@ -120,12 +129,16 @@ public final class NoLinebreakRFC4180StringArrayCsvReader extends StringArrayCsv
 				}
 			} else {
 				start = currentOffset + 1; // do not include quote character
+				boolean escaped = false;
 
 				quoted : 
 				while (true) {
 					while (current[++currentOffset] != '"');
 					
 					if (current[currentOffset + 1] != '"') {
+						if (escaped) {
+							start = unescape(current, start, currentOffset, '"');
+						}
 						if (currentOffset > start) {
 							value[lastIndex] = new String(current, start, currentOffset - start);
 						} else {
@@ -140,13 +153,9 @@ public final class NoLinebreakRFC4180StringArrayCsvReader extends StringArrayCsv
 					}
 
 					// double quote, i.e. convert 2x double quote to 1x double quote
-					//
-					// equivalent to
-					// System.arraycopy(current, start, current, start + 1, currentOffset - start);
-					// ++currentOffset;
-					// ++start;
-
-					System.arraycopy(current, start, current, ++start, ++currentOffset - start);
+					// once the whole value has been read
+					++currentOffset;
+					escaped = true;
 				}
 			}
 			++currentOffset;			
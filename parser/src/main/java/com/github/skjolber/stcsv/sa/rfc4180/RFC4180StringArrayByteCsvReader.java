@@ -0,0 +1,219 @@
+package com.github.skjolber.stcsv.sa.rfc4180;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import com.github.skjolber.stcsv.CsvException;
+import com.github.skjolber.stcsv.sa.StringArrayByteCsvReader;
+import com.github.skjolber.stcsv.scan.ByteScanner;
+
+public final class RFC4180StringArrayByteCsvReader extends StringArrayByteCsvReader {
+	
+	protected final String[] value;
+	protected final int lastIndex;
+
+	public RFC4180StringArrayByteCsvReader(InputStream input, int columns) {
+		super(input, 65536);
+		
+		this.value = new String[columns];
+		this.lastIndex = columns - 1;
+	}
+
+	public RFC4180StringArrayByteCsvReader(InputStream input, byte[] current, int offset, int length, int columns) {
+		this(input, current, offset, length, current.length - 1, columns);
+	}
+
+	public RFC4180StringArrayByteCsvReader(InputStream input, byte[] current, int offset, int length, int maxBufferLength, int columns) {
+		this(input, current, offset, length, maxBufferLength, columns, ByteScanner.SCALAR);
+	}
+
+	public RFC4180StringArrayByteCsvReader(InputStream input, byte[] current, int offset, int length, int maxBufferLength, int columns, ByteScanner scanner) {
+		super(input, current, offset, length, maxBufferLength, scanner);
+
+		this.value = new String[columns];
+		this.lastIndex = columns - 1;
+	}	
+	
+	public String[] next() throws IOException {
+		int currentOffset = super.offset;
+		if (currentOffset >= super.endOfLineIndex) {
+			if (this.fill() <= 0) {
+				return null;
+			}
+
+			currentOffset = 0;
+		}
+		if (super.skipLines) {
+			if ((currentOffset = this.skipEmptyOrCommentedLines(currentOffset)) == -1) {
+				return null;
+			}
+		}
+
+		byte[] current = super.current; // replaced if the buffer grows or shrinks
+
+		try {
+			final String[] value = this.value;
+
+			int start;
+
+			for(int i = 0; i < lastIndex; i++) {
+				if (current[currentOffset] != '"') {
+					if (current[currentOffset] != ',') {
+						start = currentOffset;
+	
+						currentOffset = scanner.indexOf(current, currentOffset + 1, (byte)',');
+	
+						value[i] = new String(current, start, currentOffset - start, StandardCharsets.UTF_8);
+					} else {
+						value[i] = null;
+					}
+				} else {
+					int rangeIndex = this.getEndOfLineIndex();
+					start = currentOffset + 1; // do not include quote character
+					boolean escaped = false;
+
+
+					quoted : 
+					while (true) {
+						currentOffset = scanner.indexOf(current, currentOffset + 1, (byte)'"', (byte)'\n');
+						
+						if (current[currentOffset] == '"') {
+							
+							// we're in the middle column, so there should never be a single quote followed by a newline,
+							// so checking against the rangeIndex is strictly not necessary
+
+							currentOffset++;
+							if (currentOffset == rangeIndex) {
+								currentOffset -= start;
+								
+								// attempt to fill
+								currentOffset -= start;
+								if ((rangeIndex = this.fill(currentOffset + 1)) <= currentOffset) {
+									// expected more bytes; EOF not acceptable unless last column
+									throw new CsvException("Illegal value in column " + i);
+								}
+
+								current = super.current;
+								start = 0;
+							}
+							
+							if (current[currentOffset] != '"') {
+								// single quote
+								if (escaped) {
+									start = unescape(current, start, currentOffset - 1, '"');
+								}
+								if (currentOffset - 1 > start) {
+									value[i] = new String(current, start, currentOffset - start - 1, StandardCharsets.UTF_8);
+								} else {
+									value[i] = null;
+								}
+
+								while (current[currentOffset] != ',') {
+									++currentOffset;
+								}
+								
+								break quoted;
+							}
+
+							// double quote, i.e. convert 2x double quote to 1x double quote
+							// once the whole value has been read
+							escaped = true;
+						} else if (currentOffset == rangeIndex) {
+							currentOffset -= start;
+							if ((rangeIndex = this.fill(currentOffset + 1)) <= currentOffset) {
+								throw new CsvException("Illegal value in column " + i);
+							}
+
+							current = super.current;
+							start = 0;
+						}
+					}
+				}
+				++currentOffset;
+			}
+			
+			// last column
+			if (current[currentOffset] != '"') {
+				if (current[currentOffset] != '\n') {
+					start = currentOffset;
+
+					currentOffset = scanner.indexOf(current, currentOffset + 1, (byte)'\n');
+
+					if(current[currentOffset - 1] == '\r') { // check for linefeed
+						if(currentOffset - 1 == start) {
+							value[lastIndex] = null;
+						} else {
+							value[lastIndex] = new String(current, start, currentOffset - start - 1, StandardCharsets.UTF_8);
+						}
+					} else {
+						value[lastIndex] = new String(current, start, currentOffset - start, StandardCharsets.UTF_8);
+					}
+				} else {
+					value[lastIndex] = null;
+				}
+			} else {
+				int rangeIndex = this.getEndOfLineIndex();
+				start = currentOffset + 1; // do not include quote character
+				boolean escaped = false;
+
+				quoted : 
+				while (true) {
+					currentOffset = scanner.indexOf(current, currentOffset + 1, (byte)'"', (byte)'\n');
+					
+					if (current[currentOffset] == '"') {
+						
+						currentOffset++;
+						if (currentOffset == rangeIndex) {
+							currentOffset -= start;
+							
+							// attempt to fill, if we're at EOF thats okey
+							rangeIndex = this.fill(currentOffset + 1);
+
+							current = super.current;
+							start = 0;
+						}
+						
+						if (current[currentOffset] != '"') {
+							// single quote
+							if (escaped) {
+								start = unescape(current, start, currentOffset - 1, '"');
+							}
+							if (currentOffset - 1 > start) {
+								value[lastIndex] = new String(current, start, currentOffset - start - 1, StandardCharsets.UTF_8);
+							} else {
+								value[lastIndex] = null;
+							}
+
+							while (current[currentOffset] != '\n') { // i.e. skip \r 
+								++currentOffset;
+							}
+							
+							break quoted;
+						}
+
+						// double quote, i.e. convert 2x double quote to 1x double quote
+						// once the whole value has been read
+						escaped = true;
+						
+					} else if (currentOffset == rangeIndex) {
+						currentOffset -= start;
+						if ((rangeIndex = this.fill(currentOffset + 1)) <= currentOffset) {
+							throw new CsvException("Illegal value in column " + lastIndex);
+						}
+
+						current = super.current;
+						start = 0;
+					}
+				}
+			}
+			++currentOffset;			
+
+			super.offset = currentOffset;
+
+			return value;
+		} catch (ArrayIndexOutOfBoundsException e) {
+			throw new CsvException(e);
+		}
+	}
+}
\ No newline at end of file
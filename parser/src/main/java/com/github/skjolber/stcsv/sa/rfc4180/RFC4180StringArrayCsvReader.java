@@ -19,7 +19,11 @@ public final class RFC4180StringArrayCsvReader extends StringArrayCsvReader {
 	}
 
 	public RFC4180StringArrayCsvReader(Reader reader, char[] current, int offset, int length, int columns) {
-		super(reader, current, offset, length);
+		this(reader, current, offset, length, current.length - 1, columns);
+	}
+
+	public RFC4180StringArrayCsvReader(Reader reader, char[] current, int offset, int length, int maxBufferLength, int columns) {
+		super(reader, current, offset, length, maxBufferLength);
 
 		this.value = new String[columns];
 		this.lastIndex = columns - 1;
@@ -34,8 +38,13 @@ public final class RFC4180StringArrayCsvReader extends StringArrayCsvReader {
 
 			currentOffset = 0;
 		}
+		if (super.skipLines) {
+			if ((currentOffset = this.skipEmptyOrCommentedLines(currentOffset)) == -1) {
+				return null;
+			}
+		}
 
-		final char[] current = super.current;
+		char[] current = super.current; // replaced if the buffer grows or shrinks
 
 		try {
 			final String[] value = this.value;
@@ -47,9 +56,7 @@ public final class RFC4180StringArrayCsvReader extends StringArrayCsvReader {
 					if (current[currentOffset] != ',') {
 						start = currentOffset;
 	
-						do {
-							++currentOffset;
-						} while (current[currentOffset] != ',');
+						currentOffset = SCANNER.indexOf(current, currentOffset + 1, ',');
 	
 						value[i] = new String(current, start, currentOffset - start);
 					} else {
@@ -58,11 +65,12 @@ public final class RFC4180StringArrayCsvReader extends StringArrayCsvReader {
 				} else {
 					int rangeIndex = this.getEndOfLineIndex();
 					start = currentOffset + 1; // do not include quote character
+					boolean escaped = false;
 
 
 					quoted : 
 					while (true) {
-						while (current[++currentOffset] > '"');
+						currentOffset = SCANNER.indexOf(current, currentOffset + 1, '"', '\n');
 						
 						if (current[currentOffset] == '"') {
 							
@@ -75,16 +83,20 @@ public final class RFC4180StringArrayCsvReader extends StringArrayCsvReader {
 								
 								// attempt to fill
 								currentOffset -= start;
-								if ((rangeIndex = this.fill(currentOffset + 1)) <= currentOffset + 1) {
+								if ((rangeIndex = this.fill(currentOffset + 1)) <= currentOffset) {
 									// expected more bytes; EOF not acceptable unless last column
 									throw new CsvException("Illegal value in column " + i);
 								}
 
+								current = super.current;
 								start = 0;
 							}
 							
 							if (current[currentOffset] != '"') {
 								// single quote
+								if (escaped) {
+									start = unescape(current, start, currentOffset - 1, '"');
+								}
 								if (currentOffset - 1 > start) {
 									value[i] = new String(current, start, currentOffset - start - 1);
 								} else {
@@ -99,17 +111,15 @@ public final class RFC4180StringArrayCsvReader extends StringArrayCsvReader {
 							}
 
 							// double quote, i.e. convert 2x double quote to 1x double quote
-							//
-							// equivalent to 
-							// System.arraycopy(current, start, current, start + 1, currentOffset - start - 1);
-							// ++start;
-							System.arraycopy(current, start, current, ++start, currentOffset - start);
+							// once the whole value has been read
+							escaped = true;
 						} else if (currentOffset == rangeIndex) {
 							currentOffset -= start;
-							if ((rangeIndex = this.fill(currentOffset + 1)) <= currentOffset + 1) {
+							if ((rangeIndex = this.fill(currentOffset + 1)) <= currentOffset) {
 								throw new CsvException("Illegal value in column " + i);
 							}
 
+							current = super.current;
 							start = 0;
 						}
 					}
@@ -122,9 +132,7 @@ public final class RFC4180StringArrayCsvReader extends StringArrayCsvReader {
 				if (current[currentOffset] != '\n') {
 					start = currentOffset;
 
-					do {
-						++currentOffset;
-					} while (current[currentOffset] != '\n');
+					currentOffset = SCANNER.indexOf(current, currentOffset + 1, '\n');
 
 					if(current[currentOffset - 1] == '\r') { // check for linefeed
 						if(currentOffset - 1 == start) {
@@ -141,10 +149,11 @@ public final class RFC4180StringArrayCsvReader extends StringArrayCsvReader {
 			} else {
 				int rangeIndex = this.getEndOfLineIndex();
 				start = currentOffset + 1; // do not include quote character
+				boolean escaped = false;
 
 				quoted : 
 				while (true) {
-					while (current[++currentOffset] > '"');
+					currentOffset = SCANNER.indexOf(current, currentOffset + 1, '"', '\n');
 					
 					if (current[currentOffset] == '"') {
 						
@@ -155,11 +164,15 @@ public final class RFC4180StringArrayCsvReader extends StringArrayCsvReader {
 							// attempt to fill, if we're at EOF thats okey
 							rangeIndex = this.fill(currentOffset + 1);
 
+							current = super.current;
 							start = 0;
 						}
 						
 						if (current[currentOffset] != '"') {
 							// single quote
+							if (escaped) {
+								start = unescape(current, start, currentOffset - 1, '"');
+							}
 							if (currentOffset - 1 > start) {
 								value[lastIndex] = new String(current, start, currentOffset - start - 1);
 							} else {
@@ -174,18 +187,16 @@ public final class RFC4180StringArrayCsvReader extends StringArrayCsvReader {
 						}
 
 						// double quote, i.e. convert 2x double quote to 1x double quote
-						//
-						// equivalent to 
-						// System.arraycopy(current, start, current, start + 1, currentOffset - start - 1);
-						// ++start;
-						System.arraycopy(current, start, current, ++start, currentOffset - start);
+						// once the whole value has been read
+						escaped = true;
 						
 					} else if (currentOffset == rangeIndex) {
 						currentOffset -= start;
-						if ((rangeIndex = this.fill(currentOffset + 1)) <= currentOffset + 1) {
+						if ((rangeIndex = this.fill(currentOffset + 1)) <= currentOffset) {
 							throw new CsvException("Illegal value in column " + lastIndex);
 						}
 
+						current = super.current;
 						start = 0;
 					}
 				}
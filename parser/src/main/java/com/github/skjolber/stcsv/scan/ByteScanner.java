@@ -0,0 +1,95 @@
+package com.github.skjolber.stcsv.scan;
+
+/**
+ *
+ * Scanner for (ASCII) characters within a byte buffer.
+ * <br><br>
+ * This implementation checks a single byte at a time. The {@linkplain ScanStrategy#SWAR} implementation
+ * checks eight bytes at a time, using a {@linkplain java.lang.invoke.VarHandle} (JDK 11+). It falls back to this
+ * implementation on older JDKs.
+ * <br><br>
+ * Forward scans expect the character to be present; if not, an {@linkplain ArrayIndexOutOfBoundsException} is
+ * thrown once the end of the buffer is reached, like for a plain loop.
+ */
+
+public class ByteScanner {
+
+	protected static final String SWAR_SCANNER_CLASS = "com.github.skjolber.stcsv.scan.SwarByteScanner";
+
+	public static final ByteScanner SCALAR = new ByteScanner();
+	public static final ByteScanner SWAR = newSwarInstance();
+
+	protected static ByteScanner newSwarInstance() {
+		try {
+			return (ByteScanner) Class.forName(SWAR_SCANNER_CLASS).getConstructor().newInstance();
+		} catch(Throwable e) {
+			// not available for this JVM
+			return SCALAR;
+		}
+	}
+
+	public static ByteScanner getInstance(ScanStrategy strategy) {
+		switch(strategy) {
+			case SCALAR : return SCALAR;
+			case SWAR : return SWAR;
+			default : throw new IllegalArgumentException("Unknown scan strategy " + strategy);
+		}
+	}
+
+	/**
+	 * Find the first occurrence of a character.
+	 *
+	 * @param buffer buffer
+	 * @param offset start index (inclusive)
+	 * @param c character
+	 * @return index of the character
+	 */
+
+	public int indexOf(byte[] buffer, int offset, byte c) {
+		while(buffer[offset] != c) {
+			offset++;
+		}
+		return offset;
+	}
+
+	/**
+	 * Find the first occurrence of either of two characters.
+	 *
+	 * @param buffer buffer
+	 * @param offset start index (inclusive)
+	 * @param c1 first character
+	 * @param c2 second character
+	 * @return index of the first of the characters
+	 */
+
+	public int indexOf(byte[] buffer, int offset, byte c1, byte c2) {
+		byte c;
+		while((c = buffer[offset]) != c1 && c != c2) {
+			offset++;
+		}
+		return offset;
+	}
+
+	/**
+	 * Find the first occurrence of any of three characters.
+	 *
+	 * @param buffer buffer
+	 * @param offset start index (inclusive)
+	 * @param c1 first character
+	 * @param c2 second character
+	 * @param c3 third character
+	 * @return index of the first of the characters
+	 */
+
+	public int indexOf(byte[] buffer, int offset, byte c1, byte c2, byte c3) {
+		byte c;
+		while((c = buffer[offset]) != c1 && c != c2 && c != c3) {
+			offset++;
+		}
+		return offset;
+	}
+
+	public ScanStrategy getStrategy() {
+		return ScanStrategy.SCALAR;
+	}
+}
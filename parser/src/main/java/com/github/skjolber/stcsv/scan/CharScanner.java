@@ -0,0 +1,109 @@
+package com.github.skjolber.stcsv.scan;
+
+/**
+ *
+ * Scanner for characters within a buffer.
+ * <br><br>
+ * This implementation checks a single character at a time. On JDK 17+, a vectorized implementation is used instead,
+ * if the (incubating) Vector API module is enabled using {@code --add-modules jdk.incubator.vector}.
+ * Set the system property {@value #VECTOR_PROPERTY} to false to disable it.
+ * <br><br>
+ * Forward scans expect the character to be present; if not, an {@linkplain ArrayIndexOutOfBoundsException} is
+ * thrown once the end of the buffer is reached, like for a plain loop.
+ */
+
+public class CharScanner {
+
+	public static final String VECTOR_PROPERTY = "com.github.skjolber.stcsv.vector";
+
+	protected static final String VECTOR_SCANNER_CLASS = "com.github.skjolber.stcsv.scan.VectorCharScanner";
+
+	public static final CharScanner INSTANCE = newInstance();
+
+	protected static CharScanner newInstance() {
+		if(Boolean.parseBoolean(System.getProperty(VECTOR_PROPERTY, "true"))) {
+			try {
+				return (CharScanner) Class.forName(VECTOR_SCANNER_CLASS).getConstructor().newInstance();
+			} catch(Throwable e) {
+				// not available for this JVM
+			}
+		}
+		return new CharScanner();
+	}
+
+	/**
+	 * Find the first occurrence of a character.
+	 *
+	 * @param buffer buffer
+	 * @param offset start index (inclusive)
+	 * @param c character
+	 * @return index of the character
+	 */
+
+	public int indexOf(char[] buffer, int offset, char c) {
+		while(buffer[offset] != c) {
+			offset++;
+		}
+		return offset;
+	}
+
+	/**
+	 * Find the first occurrence of either of two characters.
+	 *
+	 * @param buffer buffer
+	 * @param offset start index (inclusive)
+	 * @param c1 first character
+	 * @param c2 second character
+	 * @return index of the first of the characters
+	 */
+
+	public int indexOf(char[] buffer, int offset, char c1, char c2) {
+		char c;
+		while((c = buffer[offset]) != c1 && c != c2) {
+			offset++;
+		}
+		return offset;
+	}
+
+	/**
+	 * Find the first occurrence of any of three characters.
+	 *
+	 * @param buffer buffer
+	 * @param offset start index (inclusive)
+	 * @param c1 first character
+	 * @param c2 second character
+	 * @param c3 third character
+	 * @return index of the first of the characters
+	 */
+
+	public int indexOf(char[] buffer, int offset, char c1, char c2, char c3) {
+		char c;
+		while((c = buffer[offset]) != c1 && c != c2 && c != c3) {
+			offset++;
+		}
+		return offset;
+	}
+
+	/**
+	 * Find the last occurrence of a character, scanning backwards.
+	 *
+	 * @param buffer buffer
+	 * @param fromIndex start index (inclusive)
+	 * @param toIndex end index (inclusive), at most the start index
+	 * @param c character
+	 * @return index of the character, or -1 if not found
+	 */
+
+	public int lastIndexOf(char[] buffer, int fromIndex, int toIndex, char c) {
+		for(int i = fromIndex; i >= toIndex; i--) {
+			if(buffer[i] == c) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	public boolean isVectorized() {
+		return false;
+	}
+}
@@ -0,0 +1,17 @@
+package com.github.skjolber.stcsv.scan;
+
+/**
+ * Strategy for scanning (UTF-8) byte input for dividers, quotes and newlines.
+ */
+
+public enum ScanStrategy {
+
+	/** One byte at a time */
+	SCALAR,
+
+	/**
+	 * Eight bytes at a time (SIMD within a register). Requires JDK 11+, otherwise falls back to {@linkplain #SCALAR}.
+	 * Typically faster for wider columns.
+	 */
+	SWAR
+}
@@ -0,0 +1,87 @@
+package com.github.skjolber.stcsv.scan;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+/**
+ *
+ * {@linkplain ByteScanner} which reads eight bytes at a time as a (little-endian) long, then
+ * tests all bytes in one go using bit tricks (SIMD within a register). Falls back to the scalar
+ * implementation for the end of the buffer.
+ * <br><br>
+ * For each byte, <code>(x - 0x01) &amp; ~x &amp; 0x80</code> is non-zero if the byte is zero; borrows might give
+ * false positives, but only for bytes after the first zero byte. So XOR with the wanted character repeated in all
+ * bytes, then the lowest set bit gives the first match.
+ */
+
+public class SwarByteScanner extends ByteScanner {
+
+	protected static final VarHandle LONG = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+	protected static final long ONES = 0x0101010101010101L;
+	protected static final long HIGHS = 0x8080808080808080L;
+
+	protected static long repeat(byte c) {
+		return (c & 0xFFL) * ONES;
+	}
+
+	protected static long zeros(long word) {
+		return (word - ONES) & ~word & HIGHS;
+	}
+
+	@Override
+	public int indexOf(byte[] buffer, int offset, byte c) {
+		long pattern = repeat(c);
+
+		int bound = buffer.length - 8;
+		while(offset <= bound) {
+			long match = zeros((long)LONG.get(buffer, offset) ^ pattern);
+			if(match != 0) {
+				return offset + (Long.numberOfTrailingZeros(match) >>> 3);
+			}
+			offset += 8;
+		}
+		return super.indexOf(buffer, offset, c);
+	}
+
+	@Override
+	public int indexOf(byte[] buffer, int offset, byte c1, byte c2) {
+		long pattern1 = repeat(c1);
+		long pattern2 = repeat(c2);
+
+		int bound = buffer.length - 8;
+		while(offset <= bound) {
+			long word = (long)LONG.get(buffer, offset);
+			long match = zeros(word ^ pattern1) | zeros(word ^ pattern2);
+			if(match != 0) {
+				return offset + (Long.numberOfTrailingZeros(match) >>> 3);
+			}
+			offset += 8;
+		}
+		return super.indexOf(buffer, offset, c1, c2);
+	}
+
+	@Override
+	public int indexOf(byte[] buffer, int offset, byte c1, byte c2, byte c3) {
+		long pattern1 = repeat(c1);
+		long pattern2 = repeat(c2);
+		long pattern3 = repeat(c3);
+
+		int bound = buffer.length - 8;
+		while(offset <= bound) {
+			long word = (long)LONG.get(buffer, offset);
+			long match = zeros(word ^ pattern1) | zeros(word ^ pattern2) | zeros(word ^ pattern3);
+			if(match != 0) {
+				return offset + (Long.numberOfTrailingZeros(match) >>> 3);
+			}
+			offset += 8;
+		}
+		return super.indexOf(buffer, offset, c1, c2, c3);
+	}
+
+	@Override
+	public ScanStrategy getStrategy() {
+		return ScanStrategy.SWAR;
+	}
+}
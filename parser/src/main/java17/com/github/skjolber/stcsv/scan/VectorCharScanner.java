@@ -0,0 +1,89 @@
+package com.github.skjolber.stcsv.scan;
+
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ *
+ * Vectorized {@linkplain CharScanner}, using the (incubating) Vector API. Compares a whole vector
+ * of characters at a time, then falls back to the scalar implementation for the end of the buffer.
+ * <br><br>
+ * Loaded reflectively; initialization fails if the Vector API module is not present.
+ */
+
+public class VectorCharScanner extends CharScanner {
+
+	static {
+		// a named module must explicitly read the optional vector module
+		ModuleLayer.boot().findModule("jdk.incubator.vector").ifPresent(VectorCharScanner.class.getModule()::addReads);
+	}
+
+	protected static final VectorSpecies<Short> SPECIES = ShortVector.SPECIES_PREFERRED;
+	protected static final int LENGTH = SPECIES.length();
+
+	public VectorCharScanner() {
+		if(LENGTH < 8) {
+			throw new IllegalStateException("Expected at least 8 lanes, got " + LENGTH);
+		}
+	}
+
+	@Override
+	public int indexOf(char[] buffer, int offset, char c) {
+		int bound = buffer.length - LENGTH;
+		while(offset <= bound) {
+			VectorMask<Short> mask = ShortVector.fromCharArray(SPECIES, buffer, offset).eq((short)c);
+			if(mask.anyTrue()) {
+				return offset + mask.firstTrue();
+			}
+			offset += LENGTH;
+		}
+		return super.indexOf(buffer, offset, c);
+	}
+
+	@Override
+	public int indexOf(char[] buffer, int offset, char c1, char c2) {
+		int bound = buffer.length - LENGTH;
+		while(offset <= bound) {
+			ShortVector vector = ShortVector.fromCharArray(SPECIES, buffer, offset);
+			VectorMask<Short> mask = vector.eq((short)c1).or(vector.eq((short)c2));
+			if(mask.anyTrue()) {
+				return offset + mask.firstTrue();
+			}
+			offset += LENGTH;
+		}
+		return super.indexOf(buffer, offset, c1, c2);
+	}
+
+	@Override
+	public int indexOf(char[] buffer, int offset, char c1, char c2, char c3) {
+		int bound = buffer.length - LENGTH;
+		while(offset <= bound) {
+			ShortVector vector = ShortVector.fromCharArray(SPECIES, buffer, offset);
+			VectorMask<Short> mask = vector.eq((short)c1).or(vector.eq((short)c2)).or(vector.eq((short)c3));
+			if(mask.anyTrue()) {
+				return offset + mask.firstTrue();
+			}
+			offset += LENGTH;
+		}
+		return super.indexOf(buffer, offset, c1, c2, c3);
+	}
+
+	@Override
+	public int lastIndexOf(char[] buffer, int fromIndex, int toIndex, char c) {
+		int offset = fromIndex - LENGTH + 1;
+		while(offset >= toIndex) {
+			VectorMask<Short> mask = ShortVector.fromCharArray(SPECIES, buffer, offset).eq((short)c);
+			if(mask.anyTrue()) {
+				return offset + mask.lastTrue();
+			}
+			offset -= LENGTH;
+		}
+		return super.lastIndexOf(buffer, offset + LENGTH - 1, toIndex, c);
+	}
+
+	@Override
+	public boolean isVectorized() {
+		return true;
+	}
+}
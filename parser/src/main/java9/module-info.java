@@ -1,6 +1,9 @@
 module com.github.skjolber.stcsv {
 	exports com.github.skjolber.stcsv;
 	exports com.github.skjolber.stcsv.builder;
+	exports com.github.skjolber.stcsv.io;
+	exports com.github.skjolber.stcsv.row;
 	exports com.github.skjolber.stcsv.sa;
 	exports com.github.skjolber.stcsv.sa.rfc4180;
+	exports com.github.skjolber.stcsv.scan;
 }
\ No newline at end of file
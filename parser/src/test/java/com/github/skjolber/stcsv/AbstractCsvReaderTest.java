@@ -3,6 +3,7 @@ package com.github.skjolber.stcsv;
 import static com.google.common.truth.Truth.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.io.BufferedReader;
 import java.io.IOException;
@@ -12,6 +13,7 @@ import java.io.StringReader;
 import org.junit.jupiter.api.Test;
 
 import com.github.skjolber.stcsv.sa.DefaultStringArrayCsvReader;
+import com.github.skjolber.stcsv.sa.rfc4180.RFC4180StringArrayCsvReader;
 
 public class AbstractCsvReaderTest extends AbstractCsvTest {
 
@@ -185,4 +187,87 @@ public class AbstractCsvReaderTest extends AbstractCsvTest {
 		return stringBuilder.toString();
 	}
 	
+	@Test
+	public void testUnescape() {
+		char[] identical = "x\"\"a\"\"\"\"b\"\"y".toCharArray();
+		int start = AbstractCsvReader.unescape(identical, 1, identical.length - 1, '"');
+		assertThat(new String(identical, start, identical.length - 1 - start)).isEqualTo("\"a\"\"b\"");
+
+		char[] different = "x\\\\a\\\"b\\c\"".toCharArray();
+		start = AbstractCsvReader.unescape(different, 1, different.length - 1, '\\');
+		assertThat(new String(different, start, different.length - 1 - start)).isEqualTo("\\a\"bc");
+
+		byte[] bytes = "x\"\"a\"\"y".getBytes();
+		start = AbstractByteCsvReader.unescape(bytes, 1, bytes.length - 1, '"');
+		assertThat(new String(bytes, start, bytes.length - 1 - start)).isEqualTo("\"a\"");
+	}
+
+
+	@Test
+	public void testBufferGrowsAndShrinks() throws Exception {
+		StringBuilder longValue = new StringBuilder();
+		for(int i = 0; i < 2000; i++) {
+			longValue.append((char)('a' + i % 26));
+			if(i % 100 == 99) {
+				longValue.append('\n');
+			}
+		}
+		String plain = longValue.toString().replace('\n', ' ');
+		String quoted = longValue.toString();
+		
+		StringBuilder builder = new StringBuilder();
+		for(int i = 0; i < 10; i++) {
+			builder.append("a,b\n");
+		}
+		builder.append(plain).append(",b\n");
+		for(int i = 0; i < 100; i++) {
+			builder.append("a,b\n");
+		}
+		builder.append("a,\"").append(quoted.replace("\"", "\"\"")).append("\"\n");
+		for(int i = 0; i < 100; i++) {
+			builder.append("a,b\n");
+		}
+		
+		RFC4180StringArrayCsvReader reader = new RFC4180StringArrayCsvReader(new StringReader(builder.toString()), new char[257], 0, 0, 4096, 2);
+		
+		for(int i = 0; i < 10; i++) {
+			assertThat(reader.next()).asList().containsExactly("a", "b").inOrder();
+		}
+		assertThat(reader.next()).asList().containsExactly(plain, "b").inOrder();
+		assertThat(reader.current.length).isGreaterThan(2000);
+		for(int i = 0; i < 100; i++) {
+			assertThat(reader.next()).asList().containsExactly("a", "b").inOrder();
+		}
+		assertThat(reader.current.length).isEqualTo(257);
+		assertThat(reader.next()).asList().containsExactly("a", quoted).inOrder();
+		for(int i = 0; i < 100; i++) {
+			assertThat(reader.next()).asList().containsExactly("a", "b").inOrder();
+		}
+		assertThat(reader.next()).isNull();
+		assertThat(reader.current.length).isEqualTo(257);
+	}
+
+	@Test
+	public void testBufferDoesNotGrowBeyondMaxLength() throws Exception {
+		StringBuilder builder = new StringBuilder();
+		builder.append("a,b\n");
+		for(int i = 0; i < 2000; i++) {
+			builder.append('a');
+		}
+		builder.append(",b\n");
+		
+		RFC4180StringArrayCsvReader reader = new RFC4180StringArrayCsvReader(new StringReader(builder.toString()), new char[257], 0, 0, 1024, 2);
+		assertThat(reader.next()).asList().containsExactly("a", "b").inOrder();
+		assertThrows(CsvException.class, () -> {
+			reader.next();
+		});
+	}
+
+	@Test
+	public void testBufferLength() {
+		assertThat(AbstractCsvReader.getBufferLength(-1, 1024)).isEqualTo(1024);
+		assertThat(AbstractCsvReader.getBufferLength(10, 1024)).isEqualTo(AbstractCsvReader.MIN_RANGE_LENGTH);
+		assertThat(AbstractCsvReader.getBufferLength(500, 1024)).isEqualTo(501);
+		assertThat(AbstractCsvReader.getBufferLength(5000, 1024)).isEqualTo(1024);
+	}
 }
@@ -0,0 +1,84 @@
+package com.github.skjolber.stcsv;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+
+import org.junit.jupiter.api.Test;
+
+public class DateTimeParserTest {
+
+	@Test
+	public void parsesDates() {
+		DateTimeFormatter basic = DateTimeFormatter.BASIC_ISO_DATE;
+		for(LocalDate date = LocalDate.of(1899, 12, 1); date.getYear() < 2101; date = date.plusDays(1)) {
+			String iso = date.toString();
+			assertThat(DateTimeParser.parseEpochDay(iso.toCharArray(), 0, iso.length())).isEqualTo((int)date.toEpochDay());
+			byte[] bytes = iso.getBytes(StandardCharsets.UTF_8);
+			assertThat(DateTimeParser.parseLocalDate(bytes, 0, bytes.length)).isEqualTo(date);
+
+			String compact = date.format(basic);
+			assertThat(DateTimeParser.parseLocalDate(compact.toCharArray(), 0, compact.length())).isEqualTo(date);
+		}
+		assertThat(DateTimeParser.parseLocalDate("0000-01-01".toCharArray(), 0, 10)).isEqualTo(LocalDate.of(0, 1, 1));
+		assertThat(DateTimeParser.parseLocalDate("9999-12-31".toCharArray(), 0, 10)).isEqualTo(LocalDate.of(9999, 12, 31));
+	}
+
+	@Test
+	public void parsesTimes() {
+		assertThat(DateTimeParser.parseLocalTime("08:15".toCharArray(), 0, 5)).isEqualTo(LocalTime.of(8, 15));
+		assertThat(DateTimeParser.parseLocalTime("8:15:30".toCharArray(), 0, 7)).isEqualTo(LocalTime.of(8, 15, 30));
+		assertThat(DateTimeParser.parseLocalTime("23:59:59.5".toCharArray(), 0, 10)).isEqualTo(LocalTime.of(23, 59, 59, 500_000_000));
+		assertThat(DateTimeParser.parseLocalTime("00:00:00.000000001".toCharArray(), 0, 18)).isEqualTo(LocalTime.of(0, 0, 0, 1));
+
+		assertThat(DateTimeParser.parseSecondOfDay("08:15:30".toCharArray(), 0, 8)).isEqualTo(8 * 3600 + 15 * 60 + 30);
+		// GTFS trip past midnight
+		byte[] bytes = "25:10:00".getBytes(StandardCharsets.UTF_8);
+		assertThat(DateTimeParser.parseSecondOfDay(bytes, 0, bytes.length)).isEqualTo(25 * 3600 + 10 * 60);
+		assertThrows(DateTimeException.class, () -> {
+			DateTimeParser.parseLocalTime("25:10:00".toCharArray(), 0, 8);
+		});
+	}
+
+	@Test
+	public void parsesDateTimes() {
+		String value = "2021-03-04T05:06:07.891";
+		assertThat(DateTimeParser.parseLocalDateTime(value.toCharArray(), 0, value.length())).isEqualTo(LocalDateTime.of(2021, 3, 4, 5, 6, 7, 891_000_000));
+
+		value = "2021-03-04 05:06";
+		assertThat(DateTimeParser.parseLocalDateTime(value.toCharArray(), 0, value.length())).isEqualTo(LocalDateTime.of(2021, 3, 4, 5, 6));
+
+		value = "2021-03-04T05:06:07Z";
+		assertThat(DateTimeParser.parseInstant(value.toCharArray(), 0, value.length())).isEqualTo(Instant.parse(value));
+		assertThat(DateTimeParser.parseEpochSecond(value.toCharArray(), 0, value.length())).isEqualTo(Instant.parse(value).getEpochSecond());
+
+		byte[] bytes = "20210304 05:06:07".getBytes(StandardCharsets.UTF_8);
+		assertThat(DateTimeParser.parseLocalDateTime(bytes, 0, bytes.length)).isEqualTo(LocalDateTime.of(2021, 3, 4, 5, 6, 7));
+	}
+
+	@Test
+	public void throwsExceptionOnIllegalValue() {
+		String[] values = {"", "2021-3-04", "2021-02-29", "2021-13-01", "2021-00-10", "2021x03-04", "202103041", "abcdefgh"};
+		for(String value : values) {
+			assertThrows(DateTimeException.class, () -> {
+				DateTimeParser.parseEpochDay(value.toCharArray(), 0, value.length());
+			});
+		}
+		String[] times = {"", "8", "08:6", "08:60", "08:00:61", "08:00:00.", "08:00:00.1234567890", "08-00", "ab:cd"};
+		for(String value : times) {
+			assertThrows(DateTimeException.class, () -> {
+				DateTimeParser.parseNanoOfDay(value.toCharArray(), 0, value.length());
+			});
+		}
+		assertThrows(DateTimeException.class, () -> {
+			DateTimeParser.parseLocalDateTime("2021-03-04".toCharArray(), 0, 10);
+		});
+	}
+}
@@ -0,0 +1,84 @@
+package com.github.skjolber.stcsv;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class DoubleParserTest {
+
+	private static final String[] VALUES = {
+		"0", "-0", "+1", "1.", "-.5", "1.5e-3", "1E10", "59.3293371",
+		"4.9e-324", "5e-324", "2.4703282292062327e-324", "2.4703282292062328e-324",
+		"2.2250738585072011e-308", "2.2250738585072012e-308",
+		"1.7976931348623157e308", "1.7976931348623159e308",
+		"9007199254740993", "9007199254740992.5", "1e23", "8.41e21",
+		"1e-400", "1e400", "123456789012345678901234567890", "00000000000000000000000000001.5",
+		"NaN", "-Infinity", "0x1p3", "1d"
+	};
+
+	@Test
+	public void parsesLikeJdk() {
+		for(String value : VALUES) {
+			assertSame(value);
+		}
+	}
+
+	@Test
+	public void parsesRandomLikeJdk() {
+		Random random = new Random(0);
+		for(int i = 0; i < 100000; i++) {
+			double d = Double.longBitsToDouble(random.nextLong());
+			if(!Double.isNaN(d)) {
+				assertSame(Double.toString(d));
+			}
+			assertSame(Double.toString(random.nextDouble() * 360 - 180));
+
+			StringBuilder builder = new StringBuilder();
+			int digits = 1 + random.nextInt(19);
+			for(int k = 0; k < digits; k++) {
+				builder.append((char)('0' + random.nextInt(10)));
+			}
+			builder.insert(random.nextInt(builder.length() + 1), '.');
+			builder.append('e').append(random.nextInt(700) - 350);
+			assertSame(builder.toString());
+		}
+	}
+
+	@Test
+	public void parsesDecimalComma() {
+		char[] chars = "-12,5;3,25e2;7".toCharArray();
+		assertThat(DoubleParser.parseDouble(chars, 0, 5, ',')).isEqualTo(-12.5d);
+		assertThat(DoubleParser.parseDouble(chars, 6, 12, ',')).isEqualTo(325d);
+		assertThat(DoubleParser.parseDouble(chars, 13, 14, ',')).isEqualTo(7d);
+
+		byte[] bytes = "-12,5".getBytes(StandardCharsets.UTF_8);
+		assertThat(DoubleParser.parseDouble(bytes, 0, bytes.length, ',')).isEqualTo(-12.5d);
+
+		assertThrows(NumberFormatException.class, () -> {
+			DoubleParser.parseDouble("12.5".toCharArray(), 0, 4, ',');
+		});
+	}
+
+	@Test
+	public void throwsExceptionOnIllegalValue() {
+		String[] values = {"", "-", ".", "e5", "1e", "1e+", "1.2.3", "1_0", "abc"};
+		for(String value : values) {
+			assertThrows(NumberFormatException.class, () -> {
+				DoubleParser.parseDouble(value.toCharArray(), 0, value.length());
+			});
+		}
+	}
+
+	private void assertSame(String value) {
+		double expected = Double.parseDouble(value);
+
+		assertThat(DoubleParser.parseDouble(value.toCharArray(), 0, value.length())).isEqualTo(expected);
+
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		assertThat(DoubleParser.parseDouble(bytes, 0, bytes.length)).isEqualTo(expected);
+	}
+}
@@ -0,0 +1,55 @@
+package com.github.skjolber.stcsv;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+public class StringCacheTest {
+
+	@Test
+	public void returnsCachedInstance() {
+		StringCache cache = new StringCache(16);
+		
+		char[] chars = "abc,abc,abd".toCharArray();
+		
+		String first = cache.get(chars, 0, 3);
+		assertThat(first).isEqualTo("abc");
+		assertThat(cache.get(chars, 4, 7)).isSameInstanceAs(first);
+		assertThat(cache.get(chars, 8, 11)).isEqualTo("abd");
+		assertThat(cache.get(chars, 4, 6)).isEqualTo("ab");
+
+		byte[] bytes = "abc,abc".getBytes(StandardCharsets.UTF_8);
+		String second = cache.get(bytes, 0, 3);
+		assertThat(second).isEqualTo("abc");
+		assertThat(cache.get(bytes, 4, 7)).isSameInstanceAs(second);
+	}
+
+	@Test
+	public void evictsOnCollision() {
+		StringCache cache = new StringCache(1);
+		
+		char[] chars = "a,b,a".toCharArray();
+		assertThat(cache.get(chars, 0, 1)).isEqualTo("a");
+		assertThat(cache.get(chars, 2, 3)).isEqualTo("b");
+		assertThat(cache.get(chars, 4, 5)).isEqualTo("a");
+	}
+
+	@Test
+	public void decodesNonAscii() {
+		StringCache cache = new StringCache(16);
+		
+		byte[] bytes = "æøå,æøå".getBytes(StandardCharsets.UTF_8);
+		assertThat(cache.get(bytes, 0, 6)).isEqualTo("æøå");
+		assertThat(cache.get(bytes, 7, 13)).isEqualTo("æøå");
+	}
+
+	@Test
+	public void throwsExceptionOnIllegalSize() {
+		assertThrows(IllegalArgumentException.class, () -> {
+			new StringCache(0);
+		});
+	}
+}
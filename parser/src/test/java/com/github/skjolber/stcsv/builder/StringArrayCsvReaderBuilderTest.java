@@ -3,16 +3,23 @@ package com.github.skjolber.stcsv.builder;
 import static com.google.common.truth.Truth.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.io.ByteArrayInputStream;
 import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
 
 import org.junit.jupiter.api.Test;
 
 import com.github.skjolber.stcsv.CsvReader;
 import com.github.skjolber.stcsv.EmptyCsvReader;
+import com.github.skjolber.stcsv.row.CsvRow;
 import com.github.skjolber.stcsv.sa.DefaultStringArrayCsvReader;
 import com.github.skjolber.stcsv.sa.NoLinebreakStringArrayCsvReader;
 import com.github.skjolber.stcsv.sa.StringArrayCsvReader;
+import com.github.skjolber.stcsv.sa.rfc4180.DefaultRFC4180StringArrayCsvReader;
 import com.github.skjolber.stcsv.sa.rfc4180.NoLinebreakRFC4180StringArrayCsvReader;
+import com.github.skjolber.stcsv.scan.ScanStrategy;
 
 public class StringArrayCsvReaderBuilderTest {
 
@@ -65,6 +72,144 @@ public class StringArrayCsvReaderBuilderTest {
 		assertThat(build.next()).isNull();
 	}
 
+	@Test
+	public void testReadAhead() throws Exception {
+		StringBuilder builder = new StringBuilder();
+		for(int i = 0; i < 10000; i++) {
+			builder.append(i).append(",b,\"c\"\n");
+		}
+		String input = builder.toString();
+
+		CsvReader<String[]> reader = new StringArrayCsvReaderBuilder().bufferLength(1024).readAhead().build(new StringReader(input));
+		CsvReader<String[]> byteReader = new StringArrayCsvReaderBuilder().bufferLength(1024).readAhead().build(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)));
+		for(int i = 0; i < 10000; i++) {
+			assertThat(reader.next()).asList().containsExactly(Integer.toString(i), "b", "c").inOrder();
+			assertThat(byteReader.next()).asList().containsExactly(Integer.toString(i), "b", "c").inOrder();
+		}
+		assertThat(reader.next()).isNull();
+		assertThat(byteReader.next()).isNull();
+		
+		reader.close();
+		byteReader.close();
+	}
+
+	@Test
+	public void testByteBufferAndChannel() throws Exception {
+		byte[] bytes = "a,b,c\nd,e,f\n".getBytes(StandardCharsets.UTF_8);
+		
+		ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+		direct.put(bytes);
+		direct.flip();
+		
+		for(CsvReader<String[]> reader : new CsvReader[] {
+				new StringArrayCsvReaderBuilder().build(direct), 
+				new StringArrayCsvReaderBuilder().build(ByteBuffer.wrap(bytes)), 
+				new StringArrayCsvReaderBuilder().build(Channels.newChannel(new ByteArrayInputStream(bytes)))
+			}) {
+			assertThat(reader.next()).asList().containsExactly("a", "b", "c").inOrder();
+			assertThat(reader.next()).asList().containsExactly("d", "e", "f").inOrder();
+			assertThat(reader.next()).isNull();
+		}
+	}
+
+	@Test
+	public void testScanStrategy() throws Exception {
+		StringBuilder builder = new StringBuilder();
+		for(int i = 0; i < 1000; i++) {
+			builder.append(i).append(",abcdefghijklmnopqrstuvwxyz æøå,\"c,\"\"d\"\"\"\n");
+		}
+		String input = builder.toString();
+		byte[] bytes = input.getBytes(StandardCharsets.UTF_8);
+		
+		assertThat(new StringArrayCsvReaderBuilder().getScanStrategy()).isEqualTo(ScanStrategy.SCALAR);
+		
+		for(ScanStrategy strategy : ScanStrategy.values()) {
+			for(char quoteCharacter : new char[] {'"', '\''}) {
+				StringArrayCsvReaderBuilder readerBuilder = new StringArrayCsvReaderBuilder().bufferLength(1024).scanStrategy(strategy);
+				if(quoteCharacter != '"') {
+					readerBuilder.quoteCharacter(quoteCharacter);
+				}
+				assertThat(readerBuilder.getScanStrategy()).isEqualTo(strategy);
+				
+				CsvReader<String[]> reader = new StringArrayCsvReaderBuilder().build(new StringReader(input));
+				CsvReader<String[]> byteReader = readerBuilder.build(new ByteArrayInputStream(bytes));
+				
+				String[] next;
+				while((next = reader.next()) != null) {
+					if(quoteCharacter == '"') {
+						assertThat(byteReader.next()).isEqualTo(next);
+					} else {
+						assertThat(byteReader.next()).hasLength(next.length + 1);
+					}
+				}
+				assertThat(byteReader.next()).isNull();
+			}
+		}
+	}
+
+	@Test
+	public void testMaxBufferLength() throws Exception {
+		StringBuilder value = new StringBuilder();
+		for(int i = 0; i < 1000; i++) {
+			value.append('x');
+		}
+		String input = "a," + value + ",c\nd,\"" + value + "\n" + value + "\",f\n";
+		
+		for(boolean bytes : new boolean[] {false, true}) {
+			StringArrayCsvReaderBuilder builder = new StringArrayCsvReaderBuilder().bufferLength(256).maxBufferLength(4096);
+			assertThat(builder.getMaxBufferLength()).isEqualTo(4096);
+			
+			CsvReader<String[]> reader;
+			if(bytes) {
+				reader = builder.build(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), input.length());
+			} else {
+				reader = builder.build(new StringReader(input), input.length());
+			}
+			assertThat(reader.next()).asList().containsExactly("a", value.toString(), "c").inOrder();
+			assertThat(reader.next()).asList().containsExactly("d", value + "\n" + value, "f").inOrder();
+			assertThat(reader.next()).isNull();
+		}
+		
+		assertThrows(CsvBuilderException.class, () -> {
+			new StringArrayCsvReaderBuilder().bufferLength(256).build(new StringReader(input));
+		});
+	}
+
+	@Test
+	public void testMaxBufferLengthBoundaries() throws Exception {
+		// linebreaks within quoted values, on either side of the buffer boundary while growing
+		StringBuilder value = new StringBuilder();
+		for(int i = 0; i < 17; i++) {
+			value.append('x');
+		}
+		value.append("\n\n");
+		for(int i = 0; i < 40; i++) {
+			value.append('y');
+		}
+		String input = "a,b\n\"" + value + "\",1\n2,\"" + value + "\"\n";
+
+		for(int bufferLength = 8; bufferLength < 96; bufferLength++) {
+			for(char divider : new char[] {',', ';'}) {
+				for(char escapeCharacter : new char[] {'"', '\\'}) {
+					StringArrayCsvReaderBuilder builder = new StringArrayCsvReaderBuilder().divider(divider).escapeCharacter(escapeCharacter).bufferLength(bufferLength).maxBufferLength(1 << 20);
+					String dividedInput = input.replace(',', divider);
+					for(boolean bytes : new boolean[] {false, true}) {
+						CsvReader<String[]> reader;
+						if(bytes) {
+							reader = builder.build(new ByteArrayInputStream(dividedInput.getBytes(StandardCharsets.UTF_8)));
+						} else {
+							reader = builder.build(new StringReader(dividedInput));
+						}
+						assertThat(reader.next()).asList().containsExactly("a", "b").inOrder();
+						assertThat(reader.next()).asList().containsExactly(value.toString(), "1").inOrder();
+						assertThat(reader.next()).asList().containsExactly("2", value.toString()).inOrder();
+						assertThat(reader.next()).isNull();
+					}
+				}
+			}
+		}
+	}
+
 	@Test
 	public void testFirstLineWithQuotes1() throws Exception {
 
@@ -142,17 +287,98 @@ public class StringArrayCsvReaderBuilderTest {
 	}
 	
 	@Test
-	public void throwsExceptionForIllegalConfiguration() throws Exception {
-		assertThrows(CsvBuilderException.class, ()->{
-			StringArrayCsvReader.builder().escapeCharacter('\\').quoteCharacter('\\').build(new StringReader(singleLine + indexes));
-	    });
-		assertThrows(CsvBuilderException.class, ()->{
-			StringArrayCsvReader.builder().skipComments().build(new StringReader(singleLine + indexes));
-	    });
-		assertThrows(CsvBuilderException.class, ()->{
-			StringArrayCsvReader.builder().skipEmptyLines().build(new StringReader(singleLine + indexes));
-	    });
+	public void testIdenticalQuoteAndEscapeCharacter() throws Exception {
+		CsvReader<String[]> build = StringArrayCsvReader.builder().escapeCharacter('\\').quoteCharacter('\\').build(new StringReader(singleLine + indexes));
+		assertThat(build).isInstanceOf(DefaultRFC4180StringArrayCsvReader.class);
 	}
 	
+	@Test
+	public void testSkipCommentsAndEmptyLines() throws Exception {
+		for(StringArrayCsvReaderBuilder readerBuilder : new StringArrayCsvReaderBuilder[] {
+				new StringArrayCsvReaderBuilder(),
+				new StringArrayCsvReaderBuilder().escapeCharacter('\\'),
+				new StringArrayCsvReaderBuilder().quoteCharacter('\'').escapeCharacter('\'')
+			}) {
+			char quoteCharacter = readerBuilder.getQuoteCharacter();
+			
+			StringBuilder builder = new StringBuilder();
+			builder.append("# comment before header\n\r\na,b,c\n");
+			for(int i = 0; i < 1000; i++) {
+				builder.append(i).append(',').append(quoteCharacter).append("x\ny").append(quoteCharacter).append(",z\n");
+				if(i % 3 == 0) {
+					builder.append("# comment, with ").append(quoteCharacter).append("quote\n");
+				}
+				if(i % 7 == 0) {
+					builder.append("\n\r\n");
+				}
+			}
+			builder.append("#");
+			String input = builder.toString();
+			
+			readerBuilder.bufferLength(256).skipComments().skipEmptyLines();
+			
+			CsvReader<String[]> reader = readerBuilder.build(new StringReader(input));
+			CsvReader<String[]> byteReader = readerBuilder.build(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)));
+			CsvReader<CsvRow> rowReader = readerBuilder.buildRows(new StringReader(input));
+			
+			assertThat(reader.next()).asList().containsExactly("a", "b", "c").inOrder();
+			assertThat(byteReader.next()).asList().containsExactly("a", "b", "c").inOrder();
+			assertThat(rowReader.next().getString(0)).isEqualTo("a");
+			for(int i = 0; i < 1000; i++) {
+				assertThat(reader.next()).asList().containsExactly(Integer.toString(i), "x\ny", "z").inOrder();
+				assertThat(byteReader.next()).asList().containsExactly(Integer.toString(i), "x\ny", "z").inOrder();
+				CsvRow row = rowReader.next();
+				assertThat(row.getString(0)).isEqualTo(Integer.toString(i));
+				assertThat(row.getString(1)).isEqualTo("x\ny");
+				assertThat(row.getString(2)).isEqualTo("z");
+			}
+			assertThat(reader.next()).isNull();
+			assertThat(byteReader.next()).isNull();
+			assertThat(rowReader.next()).isNull();
+		}
+	}
+
+	@Test
+	public void testSkipCommentsAndEmptyLinesOnly() throws Exception {
+		String input = "# comment\n\n\r\n# comment\n";
+		
+		StringArrayCsvReaderBuilder readerBuilder = new StringArrayCsvReaderBuilder().skipComments().skipEmptyLines();
+		
+		assertThat(readerBuilder.build(new StringReader(input))).isInstanceOf(EmptyCsvReader.class);
+		assertThat(readerBuilder.build(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)))).isInstanceOf(EmptyCsvReader.class);
+		assertThat(readerBuilder.buildRows(new StringReader(input)).next()).isNull();
+	}
+
+	@Test
+	public void testSkipEmptyLineBeforeGrowingRow() throws Exception {
+		StringBuilder builder = new StringBuilder("h0,h1\naaaa,bbbb\ncc,dd\n\n"); // empty line at the end of the initial buffer
+		for(int i = 0; i < 60; i++) {
+			builder.append('x');
+		}
+		String x = builder.substring(builder.length() - 60);
+		builder.append(",y\nlast,z\n");
+		String input = builder.toString();
+		
+		StringArrayCsvReaderBuilder readerBuilder = StringArrayCsvReader.builder().bufferLength(22).maxBufferLength(1 << 20).skipEmptyLines();
+		
+		CsvReader<String[]> reader = readerBuilder.build(new StringReader(input));
+		CsvReader<String[]> byteReader = readerBuilder.build(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)));
+		for(CsvReader<String[]> r : new CsvReader[] {reader, byteReader}) {
+			assertThat(r.next()).asList().containsExactly("h0", "h1").inOrder();
+			assertThat(r.next()).asList().containsExactly("aaaa", "bbbb").inOrder();
+			assertThat(r.next()).asList().containsExactly("cc", "dd").inOrder();
+			assertThat(r.next()).asList().containsExactly(x, "y").inOrder();
+			assertThat(r.next()).asList().containsExactly("last", "z").inOrder();
+			assertThat(r.next()).isNull();
+		}
+	}
+
+	@Test
+	public void testSkipEmptyLinesKeepsComments() throws Exception {
+		CsvReader<String[]> reader = StringArrayCsvReader.builder().skipEmptyLines().build(new StringReader("a,b\n\n#c,d\n"));
+		assertThat(reader.next()).asList().containsExactly("a", "b").inOrder();
+		assertThat(reader.next()).asList().containsExactly("#c", "d").inOrder();
+		assertThat(reader.next()).isNull();
+	}
 	
 }
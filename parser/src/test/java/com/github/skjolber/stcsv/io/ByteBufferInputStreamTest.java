@@ -0,0 +1,56 @@
+package com.github.skjolber.stcsv.io;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+public class ByteBufferInputStreamTest {
+
+	private Path path = Paths.get("src/test/resources/gtfs/trips-quoted-5000.txt");
+
+	@Test
+	public void readsHeapBuffer() throws IOException {
+		byte[] expected = Files.readAllBytes(path);
+		try (InputStream in = new ByteBufferInputStream(ByteBuffer.wrap(expected))) {
+			assertThat(in.available()).isEqualTo(expected.length);
+			assertThat(readFully(in, 1000)).isEqualTo(expected);
+			assertThat(in.available()).isEqualTo(0);
+		}
+	}
+
+	@Test
+	public void readsDirectBuffer() throws IOException {
+		byte[] expected = Files.readAllBytes(path);
+		ByteBuffer buffer = ByteBuffer.allocateDirect(expected.length);
+		buffer.put(expected);
+		buffer.flip();
+		try (InputStream in = new ByteBufferInputStream(buffer)) {
+			for(int i = 0; i < 100; i++) {
+				assertThat(in.read()).isEqualTo(expected[i] & 0xFF);
+			}
+			assertThat(in.skip(100)).isEqualTo(100);
+			byte[] remaining = readFully(in, 4096);
+			assertThat(remaining.length).isEqualTo(expected.length - 200);
+			assertThat(remaining[0]).isEqualTo(expected[200]);
+			assertThat(in.read()).isEqualTo(-1);
+		}
+	}
+
+	private byte[] readFully(InputStream in, int chunkSize) throws IOException {
+		ByteArrayOutputStream bout = new ByteArrayOutputStream();
+		byte[] buffer = new byte[chunkSize];
+		int read;
+		while((read = in.read(buffer, 0, buffer.length)) != -1) {
+			bout.write(buffer, 0, read);
+		}
+		return bout.toByteArray();
+	}
+}
@@ -0,0 +1,70 @@
+package com.github.skjolber.stcsv.io;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+public class MappedFileInputStreamTest {
+
+	private Path path = Paths.get("src/test/resources/gtfs/trips-quoted-5000.txt");
+
+	@Test
+	public void readsFileUsingSingleWindow() throws IOException {
+		try (InputStream in = new MappedFileInputStream(path)) {
+			assertThat(readFully(in, 4096)).isEqualTo(Files.readAllBytes(path));
+		}
+	}
+
+	@Test
+	public void readsFileUsingSlidingWindow() throws IOException {
+		try (InputStream in = new MappedFileInputStream(path, 1000)) {
+			assertThat(readFully(in, 4096)).isEqualTo(Files.readAllBytes(path));
+		}
+		try (InputStream in = new MappedFileInputStream(path, 4096)) {
+			assertThat(readFully(in, 1000)).isEqualTo(Files.readAllBytes(path));
+		}
+	}
+
+	@Test
+	public void readsSingleBytes() throws IOException {
+		byte[] expected = Files.readAllBytes(path);
+		try (InputStream in = new MappedFileInputStream(path, 4093)) {
+			assertThat(in.available()).isEqualTo(expected.length);
+			for(int i = 0; i < expected.length; i++) {
+				assertThat(in.read()).isEqualTo(expected[i] & 0xFF);
+			}
+			assertThat(in.read()).isEqualTo(-1);
+			assertThat(in.available()).isEqualTo(0);
+		}
+	}
+
+	@Test
+	public void readsRange() throws IOException {
+		byte[] expected = Files.readAllBytes(path);
+		try (InputStream in = new MappedFileInputStream(path, 1234, 50000, 4096)) {
+			assertThat(in.available()).isEqualTo(50000);
+			assertThat(readFully(in, 1000)).isEqualTo(Arrays.copyOfRange(expected, 1234, 1234 + 50000));
+		}
+		try (InputStream in = new MappedFileInputStream(path, expected.length - 100, 1000, 4096)) {
+			assertThat(readFully(in, 1000)).isEqualTo(Arrays.copyOfRange(expected, expected.length - 100, expected.length));
+		}
+	}
+
+	private byte[] readFully(InputStream in, int chunkSize) throws IOException {
+		ByteArrayOutputStream bout = new ByteArrayOutputStream();
+		byte[] buffer = new byte[chunkSize];
+		int read;
+		while((read = in.read(buffer, 0, buffer.length)) != -1) {
+			bout.write(buffer, 0, read);
+		}
+		return bout.toByteArray();
+	}
+}
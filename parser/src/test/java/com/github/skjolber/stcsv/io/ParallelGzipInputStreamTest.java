@@ -0,0 +1,267 @@
+package com.github.skjolber.stcsv.io;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.github.skjolber.stcsv.CsvReader;
+import com.github.skjolber.stcsv.sa.StringArrayCsvReader;
+
+public class ParallelGzipInputStreamTest {
+
+	private Path path = Paths.get("src/test/resources/gtfs/trips-quoted-5000.txt");
+
+	@TempDir
+	public Path directory;
+
+	private ExecutorService executor;
+
+	private byte[] expected;
+
+	@BeforeEach
+	public void init() throws IOException {
+		executor = Executors.newFixedThreadPool(4);
+		expected = Files.readAllBytes(path);
+	}
+
+	@AfterEach
+	public void shutdown() {
+		executor.shutdown();
+	}
+
+	@Test
+	public void readsSingleMember() throws IOException {
+		Path file = write(gzip(expected));
+
+		assertThat(inflate(file, 2, 4096)).isEqualTo(expected);
+	}
+
+	@Test
+	public void readsMultipleMembers() throws IOException {
+		for(int memberLength : new int[] {100, 4096, 65536}) {
+			Path file = write(members(expected, memberLength, false));
+			for(int lookahead : new int[] {1, 3, 16}) {
+				assertThat(inflate(file, lookahead, 1000)).isEqualTo(expected);
+			}
+		}
+	}
+
+	@Test
+	public void readsMembersWithExtraFields() throws IOException {
+		// BGZF-style members, also with a file name
+		Path file = write(members(expected, 10000, true));
+
+		assertThat(inflate(file, 4, 4096)).isEqualTo(expected);
+	}
+
+	@Test
+	public void readsMembersLargerThanMaxMemberLength() throws IOException {
+		Path file = write(members(expected, 100000, false));
+
+		try (InputStream in = new ParallelGzipInputStream(file, executor, 4, 1)) {
+			assertThat(readFully(in, 777)).isEqualTo(expected);
+		}
+	}
+
+	@Test
+	public void readsMembersContainingCandidateHeaders() throws IOException {
+		// stored (uncompressed) data which looks like gzip headers
+		byte[] data = new byte[50000];
+		for(int i = 0; i < data.length; i += 4) {
+			data[i] = 0x1f;
+			data[i + 1] = (byte)0x8b;
+			data[i + 2] = 8;
+		}
+		ByteArrayOutputStream bout = new ByteArrayOutputStream();
+		for(int i = 0; i < data.length; i += 10000) {
+			bout.write(gzip(Arrays.copyOfRange(data, i, i + 10000), Deflater.NO_COMPRESSION, false));
+		}
+
+		Path file = write(bout.toByteArray());
+
+		assertThat(inflate(file, 16, 4096)).isEqualTo(data);
+	}
+
+	@Test
+	public void ignoresTrailingGarbage() throws IOException {
+		byte[] members = members(expected, 10000, false);
+		byte[] garbage = Arrays.copyOf(members, members.length + 64);
+
+		assertThat(inflate(write(garbage), 4, 4096)).isEqualTo(expected);
+	}
+
+	@Test
+	public void readsSingleBytes() throws IOException {
+		byte[] data = Arrays.copyOf(expected, 5000);
+		try (InputStream in = new ParallelGzipInputStream(write(members(data, 1000, false)), executor, 4)) {
+			for(int i = 0; i < data.length; i++) {
+				assertThat(in.read()).isEqualTo(data[i] & 0xFF);
+			}
+			assertThat(in.read()).isEqualTo(-1);
+		}
+	}
+
+	@Test
+	public void throwsExceptionForNonGzipInput() throws IOException {
+		assertThrows(ZipException.class, () -> {
+			inflate(path, 4, 4096);
+		});
+	}
+
+	@Test
+	public void throwsExceptionForCorruptTrailer() throws IOException {
+		byte[] members = members(expected, 10000, false);
+		byte[] gzip = gzip(expected);
+		gzip[gzip.length - 5]++; // crc
+
+		ByteArrayOutputStream bout = new ByteArrayOutputStream();
+		bout.write(members);
+		bout.write(gzip);
+
+		Path file = write(bout.toByteArray());
+
+		assertThrows(ZipException.class, () -> {
+			inflate(file, 4, 4096);
+		});
+	}
+
+	@Test
+	public void throwsExceptionForTruncatedInput() throws IOException {
+		byte[] members = members(expected, 10000, false);
+
+		Path file = write(Arrays.copyOf(members, members.length - 20));
+
+		assertThrows(IOException.class, () -> {
+			inflate(file, 4, 4096);
+		});
+	}
+
+	@Test
+	public void parsesCsv() throws Exception {
+		Path file = write(members(expected, 4096, false));
+
+		CsvReader<String[]> reader = StringArrayCsvReader.builder().build(new ParallelGzipInputStream(file, executor, 4));
+		CsvReader<String[]> plain = StringArrayCsvReader.builder().build(Files.newInputStream(path));
+		try {
+			int count = 0;
+			String[] value;
+			do {
+				value = plain.next();
+				assertThat(reader.next()).isEqualTo(value);
+				count++;
+			} while(value != null);
+
+			assertThat(count).isGreaterThan(5000);
+		} finally {
+			reader.close();
+			plain.close();
+		}
+	}
+
+	private byte[] inflate(Path file, int lookahead, int chunkSize) throws IOException {
+		try (InputStream in = new ParallelGzipInputStream(file, executor, lookahead)) {
+			return readFully(in, chunkSize);
+		}
+	}
+
+	private Path write(byte[] bytes) throws IOException {
+		Path file = Files.createTempFile(directory, "members", ".gz");
+		Files.write(file, bytes);
+		return file;
+	}
+
+	private static byte[] members(byte[] data, int memberLength, boolean extra) throws IOException {
+		ByteArrayOutputStream bout = new ByteArrayOutputStream();
+		for(int i = 0; i < data.length; i += memberLength) {
+			byte[] member = Arrays.copyOfRange(data, i, Math.min(data.length, i + memberLength));
+			if(extra) {
+				bout.write(gzip(member, Deflater.DEFAULT_COMPRESSION, true));
+			} else {
+				bout.write(gzip(member));
+			}
+		}
+		return bout.toByteArray();
+	}
+
+	private static byte[] gzip(byte[] data) throws IOException {
+		ByteArrayOutputStream bout = new ByteArrayOutputStream();
+		try (GZIPOutputStream out = new GZIPOutputStream(bout)) {
+			out.write(data);
+		}
+		return bout.toByteArray();
+	}
+
+	private static byte[] gzip(byte[] data, int level, boolean extra) throws IOException {
+		ByteArrayOutputStream bout = new ByteArrayOutputStream();
+
+		int flags = extra ? (4 | 8) : 0; // extra field and file name
+		bout.write(new byte[] {0x1f, (byte)0x8b, 8, (byte)flags, 0, 0, 0, 0, 0, (byte)0xff});
+		if(extra) {
+			// BGZF block size subfield (value not checked)
+			bout.write(new byte[] {6, 0, 'B', 'C', 2, 0, 0, 0});
+			bout.write(new byte[] {'a', '.', 'c', 's', 'v', 0});
+		}
+
+		Deflater deflater = new Deflater(level, true);
+		try (DeflaterOutputStream out = new DeflaterOutputStream(new NonClosingOutputStream(bout), deflater)) {
+			out.write(data);
+		}
+		deflater.end();
+
+		CRC32 crc = new CRC32();
+		crc.update(data);
+		writeInt(bout, crc.getValue());
+		writeInt(bout, data.length);
+
+		return bout.toByteArray();
+	}
+
+	private static void writeInt(ByteArrayOutputStream bout, long value) {
+		for(int i = 0; i < 4; i++) {
+			bout.write((int)(value >>> (i * 8)) & 0xFF);
+		}
+	}
+
+	private static class NonClosingOutputStream extends FilterOutputStream {
+
+		public NonClosingOutputStream(OutputStream out) {
+			super(out);
+		}
+
+		@Override
+		public void close() throws IOException {
+			flush();
+		}
+	}
+
+	private byte[] readFully(InputStream in, int chunkSize) throws IOException {
+		ByteArrayOutputStream bout = new ByteArrayOutputStream();
+		byte[] buffer = new byte[chunkSize];
+		int read;
+		while((read = in.read(buffer, 0, buffer.length)) != -1) {
+			bout.write(buffer, 0, read);
+		}
+		return bout.toByteArray();
+	}
+}
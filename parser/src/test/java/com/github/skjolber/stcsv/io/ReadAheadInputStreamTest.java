@@ -0,0 +1,96 @@
+package com.github.skjolber.stcsv.io;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ReadAheadInputStreamTest {
+
+	private Path path = Paths.get("src/test/resources/gtfs/trips-quoted-5000.txt");
+
+	private ExecutorService executor;
+
+	@BeforeEach
+	public void init() {
+		executor = Executors.newCachedThreadPool();
+	}
+
+	@AfterEach
+	public void shutdown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void readsFile() throws IOException {
+		byte[] expected = Files.readAllBytes(path);
+		try (InputStream in = new ReadAheadInputStream(new FileInputStream(path.toFile()), 1000, 2, executor)) {
+			assertThat(readFully(in, 4096)).isEqualTo(expected);
+		}
+		try (InputStream in = new ReadAheadInputStream(new FileInputStream(path.toFile()), 4096, executor)) {
+			assertThat(readFully(in, 1000)).isEqualTo(expected);
+		}
+	}
+
+	@Test
+	public void readsSingleBytes() throws IOException {
+		byte[] expected = Files.readAllBytes(path);
+		try (InputStream in = new ReadAheadInputStream(new FileInputStream(path.toFile()), 4093, executor)) {
+			for(int i = 0; i < expected.length; i++) {
+				assertThat(in.read()).isEqualTo(expected[i] & 0xFF);
+			}
+			assertThat(in.read()).isEqualTo(-1);
+			assertThat(in.read()).isEqualTo(-1);
+		}
+	}
+
+	@Test
+	public void propagatesException() throws IOException {
+		InputStream failing = new InputStream() {
+			private int count = 0;
+
+			@Override
+			public int read() throws IOException {
+				if(count++ < 100) {
+					return 'a';
+				}
+				throw new IOException("Expected");
+			}
+		};
+		try (InputStream in = new ReadAheadInputStream(failing, 10, executor)) {
+			IOException e = assertThrows(IOException.class, () -> {
+				readFully(in, 10);
+			});
+			assertThat(e).hasCauseThat().hasMessageThat().isEqualTo("Expected");
+		}
+	}
+
+	@Test
+	public void closesBeforeEndOfStream() throws IOException {
+		try (InputStream in = new ReadAheadInputStream(new FileInputStream(path.toFile()), 100, executor)) {
+			assertThat(in.read(new byte[10], 0, 10)).isEqualTo(10);
+		}
+	}
+
+	private byte[] readFully(InputStream in, int chunkSize) throws IOException {
+		ByteArrayOutputStream bout = new ByteArrayOutputStream();
+		byte[] buffer = new byte[chunkSize];
+		int read;
+		while((read = in.read(buffer, 0, buffer.length)) != -1) {
+			bout.write(buffer, 0, read);
+		}
+		return bout.toByteArray();
+	}
+}
@@ -0,0 +1,95 @@
+package com.github.skjolber.stcsv.io;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.CharArrayWriter;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ReadAheadReaderTest {
+
+	private Path path = Paths.get("src/test/resources/gtfs/trips-quoted-5000.txt");
+
+	private ExecutorService executor;
+
+	@BeforeEach
+	public void init() {
+		executor = Executors.newCachedThreadPool();
+	}
+
+	@AfterEach
+	public void shutdown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void readsFile() throws IOException {
+		String expected = new String(Files.readAllBytes(path), StandardCharsets.UTF_8);
+		try (Reader in = new ReadAheadReader(new StringReader(expected), 1000, 2, executor)) {
+			assertThat(readFully(in, 4096)).isEqualTo(expected);
+		}
+		try (Reader in = new ReadAheadReader(new StringReader(expected), 4096, executor)) {
+			assertThat(readFully(in, 1000)).isEqualTo(expected);
+		}
+	}
+
+	@Test
+	public void readsSingleCharacters() throws IOException {
+		String expected = new String(Files.readAllBytes(path), StandardCharsets.UTF_8);
+		try (Reader in = new ReadAheadReader(new StringReader(expected), 4093, executor)) {
+			for(int i = 0; i < expected.length(); i++) {
+				assertThat(in.read()).isEqualTo((int)expected.charAt(i));
+			}
+			assertThat(in.read()).isEqualTo(-1);
+			assertThat(in.read()).isEqualTo(-1);
+		}
+	}
+
+	@Test
+	public void propagatesException() throws IOException {
+		Reader failing = new Reader() {
+			private int count = 0;
+
+			@Override
+			public int read(char[] cbuf, int off, int len) throws IOException {
+				if(count++ < 10) {
+					cbuf[off] = 'a';
+					return 1;
+				}
+				throw new IOException("Expected");
+			}
+
+			@Override
+			public void close() throws IOException {
+			}
+		};
+		try (Reader in = new ReadAheadReader(failing, 10, executor)) {
+			IOException e = assertThrows(IOException.class, () -> {
+				readFully(in, 10);
+			});
+			assertThat(e).hasCauseThat().hasMessageThat().isEqualTo("Expected");
+		}
+	}
+
+	private String readFully(Reader in, int chunkSize) throws IOException {
+		CharArrayWriter writer = new CharArrayWriter();
+		char[] buffer = new char[chunkSize];
+		int read;
+		while((read = in.read(buffer, 0, buffer.length)) != -1) {
+			writer.write(buffer, 0, read);
+		}
+		return writer.toString();
+	}
+}
@@ -0,0 +1,78 @@
+package com.github.skjolber.stcsv.io;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.IllegalBlockingModeException;
+import java.nio.channels.Pipe;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.Test;
+
+public class ReadableByteChannelInputStreamTest {
+
+	private Path path = Paths.get("src/test/resources/gtfs/trips-quoted-5000.txt");
+
+	@Test
+	public void readsFileChannel() throws IOException {
+		byte[] expected = Files.readAllBytes(path);
+		try (InputStream in = new ReadableByteChannelInputStream(FileChannel.open(path, StandardOpenOption.READ))) {
+			assertThat(readFully(in, 1000)).isEqualTo(expected);
+		}
+	}
+
+	@Test
+	public void readsChannel() throws IOException {
+		byte[] expected = Files.readAllBytes(path);
+		try (InputStream in = new ReadableByteChannelInputStream(Channels.newChannel(new ByteArrayInputStream(expected)))) {
+			for(int i = 0; i < 100; i++) {
+				assertThat(in.read()).isEqualTo(expected[i] & 0xFF);
+			}
+			byte[] buffer = new byte[expected.length];
+			int offset = 100;
+			int read;
+			while((read = in.read(buffer, offset, buffer.length - offset)) != -1) {
+				offset += read;
+				if(offset == buffer.length) {
+					break;
+				}
+			}
+			assertThat(offset).isEqualTo(expected.length);
+			assertThat(in.read()).isEqualTo(-1);
+		}
+	}
+
+	@Test
+	public void throwsExceptionForNonBlockingChannel() throws IOException {
+		Pipe pipe = Pipe.open();
+		try {
+			pipe.source().configureBlocking(false);
+
+			assertThrows(IllegalBlockingModeException.class, ()->{
+				new ReadableByteChannelInputStream(pipe.source());
+			} );
+		} finally {
+			pipe.source().close();
+			pipe.sink().close();
+		}
+	}
+
+	private byte[] readFully(InputStream in, int chunkSize) throws IOException {
+		ByteArrayOutputStream bout = new ByteArrayOutputStream();
+		byte[] buffer = new byte[chunkSize];
+		int read;
+		while((read = in.read(buffer, 0, buffer.length)) != -1) {
+			bout.write(buffer, 0, read);
+		}
+		return bout.toByteArray();
+	}
+}
@@ -3,6 +3,7 @@ package com.github.skjolber.stcsv.parser;
 import static com.google.common.truth.Truth.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.InputStream;
@@ -12,6 +13,7 @@ import java.io.StringReader;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
@@ -208,6 +210,27 @@ public class DefaultStringArrayCsvReaderTest extends AbstractCsvTest {
 		assertThat(exception.getCause()).isInstanceOf(ArrayIndexOutOfBoundsException.class);
 		
 	}
-	
-	
+
+	@Test
+	public void parseManyEscapedCharacters() throws Exception {
+		StringBuilder builder = new StringBuilder();
+		for(int i = 0; i < 1000; i++) {
+			builder.append("a\"b\\");
+		}
+		String expected = builder.toString();
+		String quoted = "\"" + expected.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+		String input = quoted + "," + quoted + "\n" + "x,\"\\\"\"\n";
+
+		for(StringArrayCsvReaderBuilder reader : new StringArrayCsvReaderBuilder[] {StringArrayCsvReader.builder(), StringArrayCsvReader.builder().quotedWithoutLinebreaks()}) {
+			reader.quoteCharacter('"').escapeCharacter('\\');
+			CsvReader<String[]> chars = reader.build(new StringReader(input));
+			CsvReader<String[]> bytes = reader.build(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)));
+			for(CsvReader<String[]> csvReader : Arrays.asList(chars, bytes)) {
+				assertThat(csvReader.next()).isEqualTo(new String[] {expected, expected});
+				assertThat(csvReader.next()).isEqualTo(new String[] {"x", "\""});
+				assertThat(csvReader.next()).isNull();
+			}
+		}
+	}
+
 }
@@ -0,0 +1,169 @@
+package com.github.skjolber.stcsv.parser;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.skjolber.stcsv.AbstractCsvTest;
+import com.github.skjolber.stcsv.CsvReader;
+import com.github.skjolber.stcsv.builder.StringArrayCsvReaderBuilder;
+import com.github.skjolber.stcsv.sa.ProjectedStringArrayByteCsvReader;
+import com.github.skjolber.stcsv.sa.ProjectedStringArrayCsvReader;
+import com.github.skjolber.stcsv.sa.StringArrayCsvReader;
+
+public class ProjectedStringArrayCsvReaderTest extends AbstractCsvTest {
+
+	@Test
+	public void compareToFullParser() throws Exception {
+		File[] files = new File[] {file, quotedFile, semicolonFile, quotedSemicolonFile};
+		char[] dividers = new char[] {',', ',', ';', ';'};
+		for(int i = 0; i < files.length; i++) {
+			for(boolean linebreaks : new boolean[] {true, false}) {
+				// trip_id, trip_headsign
+				StringArrayCsvReaderBuilder projected = StringArrayCsvReader.builder().divider(dividers[i]).withColumnMapping("trip_headsign", 0).withColumnMapping("trip_id", 2);
+				if(!linebreaks) {
+					projected.quotedWithoutLinebreaks();
+				}
+
+				CsvReader<String[]> chars = projected.build(new InputStreamReader(new FileInputStream(files[i]), StandardCharsets.UTF_8));
+				assertThat(chars).isInstanceOf(ProjectedStringArrayCsvReader.class);
+				CsvReader<String[]> bytes = projected.build(new FileInputStream(files[i]));
+				assertThat(bytes).isInstanceOf(ProjectedStringArrayByteCsvReader.class);
+
+				CsvReader<String[]> full = StringArrayCsvReader.builder().divider(dividers[i]).build(new FileInputStream(files[i]));
+				full.next();
+
+				String[] expected;
+				int count = 0;
+				while((expected = full.next()) != null) {
+					String[] value = new String[] {expected[3], null, expected[1]};
+					assertThat(chars.next()).isEqualTo(value);
+					assertThat(bytes.next()).isEqualTo(value);
+					count++;
+				}
+				assertThat(count).isEqualTo(4999);
+				assertThat(chars.next()).isNull();
+				assertThat(bytes.next()).isNull();
+			}
+		}
+	}
+
+	@Test
+	public void parsesEscapedInput() throws Exception {
+		String input = "a;b;c;d\n'a''1';'b''1';'c1''';d1\n'x\ny';'';'z''';\r\n";
+
+		StringArrayCsvReaderBuilder builder = StringArrayCsvReader.builder().divider(';').quoteCharacter('\'').escapeCharacter('\'').withColumnMapping("c", 0).withColumnMapping("a", 1);
+		CsvReader<String[]> chars = builder.build(new StringReader(input));
+		CsvReader<String[]> bytes = builder.build(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)));
+		for(CsvReader<String[]> reader : Arrays.asList(chars, bytes)) {
+			assertThat(reader.next()).isEqualTo(new String[] {"c1'", "a'1"});
+			assertThat(reader.next()).isEqualTo(new String[] {"z'", "x\ny"});
+			assertThat(reader.next()).isNull();
+		}
+
+		input = "a,b,c\n\"a\\\"1\",\"b\\\\1\",c1\n";
+
+		builder = StringArrayCsvReader.builder().escapeCharacter('\\').withColumnMapping("b", 0).withColumnMapping("c", 1);
+		chars = builder.build(new StringReader(input));
+		bytes = builder.build(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)));
+		for(CsvReader<String[]> reader : Arrays.asList(chars, bytes)) {
+			assertThat(reader.next()).isEqualTo(new String[] {"b\\1", "c1"});
+			assertThat(reader.next()).isNull();
+		}
+	}
+
+	@Test
+	public void parsesQuotedLinebreaksWhileGrowing() throws Exception {
+		// linebreaks within quoted values, on either side of the buffer boundary while growing
+		StringBuilder value = new StringBuilder();
+		for(int i = 0; i < 17; i++) {
+			value.append('x');
+		}
+		value.append("\n\n");
+		for(int i = 0; i < 40; i++) {
+			value.append('y');
+		}
+		String input = "a,b,c\n\"" + value + "\",1,2\n3,\"" + value + "\",4\n";
+
+		for(int bufferLength = 8; bufferLength < 96; bufferLength++) {
+			for(StringArrayCsvReaderBuilder builder : new StringArrayCsvReaderBuilder[] {
+					StringArrayCsvReader.builder().withColumnMapping("b", 0).withColumnMapping("a", 1),
+					StringArrayCsvReader.builder().deduplicated(1, 16).withColumnMapping("b", 0).withColumnMapping("a", 1)
+				}) {
+				builder.bufferLength(bufferLength).maxBufferLength(1 << 20);
+				
+				CsvReader<String[]> chars = builder.build(new StringReader(input));
+				CsvReader<String[]> bytes = builder.build(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)));
+				for(CsvReader<String[]> reader : Arrays.asList(chars, bytes)) {
+					assertThat(reader.next()).isEqualTo(new String[] {"1", value.toString()});
+					assertThat(reader.next()).isEqualTo(new String[] {value.toString(), "3"});
+					assertThat(reader.next()).isNull();
+				}
+			}
+		}
+	}
+
+	@Test
+	public void parsesWithoutProjectedColumns() throws Exception {
+		String input = "a,b,c\n1,2,3\n4,5,6\n";
+
+		for(StringArrayCsvReaderBuilder builder : new StringArrayCsvReaderBuilder[] {
+				StringArrayCsvReader.builder().withColumnMapping("x", 0),
+				StringArrayCsvReader.builder().withColumnMapping("x", 0).quotedWithoutLinebreaks()
+			}) {
+			CsvReader<String[]> reader = builder.build(new StringReader(input));
+			assertThat(reader.next()).isEqualTo(new String[0]);
+			assertThat(reader.next()).isEqualTo(new String[0]);
+			assertThat(reader.next()).isNull();
+		}
+	}
+
+	@Test
+	public void deduplicatesColumns() throws Exception {
+		String input = "a,b,c\nx,1,3\nx,2,3\ny,1,\"3\"\n";
+
+		for(StringArrayCsvReaderBuilder builder : new StringArrayCsvReaderBuilder[] {
+				StringArrayCsvReader.builder().deduplicated(0, 16).deduplicated(2, 16),
+				StringArrayCsvReader.builder().deduplicated(0, 16).deduplicated(2, 16).withColumnMapping("c", 0).withColumnMapping("a", 1)
+			}) {
+			for(CsvReader<String[]> reader : Arrays.asList(builder.build(new StringReader(input)), builder.build(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8))))) {
+				String[] first = reader.next();
+				if(first.length == 3) {
+					assertThat(first).isEqualTo(new String[] {"a", "b", "c"});
+					first = reader.next();
+					assertThat(first).isEqualTo(new String[] {"x", "1", "3"});
+					first = first.clone();
+
+					String[] second = reader.next();
+					assertThat(second).isEqualTo(new String[] {"x", "2", "3"});
+					assertThat(second[0]).isSameInstanceAs(first[0]);
+					assertThat(second[1]).isNotSameInstanceAs(first[1]);
+					assertThat(second[2]).isSameInstanceAs(first[2]);
+					
+					String[] third = reader.next();
+					assertThat(third).isEqualTo(new String[] {"y", "1", "3"});
+					assertThat(third[2]).isSameInstanceAs(first[2]);
+				} else {
+					assertThat(first).isEqualTo(new String[] {"3", "x"});
+					first = first.clone();
+
+					String[] second = reader.next();
+					assertThat(second).isEqualTo(new String[] {"3", "x"});
+					assertThat(second[0]).isSameInstanceAs(first[0]);
+					assertThat(second[1]).isSameInstanceAs(first[1]);
+
+					assertThat(reader.next()).isEqualTo(new String[] {"3", "y"});
+				}
+				assertThat(reader.next()).isNull();
+			}
+		}
+	}
+}
@@ -0,0 +1,136 @@
+package com.github.skjolber.stcsv.parser;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileInputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.skjolber.stcsv.AbstractCsvTest;
+import com.github.skjolber.stcsv.CsvReader;
+import com.github.skjolber.stcsv.RawInputStream;
+import com.github.skjolber.stcsv.builder.CsvBuilderException;
+import com.github.skjolber.stcsv.sa.StringArrayCsvReader;
+import com.github.skjolber.stcsv.sa.rfc4180.RFC4180StringArrayByteCsvReader;
+import com.univocity.parsers.csv.CsvParser;
+
+public class StringArrayByteCsvReaderTest extends AbstractCsvTest {
+
+	@Test
+	public void compareToConventionalParserRFC4180() throws Exception {
+		CsvParser referenceParser = referenceParser(quotedFile, StandardCharsets.UTF_8, false);
+		try (CsvReader<String[]> factory = StringArrayCsvReader.builder().build(new FileInputStream(quotedFile))) {
+			compare(referenceParser, factory);
+		}
+	}
+
+	@Test
+	public void compareToConventionalParserRFC4180WithoutLinebreaks() throws Exception {
+		CsvParser referenceParser = referenceParser(quotedFile, StandardCharsets.UTF_8, false);
+		try (CsvReader<String[]> factory = StringArrayCsvReader.builder().quotedWithoutLinebreaks().build(new FileInputStream(quotedFile))) {
+			compare(referenceParser, factory);
+		}
+	}
+
+	@Test
+	public void compareToConventionalParserWithQuotes() throws Exception {
+		CsvParser referenceParser = referenceParser(quotedSemicolonFile, StandardCharsets.UTF_8, false, '"', '\\', ';');
+		try (CsvReader<String[]> factory = StringArrayCsvReader.builder().divider(';').quoteCharacter('"').escapeCharacter('\\').build(new FileInputStream(quotedSemicolonFile))) {
+			compare(referenceParser, factory);
+		}
+	}
+
+	@Test
+	public void compareToConventionalParserWithQuotesWithoutLinebreaks() throws Exception {
+		CsvParser referenceParser = referenceParser(quotedSemicolonFile, StandardCharsets.UTF_8, false, '"', '\\', ';');
+		try (CsvReader<String[]> factory = StringArrayCsvReader.builder().divider(';').quoteCharacter('"').escapeCharacter('\\').quotedWithoutLinebreaks().build(new FileInputStream(quotedSemicolonFile))) {
+			compare(referenceParser, factory);
+		}
+	}
+
+	@Test
+	public void compareToConventionalParserMemoryMapped() throws Exception {
+		CsvParser referenceParser = referenceParser(quotedFile, StandardCharsets.UTF_8, false);
+		try (CsvReader<String[]> factory = StringArrayCsvReader.builder().build(quotedFile.toPath())) {
+			compare(referenceParser, factory);
+		}
+	}
+
+	@Test
+	public void parsesMultiByteCharacters() throws Exception {
+		String input = "a,b,c\n\"æøå\",\"b1\nb2\",日本\n";
+
+		CsvReader<String[]> reader = StringArrayCsvReader.builder().build(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)));
+
+		assertThat(reader.next()).isEqualTo(new String[] {"a", "b", "c"});
+		assertThat(reader.next()).isEqualTo(new String[] {"æøå", "b1\nb2", "日本"});
+		assertThat(reader.next()).isNull();
+	}
+
+	@Test
+	public void parseQuotedNewlineWithFillBuffer() throws Exception {
+		String row = "abcdef,\"b1\nb2b3b4\",end\n";
+
+		int index = row.indexOf('\n');
+
+		byte[] first = row.substring(0, index+1).getBytes(StandardCharsets.UTF_8);
+
+		byte[] b = new byte[1024];
+		System.arraycopy(first, 0, b, 0, first.length);
+
+		RFC4180StringArrayByteCsvReader reader = new RFC4180StringArrayByteCsvReader(new ByteArrayInputStream(row.substring(index + 1).getBytes(StandardCharsets.UTF_8)), b, 0, first.length, 3);
+
+		String[] result = reader.next();
+		assertThat(result[0]).isEqualTo("abcdef");
+		assertThat(result[1]).isEqualTo("b1\nb2b3b4");
+		assertThat(result[2]).isEqualTo("end");
+	}
+
+	@Test
+	public void returnsNullForEmptyInput() throws Exception {
+		CsvReader<String[]> reader = StringArrayCsvReader.builder().build(new ByteArrayInputStream(new byte[0]));
+		assertThat(reader.next()).isNull();
+	}
+
+	@Test
+	public void accessesInputStream() throws Exception {
+		String input = "a,b,c\n1,2,3\n4,5,6\n";
+
+		CsvReader<String[]> reader = StringArrayCsvReader.builder().build(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)));
+		assertThat(reader.next()).isEqualTo(new String[] {"a", "b", "c"});
+		assertThat(readFully(reader.getInputStream())).isEqualTo("1,2,3\n4,5,6\n");
+
+		// with column mapping
+		CsvReader<String[]> mapped = StringArrayCsvReader.builder().withColumnMapping("b", 0).build(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)));
+		assertThat(mapped.next()).isEqualTo(new String[] {"2"});
+		assertThat(readFully(mapped.getInputStream())).isEqualTo("4,5,6\n");
+
+		assertThrows(UnsupportedOperationException.class, ()->{
+			reader.getReader();
+		} );
+		assertThrows(UnsupportedOperationException.class, ()->{
+			StringArrayCsvReader.builder().build(new StringReader(input)).getInputStream();
+		} );
+	}
+
+	private String readFully(RawInputStream in) throws Exception {
+		StringBuilder builder = new StringBuilder();
+		int read;
+		while((read = in.read()) != -1) {
+			builder.append((char)read);
+		}
+		return builder.toString();
+	}
+
+	@Test
+	public void throwsExceptionOnNonAsciiDivider() throws Exception {
+		assertThrows(CsvBuilderException.class, ()->{
+			StringArrayCsvReader.builder().divider('§').build(new ByteArrayInputStream(new byte[0]));
+		} );
+	}
+
+}
@@ -0,0 +1,120 @@
+package com.github.skjolber.stcsv.parser.rfc4180;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.skjolber.stcsv.AbstractCsvTest;
+import com.github.skjolber.stcsv.CarriageReturnNewLineReader;
+import com.github.skjolber.stcsv.CsvReader;
+import com.github.skjolber.stcsv.builder.StringArrayCsvReaderBuilder;
+import com.github.skjolber.stcsv.row.CsvRow;
+import com.github.skjolber.stcsv.sa.StringArrayCsvReader;
+import com.github.skjolber.stcsv.sa.rfc4180.DefaultRFC4180StringArrayByteCsvReader;
+import com.github.skjolber.stcsv.sa.rfc4180.DefaultRFC4180StringArrayCsvReader;
+import com.univocity.parsers.csv.CsvParser;
+
+public class DefaultRFC4180StringArrayCsvReaderTest extends AbstractCsvTest {
+
+	@Test
+	public void compareToConventionalParser() throws Exception {
+		for(File f : new File[] {semicolonFile, quotedSemicolonFile}) {
+			for(boolean crnl : new boolean[] {false, true}) {
+				CsvParser referenceParser = referenceParser(f, StandardCharsets.UTF_8, crnl, '"', '"', ';');
+				
+				CsvReader<String[]> reader = StringArrayCsvReader.builder().divider(';').build(reader(f, crnl));
+				assertThat(reader).isInstanceOf(DefaultRFC4180StringArrayCsvReader.class);
+				
+				compare(referenceParser, reader);
+			}
+			CsvParser referenceParser = referenceParser(f, StandardCharsets.UTF_8, false, '"', '"', ';');
+			
+			CsvReader<String[]> reader = StringArrayCsvReader.builder().divider(';').build(new FileInputStream(f));
+			assertThat(reader).isInstanceOf(DefaultRFC4180StringArrayByteCsvReader.class);
+			
+			compare(referenceParser, reader);
+		}
+	}
+
+	private static Reader reader(File file, boolean crnl) throws Exception {
+		Reader reader = new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8);
+		if(crnl) {
+			reader = new CarriageReturnNewLineReader(reader);
+		}
+		return reader;
+	}
+
+	@Test
+	public void parsesEscapedInput() throws Exception {
+		String input = "a;b;c\n'a''1';b1;'c1'''\n'x\ny';'';'z'\n";
+		
+		StringArrayCsvReaderBuilder builder = StringArrayCsvReader.builder().divider(';').quoteCharacter('\'').escapeCharacter('\'');
+		CsvReader<String[]> chars = builder.build(new StringReader(input));
+		assertThat(chars).isInstanceOf(DefaultRFC4180StringArrayCsvReader.class);
+		CsvReader<String[]> bytes = builder.build(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)));
+		assertThat(bytes).isInstanceOf(DefaultRFC4180StringArrayByteCsvReader.class);
+		for(CsvReader<String[]> reader : Arrays.asList(chars, bytes)) {
+			assertThat(reader.next()).isEqualTo(new String[] {"a", "b", "c"});
+			assertThat(reader.next()).isEqualTo(new String[] {"a'1", "b1", "c1'"});
+			assertThat(reader.next()).isEqualTo(new String[] {"x\ny", null, "z"});
+			assertThat(reader.next()).isNull();
+		}
+		
+		CsvReader<CsvRow> rows = builder.buildRows(new StringReader(input));
+		rows.next();
+		CsvRow row = rows.next();
+		assertThat(row.getString(0)).isEqualTo("a'1");
+		assertThat(row.getString(2)).isEqualTo("c1'");
+		row = rows.next();
+		assertThat(row.getString(0)).isEqualTo("x\ny");
+		assertThat(row.getString(1)).isNull();
+		assertThat(rows.next()).isNull();
+	}
+
+	@Test
+	public void parsesEscapedInputWithoutLinebreaks() throws Exception {
+		String input = "a;b;c\n'a''1';b1;'c1'''\n'x;y';'';'z'\n";
+		
+		// the same reader handles quoted values with and without linebreaks
+		StringArrayCsvReaderBuilder builder = StringArrayCsvReader.builder().divider(';').quoteCharacter('\'').escapeCharacter('\'').quotedWithoutLinebreaks();
+		CsvReader<String[]> chars = builder.build(new StringReader(input));
+		assertThat(chars).isInstanceOf(DefaultRFC4180StringArrayCsvReader.class);
+		CsvReader<String[]> bytes = builder.build(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)));
+		assertThat(bytes).isInstanceOf(DefaultRFC4180StringArrayByteCsvReader.class);
+		for(CsvReader<String[]> reader : Arrays.asList(chars, bytes)) {
+			assertThat(reader.next()).isEqualTo(new String[] {"a", "b", "c"});
+			assertThat(reader.next()).isEqualTo(new String[] {"a'1", "b1", "c1'"});
+			assertThat(reader.next()).isEqualTo(new String[] {"x;y", null, "z"});
+			assertThat(reader.next()).isNull();
+		}
+	}
+
+	@Test
+	public void parseQuotedNewlineWithFillBuffer() throws Exception {
+		StringBuilder value = new StringBuilder();
+		for(int i = 0; i < 1000; i++) {
+			value.append("a\"b\n");
+		}
+		String expected = value.toString();
+		String quoted = "\"" + expected.replace("\"", "\"\"") + "\"";
+		String input = "a;b;c\n" + quoted + ";x;" + quoted + "\n";
+
+		StringArrayCsvReaderBuilder builder = StringArrayCsvReader.builder().divider(';').bufferLength(256).maxBufferLength(16 * 1024);
+		CsvReader<String[]> chars = builder.build(new StringReader(input));
+		CsvReader<String[]> bytes = builder.build(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)));
+		for(CsvReader<String[]> reader : Arrays.asList(chars, bytes)) {
+			assertThat(reader.next()).isEqualTo(new String[] {"a", "b", "c"});
+			assertThat(reader.next()).isEqualTo(new String[] {expected, "x", expected});
+			assertThat(reader.next()).isNull();
+		}
+	}
+}
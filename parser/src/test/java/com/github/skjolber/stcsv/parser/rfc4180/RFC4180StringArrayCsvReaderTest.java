@@ -3,6 +3,7 @@ package com.github.skjolber.stcsv.parser.rfc4180;
 import static com.google.common.truth.Truth.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.InputStream;
@@ -11,6 +12,7 @@ import java.io.Reader;
 import java.io.StringReader;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 
 import org.junit.jupiter.api.Test;
 
@@ -18,6 +20,9 @@ import com.github.skjolber.stcsv.AbstractCsvTest;
 import com.github.skjolber.stcsv.CarriageReturnNewLineReader;
 import com.github.skjolber.stcsv.CsvException;
 import com.github.skjolber.stcsv.sa.rfc4180.RFC4180StringArrayCsvReader;
+import com.github.skjolber.stcsv.CsvReader;
+import com.github.skjolber.stcsv.builder.StringArrayCsvReaderBuilder;
+import com.github.skjolber.stcsv.sa.StringArrayCsvReader;
 import com.univocity.parsers.csv.CsvParser;
 
 public class RFC4180StringArrayCsvReaderTest extends AbstractCsvTest {
@@ -197,6 +202,26 @@ public class RFC4180StringArrayCsvReaderTest extends AbstractCsvTest {
         } );
 
 	}
-	
-	
+
+	@Test
+	public void parseManyEscapedQuotes() throws Exception {
+		StringBuilder builder = new StringBuilder();
+		for(int i = 0; i < 1000; i++) {
+			builder.append("a\"b");
+		}
+		String expected = builder.toString();
+		String quoted = "\"" + expected.replace("\"", "\"\"") + "\"";
+		String input = quoted + "," + quoted + "\n" + "x,\"\"\"\"\n";
+
+		for(StringArrayCsvReaderBuilder reader : new StringArrayCsvReaderBuilder[] {StringArrayCsvReader.builder(), StringArrayCsvReader.builder().quotedWithoutLinebreaks()}) {
+			CsvReader<String[]> chars = reader.build(new StringReader(input));
+			CsvReader<String[]> bytes = reader.build(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)));
+			for(CsvReader<String[]> csvReader : Arrays.asList(chars, bytes)) {
+				assertThat(csvReader.next()).isEqualTo(new String[] {expected, expected});
+				assertThat(csvReader.next()).isEqualTo(new String[] {"x", "\""});
+				assertThat(csvReader.next()).isNull();
+			}
+		}
+	}
+
 }
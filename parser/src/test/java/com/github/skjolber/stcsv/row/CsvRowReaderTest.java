@@ -0,0 +1,163 @@
+package com.github.skjolber.stcsv.row;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.skjolber.stcsv.AbstractCsvTest;
+import com.github.skjolber.stcsv.CarriageReturnNewLineReader;
+import com.github.skjolber.stcsv.CsvException;
+import com.github.skjolber.stcsv.CsvReader;
+import com.github.skjolber.stcsv.builder.CsvBuilderException;
+import com.github.skjolber.stcsv.builder.StringArrayCsvReaderBuilder;
+
+public class CsvRowReaderTest extends AbstractCsvTest {
+
+	@Test
+	public void compareToStringArrayReader() throws Exception {
+		for(boolean crnl : new boolean[] {false, true}) {
+			for(File f : new File[] {file, quotedFile}) {
+				compare(CsvRowReader.builder(), f, crnl);
+				compare(CsvRowReader.builder().bufferLength(256), f, crnl);
+			}
+			for(File f : new File[] {semicolonFile, quotedSemicolonFile}) {
+				compare(CsvRowReader.builder().divider(';').escapeCharacter('\\'), f, crnl);
+				compare(CsvRowReader.builder().divider(';').escapeCharacter('\\').bufferLength(256), f, crnl);
+			}
+		}
+	}
+
+	private void compare(StringArrayCsvReaderBuilder builder, File file, boolean crnl) throws Exception {
+		try (
+			CsvReader<String[]> expected = builder.build(reader(file, crnl));
+			CsvReader<CsvRow> rows = builder.buildRows(reader(file, crnl))
+			) {
+			compare(expected, rows);
+		}
+	}
+
+	private void compare(CsvReader<String[]> expected, CsvReader<CsvRow> rows) throws Exception {
+		int count = 0;
+		String[] next;
+		while((next = expected.next()) != null) {
+			CsvRow row = rows.next();
+			assertThat(row.getColumnCount()).isEqualTo(next.length);
+			for(int i = 0; i < next.length; i++) {
+				assertThat(row.getString(i)).isEqualTo(next[i]);
+			}
+			count++;
+		}
+		assertThat(rows.next()).isNull();
+		assertThat(count).isGreaterThan(0);
+	}
+
+	private static Reader reader(File file, boolean crnl) throws Exception {
+		Reader reader = new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8);
+		if(crnl) {
+			reader = new CarriageReturnNewLineReader(reader);
+		}
+		return reader;
+	}
+
+	@Test
+	public void testRow() throws Exception {
+		String input = "first,second,third\nabc,,\"x\"\"y\"\r\n";
+		CsvReader<CsvRow> reader = CsvRowReader.builder().buildRows(new StringReader(input));
+
+		CsvRow header = reader.next();
+		assertThat(header.getColumnCount()).isEqualTo(3);
+		assertThat(header.getCharSequence(1).toString()).isEqualTo("second");
+		assertThat(new String(header.getBuffer(), header.getStart(2), header.getLength(2))).isEqualTo("third");
+
+		CsvRow row = reader.next();
+		assertThat(row).isSameInstanceAs(header);
+
+		CharSequence first = row.getCharSequence(0);
+		assertThat(first.length()).isEqualTo(3);
+		assertThat(first.charAt(1)).isEqualTo('b');
+		assertThat(first.subSequence(1, 3).toString()).isEqualTo("bc");
+		assertThat(row.contentEquals(0, "abc")).isTrue();
+		assertThat(row.contentEquals(0, "abd")).isFalse();
+		assertThat(row.contentEquals(0, "ab")).isFalse();
+		assertThat(row.hashCode(0)).isEqualTo("abc".hashCode());
+
+		assertThat(row.isEmpty(1)).isTrue();
+		assertThat(row.getCharSequence(1).length()).isEqualTo(0);
+		assertThat(row.getString(1)).isNull();
+		assertThat(row.getEnd(1) - row.getStart(1)).isEqualTo(0);
+
+		// unescaped in place, without the carriage return
+		assertThat(row.getString(2)).isEqualTo("x\"y");
+		assertThat(row.getCharSequence(2).toString()).isEqualTo("x\"y");
+
+		assertThat(reader.next()).isNull();
+	}
+
+	@Test
+	public void testFillInTheMiddleOfRow() throws Exception {
+		StringBuilder value = new StringBuilder();
+		for(int i = 0; i < 100; i++) {
+			value.append("abc\"\"def\n");
+		}
+		String quoted = "\"" + value + "\"";
+		String expected = value.toString().replace("\"\"", "\"");
+
+		StringBuilder builder = new StringBuilder();
+		builder.append("a,b,c,d\n"); // first row must fit within the initial buffer
+		for(int i = 0; i < 100; i++) {
+			builder.append("a").append(i).append(',').append(quoted).append(",c,").append(quoted).append('\n');
+		}
+		String input = builder.toString();
+
+		for(StringArrayCsvReaderBuilder b : new StringArrayCsvReaderBuilder[] {
+				CsvRowReader.builder(),
+				CsvRowReader.builder().divider(';').quoteCharacter('\'').escapeCharacter('\\')
+			}) {
+			String dialect = input;
+			if(b.getDivider() == ';') {
+				dialect = input.replace(',', ';').replace("\"\"", "\\\"").replace('"', '\'').replace("\\'", "\\\"");
+			}
+			CsvReader<CsvRow> reader = b.bufferLength(256).maxBufferLength(4096).buildRows(new StringReader(dialect));
+			assertThat(reader.next().getString(3)).isEqualTo("d");
+			for(int i = 0; i < 100; i++) {
+				CsvRow row = reader.next();
+				assertThat(row.getString(0)).isEqualTo("a" + i);
+				assertThat(row.getString(1)).isEqualTo(expected);
+				assertThat(row.getString(2)).isEqualTo("c");
+				assertThat(row.getString(3)).isEqualTo(expected);
+			}
+			assertThat(reader.next()).isNull();
+		}
+	}
+
+	@Test
+	public void throwsExceptionWhenReaderRunsEmptyInQuotedValue() throws Exception {
+		String row = "abcdef,\"b1\nb2b3b4\",end\n";
+
+		int index = row.indexOf('\n');
+		char[] first = row.substring(0, index + 1).toCharArray();
+
+		char[] b = new char[1024];
+		System.arraycopy(first, 0, b, 0, first.length);
+
+		RFC4180CsvRowReader reader = new RFC4180CsvRowReader(new StringReader(""), b, 0, first.length, 3);
+		assertThrows(CsvException.class, () -> {
+			reader.next();
+		});
+	}
+
+	@Test
+	public void throwsExceptionForColumnMapping() throws Exception {
+		assertThrows(CsvBuilderException.class, () -> {
+			CsvRowReader.builder().withColumnMapping("a", 0).buildRows(new StringReader("a,b\n"));
+		});
+	}
+}
@@ -0,0 +1,75 @@
+package com.github.skjolber.stcsv.row;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.io.FileInputStream;
+import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.skjolber.stcsv.AbstractCsvTest;
+import com.github.skjolber.stcsv.CsvReader;
+import com.github.skjolber.stcsv.EmptyCsvReader;
+import com.github.skjolber.stcsv.RawReader;
+import com.github.skjolber.stcsv.builder.FixedIndexOffsetCsvReader;
+
+public class OffsetCsvReaderTest extends AbstractCsvTest {
+
+	@Test
+	public void testOffsets() throws Exception {
+		String input = "a,\"b\"\"c\",,d\n";
+		CsvReader<int[]> reader = CsvRowReader.builder().buildOffsets(new StringReader(input));
+		assertThat(reader).isInstanceOf(OffsetCsvReader.class);
+
+		RawReader raw = reader.getReader();
+
+		int[] offsets = reader.next();
+		assertThat(offsets).hasLength(8);
+		assertThat(value(raw.getBuffer(), offsets, 0)).isEqualTo("a");
+		assertThat(value(raw.getBuffer(), offsets, 1)).isEqualTo("b\"c");
+		assertThat(value(raw.getBuffer(), offsets, 2)).isEmpty();
+		assertThat(value(raw.getBuffer(), offsets, 3)).isEqualTo("d");
+
+		assertThat(reader.next()).isNull();
+	}
+
+	@Test
+	public void testColumnMapping() throws Exception {
+		CsvReader<String[]> expected = CsvRowReader.builder()
+				.withColumnMapping("trip_id", 0)
+				.withColumnMapping("route_id", 2)
+				.build(new InputStreamReader(new FileInputStream(quotedFile), StandardCharsets.UTF_8));
+
+		CsvReader<int[]> reader = CsvRowReader.builder()
+				.withColumnMapping("trip_id", 0)
+				.withColumnMapping("route_id", 2)
+				.bufferLength(1024)
+				.buildOffsets(new InputStreamReader(new FileInputStream(quotedFile), StandardCharsets.UTF_8));
+		assertThat(reader).isInstanceOf(FixedIndexOffsetCsvReader.class);
+
+		RawReader raw = reader.getReader();
+
+		String[] next;
+		while((next = expected.next()) != null) {
+			int[] offsets = reader.next();
+			assertThat(offsets).hasLength(6);
+			assertThat(value(raw.getBuffer(), offsets, 0)).isEqualTo(next[0]);
+			assertThat(value(raw.getBuffer(), offsets, 1)).isEmpty();
+			assertThat(value(raw.getBuffer(), offsets, 2)).isEqualTo(next[2]);
+		}
+		assertThat(reader.next()).isNull();
+	}
+
+	@Test
+	public void testEmpty() throws Exception {
+		CsvReader<int[]> reader = CsvRowReader.builder().buildOffsets(new StringReader(""));
+		assertThat(reader).isInstanceOf(EmptyCsvReader.class);
+		assertThat(reader.next()).isNull();
+	}
+
+	private static String value(char[] buffer, int[] offsets, int column) {
+		return new String(buffer, offsets[column * 2], offsets[column * 2 + 1] - offsets[column * 2]);
+	}
+}
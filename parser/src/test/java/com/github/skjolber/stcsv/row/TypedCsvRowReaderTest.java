@@ -0,0 +1,102 @@
+package com.github.skjolber.stcsv.row;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.FileInputStream;
+import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.skjolber.stcsv.AbstractCsvTest;
+import com.github.skjolber.stcsv.CsvException;
+import com.github.skjolber.stcsv.CsvReader;
+import com.github.skjolber.stcsv.EmptyCsvReader;
+import com.github.skjolber.stcsv.builder.CsvBuilderException;
+
+public class TypedCsvRowReaderTest extends AbstractCsvTest {
+
+	@Test
+	public void parsesTypedColumns() throws Exception {
+		String input = "s,i,l,d,b\nabc,-12,12345678901,1.5,true\n,,,,\n\"x\",\"3\",4,-2.25e3,FALSE\n";
+		
+		CsvReader<TypedCsvRow> reader = CsvRowReader.builder()
+				.withColumnType("i", ColumnType.INT)
+				.withColumnType("l", ColumnType.LONG)
+				.withColumnType("d", ColumnType.DOUBLE)
+				.withColumnType("b", ColumnType.BOOLEAN)
+				.buildTyped(new StringReader(input));
+		assertThat(reader).isInstanceOf(TypedCsvRowReader.class);
+		assertThat(((TypedCsvRowReader)reader).getHeader()).isEqualTo(new String[] {"s", "i", "l", "d", "b"});
+		assertThat(((TypedCsvRowReader)reader).getColumnIndex("d")).isEqualTo(3);
+		
+		TypedCsvRow row = reader.next();
+		assertThat(row.getColumnCount()).isEqualTo(5);
+		assertThat(row.getString(0)).isEqualTo("abc");
+		assertThat(row.getInt(1)).isEqualTo(-12);
+		assertThat(row.getLong(2)).isEqualTo(12345678901L);
+		assertThat(row.getDouble(3)).isEqualTo(1.5d);
+		assertThat(row.getBoolean(4)).isTrue();
+
+		row = reader.next();
+		for(int i = 0; i < 5; i++) {
+			assertThat(row.isEmpty(i)).isTrue();
+		}
+		assertThat(row.getInt(1)).isEqualTo(0);
+		assertThat(row.getDouble(3)).isEqualTo(0d);
+		assertThat(row.getBoolean(4)).isFalse();
+
+		row = reader.next();
+		assertThat(row.getCharSequence(0).toString()).isEqualTo("x");
+		assertThat(row.getInt(1)).isEqualTo(3);
+		assertThat(row.getLong(2)).isEqualTo(4L);
+		assertThat(row.getDouble(3)).isEqualTo(-2250d);
+		assertThat(row.getBoolean(4)).isFalse();
+		
+		assertThat(reader.next()).isNull();
+	}
+
+	@Test
+	public void compareToStringArrayReader() throws Exception {
+		CsvReader<String[]> expected = CsvRowReader.builder().build(new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8));
+		CsvReader<TypedCsvRow> reader = CsvRowReader.builder()
+				.withColumnType("direction_id", ColumnType.INT)
+				.bufferLength(256)
+				.buildTyped(new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8));
+
+		expected.next();
+		
+		int count = 0;
+		String[] next;
+		while((next = expected.next()) != null) {
+			TypedCsvRow row = reader.next();
+			assertThat(row.getString(1)).isEqualTo(next[1]);
+			assertThat(row.getInt(4)).isEqualTo(Integer.parseInt(next[4]));
+			count++;
+		}
+		assertThat(reader.next()).isNull();
+		assertThat(count).isGreaterThan(0);
+	}
+
+	@Test
+	public void throwsExceptionOnIllegalValue() throws Exception {
+		CsvReader<TypedCsvRow> reader = CsvRowReader.builder()
+				.withColumnType("a", ColumnType.INT)
+				.buildTyped(new StringReader("a\nx\n"));
+
+		assertThrows(CsvException.class, () -> {
+			reader.next();
+		});
+	}
+
+	@Test
+	public void handlesEmptyInputAndMapping() throws Exception {
+		assertThat(CsvRowReader.builder().buildTyped(new StringReader(""))).isInstanceOf(EmptyCsvReader.class);
+		
+		assertThrows(CsvBuilderException.class, () -> {
+			CsvRowReader.builder().withColumnMapping("a", 0).buildTyped(new StringReader("a\n1\n"));
+		});
+	}
+}
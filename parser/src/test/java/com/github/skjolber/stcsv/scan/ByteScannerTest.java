@@ -0,0 +1,112 @@
+package com.github.skjolber.stcsv.scan;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class ByteScannerTest {
+
+	private static final byte[] ALPHABET = "abc,\"\\\n".getBytes();
+
+	private ByteScanner scalar = ByteScanner.SCALAR;
+	private ByteScanner swar = ByteScanner.SWAR;
+
+	@Test
+	public void testStrategy() {
+		assertThat(ByteScanner.getInstance(ScanStrategy.SCALAR)).isSameInstanceAs(scalar);
+		assertThat(ByteScanner.getInstance(ScanStrategy.SWAR)).isSameInstanceAs(swar);
+		assertThat(scalar.getStrategy()).isEqualTo(ScanStrategy.SCALAR);
+
+		boolean varHandles;
+		try {
+			Class.forName("java.lang.invoke.VarHandle");
+			varHandles = true;
+		} catch(ClassNotFoundException e) {
+			varHandles = false;
+		}
+		assertThat(swar.getStrategy()).isEqualTo(varHandles ? ScanStrategy.SWAR : ScanStrategy.SCALAR);
+	}
+
+	@Test
+	public void testIndexOf() {
+		Random random = new Random(0);
+		for(int length = 1; length < 100; length++) {
+			for(int k = 0; k < 10; k++) {
+				byte[] buffer = random(random, length, 2 + random.nextInt(100));
+				for(int offset = 0; offset < length; offset++) {
+					if(indexOf(buffer, offset, (byte)',') != -1) {
+						assertThat(swar.indexOf(buffer, offset, (byte)',')).isEqualTo(indexOf(buffer, offset, (byte)','));
+						assertThat(scalar.indexOf(buffer, offset, (byte)',')).isEqualTo(indexOf(buffer, offset, (byte)','));
+					}
+					int expected = min(indexOf(buffer, offset, (byte)'"'), indexOf(buffer, offset, (byte)'\n'));
+					if(expected != -1) {
+						assertThat(swar.indexOf(buffer, offset, (byte)'"', (byte)'\n')).isEqualTo(expected);
+						assertThat(scalar.indexOf(buffer, offset, (byte)'"', (byte)'\n')).isEqualTo(expected);
+					}
+					expected = min(expected, indexOf(buffer, offset, (byte)'\\'));
+					if(expected != -1) {
+						assertThat(swar.indexOf(buffer, offset, (byte)'"', (byte)'\\', (byte)'\n')).isEqualTo(expected);
+						assertThat(scalar.indexOf(buffer, offset, (byte)'"', (byte)'\\', (byte)'\n')).isEqualTo(expected);
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testIndexOfHighBytes() {
+		// UTF-8 multi-byte sequences must not give false positives
+		byte[] buffer = "ææææøøøøåååå,".getBytes(java.nio.charset.StandardCharsets.UTF_8);
+
+		assertThat(swar.indexOf(buffer, 0, (byte)',')).isEqualTo(buffer.length - 1);
+		assertThat(swar.indexOf(buffer, 1, (byte)'\n', (byte)',')).isEqualTo(buffer.length - 1);
+	}
+
+	@Test
+	public void testIndexOfThrowsExceptionIfNotFound() {
+		byte[] buffer = new byte[100];
+		assertThrows(ArrayIndexOutOfBoundsException.class, () -> {
+			swar.indexOf(buffer, 0, (byte)',');
+		});
+		assertThrows(ArrayIndexOutOfBoundsException.class, () -> {
+			swar.indexOf(buffer, 50, (byte)',', (byte)'\n');
+		});
+		assertThrows(ArrayIndexOutOfBoundsException.class, () -> {
+			swar.indexOf(buffer, 99, (byte)',', (byte)'"', (byte)'\n');
+		});
+	}
+
+	private static byte[] random(Random random, int length, int sparseness) {
+		byte[] buffer = new byte[length];
+		for(int i = 0; i < length; i++) {
+			if(random.nextInt(sparseness) == 0) {
+				buffer[i] = ALPHABET[3 + random.nextInt(ALPHABET.length - 3)];
+			} else {
+				buffer[i] = ALPHABET[random.nextInt(3)];
+			}
+		}
+		return buffer;
+	}
+
+	private static int indexOf(byte[] buffer, int offset, byte c) {
+		for(int i = offset; i < buffer.length; i++) {
+			if(buffer[i] == c) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static int min(int a, int b) {
+		if(a == -1) {
+			return b;
+		}
+		if(b == -1) {
+			return a;
+		}
+		return Math.min(a, b);
+	}
+}
@@ -0,0 +1,127 @@
+package com.github.skjolber.stcsv.scan;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class CharScannerTest {
+
+	private static final char[] ALPHABET = "abc,\"\\\n".toCharArray();
+
+	private CharScanner scalar = new CharScanner();
+	private CharScanner scanner = CharScanner.INSTANCE;
+
+	@Test
+	public void testVectorizedWhenVectorModuleIsPresent() {
+		boolean vectorModule;
+		try {
+			Class.forName("jdk.incubator.vector.ShortVector");
+			vectorModule = true;
+		} catch(ClassNotFoundException e) {
+			vectorModule = false;
+		}
+		assertThat(scanner.isVectorized()).isEqualTo(vectorModule);
+		assertThat(scalar.isVectorized()).isFalse();
+	}
+
+	@Test
+	public void testIndexOf() {
+		Random random = new Random(0);
+		for(int length = 1; length < 200; length++) {
+			for(int k = 0; k < 10; k++) {
+				char[] buffer = random(random, length, 2 + random.nextInt(200));
+				for(int offset = 0; offset < length; offset++) {
+					if(indexOf(buffer, offset, ',') != -1) {
+						assertThat(scanner.indexOf(buffer, offset, ',')).isEqualTo(indexOf(buffer, offset, ','));
+						assertThat(scalar.indexOf(buffer, offset, ',')).isEqualTo(indexOf(buffer, offset, ','));
+					}
+					int expected = min(indexOf(buffer, offset, '"'), indexOf(buffer, offset, '\n'));
+					if(expected != -1) {
+						assertThat(scanner.indexOf(buffer, offset, '"', '\n')).isEqualTo(expected);
+						assertThat(scalar.indexOf(buffer, offset, '"', '\n')).isEqualTo(expected);
+					}
+					expected = min(expected, indexOf(buffer, offset, '\\'));
+					if(expected != -1) {
+						assertThat(scanner.indexOf(buffer, offset, '"', '\\', '\n')).isEqualTo(expected);
+						assertThat(scalar.indexOf(buffer, offset, '"', '\\', '\n')).isEqualTo(expected);
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testIndexOfThrowsExceptionIfNotFound() {
+		char[] buffer = new char[100];
+		assertThrows(ArrayIndexOutOfBoundsException.class, () -> {
+			scanner.indexOf(buffer, 0, ',');
+		});
+		assertThrows(ArrayIndexOutOfBoundsException.class, () -> {
+			scanner.indexOf(buffer, 50, ',', '\n');
+		});
+		assertThrows(ArrayIndexOutOfBoundsException.class, () -> {
+			scanner.indexOf(buffer, 99, ',', '"', '\n');
+		});
+	}
+
+	@Test
+	public void testLastIndexOf() {
+		Random random = new Random(0);
+		for(int length = 1; length < 200; length++) {
+			for(int k = 0; k < 10; k++) {
+				char[] buffer = random(random, length, 2 + random.nextInt(200));
+				for(int from = 0; from < length; from++) {
+					for(int to = 0; to <= from; to += 1 + random.nextInt(8)) {
+						int expected = lastIndexOf(buffer, from, to, '\n');
+
+						assertThat(scanner.lastIndexOf(buffer, from, to, '\n')).isEqualTo(expected);
+						assertThat(scalar.lastIndexOf(buffer, from, to, '\n')).isEqualTo(expected);
+					}
+				}
+			}
+		}
+	}
+
+	private static char[] random(Random random, int length, int sparseness) {
+		char[] buffer = new char[length];
+		for(int i = 0; i < length; i++) {
+			if(random.nextInt(sparseness) == 0) {
+				buffer[i] = ALPHABET[3 + random.nextInt(ALPHABET.length - 3)];
+			} else {
+				buffer[i] = ALPHABET[random.nextInt(3)];
+			}
+		}
+		return buffer;
+	}
+
+	private static int indexOf(char[] buffer, int offset, char c) {
+		for(int i = offset; i < buffer.length; i++) {
+			if(buffer[i] == c) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static int lastIndexOf(char[] buffer, int from, int to, char c) {
+		for(int i = from; i >= to; i--) {
+			if(buffer[i] == c) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static int min(int a, int b) {
+		if(a == -1) {
+			return b;
+		}
+		if(b == -1) {
+			return a;
+		}
+		return Math.min(a, b);
+	}
+}